@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.agent.api.advice.AdviceTargetObject;
+import org.apache.shardingsphere.agent.api.advice.InstanceMethodAroundAdvice;
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLCompressionCodec;
+
+import java.lang.reflect.Method;
+
+/**
+ * MySQL compression advice.
+ */
+public final class MySQLCompressionAdvice implements InstanceMethodAroundAdvice {
+    
+    static {
+        MetricsPool.create(MetricIds.MYSQL_COMPRESSION_COMPRESSED_BYTES_READ);
+        MetricsPool.create(MetricIds.MYSQL_COMPRESSION_UNCOMPRESSED_BYTES_READ);
+        MetricsPool.create(MetricIds.MYSQL_COMPRESSION_COMPRESSED_BYTES_WRITTEN);
+        MetricsPool.create(MetricIds.MYSQL_COMPRESSION_UNCOMPRESSED_BYTES_WRITTEN);
+    }
+    
+    @Override
+    public void afterMethod(final AdviceTargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        if (0 == args.length || !(args[0] instanceof ChannelHandlerContext) || !(((ChannelHandlerContext) args[0]).handler() instanceof MySQLCompressionCodec)) {
+            return;
+        }
+        MySQLCompressionCodec codec = (MySQLCompressionCodec) ((ChannelHandlerContext) args[0]).handler();
+        MetricsPool.get(MetricIds.MYSQL_COMPRESSION_COMPRESSED_BYTES_READ).ifPresent(m -> m.inc(codec.getCompressedBytesRead()));
+        MetricsPool.get(MetricIds.MYSQL_COMPRESSION_UNCOMPRESSED_BYTES_READ).ifPresent(m -> m.inc(codec.getUncompressedBytesRead()));
+        MetricsPool.get(MetricIds.MYSQL_COMPRESSION_COMPRESSED_BYTES_WRITTEN).ifPresent(m -> m.inc(codec.getCompressedBytesWritten()));
+        MetricsPool.get(MetricIds.MYSQL_COMPRESSION_UNCOMPRESSED_BYTES_WRITTEN).ifPresent(m -> m.inc(codec.getUncompressedBytesWritten()));
+    }
+}
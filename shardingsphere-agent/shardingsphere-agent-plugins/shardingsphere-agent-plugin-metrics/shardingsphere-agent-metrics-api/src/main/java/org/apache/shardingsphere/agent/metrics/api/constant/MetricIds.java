@@ -49,6 +49,20 @@ public final class MetricIds {
     
     public static final String METADATA_INFO = "meta_data_info";
     
+    public static final String EXECUTOR_INFO = "executor_info";
+    
+    public static final String MERGE_SPILL = "merge_spill_total";
+    
+    public static final String MERGE_SPILL_BYTES = "merge_spill_bytes_total";
+    
+    public static final String MYSQL_COMPRESSION_COMPRESSED_BYTES_READ = "proxy_mysql_compression_compressed_bytes_read_total";
+    
+    public static final String MYSQL_COMPRESSION_UNCOMPRESSED_BYTES_READ = "proxy_mysql_compression_uncompressed_bytes_read_total";
+    
+    public static final String MYSQL_COMPRESSION_COMPRESSED_BYTES_WRITTEN = "proxy_mysql_compression_compressed_bytes_written_total";
+    
+    public static final String MYSQL_COMPRESSION_UNCOMPRESSED_BYTES_WRITTEN = "proxy_mysql_compression_uncompressed_bytes_written_total";
+    
     public static final String PARSE_SQL_SELECT = "parse_sql_dml_select_total";
     
     public static final String PARSE_SQL_UPDATE = "parse_sql_dml_update_total";
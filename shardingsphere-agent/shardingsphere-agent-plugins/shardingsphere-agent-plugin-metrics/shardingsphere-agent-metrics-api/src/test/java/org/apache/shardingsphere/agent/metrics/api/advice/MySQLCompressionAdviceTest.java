@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.api.fixture.FixtureWrapper;
+import org.apache.shardingsphere.db.protocol.mysql.codec.MySQLCompressionCodec;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MySQLCompressionAdviceTest extends MetricsAdviceBaseTest {
+    
+    private final MySQLCompressionAdvice mysqlCompressionAdvice = new MySQLCompressionAdvice();
+    
+    @Test
+    public void assertAfterMethod() {
+        MySQLCompressionCodec codec = new MySQLCompressionCodec(6, 50);
+        EmbeddedChannel channel = new EmbeddedChannel(codec);
+        channel.writeOutbound(Unpooled.wrappedBuffer("short packet".getBytes(StandardCharsets.UTF_8)));
+        ((ByteBuf) channel.readOutbound()).release();
+        ChannelHandlerContext context = mock(ChannelHandlerContext.class);
+        when(context.handler()).thenReturn(codec);
+        mysqlCompressionAdvice.afterMethod(new MockAdviceTargetObject(), mock(Method.class), new Object[]{context}, new MethodInvocationResult());
+        assertThat(((FixtureWrapper) MetricsPool.get(MetricIds.MYSQL_COMPRESSION_COMPRESSED_BYTES_WRITTEN).get()).getFixtureValue(), is(19.0));
+        assertThat(((FixtureWrapper) MetricsPool.get(MetricIds.MYSQL_COMPRESSION_UNCOMPRESSED_BYTES_WRITTEN).get()).getFixtureValue(), is(12.0));
+    }
+}
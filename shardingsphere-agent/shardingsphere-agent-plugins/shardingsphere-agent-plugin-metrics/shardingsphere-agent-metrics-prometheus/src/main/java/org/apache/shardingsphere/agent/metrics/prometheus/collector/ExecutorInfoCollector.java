@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.prometheus.collector;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.GaugeMetricFamily;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.api.util.MetricsUtil;
+import org.apache.shardingsphere.agent.metrics.prometheus.wrapper.PrometheusWrapperFactory;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Executor information collector.
+ */
+public final class ExecutorInfoCollector extends Collector {
+    
+    private static final String QUEUED_TASK_COUNT = "queued_task_count";
+    
+    private static final String ACTIVE_TASK_COUNT = "active_task_count";
+    
+    private static final PrometheusWrapperFactory FACTORY = new PrometheusWrapperFactory();
+    
+    private static final String BACKEND_EXECUTOR_CONTEXT_CLASS_STR = "org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext";
+    
+    @Override
+    public List<MetricFamilySamples> collect() {
+        List<MetricFamilySamples> result = new LinkedList<>();
+        Optional<GaugeMetricFamily> executorInfo = FACTORY.createGaugeMetricFamily(MetricIds.EXECUTOR_INFO);
+        if (MetricsUtil.classNotExist(BACKEND_EXECUTOR_CONTEXT_CLASS_STR) || !executorInfo.isPresent()) {
+            return result;
+        }
+        ExecutorServiceManager executorServiceManager = BackendExecutorContext.getInstance().getExecutorEngine().getExecutorServiceManager();
+        executorInfo.get().addMetric(Collections.singletonList(QUEUED_TASK_COUNT), executorServiceManager.getQueuedTaskCount());
+        executorInfo.get().addMetric(Collections.singletonList(ACTIVE_TASK_COUNT), executorServiceManager.getActiveTaskCount());
+        result.add(executorInfo.get());
+        return result;
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.ByteToMessageCodec;
+import io.netty.handler.codec.DecoderException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compressed packet codec for MySQL.
+ *
+ * <p>Packets written before flush are compressed together, packets shorter than min length are sent without compression.</p>
+ *
+ * @see <a href="https://dev.mysql.com/doc/internals/en/compressed-packet-header.html">Compressed Packet</a>
+ */
+@Slf4j
+public final class MySQLCompressionCodec extends ByteToMessageCodec<ByteBuf> {
+    
+    private static final int HEADER_LENGTH = 7;
+    
+    private static final int MAX_PAYLOAD_LENGTH = 0xffffff;
+    
+    private final int minCompressLength;
+    
+    private final Deflater deflater;
+    
+    private final Inflater inflater = new Inflater();
+    
+    private final List<ChannelPromise> pendingPromises = new LinkedList<>();
+    
+    @Getter
+    private volatile long compressedBytesRead;
+    
+    @Getter
+    private volatile long uncompressedBytesRead;
+    
+    @Getter
+    private volatile long compressedBytesWritten;
+    
+    @Getter
+    private volatile long uncompressedBytesWritten;
+    
+    private CompositeByteBuf pendingPackets;
+    
+    private int sequenceId;
+    
+    public MySQLCompressionCodec(final int compressionLevel, final int minCompressLength) {
+        this.minCompressLength = minCompressLength;
+        deflater = new Deflater(compressionLevel);
+    }
+    
+    @Override
+    protected void decode(final ChannelHandlerContext context, final ByteBuf in, final List<Object> out) throws DataFormatException {
+        if (in.readableBytes() < HEADER_LENGTH || in.readableBytes() < HEADER_LENGTH + in.getMediumLE(in.readerIndex())) {
+            return;
+        }
+        int compressedLength = in.readMediumLE();
+        sequenceId = in.readUnsignedByte() + 1;
+        int uncompressedLength = in.readMediumLE();
+        compressedBytesRead += HEADER_LENGTH + compressedLength;
+        if (0 == uncompressedLength) {
+            uncompressedBytesRead += compressedLength;
+            out.add(in.readRetainedSlice(compressedLength));
+            return;
+        }
+        uncompressedBytesRead += uncompressedLength;
+        out.add(inflate(context, in, compressedLength, uncompressedLength));
+    }
+    
+    private ByteBuf inflate(final ChannelHandlerContext context, final ByteBuf in, final int compressedLength, final int uncompressedLength) throws DataFormatException {
+        byte[] compressed = new byte[compressedLength];
+        in.readBytes(compressed);
+        byte[] uncompressed = new byte[uncompressedLength];
+        inflater.reset();
+        inflater.setInput(compressed);
+        int inflatedLength = inflater.inflate(uncompressed);
+        if (inflatedLength != uncompressedLength) {
+            throw new DecoderException(String.format("Expected uncompressed length is %d, but actual is %d.", uncompressedLength, inflatedLength));
+        }
+        return context.alloc().buffer(uncompressedLength).writeBytes(uncompressed);
+    }
+    
+    @Override
+    public void write(final ChannelHandlerContext context, final Object message, final ChannelPromise promise) throws Exception {
+        if (!(message instanceof ByteBuf)) {
+            super.write(context, message, promise);
+            return;
+        }
+        if (null == pendingPackets) {
+            pendingPackets = context.alloc().compositeBuffer(Integer.MAX_VALUE);
+        }
+        pendingPackets.addComponent(true, (ByteBuf) message);
+        pendingPromises.add(promise);
+        if (pendingPackets.readableBytes() >= MAX_PAYLOAD_LENGTH) {
+            writePendingPackets(context);
+        }
+    }
+    
+    @Override
+    public void flush(final ChannelHandlerContext context) throws Exception {
+        writePendingPackets(context);
+        super.flush(context);
+    }
+    
+    private void writePendingPackets(final ChannelHandlerContext context) throws Exception {
+        if (null == pendingPackets) {
+            return;
+        }
+        List<ChannelPromise> promises = new LinkedList<>(pendingPromises);
+        pendingPromises.clear();
+        ChannelPromise promise = context.newPromise();
+        promise.addListener(future -> {
+            for (ChannelPromise each : promises) {
+                if (future.isSuccess()) {
+                    each.trySuccess();
+                } else {
+                    each.tryFailure(future.cause());
+                }
+            }
+        });
+        ByteBuf packets = pendingPackets;
+        pendingPackets = null;
+        super.write(context, packets, promise);
+    }
+    
+    @Override
+    protected void encode(final ChannelHandlerContext context, final ByteBuf message, final ByteBuf out) {
+        while (message.isReadable()) {
+            int uncompressedLength = Math.min(message.readableBytes(), MAX_PAYLOAD_LENGTH);
+            uncompressedBytesWritten += uncompressedLength;
+            if (uncompressedLength < minCompressLength) {
+                writePacket(out, message, uncompressedLength);
+            } else {
+                writeCompressedPacket(out, message, uncompressedLength);
+            }
+        }
+    }
+    
+    private void writePacket(final ByteBuf out, final ByteBuf message, final int length) {
+        writeHeader(out, length, 0);
+        out.writeBytes(message, length);
+        compressedBytesWritten += HEADER_LENGTH + length;
+    }
+    
+    private void writeCompressedPacket(final ByteBuf out, final ByteBuf message, final int uncompressedLength) {
+        byte[] uncompressed = new byte[uncompressedLength];
+        message.readBytes(uncompressed);
+        byte[] compressed = deflate(uncompressed);
+        if (compressed.length >= uncompressedLength) {
+            writeHeader(out, uncompressedLength, 0);
+            out.writeBytes(uncompressed);
+            compressedBytesWritten += HEADER_LENGTH + uncompressedLength;
+            return;
+        }
+        writeHeader(out, compressed.length, uncompressedLength);
+        out.writeBytes(compressed);
+        compressedBytesWritten += HEADER_LENGTH + compressed.length;
+    }
+    
+    private byte[] deflate(final byte[] uncompressed) {
+        deflater.reset();
+        deflater.setInput(uncompressed);
+        deflater.finish();
+        byte[] buffer = new byte[uncompressed.length];
+        int length = 0;
+        while (!deflater.finished() && length < buffer.length) {
+            length += deflater.deflate(buffer, length, buffer.length - length);
+        }
+        if (!deflater.finished()) {
+            return uncompressed;
+        }
+        byte[] result = new byte[length];
+        System.arraycopy(buffer, 0, result, 0, length);
+        return result;
+    }
+    
+    private void writeHeader(final ByteBuf out, final int payloadLength, final int uncompressedLength) {
+        out.writeMediumLE(payloadLength);
+        out.writeByte(sequenceId++);
+        out.writeMediumLE(uncompressedLength);
+    }
+    
+    @Override
+    public void channelInactive(final ChannelHandlerContext context) throws Exception {
+        log.debug("MySQL compression of connection {}, read compressed bytes {} and uncompressed bytes {}, written compressed bytes {} and uncompressed bytes {}.",
+                context.channel().id().asShortText(), compressedBytesRead, uncompressedBytesRead, compressedBytesWritten, uncompressedBytesWritten);
+        super.channelInactive(context);
+    }
+    
+    @Override
+    public void handlerRemoved(final ChannelHandlerContext context) throws Exception {
+        if (null != pendingPackets) {
+            pendingPackets.release();
+            pendingPackets = null;
+        }
+        pendingPromises.forEach(each -> each.tryFailure(new IllegalStateException("MySQL compression codec is removed.")));
+        pendingPromises.clear();
+        deflater.end();
+        inflater.end();
+        super.handlerRemoved(context);
+    }
+}
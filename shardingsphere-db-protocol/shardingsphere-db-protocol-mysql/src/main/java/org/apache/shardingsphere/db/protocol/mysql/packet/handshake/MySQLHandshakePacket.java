@@ -40,7 +40,7 @@ public final class MySQLHandshakePacket implements MySQLPacket {
     
     private final int connectionId;
     
-    private final int capabilityFlagsLower;
+    private int capabilityFlagsLower;
     
     private final int characterSet;
     
@@ -106,6 +106,13 @@ public final class MySQLHandshakePacket implements MySQLPacket {
         capabilityFlagsUpper |= MySQLCapabilityFlag.CLIENT_PLUGIN_AUTH.getValue() >> 16;
     }
     
+    /**
+     * Enable compression protocol.
+     */
+    public void enableCompression() {
+        capabilityFlagsLower |= MySQLCapabilityFlag.CLIENT_COMPRESS.getValue();
+    }
+    
     @Override
     public void write(final MySQLPacketPayload payload) {
         payload.writeInt1(protocolVersion);
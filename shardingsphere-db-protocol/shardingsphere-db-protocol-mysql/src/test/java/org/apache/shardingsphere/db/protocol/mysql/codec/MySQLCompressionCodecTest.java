@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLCompressionCodecTest {
+    
+    @Test
+    public void assertWriteWithoutCompression() {
+        MySQLCompressionCodec codec = new MySQLCompressionCodec(6, 50);
+        EmbeddedChannel channel = new EmbeddedChannel(codec);
+        channel.writeOutbound(Unpooled.wrappedBuffer("short packet".getBytes(StandardCharsets.UTF_8)));
+        ByteBuf actual = channel.readOutbound();
+        assertThat(actual.readMediumLE(), is(12));
+        assertThat(actual.readUnsignedByte(), is((short) 0));
+        assertThat(actual.readMediumLE(), is(0));
+        assertThat(actual.toString(StandardCharsets.UTF_8), is("short packet"));
+        assertThat(codec.getCompressedBytesWritten(), is(19L));
+        assertThat(codec.getUncompressedBytesWritten(), is(12L));
+        actual.release();
+    }
+    
+    @Test
+    public void assertWriteAndReadWithCompression() {
+        MySQLCompressionCodec serverCodec = new MySQLCompressionCodec(6, 50);
+        EmbeddedChannel serverChannel = new EmbeddedChannel(serverCodec);
+        String packets = createRepeatedText(1000);
+        serverChannel.write(Unpooled.wrappedBuffer(packets.substring(0, 400).getBytes(StandardCharsets.UTF_8)));
+        serverChannel.write(Unpooled.wrappedBuffer(packets.substring(400).getBytes(StandardCharsets.UTF_8)));
+        assertTrue(serverChannel.outboundMessages().isEmpty());
+        serverChannel.flush();
+        ByteBuf compressed = serverChannel.readOutbound();
+        assertThat(compressed.getMediumLE(4), is(1000));
+        assertTrue(compressed.readableBytes() < 1000);
+        assertThat(serverCodec.getUncompressedBytesWritten(), is(1000L));
+        assertThat(serverCodec.getCompressedBytesWritten(), is((long) compressed.readableBytes()));
+        MySQLCompressionCodec clientCodec = new MySQLCompressionCodec(6, 50);
+        EmbeddedChannel clientChannel = new EmbeddedChannel(clientCodec);
+        clientChannel.writeInbound(compressed);
+        ByteBuf actual = clientChannel.readInbound();
+        assertThat(actual.toString(StandardCharsets.UTF_8), is(packets));
+        assertThat(clientCodec.getUncompressedBytesRead(), is(1000L));
+        assertThat(clientCodec.getCompressedBytesRead(), is(serverCodec.getCompressedBytesWritten()));
+        actual.release();
+    }
+    
+    @Test
+    public void assertSequenceIdFollowsReadPacket() {
+        ByteBuf command = Unpooled.buffer();
+        command.writeMediumLE(1);
+        command.writeByte(0);
+        command.writeMediumLE(0);
+        command.writeByte(0x0e);
+        EmbeddedChannel channel = new EmbeddedChannel(new MySQLCompressionCodec(6, 50));
+        channel.writeInbound(command);
+        ByteBuf actualCommand = channel.readInbound();
+        assertThat(actualCommand.readByte(), is((byte) 0x0e));
+        actualCommand.release();
+        channel.writeOutbound(Unpooled.wrappedBuffer(new byte[]{1}));
+        ByteBuf actual = channel.readOutbound();
+        assertThat(actual.getUnsignedByte(3), is((short) 1));
+        actual.release();
+    }
+    
+    private String createRepeatedText(final int length) {
+        StringBuilder result = new StringBuilder(length);
+        while (result.length() < length) {
+            result.append("sharding");
+        }
+        return result.substring(0, length);
+    }
+}
@@ -50,6 +50,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -78,8 +79,7 @@ public final class EncryptTableMetaDataBuilderTest {
     @Mock
     private DataSource dataSource;
     
-    @Mock
-    private ConfigurationProperties props;
+    private final ConfigurationProperties props = new ConfigurationProperties(new Properties());
     
     @Before
     public void setUp() throws SQLException {
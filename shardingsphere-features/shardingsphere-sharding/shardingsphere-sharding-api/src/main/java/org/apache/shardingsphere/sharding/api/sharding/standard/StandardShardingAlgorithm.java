@@ -17,9 +17,13 @@
 
 package org.apache.shardingsphere.sharding.api.sharding.standard;
 
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Standard sharding algorithm.
@@ -45,4 +49,29 @@ public interface StandardShardingAlgorithm<T extends Comparable<?>> extends Shar
      * @return sharding results for data sources or table names
      */
     Collection<String> doSharding(Collection<String> availableTargetNames, RangeShardingValue<T> shardingValue);
+    
+    /**
+     * Sharding in batch.
+     *
+     * @param availableTargetNames available data sources or table names
+     * @param shardingValue batch sharding value
+     * @return index of sharding result in available target names for each row, -1 means no sharding result
+     * @throws ShardingSphereException if sharding result is not in available target names
+     */
+    default int[] doSharding(final List<String> availableTargetNames, final BatchShardingValue<T> shardingValue) {
+        Map<String, Integer> targetIndexes = new HashMap<>(availableTargetNames.size(), 1);
+        for (int i = availableTargetNames.size() - 1; i >= 0; i--) {
+            targetIndexes.put(availableTargetNames.get(i), i);
+        }
+        int[] result = new int[shardingValue.getValues().size()];
+        int index = 0;
+        for (T each : shardingValue.getValues()) {
+            String target = doSharding(availableTargetNames, new PreciseShardingValue<>(shardingValue.getLogicTableName(), shardingValue.getColumnName(), each));
+            if (null != target && !targetIndexes.containsKey(target)) {
+                throw new ShardingSphereException("Route table %s does not exist, available actual table: %s", target, availableTargetNames);
+            }
+            result[index++] = null == target ? -1 : targetIndexes.get(target);
+        }
+        return result;
+    }
 }
@@ -21,6 +21,9 @@ import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithm;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmPostProcessor;
 import org.apache.shardingsphere.spi.required.RequiredSPI;
 
+import java.util.ArrayList;
+import java.util.Collection;
+
 /**
  * Key generate algorithm.
  */
@@ -32,4 +35,18 @@ public interface KeyGenerateAlgorithm extends ShardingSphereAlgorithm, ShardingS
      * @return generated key
      */
     Comparable<?> generateKey();
+    
+    /**
+     * Generate keys.
+     * 
+     * @param count count of keys
+     * @return generated keys
+     */
+    default Collection<Comparable<?>> generateKeys(final int count) {
+        Collection<Comparable<?>> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(generateKey());
+        }
+        return result;
+    }
 }
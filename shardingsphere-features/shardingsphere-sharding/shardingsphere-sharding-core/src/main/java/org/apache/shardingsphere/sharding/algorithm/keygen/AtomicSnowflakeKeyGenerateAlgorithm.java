@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.keygen;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Atomic snowflake key generate algorithm.
+ * 
+ * <p>Layout of key is same as {@link SnowflakeKeyGenerateAlgorithm}, but timestamp and sequence are packed into one atomic long and advanced by CAS without lock.
+ * If sequence of current millisecond is exhausted, sequence is carried into timestamp of next millisecond instead of waiting for clock,
+ * and keys of multi-row insert are reserved as one continuous segment by one CAS.
+ * Timestamp of keys can lead clock by max tolerate time difference milliseconds at most, generating waits for clock beyond it.</p>
+ */
+public final class AtomicSnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm {
+    
+    private static final String WORKER_ID_KEY = "worker-id";
+    
+    private static final String MAX_VIBRATION_OFFSET_KEY = "max-vibration-offset";
+    
+    private static final String MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS_KEY = "max-tolerate-time-difference-milliseconds";
+    
+    private static final long SEQUENCE_BITS = 12L;
+    
+    private static final long WORKER_ID_BITS = 10L;
+    
+    private static final long SEQUENCE_MASK = (1 << SEQUENCE_BITS) - 1;
+    
+    private static final long TIMESTAMP_LEFT_SHIFT_BITS = SEQUENCE_BITS + WORKER_ID_BITS;
+    
+    private static final long WORKER_ID_MAX_VALUE = 1L << WORKER_ID_BITS;
+    
+    private static final long WORKER_ID = 0;
+    
+    private static final int DEFAULT_VIBRATION_VALUE = 1;
+    
+    private static final int MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS = 10;
+    
+    @Setter
+    private static TimeService timeService = new TimeService();
+    
+    @Getter
+    @Setter
+    private Properties props = new Properties();
+    
+    private final AtomicLong timestampAndSequence = new AtomicLong(-1L);
+    
+    private long workerId;
+    
+    private int maxVibrationOffset;
+    
+    private int maxTolerateTimeDifferenceMilliseconds;
+    
+    private volatile int sequenceOffset = -1;
+    
+    private volatile long lastMilliseconds;
+    
+    @Override
+    public void init() {
+        workerId = getWorkerId();
+        maxVibrationOffset = getMaxVibrationOffset();
+        maxTolerateTimeDifferenceMilliseconds = getMaxTolerateTimeDifferenceMilliseconds();
+    }
+    
+    private long getWorkerId() {
+        long result = Long.parseLong(props.getOrDefault(WORKER_ID_KEY, WORKER_ID).toString());
+        Preconditions.checkArgument(result >= 0L && result < WORKER_ID_MAX_VALUE, "Illegal worker id.");
+        return result;
+    }
+    
+    private int getMaxVibrationOffset() {
+        int result = Integer.parseInt(props.getOrDefault(MAX_VIBRATION_OFFSET_KEY, DEFAULT_VIBRATION_VALUE).toString());
+        Preconditions.checkArgument(result >= 0 && result <= SEQUENCE_MASK, "Illegal max vibration offset.");
+        return result;
+    }
+    
+    private int getMaxTolerateTimeDifferenceMilliseconds() {
+        return Integer.parseInt(props.getOrDefault(MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS_KEY, MAX_TOLERATE_TIME_DIFFERENCE_MILLISECONDS).toString());
+    }
+    
+    @Override
+    public Comparable<?> generateKey() {
+        return toKey(reserve(1));
+    }
+    
+    @Override
+    public Collection<Comparable<?>> generateKeys(final int count) {
+        if (count <= 0) {
+            return Collections.emptyList();
+        }
+        long first = reserve(count);
+        Collection<Comparable<?>> result = new ArrayList<>(count);
+        for (long each = first; each < first + count; each++) {
+            result.add(toKey(each));
+        }
+        return result;
+    }
+    
+    private long reserve(final int count) {
+        long maxCount = (maxTolerateTimeDifferenceMilliseconds + 1L) << SEQUENCE_BITS;
+        Preconditions.checkArgument(count <= maxCount, "Can not generate %s keys at once, max tolerate time difference is %s milliseconds", count, maxTolerateTimeDifferenceMilliseconds);
+        while (true) {
+            long currentTimestamp = getCurrentMilliseconds() - SnowflakeKeyGenerateAlgorithm.EPOCH;
+            long last = timestampAndSequence.get();
+            long first = currentTimestamp > last >> SEQUENCE_BITS ? currentTimestamp << SEQUENCE_BITS | Math.min(vibrateSequenceOffset(), maxCount - count) : last + 1;
+            long next = first + count - 1;
+            if (next >> SEQUENCE_BITS > currentTimestamp + maxTolerateTimeDifferenceMilliseconds) {
+                // keys lead clock too much, wait for clock to catch up
+                continue;
+            }
+            if (timestampAndSequence.compareAndSet(last, next)) {
+                return first;
+            }
+        }
+    }
+    
+    private long getCurrentMilliseconds() {
+        long result = timeService.getCurrentMillis();
+        long lastMilliseconds = this.lastMilliseconds;
+        if (result > lastMilliseconds) {
+            this.lastMilliseconds = result;
+            return result;
+        }
+        if (result < lastMilliseconds && lastMilliseconds - result >= maxTolerateTimeDifferenceMilliseconds) {
+            // read clock again, current thread may be suspended after reading clock while other threads are updating last milliseconds
+            result = timeService.getCurrentMillis();
+            Preconditions.checkState(result >= lastMilliseconds || lastMilliseconds - result < maxTolerateTimeDifferenceMilliseconds,
+                    "Clock is moving backwards, last time is %s milliseconds, current time is %s milliseconds", lastMilliseconds, result);
+        }
+        return result;
+    }
+    
+    private int vibrateSequenceOffset() {
+        int result = sequenceOffset >= maxVibrationOffset ? 0 : sequenceOffset + 1;
+        sequenceOffset = result;
+        return result;
+    }
+    
+    private long toKey(final long timestampAndSequence) {
+        return (timestampAndSequence >>> SEQUENCE_BITS) << TIMESTAMP_LEFT_SHIFT_BITS | workerId << SEQUENCE_BITS | timestampAndSequence & SEQUENCE_MASK;
+    }
+    
+    @Override
+    public String getType() {
+        return "ATOMIC_SNOWFLAKE";
+    }
+}
@@ -23,7 +23,9 @@ import lombok.Setter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Properties;
 
 /**
@@ -135,6 +137,15 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
         return ((currentMilliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (workerId << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
     }
     
+    @Override
+    public synchronized Collection<Comparable<?>> generateKeys(final int count) {
+        Collection<Comparable<?>> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(generateKey());
+        }
+        return result;
+    }
+    
     @SneakyThrows(InterruptedException.class)
     private boolean waitTolerateTimeDifferenceIfNeed(final long currentMilliseconds) {
         if (lastMilliseconds <= currentMilliseconds) {
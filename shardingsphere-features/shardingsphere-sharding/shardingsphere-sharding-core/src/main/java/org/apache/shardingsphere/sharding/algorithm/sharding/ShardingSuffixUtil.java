@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Sharding suffix util, which indexes target names by numeric suffix for batch sharding.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardingSuffixUtil {
+    
+    /**
+     * Get index of first target name ending with each suffix.
+     *
+     * @param availableTargetNames available data sources or table names
+     * @param minSuffix min suffix
+     * @param maxSuffix max suffix
+     * @return target index of suffix at position of {@code suffix - minSuffix}, -1 means no target name ends with the suffix
+     */
+    public static int[] getTargetIndexes(final List<String> availableTargetNames, final long minSuffix, final long maxSuffix) {
+        int[] result = new int[(int) (maxSuffix - minSuffix + 1)];
+        for (long suffix = minSuffix; suffix <= maxSuffix; suffix++) {
+            result[(int) (suffix - minSuffix)] = getTargetIndex(availableTargetNames, String.valueOf(suffix));
+        }
+        return result;
+    }
+    
+    private static int getTargetIndex(final List<String> availableTargetNames, final String suffix) {
+        int index = 0;
+        for (String each : availableTargetNames) {
+            if (each.endsWith(suffix)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+}
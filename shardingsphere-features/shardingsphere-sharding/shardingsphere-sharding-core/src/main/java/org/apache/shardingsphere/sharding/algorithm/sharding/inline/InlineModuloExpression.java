@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Inline modulo expression, compiled form of {@code prefix${column % modulus}suffix}.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class InlineModuloExpression {
+    
+    private static final Pattern MODULO_PATTERN = Pattern.compile("^([^$\"\\\\{}]*)\\$\\{\\s*([A-Za-z_][A-Za-z0-9_]*)\\s*%\\s*([0-9]{1,18})\\s*}([^$\"\\\\{}]*)$");
+    
+    private final String prefix;
+    
+    private final String columnName;
+    
+    private final long modulus;
+    
+    private final String suffix;
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression with {@code $} place holder
+     * @return compiled inline modulo expression, empty if expression is not a simple modulo expression
+     */
+    public static Optional<InlineModuloExpression> compile(final String inlineExpression) {
+        Matcher matcher = MODULO_PATTERN.matcher(inlineExpression);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        long modulus = Long.parseLong(matcher.group(3));
+        return 0 == modulus ? Optional.empty() : Optional.of(new InlineModuloExpression(matcher.group(1), matcher.group(2), modulus, matcher.group(4)));
+    }
+    
+    /**
+     * Judge whether sharding value can be evaluated without groovy.
+     *
+     * @param columnName column name
+     * @param value sharding value
+     * @return can be evaluated or not
+     */
+    public boolean isSupported(final String columnName, final Comparable<?> value) {
+        return this.columnName.equals(columnName) && (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte);
+    }
+    
+    /**
+     * Evaluate target name.
+     *
+     * <p>Keep the same remainder semantic as groovy, which means negative value gets negative remainder.</p>
+     *
+     * @param value sharding value
+     * @return target name
+     */
+    public String evaluate(final Comparable<?> value) {
+        return prefix + ((Number) value).longValue() % modulus + suffix;
+    }
+}
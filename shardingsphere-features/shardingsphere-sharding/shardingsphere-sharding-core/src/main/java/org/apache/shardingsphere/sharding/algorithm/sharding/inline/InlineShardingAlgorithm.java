@@ -22,12 +22,17 @@ import groovy.lang.Closure;
 import groovy.util.Expando;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAlgorithmException;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 import org.apache.shardingsphere.sharding.support.InlineExpressionParser;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 /**
@@ -39,10 +44,14 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     private static final String ALLOW_RANGE_QUERY_KEY = "allow-range-query-with-inline-sharding";
     
+    private static final ThreadLocal<Map<String, Closure<?>>> CLOSURES = ThreadLocal.withInitial(HashMap::new);
+    
     private String algorithmExpression;
     
     private boolean allowRangeQuery;
     
+    private InlineModuloExpression moduloExpression;
+    
     @Getter
     @Setter
     private Properties props = new Properties();
@@ -51,6 +60,7 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     public void init() {
         algorithmExpression = getAlgorithmExpression();
         allowRangeQuery = isAllowRangeQuery();
+        moduloExpression = InlineModuloExpression.compile(algorithmExpression).orElse(null);
     }
     
     private String getAlgorithmExpression() {
@@ -65,11 +75,33 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        Closure<?> closure = createClosure();
+        if (null != moduloExpression && moduloExpression.isSupported(shardingValue.getColumnName(), shardingValue.getValue())) {
+            return moduloExpression.evaluate(shardingValue.getValue());
+        }
+        Closure<?> closure = CLOSURES.get().computeIfAbsent(algorithmExpression, InlineShardingAlgorithm::createClosure);
         closure.setProperty(shardingValue.getColumnName(), shardingValue.getValue());
         return closure.call().toString();
     }
     
+    @Override
+    public int[] doSharding(final List<String> availableTargetNames, final BatchShardingValue<Comparable<?>> shardingValue) {
+        Map<String, Integer> targetIndexes = getTargetIndexes(availableTargetNames);
+        int[] moduloTargetIndexes = null != moduloExpression && moduloExpression.getModulus() <= availableTargetNames.size() ? getModuloTargetIndexes(targetIndexes) : null;
+        int[] result = new int[shardingValue.getValues().size()];
+        int index = 0;
+        for (Comparable<?> each : shardingValue.getValues()) {
+            int targetIndex = null != moduloTargetIndexes && moduloExpression.isSupported(shardingValue.getColumnName(), each)
+                    ? moduloTargetIndexes[(int) (((Number) each).longValue() % moduloExpression.getModulus() + moduloExpression.getModulus() - 1)]
+                    : targetIndexes.getOrDefault(doSharding(availableTargetNames, new PreciseShardingValue<>(shardingValue.getLogicTableName(), shardingValue.getColumnName(), each)), -1);
+            if (targetIndex < 0) {
+                throw new ShardingAlgorithmException("Route table %s does not exist, available actual table: %s",
+                        doSharding(availableTargetNames, new PreciseShardingValue<>(shardingValue.getLogicTableName(), shardingValue.getColumnName(), each)), availableTargetNames);
+            }
+            result[index++] = targetIndex;
+        }
+        return result;
+    }
+    
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
         if (allowRangeQuery) {
@@ -78,7 +110,24 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
         throw new UnsupportedOperationException("Since the property of `" + ALLOW_RANGE_QUERY_KEY + "` is false, inline sharding algorithm can not tackle with range query.");
     }
     
-    private Closure<?> createClosure() {
+    private Map<String, Integer> getTargetIndexes(final List<String> availableTargetNames) {
+        Map<String, Integer> result = new HashMap<>(availableTargetNames.size(), 1);
+        for (int i = availableTargetNames.size() - 1; i >= 0; i--) {
+            result.put(availableTargetNames.get(i), i);
+        }
+        return result;
+    }
+    
+    private int[] getModuloTargetIndexes(final Map<String, Integer> targetIndexes) {
+        int modulus = (int) moduloExpression.getModulus();
+        int[] result = new int[modulus * 2 - 1];
+        for (int remainder = 1 - modulus; remainder < modulus; remainder++) {
+            result[remainder + modulus - 1] = targetIndexes.getOrDefault(moduloExpression.evaluate(remainder), -1);
+        }
+        return result;
+    }
+    
+    private static Closure<?> createClosure(final String algorithmExpression) {
         Closure<?> result = new InlineExpressionParser(algorithmExpression).evaluateClosure().rehydrate(new Expando(), null, null);
         result.setResolveStrategy(Closure.DELEGATE_ONLY);
         return result;
@@ -20,13 +20,16 @@ package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingSuffixUtil;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.LinkedHashSet;
 import java.util.Properties;
 
@@ -63,6 +66,17 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
         return null;
     }
     
+    @Override
+    public int[] doSharding(final List<String> availableTargetNames, final BatchShardingValue<Comparable<?>> shardingValue) {
+        int[] targetIndexes = ShardingSuffixUtil.getTargetIndexes(availableTargetNames, 1 - shardingCount, shardingCount - 1);
+        int[] result = new int[shardingValue.getValues().size()];
+        int index = 0;
+        for (Comparable<?> each : shardingValue.getValues()) {
+            result[index++] = targetIndexes[(int) (getLongValue(each) % shardingCount) + shardingCount - 1];
+        }
+        return result;
+    }
+    
     @Override
     public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Comparable<?>> shardingValue) {
         return isContainAllTargets(shardingValue) ? availableTargetNames : getAvailableTargetNames(availableTargetNames, shardingValue);
@@ -27,8 +27,8 @@ import org.apache.shardingsphere.sharding.rule.TableRule;
 
 import java.math.BigInteger;
 import java.sql.SQLException;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -44,8 +44,8 @@ public final class ShowTableStatusMergedResult extends MemoryMergedResult<Shardi
     }
     
     @Override
-    protected List<MemoryQueryResultRow> init(final ShardingRule shardingRule, final ShardingSphereSchema schema,
-                                              final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
+    protected Iterator<MemoryQueryResultRow> init(final ShardingRule shardingRule, final ShardingSphereSchema schema,
+                                                  final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
         Map<String, MemoryQueryResultRow> memoryQueryResultRowMap = new LinkedHashMap<>();
         for (QueryResult each : queryResults) {
             while (each.next()) {
@@ -61,7 +61,7 @@ public final class ShowTableStatusMergedResult extends MemoryMergedResult<Shardi
                 }
             }
         }
-        return new LinkedList<>(memoryQueryResultRowMap.values());
+        return memoryQueryResultRowMap.values().iterator();
     }
     
     private void merge(final MemoryQueryResultRow row, final MemoryQueryResultRow newRow) {
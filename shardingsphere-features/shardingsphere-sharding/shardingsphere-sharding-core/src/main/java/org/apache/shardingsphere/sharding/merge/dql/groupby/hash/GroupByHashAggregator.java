@@ -0,0 +1,366 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpillFileUtil;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpillValueCodec;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByValue;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.hash.accumulator.AggregationAccumulator;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.hash.accumulator.AggregationAccumulatorFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * Hash aggregator for group by.
+ * 
+ * <p>Groups are kept in one open addressing table keyed by group by values, aggregation states are kept in slot indexed arrays of accumulators.
+ * If estimated memory exceeds max memory bytes and min run bytes, groups are sorted by serialized key and spilled to temporary file as a run, all spilled runs are merged by serialized key at last.
+ * If there are more runs than max merge fan-in, runs are merged into fewer runs in passes before merging at last, so that files opened at the same time are bounded.
+ * Spilled files are deleted after merged or aggregator closed.</p>
+ */
+public final class GroupByHashAggregator {
+    
+    private static final int INITIAL_CAPACITY = 1024;
+    
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+    
+    private static final int CELL_BYTES = 24;
+    
+    private static final int ACCUMULATOR_BYTES = 16;
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private static final int MAX_MERGE_FAN_IN = 64;
+    
+    private static final long DEFAULT_MIN_RUN_BYTES = 1024L * 1024L;
+    
+    private final Collection<OrderByItem> groupByItems;
+    
+    private final List<AggregationProjection> aggregationProjections;
+    
+    private final List<AggregationAccumulator> accumulators;
+    
+    private final long spillThresholdBytes;
+    
+    private final boolean spillable;
+    
+    private final String spillDirectory;
+    
+    private final List<File> spilledFiles = new LinkedList<>();
+    
+    private int[] table = new int[INITIAL_CAPACITY * 2];
+    
+    private GroupByValue[] keys = new GroupByValue[INITIAL_CAPACITY];
+    
+    private int[] hashes = new int[INITIAL_CAPACITY];
+    
+    private MemoryQueryResultRow[] rows = new MemoryQueryResultRow[INITIAL_CAPACITY];
+    
+    private int size;
+    
+    private long estimatedBytes;
+    
+    private int columnCount = -1;
+    
+    public GroupByHashAggregator(final SelectStatementContext selectStatementContext, final long maxMemoryBytes, final String spillDirectory) {
+        this(selectStatementContext, maxMemoryBytes, DEFAULT_MIN_RUN_BYTES, spillDirectory);
+    }
+    
+    public GroupByHashAggregator(final SelectStatementContext selectStatementContext, final long maxMemoryBytes, final long minRunBytes, final String spillDirectory) {
+        groupByItems = selectStatementContext.getGroupByContext().getItems();
+        aggregationProjections = new ArrayList<>(selectStatementContext.getProjectionsContext().getAggregationProjections());
+        accumulators = new ArrayList<>(aggregationProjections.size());
+        for (AggregationProjection each : aggregationProjections) {
+            AggregationAccumulator accumulator = AggregationAccumulatorFactory.create(each);
+            accumulator.ensureCapacity(INITIAL_CAPACITY);
+            accumulators.add(accumulator);
+        }
+        spillThresholdBytes = Math.max(maxMemoryBytes, minRunBytes);
+        spillable = maxMemoryBytes > 0 && accumulators.stream().allMatch(AggregationAccumulator::isSpillable);
+        this.spillDirectory = spillDirectory;
+    }
+    
+    /**
+     * Aggregate current row of query result.
+     *
+     * @param queryResult query result
+     * @throws SQLException SQL exception
+     */
+    public void aggregate(final QueryResult queryResult) throws SQLException {
+        if (columnCount < 0) {
+            columnCount = queryResult.getMetaData().getColumnCount();
+        }
+        int slot = findOrCreateSlot(queryResult);
+        for (AggregationAccumulator each : accumulators) {
+            each.aggregate(slot, queryResult);
+        }
+        if (spillable && estimatedBytes > spillThresholdBytes) {
+            spill();
+        }
+    }
+    
+    private int findOrCreateSlot(final QueryResult queryResult) throws SQLException {
+        GroupByValue groupByValue = new GroupByValue(queryResult, groupByItems);
+        int hash = groupByValue.hashCode();
+        hash ^= hash >>> 16;
+        int mask = table.length - 1;
+        int index = hash & mask;
+        while (0 != table[index]) {
+            int slot = table[index] - 1;
+            if (hash == hashes[slot] && groupByValue.equals(keys[slot])) {
+                return slot;
+            }
+            index = (index + 1) & mask;
+        }
+        int result = createSlot(hash, groupByValue, new MemoryQueryResultRow(queryResult));
+        table[index] = result + 1;
+        if ((size << 2) >= table.length * 3) {
+            rehash(table.length << 1);
+        }
+        return result;
+    }
+    
+    private int createSlot(final int hash, final GroupByValue groupByValue, final MemoryQueryResultRow row) {
+        if (size == keys.length) {
+            int capacity = keys.length << 1;
+            keys = Arrays.copyOf(keys, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+            rows = Arrays.copyOf(rows, capacity);
+            accumulators.forEach(each -> each.ensureCapacity(capacity));
+        }
+        keys[size] = groupByValue;
+        hashes[size] = hash;
+        rows[size] = row;
+        estimatedBytes += ENTRY_OVERHEAD_BYTES + (long) (groupByItems.size() + columnCount) * CELL_BYTES + (long) accumulators.size() * ACCUMULATOR_BYTES;
+        return size++;
+    }
+    
+    private void rehash(final int tableCapacity) {
+        table = new int[tableCapacity];
+        int mask = tableCapacity - 1;
+        for (int slot = 0; slot < size; slot++) {
+            int index = hashes[slot] & mask;
+            while (0 != table[index]) {
+                index = (index + 1) & mask;
+            }
+            table[index] = slot + 1;
+        }
+    }
+    
+    /**
+     * Sort groups by serialized key and spill them into temporary file as a run.
+     *
+     * @return spilled bytes
+     */
+    public long spill() {
+        File file = createSpillFile();
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE))) {
+            byte[][] encodedKeys = encodeKeys();
+            Integer[] sortedSlots = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                sortedSlots[i] = i;
+            }
+            Arrays.sort(sortedSlots, (o1, o2) -> GroupBySpilledRun.compareKey(encodedKeys[o1], encodedKeys[o2]));
+            for (int each : sortedSlots) {
+                writeEntry(output, encodedKeys[each], rows[each], each);
+            }
+            output.writeInt(-1);
+        } catch (final IOException ex) {
+            throw new ShardingSphereException("Can not spill group by aggregation states.", ex);
+        }
+        clear();
+        return file.length();
+    }
+    
+    private File createSpillFile() {
+        File result = SpillFileUtil.createSpillFile(spillDirectory, "shardingsphere-group-by-");
+        spilledFiles.add(result);
+        return result;
+    }
+    
+    private byte[][] encodeKeys() throws IOException {
+        byte[][] result = new byte[size][];
+        ByteArrayOutputStream keyBuffer = new ByteArrayOutputStream(64);
+        DataOutputStream keyOutput = new DataOutputStream(keyBuffer);
+        for (int slot = 0; slot < size; slot++) {
+            keyBuffer.reset();
+            for (Object each : keys[slot].getGroupValues()) {
+                SpillValueCodec.write(keyOutput, each);
+            }
+            result[slot] = keyBuffer.toByteArray();
+        }
+        return result;
+    }
+    
+    private void writeEntry(final DataOutputStream output, final byte[] encodedKey, final MemoryQueryResultRow row, final int slot) throws IOException {
+        output.writeInt(encodedKey.length);
+        output.write(encodedKey);
+        for (int i = 1; i <= columnCount; i++) {
+            SpillValueCodec.write(output, row.getCell(i));
+        }
+        for (AggregationAccumulator each : accumulators) {
+            each.writeState(slot, output);
+        }
+    }
+    
+    private void clear() {
+        Arrays.fill(table, 0);
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(rows, 0, size, null);
+        for (int slot = 0; slot < size; slot++) {
+            for (AggregationAccumulator each : accumulators) {
+                each.reset(slot);
+            }
+        }
+        size = 0;
+        estimatedBytes = 0L;
+    }
+    
+    /**
+     * Output aggregated rows.
+     *
+     * @param consumer consumer of aggregated rows, rows come in undefined order
+     */
+    public void forEachRow(final Consumer<MemoryQueryResultRow> consumer) {
+        if (spilledFiles.isEmpty()) {
+            for (int slot = 0; slot < size; slot++) {
+                consumer.accept(createResultRow(rows[slot], slot));
+                rows[slot] = null;
+            }
+            return;
+        }
+        if (size > 0) {
+            spill();
+        }
+        try {
+            mergeSpilledRuns(consumer);
+        } finally {
+            close();
+        }
+    }
+    
+    /**
+     * Close aggregator and delete spilled files.
+     */
+    public void close() {
+        spilledFiles.forEach(File::delete);
+        spilledFiles.clear();
+    }
+    
+    private MemoryQueryResultRow createResultRow(final MemoryQueryResultRow row, final int slot) {
+        for (int i = 0; i < aggregationProjections.size(); i++) {
+            row.setCell(aggregationProjections.get(i).getIndex(), accumulators.get(i).getResult(slot));
+        }
+        return row;
+    }
+    
+    private void mergeSpilledRuns(final Consumer<MemoryQueryResultRow> consumer) {
+        try {
+            while (spilledFiles.size() > MAX_MERGE_FAN_IN) {
+                int remainingRuns = spilledFiles.size();
+                while (remainingRuns > 0) {
+                    int fanIn = Math.min(MAX_MERGE_FAN_IN, remainingRuns);
+                    List<File> mergedFiles = spilledFiles.subList(0, fanIn);
+                    List<File> runFiles = new ArrayList<>(mergedFiles);
+                    mergedFiles.clear();
+                    try {
+                        writeMergedRun(runFiles);
+                    } finally {
+                        runFiles.forEach(File::delete);
+                    }
+                    remainingRuns -= fanIn;
+                }
+            }
+            mergeRuns(spilledFiles, (key, row) -> consumer.accept(createResultRow(row, 0)));
+        } catch (final IOException ex) {
+            throw new ShardingSphereException("Can not merge spilled group by aggregation states.", ex);
+        }
+    }
+    
+    private void writeMergedRun(final List<File> runFiles) throws IOException {
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(createSpillFile()), BUFFER_SIZE))) {
+            mergeRuns(runFiles, (key, row) -> writeEntry(output, key, row, 0));
+            output.writeInt(-1);
+        }
+    }
+    
+    private void mergeRuns(final List<File> runFiles, final MergedEntryConsumer consumer) throws IOException {
+        PriorityQueue<GroupBySpilledRun> runs = new PriorityQueue<>(runFiles.size());
+        try {
+            int runIndex = 0;
+            for (File each : runFiles) {
+                GroupBySpilledRun run = new GroupBySpilledRun(each, runIndex++, columnCount);
+                if (run.next()) {
+                    runs.add(run);
+                } else {
+                    run.close();
+                }
+            }
+            while (!runs.isEmpty()) {
+                GroupBySpilledRun first = runs.poll();
+                byte[] key = first.getKey();
+                MemoryQueryResultRow row = first.getRow();
+                mergeState(first, runs);
+                while (!runs.isEmpty() && Arrays.equals(key, runs.peek().getKey())) {
+                    mergeState(runs.poll(), runs);
+                }
+                consumer.accept(key, row);
+                for (AggregationAccumulator each : accumulators) {
+                    each.reset(0);
+                }
+            }
+        } finally {
+            runs.forEach(GroupBySpilledRun::close);
+        }
+    }
+    
+    private void mergeState(final GroupBySpilledRun run, final PriorityQueue<GroupBySpilledRun> runs) throws IOException {
+        for (AggregationAccumulator each : accumulators) {
+            each.mergeState(0, run.getInput());
+        }
+        if (run.next()) {
+            runs.add(run);
+        } else {
+            run.close();
+        }
+    }
+    
+    private interface MergedEntryConsumer {
+        
+        void accept(byte[] key, MemoryQueryResultRow row) throws IOException;
+    }
+}
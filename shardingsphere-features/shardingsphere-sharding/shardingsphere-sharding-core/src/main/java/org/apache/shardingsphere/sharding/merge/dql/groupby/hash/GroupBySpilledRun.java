@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpillValueCodec;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+/**
+ * Spilled run of group by hash aggregator, entries are sorted by serialized group by key.
+ */
+public final class GroupBySpilledRun implements Comparable<GroupBySpilledRun> {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final int runIndex;
+    
+    private final int columnCount;
+    
+    @Getter
+    private final DataInputStream input;
+    
+    @Getter
+    private byte[] key;
+    
+    @Getter
+    private MemoryQueryResultRow row;
+    
+    public GroupBySpilledRun(final File file, final int runIndex, final int columnCount) throws IOException {
+        this.runIndex = runIndex;
+        this.columnCount = columnCount;
+        input = new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE));
+    }
+    
+    /**
+     * Read key and row of next entry, aggregation states should be read from input by accumulators after that.
+     *
+     * @return has next entry or not
+     * @throws IOException IO exception
+     */
+    public boolean next() throws IOException {
+        int keyLength = input.readInt();
+        if (keyLength < 0) {
+            return false;
+        }
+        key = new byte[keyLength];
+        input.readFully(key);
+        Object[] data = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            data[i] = SpillValueCodec.read(input);
+        }
+        row = new MemoryQueryResultRow(data);
+        return true;
+    }
+    
+    /**
+     * Close run.
+     */
+    public void close() {
+        try {
+            input.close();
+        } catch (final IOException ignored) {
+        }
+    }
+    
+    @Override
+    public int compareTo(final GroupBySpilledRun o) {
+        int result = compareKey(key, o.key);
+        return 0 == result ? Integer.compare(runIndex, o.runIndex) : result;
+    }
+    
+    /**
+     * Compare serialized keys in unsigned lexicographic order.
+     *
+     * @param key1 key to be compared
+     * @param key2 key to be compared
+     * @return compare result
+     */
+    public static int compareKey(final byte[] key1, final byte[] key2) {
+        int length = Math.min(key1.length, key2.length);
+        for (int i = 0; i < length; i++) {
+            int result = Integer.compare(key1[i] & 0xff, key2[i] & 0xff);
+            if (0 != result) {
+                return result;
+            }
+        }
+        return Integer.compare(key1.length, key2.length);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash.accumulator;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.sql.SQLException;
+
+/**
+ * Aggregation accumulator, which keeps aggregation state of all groups in slot indexed arrays.
+ */
+public interface AggregationAccumulator {
+    
+    /**
+     * Ensure capacity of slots.
+     *
+     * @param capacity slot capacity
+     */
+    void ensureCapacity(int capacity);
+    
+    /**
+     * Aggregate value of current row into slot.
+     *
+     * @param slot slot of group
+     * @param queryResult query result which points to current row
+     * @throws SQLException SQL exception
+     */
+    void aggregate(int slot, QueryResult queryResult) throws SQLException;
+    
+    /**
+     * Get aggregation result of slot.
+     *
+     * @param slot slot of group
+     * @return aggregation result
+     */
+    Comparable<?> getResult(int slot);
+    
+    /**
+     * Judge whether aggregation state can be spilled.
+     *
+     * @return can be spilled or not
+     */
+    boolean isSpillable();
+    
+    /**
+     * Write aggregation state of slot.
+     *
+     * @param slot slot of group
+     * @param output data output
+     * @throws IOException IO exception
+     */
+    void writeState(int slot, DataOutput output) throws IOException;
+    
+    /**
+     * Merge aggregation state which written by {@code writeState} into slot.
+     *
+     * @param slot slot of group
+     * @param input data input
+     * @throws IOException IO exception
+     */
+    void mergeState(int slot, DataInput input) throws IOException;
+    
+    /**
+     * Reset state of slot.
+     *
+     * @param slot slot of group
+     */
+    void reset(int slot);
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash.accumulator;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+
+/**
+ * Aggregation accumulator factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AggregationAccumulatorFactory {
+    
+    /**
+     * Create aggregation accumulator instance.
+     *
+     * @param aggregationProjection aggregation projection
+     * @return aggregation accumulator instance
+     */
+    public static AggregationAccumulator create(final AggregationProjection aggregationProjection) {
+        if (aggregationProjection instanceof AggregationDistinctProjection) {
+            return new UnitAggregationAccumulator(aggregationProjection);
+        }
+        switch (aggregationProjection.getType()) {
+            case MAX:
+                return new ComparableAggregationAccumulator(aggregationProjection.getIndex(), false);
+            case MIN:
+                return new ComparableAggregationAccumulator(aggregationProjection.getIndex(), true);
+            case SUM:
+            case COUNT:
+                return new SumAggregationAccumulator(aggregationProjection.getIndex());
+            case AVG:
+                return 2 == aggregationProjection.getDerivedAggregationProjections().size()
+                        ? new AverageAggregationAccumulator(aggregationProjection.getDerivedAggregationProjections().get(0).getIndex(),
+                        aggregationProjection.getDerivedAggregationProjections().get(1).getIndex())
+                        : new UnitAggregationAccumulator(aggregationProjection);
+            case BIT_XOR:
+                return new BitXorAggregationAccumulator(aggregationProjection.getIndex());
+            default:
+                throw new UnsupportedOperationException(aggregationProjection.getType().name());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash.accumulator;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.SQLException;
+
+/**
+ * Average aggregation accumulator.
+ */
+@RequiredArgsConstructor
+public final class AverageAggregationAccumulator implements AggregationAccumulator {
+    
+    private final int countColumnIndex;
+    
+    private final int sumColumnIndex;
+    
+    private final SumArray counts = new SumArray();
+    
+    private final SumArray sums = new SumArray();
+    
+    @Override
+    public void ensureCapacity(final int capacity) {
+        counts.ensureCapacity(capacity);
+        sums.ensureCapacity(capacity);
+    }
+    
+    @Override
+    public void aggregate(final int slot, final QueryResult queryResult) throws SQLException {
+        Comparable<?> count = AggregationValues.getValue(queryResult, countColumnIndex);
+        Comparable<?> sum = AggregationValues.getValue(queryResult, sumColumnIndex);
+        if (null != count && null != sum) {
+            counts.add(slot, count);
+            sums.add(slot, sum);
+        }
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int slot) {
+        BigDecimal count = counts.get(slot);
+        if (null == count || BigDecimal.ZERO.equals(count)) {
+            return count;
+        }
+        // TODO use metadata to fetch float number precise for database field
+        return sums.get(slot).divide(count, 4, RoundingMode.HALF_UP);
+    }
+    
+    @Override
+    public boolean isSpillable() {
+        return true;
+    }
+    
+    @Override
+    public void writeState(final int slot, final DataOutput output) throws IOException {
+        counts.writeState(slot, output);
+        sums.writeState(slot, output);
+    }
+    
+    @Override
+    public void mergeState(final int slot, final DataInput input) throws IOException {
+        counts.mergeState(slot, input);
+        sums.mergeState(slot, input);
+    }
+    
+    @Override
+    public void reset(final int slot) {
+        counts.reset(slot);
+        sums.reset(slot);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash.accumulator;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpillValueCodec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Bit xor aggregation accumulator.
+ */
+@RequiredArgsConstructor
+public final class BitXorAggregationAccumulator implements AggregationAccumulator {
+    
+    private final int columnIndex;
+    
+    private BigInteger[] results = new BigInteger[0];
+    
+    @Override
+    public void ensureCapacity(final int capacity) {
+        if (capacity > results.length) {
+            results = Arrays.copyOf(results, capacity);
+        }
+    }
+    
+    @Override
+    public void aggregate(final int slot, final QueryResult queryResult) throws SQLException {
+        Comparable<?> value = AggregationValues.getValue(queryResult, columnIndex);
+        if (null != value) {
+            merge(slot, new BigInteger(value.toString()));
+        }
+    }
+    
+    private void merge(final int slot, final BigInteger value) {
+        results[slot] = null == results[slot] ? value : results[slot].xor(value);
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int slot) {
+        return results[slot];
+    }
+    
+    @Override
+    public boolean isSpillable() {
+        return true;
+    }
+    
+    @Override
+    public void writeState(final int slot, final DataOutput output) throws IOException {
+        SpillValueCodec.write(output, results[slot]);
+    }
+    
+    @Override
+    public void mergeState(final int slot, final DataInput input) throws IOException {
+        BigInteger value = (BigInteger) SpillValueCodec.read(input);
+        if (null != value) {
+            merge(slot, value);
+        }
+    }
+    
+    @Override
+    public void reset(final int slot) {
+        results[slot] = null;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash.accumulator;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.sql.SQLException;
+
+/**
+ * Sum aggregation accumulator, used for SUM and COUNT.
+ */
+@RequiredArgsConstructor
+public final class SumAggregationAccumulator implements AggregationAccumulator {
+    
+    private final int columnIndex;
+    
+    private final SumArray sums = new SumArray();
+    
+    @Override
+    public void ensureCapacity(final int capacity) {
+        sums.ensureCapacity(capacity);
+    }
+    
+    @Override
+    public void aggregate(final int slot, final QueryResult queryResult) throws SQLException {
+        Comparable<?> value = AggregationValues.getValue(queryResult, columnIndex);
+        if (null != value) {
+            sums.add(slot, value);
+        }
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int slot) {
+        return sums.get(slot);
+    }
+    
+    @Override
+    public boolean isSpillable() {
+        return true;
+    }
+    
+    @Override
+    public void writeState(final int slot, final DataOutput output) throws IOException {
+        sums.writeState(slot, output);
+    }
+    
+    @Override
+    public void mergeState(final int slot, final DataInput input) throws IOException {
+        sums.mergeState(slot, input);
+    }
+    
+    @Override
+    public void reset(final int slot) {
+        sums.reset(slot);
+    }
+}
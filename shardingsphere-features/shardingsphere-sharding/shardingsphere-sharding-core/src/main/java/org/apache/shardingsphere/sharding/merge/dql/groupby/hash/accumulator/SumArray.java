@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash.accumulator;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Sum array, which accumulates integral values in primitive longs and falls back to big decimal for others or on overflow.
+ */
+public final class SumArray {
+    
+    private long[] longSums = new long[0];
+    
+    private BigDecimal[] decimalSums = new BigDecimal[0];
+    
+    private final BitSet present = new BitSet();
+    
+    /**
+     * Ensure capacity of slots.
+     *
+     * @param capacity slot capacity
+     */
+    public void ensureCapacity(final int capacity) {
+        if (capacity > longSums.length) {
+            longSums = Arrays.copyOf(longSums, capacity);
+            decimalSums = Arrays.copyOf(decimalSums, capacity);
+        }
+    }
+    
+    /**
+     * Add value into slot.
+     *
+     * @param slot slot
+     * @param value value, should not be null
+     */
+    public void add(final int slot, final Object value) {
+        present.set(slot);
+        if (AggregationValues.isIntegral(value)) {
+            addLong(slot, ((Number) value).longValue());
+        } else {
+            addDecimal(slot, AggregationValues.toBigDecimal(value));
+        }
+    }
+    
+    private void addLong(final int slot, final long value) {
+        long result = longSums[slot] + value;
+        if (((longSums[slot] ^ result) & (value ^ result)) < 0) {
+            addDecimal(slot, BigDecimal.valueOf(value));
+            return;
+        }
+        longSums[slot] = result;
+    }
+    
+    private void addDecimal(final int slot, final BigDecimal value) {
+        decimalSums[slot] = null == decimalSums[slot] ? value : decimalSums[slot].add(value);
+    }
+    
+    /**
+     * Judge whether slot has value.
+     *
+     * @param slot slot
+     * @return has value or not
+     */
+    public boolean isPresent(final int slot) {
+        return present.get(slot);
+    }
+    
+    /**
+     * Get sum of slot.
+     *
+     * @param slot slot
+     * @return sum, null if no value added
+     */
+    public BigDecimal get(final int slot) {
+        if (!present.get(slot)) {
+            return null;
+        }
+        BigDecimal result = BigDecimal.valueOf(longSums[slot]);
+        return null == decimalSums[slot] ? result : decimalSums[slot].add(result);
+    }
+    
+    /**
+     * Write state of slot.
+     *
+     * @param slot slot
+     * @param output data output
+     * @throws IOException IO exception
+     */
+    public void writeState(final int slot, final DataOutput output) throws IOException {
+        BigDecimal value = get(slot);
+        output.writeBoolean(null != value);
+        if (null != value) {
+            output.writeInt(value.scale());
+            byte[] unscaledValue = value.unscaledValue().toByteArray();
+            output.writeInt(unscaledValue.length);
+            output.write(unscaledValue);
+        }
+    }
+    
+    /**
+     * Merge state which written by {@code writeState} into slot.
+     *
+     * @param slot slot
+     * @param input data input
+     * @throws IOException IO exception
+     */
+    public void mergeState(final int slot, final DataInput input) throws IOException {
+        if (!input.readBoolean()) {
+            return;
+        }
+        int scale = input.readInt();
+        byte[] unscaledValue = new byte[input.readInt()];
+        input.readFully(unscaledValue);
+        present.set(slot);
+        addDecimal(slot, new BigDecimal(new BigInteger(unscaledValue), scale));
+    }
+    
+    /**
+     * Reset state of slot.
+     *
+     * @param slot slot
+     */
+    public void reset(final int slot) {
+        longSums[slot] = 0L;
+        decimalSums[slot] = null;
+        present.clear(slot);
+    }
+}
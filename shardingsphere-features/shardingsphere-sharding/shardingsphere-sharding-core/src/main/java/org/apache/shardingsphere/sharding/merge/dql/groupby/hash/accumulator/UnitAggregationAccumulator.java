@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash.accumulator;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Aggregation accumulator which delegates to aggregation unit, used for distinct aggregations which can not be spilled.
+ */
+@RequiredArgsConstructor
+public final class UnitAggregationAccumulator implements AggregationAccumulator {
+    
+    private final AggregationProjection aggregationProjection;
+    
+    private AggregationUnit[] units = new AggregationUnit[0];
+    
+    @Override
+    public void ensureCapacity(final int capacity) {
+        if (capacity > units.length) {
+            units = Arrays.copyOf(units, capacity);
+        }
+    }
+    
+    @Override
+    public void aggregate(final int slot, final QueryResult queryResult) throws SQLException {
+        if (null == units[slot]) {
+            units[slot] = AggregationUnitFactory.create(aggregationProjection.getType(), aggregationProjection instanceof AggregationDistinctProjection);
+        }
+        List<Comparable<?>> values = new ArrayList<>(2);
+        if (aggregationProjection.getDerivedAggregationProjections().isEmpty()) {
+            values.add(AggregationValues.getValue(queryResult, aggregationProjection.getIndex()));
+        } else {
+            for (AggregationProjection each : aggregationProjection.getDerivedAggregationProjections()) {
+                values.add(AggregationValues.getValue(queryResult, each.getIndex()));
+            }
+        }
+        units[slot].merge(values);
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int slot) {
+        return units[slot].getResult();
+    }
+    
+    @Override
+    public boolean isSpillable() {
+        return false;
+    }
+    
+    @Override
+    public void writeState(final int slot, final DataOutput output) {
+        throw new UnsupportedOperationException("Aggregation state of distinct projection can not be spilled.");
+    }
+    
+    @Override
+    public void mergeState(final int slot, final DataInput input) {
+        throw new UnsupportedOperationException("Aggregation state of distinct projection can not be spilled.");
+    }
+    
+    @Override
+    public void reset(final int slot) {
+        units[slot] = null;
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+
+import javax.sql.rowset.serial.SerialBlob;
+import javax.sql.rowset.serial.SerialClob;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query result which prefetches rows of stream query result in background.
+ * 
+ * <p>Rows are fetched in batches. At most one batch is fetching while the previous batch is consuming,
+ * so the slow shard does not block others, and memory of each shard is bounded by twice of batch size.
+ * Prefetch threads are bounded, batch is fetched by caller thread if all prefetch threads are busy.</p>
+ * 
+ * <p>Values are fetched by types of columns as memory query results do, binary values are fetched as bytes and CLOB values as string,
+ * so that typed values, calendar values and input streams can be served after cursor of the underlying query result has moved.</p>
+ */
+public final class PrefetchQueryResult implements QueryResult {
+    
+    private static final ExecutorService EXECUTOR_SERVICE = createExecutorService();
+    
+    private final QueryResult queryResult;
+    
+    private final int batchSize;
+    
+    private final int columnCount;
+    
+    private final Class<?>[] fetchTypes;
+    
+    private List<Object[]> currentBatch = Collections.emptyList();
+    
+    private int nextRowIndex;
+    
+    private Object[] currentRow;
+    
+    private Future<List<Object[]>> fetchingBatch;
+    
+    private boolean wasNull;
+    
+    public PrefetchQueryResult(final QueryResult queryResult, final int batchSize) throws SQLException {
+        this.queryResult = queryResult;
+        this.batchSize = batchSize;
+        columnCount = queryResult.getMetaData().getColumnCount();
+        fetchTypes = new Class<?>[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            fetchTypes[i] = getFetchType(queryResult.getMetaData(), i + 1);
+        }
+        fetchingBatch = EXECUTOR_SERVICE.submit(this::fetch);
+    }
+    
+    private static ExecutorService createExecutorService() {
+        ThreadPoolExecutor result = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors() * 2, Runtime.getRuntime().availableProcessors() * 2,
+                60L, TimeUnit.SECONDS, new SynchronousQueue<>(), ExecutorThreadFactoryBuilder.build("OrderByPrefetch-%d"), new ThreadPoolExecutor.CallerRunsPolicy());
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+    
+    private static Class<?> getFetchType(final QueryResultMetaData metaData, final int columnIndex) throws SQLException {
+        switch (metaData.getColumnType(columnIndex)) {
+            case Types.BOOLEAN:
+                return boolean.class;
+            case Types.TINYINT:
+            case Types.SMALLINT:
+                return int.class;
+            case Types.INTEGER:
+                return metaData.isSigned(columnIndex) ? int.class : long.class;
+            case Types.BIGINT:
+                return metaData.isSigned(columnIndex) ? long.class : BigInteger.class;
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return BigDecimal.class;
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return double.class;
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.CLOB:
+                return String.class;
+            case Types.DATE:
+                return Date.class;
+            case Types.TIME:
+                return Time.class;
+            case Types.TIMESTAMP:
+                return Timestamp.class;
+            case Types.BLOB:
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+                return byte[].class;
+            case Types.ARRAY:
+                return Array.class;
+            default:
+                return Object.class;
+        }
+    }
+    
+    private List<Object[]> fetch() throws SQLException {
+        List<Object[]> result = new ArrayList<>(batchSize);
+        while (result.size() < batchSize && queryResult.next()) {
+            Object[] row = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                row[i] = fetchValue(i + 1);
+            }
+            result.add(row);
+        }
+        return result;
+    }
+    
+    private Object fetchValue(final int columnIndex) throws SQLException {
+        Class<?> fetchType = fetchTypes[columnIndex - 1];
+        Object result = queryResult.getValue(columnIndex, BigInteger.class == fetchType ? BigDecimal.class : fetchType);
+        if (queryResult.wasNull() || null == result) {
+            return null;
+        }
+        return BigInteger.class == fetchType ? ((BigDecimal) result).toBigInteger() : result;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (nextRowIndex >= currentBatch.size()) {
+            if (null == fetchingBatch) {
+                currentRow = null;
+                return false;
+            }
+            currentBatch = awaitFetchingBatch();
+            nextRowIndex = 0;
+            fetchingBatch = currentBatch.size() < batchSize ? null : EXECUTOR_SERVICE.submit(this::fetch);
+            if (currentBatch.isEmpty()) {
+                currentRow = null;
+                return false;
+            }
+        }
+        currentRow = currentBatch.get(nextRowIndex++);
+        return true;
+    }
+    
+    private List<Object[]> awaitFetchingBatch() throws SQLException {
+        try {
+            return fetchingBatch.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        } catch (final ExecutionException ex) {
+            fetchingBatch = null;
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            throw new SQLException(ex.getCause());
+        }
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        Object result = getCurrentValue(columnIndex);
+        if (null == result) {
+            return null;
+        }
+        if (Blob.class == type) {
+            return new SerialBlob(getBytes(result));
+        }
+        if (Clob.class == type) {
+            return new SerialClob(result.toString().toCharArray());
+        }
+        return result;
+    }
+    
+    private Object getCurrentValue(final int columnIndex) {
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        if (Date.class != type && Time.class != type && Timestamp.class != type) {
+            throw new SQLException(String.format("Unsupported type: %s", type));
+        }
+        Object value = getCurrentValue(columnIndex);
+        if (null == value) {
+            return null;
+        }
+        if (!(value instanceof java.util.Date)) {
+            throw new SQLException(String.format("Can not get calendar value of type `%s` from `%s`.", type.getName(), value.getClass().getName()));
+        }
+        long millis = convertToCalendar((java.util.Date) value, calendar);
+        if (Date.class == type) {
+            return new Date(millis);
+        }
+        if (Time.class == type) {
+            return new Time(millis);
+        }
+        Timestamp result = new Timestamp(millis);
+        if (value instanceof Timestamp) {
+            result.setNanos(((Timestamp) value).getNanos());
+        }
+        return result;
+    }
+    
+    private long convertToCalendar(final java.util.Date value, final Calendar calendar) {
+        Calendar source = Calendar.getInstance();
+        source.setTime(value);
+        Calendar result = (Calendar) calendar.clone();
+        result.clear();
+        result.set(source.get(Calendar.YEAR), source.get(Calendar.MONTH), source.get(Calendar.DAY_OF_MONTH),
+                source.get(Calendar.HOUR_OF_DAY), source.get(Calendar.MINUTE), source.get(Calendar.SECOND));
+        result.set(Calendar.MILLISECOND, source.get(Calendar.MILLISECOND));
+        return result.getTimeInMillis();
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        Object value = getCurrentValue(columnIndex);
+        if (null == value) {
+            return null;
+        }
+        switch (type) {
+            case "Ascii":
+                return new ByteArrayInputStream(value instanceof byte[] ? (byte[]) value : value.toString().getBytes(StandardCharsets.US_ASCII));
+            case "Unicode":
+                return new ByteArrayInputStream(value instanceof byte[] ? (byte[]) value : value.toString().getBytes(StandardCharsets.UTF_16BE));
+            case "Binary":
+                return new ByteArrayInputStream(getBytes(value));
+            default:
+                throw new SQLException(String.format("Unsupported type: %s", type));
+        }
+    }
+    
+    private byte[] getBytes(final Object value) {
+        return value instanceof byte[] ? (byte[]) value : value.toString().getBytes(StandardCharsets.UTF_8);
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public QueryResultMetaData getMetaData() {
+        return queryResult.getMetaData();
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        if (null != fetchingBatch) {
+            try {
+                awaitFetchingBatch();
+            } catch (final SQLException ignored) {
+            }
+            fetchingBatch = null;
+        }
+        queryResult.close();
+    }
+}
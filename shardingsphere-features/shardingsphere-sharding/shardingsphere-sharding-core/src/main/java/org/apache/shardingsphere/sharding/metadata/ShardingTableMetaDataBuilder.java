@@ -19,9 +19,11 @@ package org.apache.shardingsphere.sharding.metadata;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
 import org.apache.shardingsphere.infra.metadata.schema.builder.loader.TableMetaDataLoaderEngine;
 import org.apache.shardingsphere.infra.metadata.schema.builder.loader.TableMetaDataLoaderMaterial;
@@ -43,13 +45,18 @@ import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 /**
  * Table meta data builder for sharding.
  */
+@Slf4j
 public final class ShardingTableMetaDataBuilder implements RuleBasedTableMetaDataBuilder<ShardingRule> {
     
+    private static final ExecutorService CHECK_EXECUTOR_SERVICE = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("TableMetaDataChecker-%d"));
+    
     @Override
     public Map<String, TableMetaData> load(final Collection<String> tableNames, final ShardingRule rule, final SchemaBuilderMaterials materials) throws SQLException {
         Collection<String> needLoadTables = tableNames.stream().filter(each -> rule.findTableRule(each).isPresent() || rule.isBroadcastTable(each)).collect(Collectors.toList());
@@ -57,17 +64,28 @@ public final class ShardingTableMetaDataBuilder implements RuleBasedTableMetaDat
             return Collections.emptyMap();
         }
         boolean isCheckingMetaData = materials.getProps().getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED);
-        Collection<TableMetaDataLoaderMaterial> tableMetaDataLoaderMaterials = TableMetaDataUtil.getTableMetaDataLoadMaterial(needLoadTables, materials, isCheckingMetaData);
+        boolean isCheckingInBackground = isCheckingMetaData && materials.getProps().<Boolean>getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_IN_BACKGROUND);
+        Collection<TableMetaDataLoaderMaterial> tableMetaDataLoaderMaterials = TableMetaDataUtil.getTableMetaDataLoadMaterial(needLoadTables, materials, isCheckingMetaData && !isCheckingInBackground);
         if (tableMetaDataLoaderMaterials.isEmpty()) {
             return Collections.emptyMap();
         }
-        Collection<TableMetaData> tableMetaDataList = TableMetaDataLoaderEngine.load(tableMetaDataLoaderMaterials, materials.getDatabaseType());
-        if (isCheckingMetaData) {
+        Collection<TableMetaData> tableMetaDataList = TableMetaDataLoaderEngine.load(tableMetaDataLoaderMaterials, materials.getDatabaseType(), materials.getProps());
+        if (isCheckingInBackground) {
+            CHECK_EXECUTOR_SERVICE.execute(() -> checkTableMetaDataInBackground(needLoadTables, rule, materials));
+        } else if (isCheckingMetaData) {
             checkTableMetaData(tableMetaDataList, rule);
         }
         return getTableMetaDataMap(tableMetaDataList, rule);
     }
     
+    private void checkTableMetaDataInBackground(final Collection<String> tableNames, final ShardingRule rule, final SchemaBuilderMaterials materials) {
+        try {
+            checkTableMetaData(TableMetaDataLoaderEngine.load(TableMetaDataUtil.getTableMetaDataLoadMaterial(tableNames, materials, true), materials.getDatabaseType(), materials.getProps()), rule);
+        } catch (final SQLException | ShardingSphereException ex) {
+            log.error("Check table meta data in background error", ex);
+        }
+    }
+    
     private void checkTableMetaData(final Collection<TableMetaData> tableMetaDataList, final ShardingRule rule) {
         Map<String, Collection<TableMetaData>> logicTableMetaDataMap = new LinkedHashMap<>();
         for (TableMetaData each : tableMetaDataList) {
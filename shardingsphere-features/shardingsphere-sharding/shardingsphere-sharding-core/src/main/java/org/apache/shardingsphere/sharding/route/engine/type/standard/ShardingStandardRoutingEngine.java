@@ -26,29 +26,27 @@ import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.HintShardingStrategyConfiguration;
-import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.type.ShardingRouteEngine;
 import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
-import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
 import org.apache.shardingsphere.sharding.route.strategy.type.hint.HintShardingStrategy;
-import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.standard.StandardShardingStrategy;
 import org.apache.shardingsphere.sharding.rule.BindingTableRule;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.rule.TableRule;
-import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Sharding standard routing engine.
@@ -77,10 +75,8 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
     }
     
     private Collection<DataNode> getDataNodes(final ShardingRule shardingRule, final TableRule tableRule) {
-        ShardingStrategy databaseShardingStrategy = createShardingStrategy(shardingRule.getDatabaseShardingStrategyConfiguration(tableRule),
-                shardingRule.getShardingAlgorithms(), shardingRule.getDefaultShardingColumn());
-        ShardingStrategy tableShardingStrategy = createShardingStrategy(shardingRule.getTableShardingStrategyConfiguration(tableRule),
-                shardingRule.getShardingAlgorithms(), shardingRule.getDefaultShardingColumn());
+        ShardingStrategy databaseShardingStrategy = shardingRule.getDatabaseShardingStrategy(tableRule);
+        ShardingStrategy tableShardingStrategy = shardingRule.getTableShardingStrategy(tableRule);
         if (isRoutingByHint(shardingRule, tableRule)) {
             return routeByHint(tableRule, databaseShardingStrategy, tableShardingStrategy);
         }
@@ -113,6 +109,12 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
     
     private Collection<DataNode> routeByShardingConditionsWithCondition(final ShardingRule shardingRule, final TableRule tableRule, 
                                                                         final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
+        if (shardingConditions.getConditions().size() > 1) {
+            Optional<Collection<DataNode>> dataNodes = routeByShardingConditionsInBatch(shardingRule, tableRule, databaseShardingStrategy, tableShardingStrategy);
+            if (dataNodes.isPresent()) {
+                return dataNodes.get();
+            }
+        }
         Collection<DataNode> result = new LinkedList<>();
         for (ShardingCondition each : shardingConditions.getConditions()) {
             Collection<DataNode> dataNodes = route0(tableRule, 
@@ -124,6 +126,116 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
         return result;
     }
     
+    private Optional<Collection<DataNode>> routeByShardingConditionsInBatch(final ShardingRule shardingRule, final TableRule tableRule,
+                                                                            final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
+        Optional<ListShardingConditionValue<Comparable<?>>> databaseShardingValue = getBatchShardingValue(shardingRule, databaseShardingStrategy);
+        Optional<ListShardingConditionValue<Comparable<?>>> tableShardingValue = getBatchShardingValue(shardingRule, tableShardingStrategy);
+        if (!databaseShardingValue.isPresent() || !tableShardingValue.isPresent()) {
+            return Optional.empty();
+        }
+        List<String> dataSourceNames = new ArrayList<>(tableRule.getActualDatasourceNames());
+        List<List<String>> tableNames = dataSourceNames.stream().map(each -> new ArrayList<>(tableRule.getActualTableNames(each))).collect(Collectors.toList());
+        if (databaseShardingValue.get().getValues().isEmpty() && 1 != dataSourceNames.size()
+                || tableShardingValue.get().getValues().isEmpty() && tableNames.stream().anyMatch(each -> 1 != each.size())) {
+            return Optional.empty();
+        }
+        int[] dataSourceIndexes = databaseShardingValue.get().getValues().isEmpty()
+                ? new int[shardingConditions.getConditions().size()] : databaseShardingStrategy.doSharding(dataSourceNames, databaseShardingValue.get(), properties);
+        for (int each : dataSourceIndexes) {
+            Preconditions.checkState(each >= 0, "no database route info");
+        }
+        int[] tableIndexes = tableShardingValue.get().getValues().isEmpty()
+                ? new int[dataSourceIndexes.length] : routeTablesInBatch(tableNames, dataSourceIndexes, tableShardingStrategy, tableShardingValue.get());
+        return Optional.of(getBatchDataNodes(dataSourceNames, tableNames, dataSourceIndexes, tableIndexes));
+    }
+    
+    private Optional<ListShardingConditionValue<Comparable<?>>> getBatchShardingValue(final ShardingRule shardingRule, final ShardingStrategy shardingStrategy) {
+        Collection<String> shardingColumns = shardingStrategy.getShardingColumns();
+        List<Comparable<?>> values = new ArrayList<>(shardingConditions.getConditions().size());
+        String columnName = "";
+        for (ShardingCondition each : shardingConditions.getConditions()) {
+            ShardingConditionValue shardingValue = null;
+            for (ShardingConditionValue conditionValue : each.getValues()) {
+                if (isShardingValueOfLogicTable(shardingRule, shardingColumns, conditionValue)) {
+                    if (null != shardingValue) {
+                        return Optional.empty();
+                    }
+                    shardingValue = conditionValue;
+                }
+            }
+            if (null == shardingValue) {
+                continue;
+            }
+            if (!(shardingStrategy instanceof StandardShardingStrategy && shardingValue instanceof ListShardingConditionValue
+                    && 1 == ((ListShardingConditionValue<?>) shardingValue).getValues().size())) {
+                return Optional.empty();
+            }
+            values.add(((ListShardingConditionValue<?>) shardingValue).getValues().iterator().next());
+            columnName = shardingValue.getColumnName();
+        }
+        return values.isEmpty() || values.size() == shardingConditions.getConditions().size()
+                ? Optional.of(new ListShardingConditionValue<>(columnName, logicTableName, values)) : Optional.empty();
+    }
+    
+    private int[] routeTablesInBatch(final List<List<String>> tableNames, final int[] dataSourceIndexes,
+                                     final ShardingStrategy tableShardingStrategy, final ListShardingConditionValue<Comparable<?>> tableShardingValue) {
+        int[] rowOffsets = new int[tableNames.size() + 1];
+        for (int each : dataSourceIndexes) {
+            rowOffsets[each + 1]++;
+        }
+        for (int i = 0; i < tableNames.size(); i++) {
+            rowOffsets[i + 1] += rowOffsets[i];
+        }
+        int[] rows = new int[dataSourceIndexes.length];
+        int[] nextRowPositions = Arrays.copyOf(rowOffsets, tableNames.size());
+        for (int i = 0; i < dataSourceIndexes.length; i++) {
+            rows[nextRowPositions[dataSourceIndexes[i]]++] = i;
+        }
+        List<Comparable<?>> values = (List<Comparable<?>>) tableShardingValue.getValues();
+        int[] result = new int[dataSourceIndexes.length];
+        for (int dataSourceIndex = 0; dataSourceIndex < tableNames.size(); dataSourceIndex++) {
+            int from = rowOffsets[dataSourceIndex];
+            int to = rowOffsets[dataSourceIndex + 1];
+            if (from == to) {
+                continue;
+            }
+            List<Comparable<?>> groupValues = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                groupValues.add(values.get(rows[i]));
+            }
+            int[] groupTableIndexes = tableShardingStrategy.doSharding(
+                    tableNames.get(dataSourceIndex), new ListShardingConditionValue<>(tableShardingValue.getColumnName(), logicTableName, groupValues), properties);
+            for (int i = from; i < to; i++) {
+                result[rows[i]] = groupTableIndexes[i - from];
+            }
+        }
+        return result;
+    }
+    
+    private Collection<DataNode> getBatchDataNodes(final List<String> dataSourceNames, final List<List<String>> tableNames, final int[] dataSourceIndexes, final int[] tableIndexes) {
+        int[] dataNodeOffsets = new int[dataSourceNames.size() + 1];
+        for (int i = 0; i < dataSourceNames.size(); i++) {
+            dataNodeOffsets[i + 1] = dataNodeOffsets[i] + tableNames.get(i).size();
+        }
+        List<Collection<DataNode>> routedDataNodes = new ArrayList<>(Collections.nCopies(dataNodeOffsets[dataSourceNames.size()], null));
+        Collection<DataNode> result = new LinkedHashSet<>();
+        for (int i = 0; i < dataSourceIndexes.length; i++) {
+            if (tableIndexes[i] < 0) {
+                originalDataNodes.add(Collections.emptyList());
+                continue;
+            }
+            int dataNodeIndex = dataNodeOffsets[dataSourceIndexes[i]] + tableIndexes[i];
+            Collection<DataNode> dataNodes = routedDataNodes.get(dataNodeIndex);
+            if (null == dataNodes) {
+                dataNodes = Collections.singletonList(new DataNode(dataSourceNames.get(dataSourceIndexes[i]), tableNames.get(dataSourceIndexes[i]).get(tableIndexes[i])));
+                routedDataNodes.set(dataNodeIndex, dataNodes);
+                result.addAll(dataNodes);
+            }
+            originalDataNodes.add(dataNodes);
+        }
+        return result;
+    }
+    
     private Collection<DataNode> routeByMixedConditions(final ShardingRule shardingRule, final TableRule tableRule, 
                                                         final ShardingStrategy databaseShardingStrategy, final ShardingStrategy tableShardingStrategy) {
         return shardingConditions.getConditions().isEmpty()
@@ -180,15 +292,21 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
     private List<ShardingConditionValue> getShardingValuesFromShardingConditions(final ShardingRule shardingRule, final Collection<String> shardingColumns, final ShardingCondition shardingCondition) {
         List<ShardingConditionValue> result = new ArrayList<>(shardingColumns.size());
         for (ShardingConditionValue each : shardingCondition.getValues()) {
-            Optional<BindingTableRule> bindingTableRule = shardingRule.findBindingTableRule(each.getTableName().toLowerCase());
-            if ((logicTableName.equals(each.getTableName()) || bindingTableRule.isPresent() && bindingTableRule.get().hasLogicTable(logicTableName)) 
-                    && shardingColumns.contains(each.getColumnName())) {
+            if (isShardingValueOfLogicTable(shardingRule, shardingColumns, each)) {
                 result.add(each);
             }
         }
         return result;
     }
     
+    private boolean isShardingValueOfLogicTable(final ShardingRule shardingRule, final Collection<String> shardingColumns, final ShardingConditionValue shardingConditionValue) {
+        if (!shardingColumns.contains(shardingConditionValue.getColumnName())) {
+            return false;
+        }
+        Optional<BindingTableRule> bindingTableRule = shardingRule.findBindingTableRule(shardingConditionValue.getTableName().toLowerCase());
+        return logicTableName.equals(shardingConditionValue.getTableName()) || bindingTableRule.isPresent() && bindingTableRule.get().hasLogicTable(logicTableName);
+    }
+    
     private Collection<DataNode> route0(final TableRule tableRule, 
                                         final ShardingStrategy databaseShardingStrategy, final List<ShardingConditionValue> databaseShardingValues, 
                                         final ShardingStrategy tableShardingStrategy, final List<ShardingConditionValue> tableShardingValues) {
@@ -222,10 +340,4 @@ public final class ShardingStandardRoutingEngine implements ShardingRouteEngine
         }
         return result;
     }
-    
-    private ShardingStrategy createShardingStrategy(final ShardingStrategyConfiguration shardingStrategyConfig, final Map<String, ShardingAlgorithm> shardingAlgorithms,
-                                                    final String defaultShardingColumn) {
-        return null == shardingStrategyConfig ? new NoneShardingStrategy()
-                : ShardingStrategyFactory.newInstance(shardingStrategyConfig, shardingAlgorithms.get(shardingStrategyConfig.getShardingAlgorithmName()), defaultShardingColumn);
-    }
 }
@@ -18,10 +18,13 @@
 package org.apache.shardingsphere.sharding.route.strategy;
 
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Sharding strategy.
@@ -51,4 +54,27 @@ public interface ShardingStrategy {
      * @return sharding results for data source or table names
      */
     Collection<String> doSharding(Collection<String> availableTargetNames, Collection<ShardingConditionValue> shardingConditionValues, ConfigurationProperties props);
+    
+    /**
+     * Sharding in batch.
+     *
+     * @param availableTargetNames available data source or table names
+     * @param shardingConditionValue sharding condition value, each value of which is sharding value of one row
+     * @param props configuration properties
+     * @return index of sharding result in available target names for each row, -1 means no sharding result
+     * @throws UnsupportedOperationException if sharding value of one row is routed to more than one target
+     */
+    default int[] doSharding(final List<String> availableTargetNames, final ListShardingConditionValue<?> shardingConditionValue, final ConfigurationProperties props) {
+        int[] result = new int[shardingConditionValue.getValues().size()];
+        int index = 0;
+        for (Comparable<?> each : shardingConditionValue.getValues()) {
+            Collection<String> targets = doSharding(availableTargetNames, Collections.singletonList(
+                    new ListShardingConditionValue<>(shardingConditionValue.getColumnName(), shardingConditionValue.getTableName(), Collections.singletonList(each))), props);
+            if (targets.size() > 1) {
+                throw new UnsupportedOperationException(String.format("Sharding value `%s` is routed to more than one target: %s", each, targets));
+            }
+            result[index++] = targets.isEmpty() ? -1 : availableTargetNames.indexOf(targets.iterator().next());
+        }
+        return result;
+    }
 }
@@ -21,6 +21,7 @@ import com.google.common.base.Preconditions;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
@@ -31,6 +32,7 @@ import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingC
 
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.TreeSet;
 
 /**
@@ -81,6 +83,13 @@ public final class StandardShardingStrategy implements ShardingStrategy {
                 new RangeShardingValue(shardingValue.getTableName(), shardingValue.getColumnName(), shardingValue.getValueRange()));
     }
     
+    @SuppressWarnings("unchecked")
+    @Override
+    public int[] doSharding(final List<String> availableTargetNames, final ListShardingConditionValue<?> shardingConditionValue, final ConfigurationProperties props) {
+        return shardingAlgorithm.doSharding(availableTargetNames,
+                new BatchShardingValue(shardingConditionValue.getTableName(), shardingConditionValue.getColumnName(), shardingConditionValue.getValues()));
+    }
+    
     @Override
     public Collection<String> getShardingColumns() {
         Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.rule;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
@@ -40,6 +41,9 @@ import org.apache.shardingsphere.sharding.api.config.strategy.sharding.NoneShard
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
+import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
 import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 import org.apache.shardingsphere.sharding.support.InlineExpressionParser;
@@ -56,14 +60,17 @@ import org.apache.shardingsphere.sql.parser.sql.common.util.WhereExtractUtil;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -101,6 +108,15 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
 
     private final String defaultShardingColumn;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, ShardingStrategy> databaseShardingStrategies;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, ShardingStrategy> tableShardingStrategies;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Map<String, String>> shardingColumns;
+    
     public ShardingRule(final ShardingRuleConfiguration config, final Collection<String> dataSourceNames) {
         this.dataSourceNames = getDataSourceNames(config.getTables(), config.getAutoTables(), dataSourceNames);
         config.getShardingAlgorithms().forEach((key, value) -> shardingAlgorithms.put(key, ShardingSphereAlgorithmFactory.createAlgorithm(value, ShardingAlgorithm.class)));
@@ -114,6 +130,9 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
         defaultKeyGenerateAlgorithm = null == config.getDefaultKeyGenerateStrategy()
                 ? RequiredSPIRegistry.getRegisteredService(KeyGenerateAlgorithm.class) : keyGenerators.get(config.getDefaultKeyGenerateStrategy().getKeyGeneratorName());
         defaultShardingColumn = config.getDefaultShardingColumn();
+        databaseShardingStrategies = createShardingStrategies(this::getDatabaseShardingStrategyConfiguration);
+        tableShardingStrategies = createShardingStrategies(this::getTableShardingStrategyConfiguration);
+        shardingColumns = createShardingColumns();
     }
     
     public ShardingRule(final AlgorithmProvidedShardingRuleConfiguration config, final Collection<String> dataSourceNames) {
@@ -129,6 +148,9 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
         defaultKeyGenerateAlgorithm = null == config.getDefaultKeyGenerateStrategy()
                 ? RequiredSPIRegistry.getRegisteredService(KeyGenerateAlgorithm.class) : keyGenerators.get(config.getDefaultKeyGenerateStrategy().getKeyGeneratorName());
         defaultShardingColumn = config.getDefaultShardingColumn();
+        databaseShardingStrategies = createShardingStrategies(this::getDatabaseShardingStrategyConfiguration);
+        tableShardingStrategies = createShardingStrategies(this::getTableShardingStrategyConfiguration);
+        shardingColumns = createShardingColumns();
     }
     
     private Collection<String> getDataSourceNames(final Collection<ShardingTableRuleConfiguration> tableRuleConfigs, 
@@ -182,6 +204,40 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
         return result;
     }
     
+    private Map<String, ShardingStrategy> createShardingStrategies(final Function<TableRule, ShardingStrategyConfiguration> shardingStrategyConfigFunction) {
+        Map<String, ShardingStrategy> result = new HashMap<>(tableRules.size(), 1);
+        tableRules.forEach((key, value) -> result.put(key, createShardingStrategy(shardingStrategyConfigFunction.apply(value))));
+        return result;
+    }
+    
+    private ShardingStrategy createShardingStrategy(final ShardingStrategyConfiguration shardingStrategyConfig) {
+        return null == shardingStrategyConfig ? new NoneShardingStrategy()
+                : ShardingStrategyFactory.newInstance(shardingStrategyConfig, shardingAlgorithms.get(shardingStrategyConfig.getShardingAlgorithmName()), defaultShardingColumn);
+    }
+    
+    private Map<String, Map<String, String>> createShardingColumns() {
+        Map<String, Map<String, String>> result = new HashMap<>(tableRules.size(), 1);
+        for (Entry<String, TableRule> entry : tableRules.entrySet()) {
+            Map<String, String> shardingColumns = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            getShardingColumns(getTableShardingStrategyConfiguration(entry.getValue())).forEach(each -> shardingColumns.put(each, each));
+            getShardingColumns(getDatabaseShardingStrategyConfiguration(entry.getValue())).forEach(each -> shardingColumns.put(each, each));
+            result.put(entry.getKey(), shardingColumns);
+        }
+        return result;
+    }
+    
+    private Collection<String> getShardingColumns(final ShardingStrategyConfiguration shardingStrategyConfig) {
+        if (shardingStrategyConfig instanceof StandardShardingStrategyConfiguration) {
+            String shardingColumn = null == ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn()
+                    ? defaultShardingColumn : ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn();
+            return null == shardingColumn ? Collections.emptyList() : Collections.singletonList(shardingColumn);
+        }
+        if (shardingStrategyConfig instanceof ComplexShardingStrategyConfiguration && null != ((ComplexShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumns()) {
+            return Splitter.on(",").trimResults().splitToList(((ComplexShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumns());
+        }
+        return Collections.emptyList();
+    }
+    
     private Collection<BindingTableRule> createBindingTableRules(final Collection<String> bindingTableGroups) {
         return bindingTableGroups.stream().map(this::createBindingTableRule).collect(Collectors.toList());
     }
@@ -221,6 +277,28 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
         return null == tableRule.getTableShardingStrategyConfig() ? defaultTableShardingStrategyConfig : tableRule.getTableShardingStrategyConfig();
     }
     
+    /**
+     * Get database sharding strategy.
+     *
+     * @param tableRule table rule
+     * @return database sharding strategy
+     */
+    public ShardingStrategy getDatabaseShardingStrategy(final TableRule tableRule) {
+        ShardingStrategy result = databaseShardingStrategies.get(tableRule.getLogicTable().toLowerCase());
+        return null == result ? createShardingStrategy(getDatabaseShardingStrategyConfiguration(tableRule)) : result;
+    }
+    
+    /**
+     * Get table sharding strategy.
+     *
+     * @param tableRule table rule
+     * @return table sharding strategy
+     */
+    public ShardingStrategy getTableShardingStrategy(final TableRule tableRule) {
+        ShardingStrategy result = tableShardingStrategies.get(tableRule.getLogicTable().toLowerCase());
+        return null == result ? createShardingStrategy(getTableShardingStrategyConfiguration(tableRule)) : result;
+    }
+    
     /**
      * Find table rule.
      *
@@ -400,33 +478,13 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
      * @return sharding column
      */
     public Optional<String> findShardingColumn(final String columnName, final String tableName) {
-        return Optional.ofNullable(tableRules.get(tableName.toLowerCase())).flatMap(optional -> findShardingColumn(optional, columnName));
-    }
-    
-    private Optional<String> findShardingColumn(final TableRule tableRule, final String columnName) {
-        Optional<String> databaseShardingColumn = findShardingColumn(getDatabaseShardingStrategyConfiguration(tableRule), columnName);
-        if (databaseShardingColumn.isPresent()) {
-            return databaseShardingColumn;
-        }
-        return findShardingColumn(getTableShardingStrategyConfiguration(tableRule), columnName);
+        Map<String, String> shardingColumns = this.shardingColumns.get(tableName.toLowerCase());
+        return null == shardingColumns ? Optional.empty() : Optional.ofNullable(shardingColumns.get(columnName));
     }
     
     private Optional<String> findShardingColumn(final ShardingStrategyConfiguration shardingStrategyConfig, final String columnName) {
-        if (shardingStrategyConfig instanceof StandardShardingStrategyConfiguration) {
-            String shardingColumn = null == ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn()
-                    ? defaultShardingColumn : ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn();
-            return shardingColumn.equalsIgnoreCase(columnName) ? Optional.of(shardingColumn) : Optional.empty();
-        }
-        if (shardingStrategyConfig instanceof ComplexShardingStrategyConfiguration) {
-            List<String> shardingColumns = Splitter.on(",").trimResults().splitToList(((ComplexShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumns());
-            for (String each : shardingColumns) {
-                if (each.equalsIgnoreCase(columnName)) {
-                    return Optional.of(each);
-                }
-            }
-        }
-        return Optional.empty();
-    } 
+        return getShardingColumns(shardingStrategyConfig).stream().filter(columnName::equalsIgnoreCase).findFirst();
+    }
     
     /**
      * Judge whether given logic table column is generate key column or not.
@@ -461,12 +519,26 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
      * @return generated key
      */
     public Comparable<?> generateKey(final String logicTableName) {
+        return getKeyGenerateAlgorithm(logicTableName).generateKey();
+    }
+    
+    /**
+     * Generate keys.
+     *
+     * @param logicTableName logic table name
+     * @param count count of keys
+     * @return generated keys
+     */
+    public Collection<Comparable<?>> generateKeys(final String logicTableName, final int count) {
+        return getKeyGenerateAlgorithm(logicTableName).generateKeys(count);
+    }
+    
+    private KeyGenerateAlgorithm getKeyGenerateAlgorithm(final String logicTableName) {
         Optional<TableRule> tableRule = findTableRule(logicTableName);
         if (!tableRule.isPresent()) {
             throw new ShardingSphereConfigurationException("Cannot find strategy for generate keys.");
         }
-        KeyGenerateAlgorithm keyGenerator = null != tableRule.get().getKeyGeneratorName() ? keyGenerators.get(tableRule.get().getKeyGeneratorName()) : defaultKeyGenerateAlgorithm;
-        return keyGenerator.generateKey();
+        return null != tableRule.get().getKeyGeneratorName() ? keyGenerators.get(tableRule.get().getKeyGeneratorName()) : defaultKeyGenerateAlgorithm;
     }
     
     /**
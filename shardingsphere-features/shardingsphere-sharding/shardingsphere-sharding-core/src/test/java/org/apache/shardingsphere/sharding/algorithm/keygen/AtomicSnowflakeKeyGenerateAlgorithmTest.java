@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.keygen;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.sharding.algorithm.keygen.fixture.FixedTimeService;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class AtomicSnowflakeKeyGenerateAlgorithmTest {
+    
+    private static final int DEFAULT_KEY_AMOUNT = 10;
+    
+    @Test
+    public void assertGenerateKeyWithMultipleThreads() throws ExecutionException, InterruptedException {
+        AtomicSnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+        AtomicSnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = createKeyGenerateAlgorithm(new Properties());
+        int threadNumber = 8;
+        int keyAmountPerThread = 10000;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        Set<Comparable<?>> actual = ConcurrentHashMap.newKeySet();
+        List<Future<?>> futures = new ArrayList<>(threadNumber);
+        for (int i = 0; i < threadNumber; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < keyAmountPerThread; j += 10) {
+                    actual.add(keyGenerateAlgorithm.generateKey());
+                    actual.addAll(keyGenerateAlgorithm.generateKeys(9));
+                }
+            }));
+        }
+        for (Future<?> each : futures) {
+            each.get();
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(threadNumber * keyAmountPerThread));
+    }
+    
+    @Test
+    public void assertGenerateKeyWithSingleThread() {
+        AtomicSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        AtomicSnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = createKeyGenerateAlgorithm(new Properties());
+        List<Comparable<?>> expected = Arrays.asList(0L, 4194305L, 4194306L, 8388608L, 8388609L, 12582913L, 12582914L, 16777216L, 16777217L, 20971521L);
+        List<Comparable<?>> actual = new ArrayList<>(DEFAULT_KEY_AMOUNT);
+        for (int i = 0; i < DEFAULT_KEY_AMOUNT; i++) {
+            actual.add(keyGenerateAlgorithm.generateKey());
+        }
+        assertThat(actual, is(expected));
+    }
+    
+    @Test
+    public void assertGenerateKeysInSegment() {
+        AtomicSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(5));
+        Properties props = new Properties();
+        props.setProperty("worker-id", "1");
+        AtomicSnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = createKeyGenerateAlgorithm(props);
+        assertThat(keyGenerateAlgorithm.generateKeys(3), is((Collection<Comparable<?>>) Arrays.<Comparable<?>>asList(4096L, 4097L, 4098L)));
+        assertThat(keyGenerateAlgorithm.generateKey(), is(4099L));
+    }
+    
+    @Test
+    public void assertGenerateKeysBeyondMaxSequencePerMilliSecond() {
+        AtomicSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(5));
+        AtomicSnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = createKeyGenerateAlgorithm(new Properties());
+        List<Comparable<?>> actual = new ArrayList<>(keyGenerateAlgorithm.generateKeys(4097));
+        assertThat(actual.get(4095), is(4095L));
+        assertThat(actual.get(4096), is(4194304L));
+        assertThat(keyGenerateAlgorithm.generateKey(), is(4194305L));
+    }
+    
+    @Test
+    public void assertGenerateKeyWaitForClockBeyondMaxTolerateTime() {
+        Iterator<Long> milliseconds = Arrays.asList(0L, 0L, 0L, 2L).iterator();
+        AtomicSnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService() {
+            
+            @Override
+            public long getCurrentMillis() {
+                return SnowflakeKeyGenerateAlgorithm.EPOCH + milliseconds.next();
+            }
+        });
+        Properties props = new Properties();
+        props.setProperty("max-tolerate-time-difference-milliseconds", String.valueOf(1));
+        AtomicSnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = createKeyGenerateAlgorithm(props);
+        List<Comparable<?>> actual = new ArrayList<>(keyGenerateAlgorithm.generateKeys(8192));
+        assertThat(actual.get(8191), is((1L << 22) + 4095));
+        assertThat(keyGenerateAlgorithm.generateKey(), is((2L << 22) + 1));
+        assertFalse(milliseconds.hasNext());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertGenerateKeysBeyondMaxTolerateTime() {
+        AtomicSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        Properties props = new Properties();
+        props.setProperty("max-tolerate-time-difference-milliseconds", String.valueOf(1));
+        createKeyGenerateAlgorithm(props).generateKeys(8193);
+    }
+    
+    @Test
+    public void assertGenerateKeyWithClockCallBack() {
+        Iterator<Long> milliseconds = Arrays.asList(5L, 3L, 4L, 6L).iterator();
+        AtomicSnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService() {
+            
+            @Override
+            public long getCurrentMillis() {
+                return SnowflakeKeyGenerateAlgorithm.EPOCH + milliseconds.next();
+            }
+        });
+        AtomicSnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = createKeyGenerateAlgorithm(new Properties());
+        assertThat(keyGenerateAlgorithm.generateKey(), is(5L << 22));
+        assertThat(keyGenerateAlgorithm.generateKey(), is((5L << 22) + 1));
+        assertThat(keyGenerateAlgorithm.generateKey(), is((5L << 22) + 2));
+        assertThat(keyGenerateAlgorithm.generateKey(), is((6L << 22) + 1));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertGenerateKeyWithClockCallBackBeyondTolerateTime() {
+        TimeService timeService = new FixedTimeService(1);
+        AtomicSnowflakeKeyGenerateAlgorithm.setTimeService(timeService);
+        Properties props = new Properties();
+        props.setProperty("max-tolerate-time-difference-milliseconds", String.valueOf(0));
+        AtomicSnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm = createKeyGenerateAlgorithm(props);
+        setLastMilliseconds(keyGenerateAlgorithm, timeService.getCurrentMillis() + 2);
+        keyGenerateAlgorithm.generateKey();
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertSetWorkerIdFailureWhenOutOfRange() {
+        Properties props = new Properties();
+        props.setProperty("worker-id", String.valueOf(1024));
+        createKeyGenerateAlgorithm(props);
+    }
+    
+    private AtomicSnowflakeKeyGenerateAlgorithm createKeyGenerateAlgorithm(final Properties props) {
+        AtomicSnowflakeKeyGenerateAlgorithm result = new AtomicSnowflakeKeyGenerateAlgorithm();
+        result.setProps(props);
+        result.init();
+        return result;
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void setLastMilliseconds(final AtomicSnowflakeKeyGenerateAlgorithm keyGenerateAlgorithm, final Number value) {
+        Field lastMilliseconds = AtomicSnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMilliseconds");
+        lastMilliseconds.setAccessible(true);
+        lastMilliseconds.set(keyGenerateAlgorithm, value);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class InlineModuloExpressionTest {
+    
+    @Test
+    public void assertCompile() {
+        Optional<InlineModuloExpression> actual = InlineModuloExpression.compile("t_order_${ order_id % 16 }_tmp");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getPrefix(), is("t_order_"));
+        assertThat(actual.get().getColumnName(), is("order_id"));
+        assertThat(actual.get().getModulus(), is(16L));
+        assertThat(actual.get().getSuffix(), is("_tmp"));
+    }
+    
+    @Test
+    public void assertCompileWithComplexExpression() {
+        assertFalse(InlineModuloExpression.compile("t_order_${order_id.hashCode() % 16}").isPresent());
+        assertFalse(InlineModuloExpression.compile("t_order_${order_id % 4}_${user_id % 2}").isPresent());
+        assertFalse(InlineModuloExpression.compile("t_order_${order_id % 0}").isPresent());
+    }
+    
+    @Test
+    public void assertIsSupported() {
+        InlineModuloExpression expression = InlineModuloExpression.compile("t_order_${order_id % 16}").get();
+        assertTrue(expression.isSupported("order_id", 1));
+        assertTrue(expression.isSupported("order_id", 1L));
+        assertFalse(expression.isSupported("order_id", "1"));
+        assertFalse(expression.isSupported("user_id", 1));
+    }
+    
+    @Test
+    public void assertEvaluate() {
+        InlineModuloExpression expression = InlineModuloExpression.compile("t_order_${order_id % 16}").get();
+        assertThat(expression.evaluate(17), is("t_order_1"));
+        assertThat(expression.evaluate(33L), is("t_order_1"));
+        assertThat(expression.evaluate(-17), is("t_order_-1"));
+    }
+}
@@ -18,11 +18,17 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
 
 import com.google.common.collect.Range;
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.apache.shardingsphere.sharding.algorithm.sharding.ShardingAlgorithmException;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
+import org.apache.shardingsphere.sharding.support.InlineExpressionParser;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -63,6 +69,21 @@ public final class InlineShardingAlgorithmTest {
         assertThat(inlineShardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", 0)), is("t_order_0"));
     }
     
+    @Test
+    public void assertDoShardingWithNonPrimitiveValue() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        assertThat(inlineShardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", BigInteger.valueOf(6L))), is("t_order_2"));
+    }
+    
+    @Test
+    public void assertDoShardingWithNegativeValue() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        Closure<?> closure = new InlineExpressionParser("t_order_${order_id % 4}").evaluateClosure().rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        closure.setProperty("order_id", -5L);
+        assertThat(inlineShardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", -5L)), is(closure.call().toString()));
+    }
+    
     @Test
     public void assertDoShardingWithRangeShardingConditionValue() {
         List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
@@ -76,4 +97,17 @@ public final class InlineShardingAlgorithmTest {
         assertThat(inlineShardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", 0)), is("t_order_0"));
         assertThat(inlineShardingAlgorithmWithSimplified.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", 0)), is("t_order_0"));
     }
+    
+    @Test
+    public void assertBatchDoSharding() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        int[] actual = inlineShardingAlgorithm.doSharding(availableTargetNames, new BatchShardingValue<>("t_order", "order_id", Arrays.asList(0, 5L, BigInteger.valueOf(6L), 11L)));
+        assertThat(actual, is(new int[]{0, 1, 2, 3}));
+    }
+    
+    @Test(expected = ShardingAlgorithmException.class)
+    public void assertBatchDoShardingWithNonExistNodes() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1");
+        inlineShardingAlgorithmWithSimplified.doSharding(availableTargetNames, new BatchShardingValue<>("t_order", "order_id", Arrays.asList(0, 2)));
+    }
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 
 import com.google.common.collect.Range;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.junit.Before;
@@ -53,4 +54,11 @@ public final class HashModShardingAlgorithmTest {
         Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "create_time", Range.closed("a", "f")));
         assertThat(actual.size(), is(4));
     }
+    
+    @Test
+    public void assertBatchDoSharding() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        int[] actual = shardingAlgorithm.doSharding(availableTargetNames, new BatchShardingValue<>("t_order", "order_type", Arrays.asList("a", "b", -6)));
+        assertThat(actual, is(new int[]{1, 2, 2}));
+    }
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.mod;
 
 import com.google.common.collect.Range;
+import org.apache.shardingsphere.sharding.api.sharding.standard.BatchShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingValue;
 import org.junit.Before;
@@ -63,4 +64,11 @@ public final class ModShardingAlgorithmTest {
         assertTrue(actual.contains("t_order_3"));
         assertTrue(actual.contains("t_order_0"));
     }
+    
+    @Test
+    public void assertBatchDoSharding() {
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        int[] actual = shardingAlgorithm.doSharding(availableTargetNames, new BatchShardingValue<>("t_order", "order_id", Arrays.asList(13L, 4L, 6, 7L)));
+        assertThat(actual, is(new int[]{1, 0, 2, 3}));
+    }
 }
@@ -17,7 +17,11 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby;
 
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
@@ -45,12 +49,16 @@ import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -101,6 +109,60 @@ public final class GroupByMemoryMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertNextWithSpilledAggregationStates() throws SQLException {
+        QueryResult queryResult1 = createQueryResult(new Object[]{20, 0, 2, 2, 20});
+        QueryResult queryResult2 = createQueryResult();
+        QueryResult queryResult3 = createQueryResult(new Object[]{20, 0, 2, 2, 20}, new Object[]{30, 0, 3, 3, 30});
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.GROUP_BY_MERGE_MAX_MEMORY_BYTES.getKey(), "1");
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), new ConfigurationProperties(props));
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2, queryResult3), createSelectStatementContext(), null);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(30)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat(actual.getValue(3, Object.class), is(3));
+        assertThat(actual.getValue(4, Object.class), is(new BigDecimal(3)));
+        assertThat(actual.getValue(5, Object.class), is(new BigDecimal(30)));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat(actual.getValue(3, Object.class), is(2));
+        assertThat(actual.getValue(4, Object.class), is(new BigDecimal(4)));
+        assertThat(actual.getValue(5, Object.class), is(new BigDecimal(40)));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithSpilledSortedRows() throws SQLException {
+        QueryResult queryResult1 = createQueryResult(new Object[]{20, 0, 2, 2, 20}, new Object[]{10, 0, 1, 1, 10});
+        QueryResult queryResult2 = createQueryResult(new Object[]{30, 0, 3, 3, 30});
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.MEMORY_MERGE_MAX_ROWS_PER_QUERY.getKey(), "1");
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), new ConfigurationProperties(props));
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2), createSelectStatementContext(), null);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(3, Object.class), is(3));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(3, Object.class), is(2));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(3, Object.class), is(1));
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(10)));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithNonSerializableGroupByValue() throws SQLException {
+        QueryResult queryResult1 = createQueryResult(new Object[]{20, 0, new GroupByFixtureValue(2), 2, 20});
+        QueryResult queryResult2 = createQueryResult(new Object[]{30, 0, new GroupByFixtureValue(2), 3, 30});
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"));
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2), createSelectStatementContext(), null);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(50)));
+        assertThat(actual.getValue(3, Object.class), is(new GroupByFixtureValue(2)));
+        assertFalse(actual.next());
+    }
+    
     private SelectStatementContext createSelectStatementContext() {
         SelectStatement selectStatement = new MySQLSelectStatement();
         ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
@@ -172,6 +234,14 @@ public final class GroupByMemoryMergedResultTest {
         return result;
     }
     
+    private QueryResult createQueryResult(final Object[]... rows) throws SQLException {
+        QueryResult result = createQueryResult();
+        AtomicInteger rowIndex = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(invocation -> rowIndex.incrementAndGet() < rows.length);
+        when(result.getValue(anyInt(), eq(Object.class))).thenAnswer(invocation -> rows[rowIndex.get()][(int) invocation.getArgument(0) - 1]);
+        return result;
+    }
+    
     @Test
     public void assertNextForDistinctShorthandResultSetsEmpty() throws SQLException {
         QueryResult queryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
@@ -189,4 +259,16 @@ public final class GroupByMemoryMergedResultTest {
         MergedResult actual = merger.merge(Arrays.asList(queryResult, queryResult, queryResult), createSelectStatementContext(metaData), schema);
         assertFalse(actual.next());
     }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class GroupByFixtureValue implements Comparable<GroupByFixtureValue> {
+        
+        private final int value;
+        
+        @Override
+        public int compareTo(final GroupByFixtureValue o) {
+            return Integer.compare(value, o.value);
+        }
+    }
 }
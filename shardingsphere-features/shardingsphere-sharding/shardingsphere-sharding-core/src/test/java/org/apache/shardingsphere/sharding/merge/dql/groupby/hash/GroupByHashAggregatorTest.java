@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.hash;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupByHashAggregatorTest {
+    
+    private static final int GROUP_COUNT = 200;
+    
+    private Path spillDirectory;
+    
+    @Before
+    public void setUp() throws IOException {
+        spillDirectory = Files.createTempDirectory("shardingsphere-group-by-test-");
+    }
+    
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(spillDirectory);
+    }
+    
+    @Test
+    public void assertForEachRowWithoutSpillingLessThanMinRunBytes() throws SQLException {
+        GroupByHashAggregator aggregator = new GroupByHashAggregator(createSelectStatementContext(), 1L, spillDirectory.toString());
+        aggregate(aggregator);
+        assertThat(getSpilledFileCount(), is(0));
+        assertAggregatedRows(aggregator);
+    }
+    
+    @Test
+    public void assertForEachRowWithMultiPassMerge() throws SQLException {
+        GroupByHashAggregator aggregator = new GroupByHashAggregator(createSelectStatementContext(), 1L, 0L, spillDirectory.toString());
+        aggregate(aggregator);
+        assertTrue(getSpilledFileCount() > GROUP_COUNT);
+        assertAggregatedRows(aggregator);
+        assertThat(getSpilledFileCount(), is(0));
+    }
+    
+    @Test
+    public void assertSpill() throws SQLException {
+        GroupByHashAggregator aggregator = new GroupByHashAggregator(createSelectStatementContext(), 0L, 0L, spillDirectory.toString());
+        aggregate(aggregator);
+        assertTrue(aggregator.spill() > 0L);
+        assertThat(getSpilledFileCount(), is(1));
+        aggregator.close();
+        assertThat(getSpilledFileCount(), is(0));
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        OrderByItem groupByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC));
+        groupByItem.setIndex(1);
+        when(result.getGroupByContext().getItems()).thenReturn(Collections.singletonList(groupByItem));
+        AggregationProjection aggregationProjection = new AggregationProjection(AggregationType.COUNT, "(*)", null, null);
+        aggregationProjection.setIndex(2);
+        when(result.getProjectionsContext().getAggregationProjections()).thenReturn(Collections.singletonList(aggregationProjection));
+        return result;
+    }
+    
+    private void aggregate(final GroupByHashAggregator aggregator) throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(queryResult.getMetaData().getColumnCount()).thenReturn(2);
+        AtomicInteger rowIndex = new AtomicInteger();
+        when(queryResult.getValue(anyInt(), eq(Object.class))).thenAnswer(invocation -> 1 == (int) invocation.getArgument(0) ? rowIndex.get() % GROUP_COUNT : 1);
+        for (; rowIndex.get() < GROUP_COUNT * 2; rowIndex.incrementAndGet()) {
+            aggregator.aggregate(queryResult);
+        }
+    }
+    
+    private void assertAggregatedRows(final GroupByHashAggregator aggregator) {
+        Map<Integer, Integer> actual = new TreeMap<>();
+        aggregator.forEachRow(each -> actual.put((Integer) each.getCell(1), ((Number) each.getCell(2)).intValue()));
+        assertThat(actual.size(), is(GROUP_COUNT));
+        for (int i = 0; i < GROUP_COUNT; i++) {
+            assertThat(actual.get(i), is(2));
+        }
+    }
+    
+    private int getSpilledFileCount() {
+        File[] result = spillDirectory.toFile().listFiles();
+        return null == result ? 0 : result.length;
+    }
+}
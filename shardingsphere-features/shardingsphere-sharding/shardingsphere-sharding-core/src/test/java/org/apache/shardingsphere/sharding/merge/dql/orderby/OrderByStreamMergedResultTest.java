@@ -19,10 +19,13 @@ package org.apache.shardingsphere.sharding.merge.dql.orderby;
 
 import com.google.common.collect.ImmutableMap;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.stream.AbstractStreamQueryResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
@@ -44,6 +47,7 @@ import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -193,6 +197,31 @@ public final class OrderByStreamMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertNextWithPrefetch() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(mock(AbstractStreamQueryResult.class), mock(AbstractStreamQueryResult.class));
+        for (QueryResult each : queryResults) {
+            QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+            when(each.getMetaData()).thenReturn(metaData);
+            when(metaData.getColumnCount()).thenReturn(2);
+            when(metaData.getColumnLabel(1)).thenReturn("col1");
+            when(metaData.getColumnLabel(2)).thenReturn("col2");
+        }
+        when(queryResults.get(0).next()).thenReturn(true, true, false);
+        when(queryResults.get(0).getValue(1, Object.class)).thenReturn("1", "4");
+        when(queryResults.get(1).next()).thenReturn(true, true, true, false);
+        when(queryResults.get(1).getValue(1, Object.class)).thenReturn("2", "3", "5");
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.ORDER_BY_MERGE_PREFETCH_SIZE.getKey(), "1");
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), new ConfigurationProperties(props));
+        MergedResult actual = resultMerger.merge(queryResults, selectStatementContext, buildSchema());
+        for (int i = 1; i <= 5; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class).toString(), is(String.valueOf(i)));
+        }
+        assertFalse(actual.next());
+    }
+    
     private ShardingSphereSchema buildSchema() {
         ColumnMetaData columnMetaData1 = new ColumnMetaData("col1", 0, false, false, true);
         ColumnMetaData columnMetaData2 = new ColumnMetaData("col2", 0, false, false, false);
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class PrefetchQueryResultTest {
+    
+    @Test
+    public void assertNext() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(queryResult.getMetaData().getColumnCount()).thenReturn(2);
+        when(queryResult.next()).thenReturn(true, true, true, true, true, false);
+        when(queryResult.getValue(1, Object.class)).thenReturn(1, 2, 3, 4, 5);
+        when(queryResult.getValue(2, Object.class)).thenReturn("a", "b", "c", "d", null);
+        PrefetchQueryResult actual = new PrefetchQueryResult(queryResult, 2);
+        assertRow(actual, 1, "a");
+        assertRow(actual, 2, "b");
+        assertRow(actual, 3, "c");
+        assertRow(actual, 4, "d");
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(5));
+        assertNull(actual.getValue(2, Object.class));
+        assertTrue(actual.wasNull());
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithFullLastBatch() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(queryResult.getMetaData().getColumnCount()).thenReturn(2);
+        when(queryResult.next()).thenReturn(true, true, false);
+        when(queryResult.getValue(1, Object.class)).thenReturn(1, 2);
+        when(queryResult.getValue(2, Object.class)).thenReturn("a", "b");
+        PrefetchQueryResult actual = new PrefetchQueryResult(queryResult, 2);
+        assertRow(actual, 1, "a");
+        assertRow(actual, 2, "b");
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertGetValueByColumnType() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(queryResult.getMetaData().getColumnCount()).thenReturn(2);
+        when(queryResult.getMetaData().getColumnType(1)).thenReturn(Types.TIMESTAMP);
+        when(queryResult.getMetaData().getColumnType(2)).thenReturn(Types.INTEGER);
+        when(queryResult.getMetaData().isSigned(2)).thenReturn(true);
+        when(queryResult.next()).thenReturn(true, false);
+        Timestamp timestamp = Timestamp.valueOf("2021-10-01 12:30:15.123456789");
+        when(queryResult.getValue(1, Timestamp.class)).thenReturn(timestamp);
+        when(queryResult.getValue(2, int.class)).thenReturn(0);
+        when(queryResult.wasNull()).thenReturn(false, true);
+        PrefetchQueryResult actual = new PrefetchQueryResult(queryResult, 2);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Timestamp.class), is(timestamp));
+        assertNull(actual.getValue(2, int.class));
+        assertTrue(actual.wasNull());
+        Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("GMT+14"));
+        Timestamp actualTimestamp = (Timestamp) actual.getCalendarValue(1, Timestamp.class, calendar);
+        assertThat(actualTimestamp.getNanos(), is(123456789));
+        calendar.setTime(actualTimestamp);
+        assertThat(calendar.get(Calendar.YEAR), is(2021));
+        assertThat(calendar.get(Calendar.HOUR_OF_DAY), is(12));
+        assertThat(calendar.get(Calendar.MINUTE), is(30));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertGetBinaryValues() throws SQLException, IOException {
+        QueryResult queryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(queryResult.getMetaData().getColumnCount()).thenReturn(2);
+        when(queryResult.getMetaData().getColumnType(1)).thenReturn(Types.BLOB);
+        when(queryResult.getMetaData().getColumnType(2)).thenReturn(Types.CLOB);
+        when(queryResult.next()).thenReturn(true, false);
+        when(queryResult.getValue(1, byte[].class)).thenReturn(new byte[]{1, 2});
+        when(queryResult.getValue(2, String.class)).thenReturn("foo");
+        PrefetchQueryResult actual = new PrefetchQueryResult(queryResult, 2);
+        assertTrue(actual.next());
+        assertArrayEquals(readAll(actual.getInputStream(1, "Binary")), new byte[]{1, 2});
+        assertArrayEquals(((Blob) actual.getValue(1, Blob.class)).getBytes(1L, 2), new byte[]{1, 2});
+        assertArrayEquals(readAll(actual.getInputStream(2, "Ascii")), "foo".getBytes(StandardCharsets.US_ASCII));
+        assertThat(((Clob) actual.getValue(2, Clob.class)).getSubString(1L, 3), is("foo"));
+        assertFalse(actual.next());
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNextWithException() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(queryResult.getMetaData().getColumnCount()).thenReturn(1);
+        when(queryResult.next()).thenThrow(new SQLException("test"));
+        new PrefetchQueryResult(queryResult, 2).next();
+    }
+    
+    @Test
+    public void assertClose() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(queryResult.getMetaData().getColumnCount()).thenReturn(1);
+        new PrefetchQueryResult(queryResult, 2).close();
+        verify(queryResult).close();
+    }
+    
+    private void assertRow(final PrefetchQueryResult actual, final int expectedId, final String expectedName) throws SQLException {
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(expectedId));
+        assertThat(actual.getValue(2, Object.class), is(expectedName));
+        assertFalse(actual.wasNull());
+    }
+    
+    private byte[] readAll(final InputStream inputStream) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        int each;
+        while (-1 != (each = inputStream.read())) {
+            result.write(each);
+        }
+        return result.toByteArray();
+    }
+}
@@ -245,9 +245,15 @@ public class ShardingTableMetaDataBuilderTest {
         return dataTypeResultSet;
     }
     
+    private void mockMetaDataLoadProps(final boolean isCheckingMetaData) {
+        when(props.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED)).thenReturn(isCheckingMetaData);
+        when(props.getValue(ConfigurationPropertyKey.METADATA_LOAD_TABLE_CHUNK_SIZE)).thenReturn(0);
+        when(props.getValue(ConfigurationPropertyKey.METADATA_LOAD_MAX_CONCURRENCY)).thenReturn(0);
+    }
+    
     @Test
     public void assertLoadTablesH2() throws SQLException {
-        when(props.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED)).thenReturn(false);
+        mockMetaDataLoadProps(false);
         when(databaseType.getName()).thenReturn("H2");
         Collection<String> tableNames = new LinkedList<>();
         tableNames.add(TABLE_NAME);
@@ -259,7 +265,7 @@ public class ShardingTableMetaDataBuilderTest {
     
     @Test
     public void assertLoadTablesMySQL() throws SQLException {
-        when(props.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED)).thenReturn(false);
+        mockMetaDataLoadProps(false);
         when(databaseType.getName()).thenReturn("MySQL");
         Collection<String> tableNames = new LinkedList<>();
         tableNames.add(TABLE_NAME);
@@ -274,7 +280,7 @@ public class ShardingTableMetaDataBuilderTest {
         ShardingRule shardingRule = createShardingRuleForOracle();
         Collection<ShardingSphereRule> rules = Collections.singletonList(shardingRule);
         ShardingTableMetaDataBuilder loader = (ShardingTableMetaDataBuilder) OrderedSPIRegistry.getRegisteredServices(RuleBasedTableMetaDataBuilder.class, rules).get(shardingRule);
-        when(props.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED)).thenReturn(false);
+        mockMetaDataLoadProps(false);
         DatabaseType databaseType = mock(OracleDatabaseType.class);
         when(databaseType.getName()).thenReturn("Oracle");
         Map<String, TableMetaData> actual = loader.load(Collections.singletonList(TABLE_NAME), shardingRule, 
@@ -296,7 +302,7 @@ public class ShardingTableMetaDataBuilderTest {
     
     @Test
     public void assertLoadTablesPGSQL() throws SQLException {
-        when(props.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED)).thenReturn(false);
+        mockMetaDataLoadProps(false);
         when(databaseType.getName()).thenReturn("PostgreSQL");
         Collection<String> tableNames = new LinkedList<>();
         tableNames.add(TABLE_NAME);
@@ -317,7 +323,7 @@ public class ShardingTableMetaDataBuilderTest {
     
     @Test
     public void assertLoadTablesSQLServer() throws SQLException {
-        when(props.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED)).thenReturn(false);
+        mockMetaDataLoadProps(false);
         when(databaseType.getName()).thenReturn("SQLServer");
         Collection<String> tableNames = new LinkedList<>();
         tableNames.add(TABLE_NAME);
@@ -338,7 +344,7 @@ public class ShardingTableMetaDataBuilderTest {
     
     @Test
     public void assertLoadTablesDefault() throws SQLException {
-        when(props.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED)).thenReturn(false);
+        mockMetaDataLoadProps(false);
         when(databaseType.getName()).thenReturn("default");
         when(databaseType.formatTableNamePattern("t_order_0")).thenReturn("t_order_0");
         Collection<String> tableNames = new LinkedList<>();
@@ -354,7 +360,8 @@ public class ShardingTableMetaDataBuilderTest {
     
     @Test
     public void assertLoadTablesWithCheck() throws SQLException {
-        when(props.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_ENABLED)).thenReturn(true);
+        mockMetaDataLoadProps(true);
+        when(props.getValue(ConfigurationPropertyKey.CHECK_TABLE_METADATA_IN_BACKGROUND)).thenReturn(false);
         when(databaseType.formatTableNamePattern("t_order_0")).thenReturn("t_order_0");
         when(databaseType.formatTableNamePattern("t_order_1")).thenReturn("t_order_1");
         Collection<String> tableNames = new LinkedList<>();
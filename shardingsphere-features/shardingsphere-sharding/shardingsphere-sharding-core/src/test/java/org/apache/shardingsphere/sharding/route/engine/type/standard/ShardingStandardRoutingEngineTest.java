@@ -19,17 +19,21 @@ package org.apache.shardingsphere.sharding.route.engine.type.standard;
 
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
 import org.apache.shardingsphere.sharding.route.engine.fixture.AbstractRoutingEngineTest;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.junit.After;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
@@ -82,6 +86,29 @@ public final class ShardingStandardRoutingEngineTest extends AbstractRoutingEngi
         assertThat(routeUnits.get(0).getTableMappers().iterator().next().getLogicName(), is("t_order"));
     }
     
+    @Test
+    public void assertRouteByShardingConditionsInBatch() {
+        ShardingStandardRoutingEngine standardRoutingEngine = createShardingStandardRoutingEngine("t_order", createBatchShardingConditions("t_order", 1L, 0L, 1L));
+        RouteContext routeContext = standardRoutingEngine.route(createBasedShardingRule());
+        List<RouteUnit> routeUnits = new ArrayList<>(routeContext.getRouteUnits());
+        assertThat(routeContext.getRouteUnits().size(), is(2));
+        assertThat(routeUnits.get(0).getDataSourceMapper().getActualName(), is("ds_1"));
+        assertThat(routeUnits.get(0).getTableMappers().iterator().next().getActualName(), is("t_order_1"));
+        assertThat(routeUnits.get(1).getDataSourceMapper().getActualName(), is("ds_0"));
+        assertThat(routeUnits.get(1).getTableMappers().iterator().next().getActualName(), is("t_order_0"));
+        List<Collection<DataNode>> originalDataNodes = new ArrayList<>(routeContext.getOriginalDataNodes());
+        assertThat(originalDataNodes.size(), is(3));
+        assertThat(originalDataNodes.get(0), is(Collections.singletonList(new DataNode("ds_1", "t_order_1"))));
+        assertThat(originalDataNodes.get(1), is(Collections.singletonList(new DataNode("ds_0", "t_order_0"))));
+        assertThat(originalDataNodes.get(2), is(Collections.singletonList(new DataNode("ds_1", "t_order_1"))));
+    }
+    
+    @Test(expected = ShardingSphereException.class)
+    public void assertRouteByErrorShardingTableStrategyInBatch() {
+        ShardingStandardRoutingEngine standardRoutingEngine = createShardingStandardRoutingEngine("t_order", createBatchShardingConditions("t_order", 1L, 2L));
+        standardRoutingEngine.route(createErrorShardingRule());
+    }
+    
     @Test(expected = ShardingSphereException.class)
     public void assertRouteByErrorShardingTableStrategy() {
         ShardingStandardRoutingEngine standardRoutingEngine = createShardingStandardRoutingEngine("t_order", createErrorShardingConditions("t_order"));
@@ -182,6 +209,17 @@ public final class ShardingStandardRoutingEngineTest extends AbstractRoutingEngi
         assertThat(routeUnits.get(0).getTableMappers().iterator().next().getLogicName(), is("t_interval_test"));
     }
     
+    private ShardingConditions createBatchShardingConditions(final String tableName, final long... shardingValues) {
+        List<ShardingCondition> result = new ArrayList<>(shardingValues.length);
+        for (long each : shardingValues) {
+            ShardingCondition shardingCondition = new ShardingCondition();
+            shardingCondition.getValues().add(new ListShardingConditionValue<>("user_id", tableName, Collections.singleton(each)));
+            shardingCondition.getValues().add(new ListShardingConditionValue<>("order_id", tableName, Collections.singleton(each)));
+            result.add(shardingCondition);
+        }
+        return new ShardingConditions(result, mock(SQLStatementContext.class), mock(ShardingRule.class));
+    }
+    
     private ShardingStandardRoutingEngine createShardingStandardRoutingEngine(final String logicTableName, final ShardingConditions shardingConditions) {
         return new ShardingStandardRoutingEngine(logicTableName, shardingConditions, new ConfigurationProperties(new Properties()));
     }
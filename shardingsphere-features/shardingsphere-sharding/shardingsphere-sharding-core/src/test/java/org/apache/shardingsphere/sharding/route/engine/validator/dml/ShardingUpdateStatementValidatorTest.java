@@ -29,9 +29,11 @@ import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sharding.algorithm.sharding.inline.InlineShardingAlgorithm;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.route.engine.validator.dml.impl.ShardingUpdateStatementValidator;
+import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
+import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.standard.StandardShardingStrategy;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.apache.shardingsphere.sharding.rule.TableRule;
-import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.AssignmentSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.ColumnAssignmentSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.SetAssignmentSegment;
@@ -51,10 +53,8 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 
@@ -120,20 +120,17 @@ public final class ShardingUpdateStatementValidatorTest {
         when(shardingRule.findShardingColumn("id", "user")).thenReturn(Optional.of("id"));
         when(shardingRule.getTableRule("user")).thenReturn(tableRule);
         StandardShardingStrategyConfiguration databaseStrategyConfiguration = mock(StandardShardingStrategyConfiguration.class);
-        when(databaseStrategyConfiguration.getShardingColumn()).thenReturn("id");
-        when(databaseStrategyConfiguration.getShardingAlgorithmName()).thenReturn("database_inline");
         when(shardingRule.getDatabaseShardingStrategyConfiguration(tableRule)).thenReturn(databaseStrategyConfiguration);
-        when(shardingRule.getShardingAlgorithms()).thenReturn(createShardingAlgorithmMap());
+        when(shardingRule.getDatabaseShardingStrategy(tableRule)).thenReturn(new StandardShardingStrategy("id", createShardingAlgorithm()));
+        when(shardingRule.getTableShardingStrategy(tableRule)).thenReturn(new NoneShardingStrategy());
     }
     
-    private Map<String, ShardingAlgorithm> createShardingAlgorithmMap() {
-        ShardingAlgorithm shardingAlgorithm = new InlineShardingAlgorithm();
+    private StandardShardingAlgorithm<?> createShardingAlgorithm() {
+        InlineShardingAlgorithm result = new InlineShardingAlgorithm();
         Properties props = new Properties();
         props.put("algorithm-expression", "ds_${id % 2}");
-        shardingAlgorithm.setProps(props);
-        shardingAlgorithm.init();
-        Map<String, ShardingAlgorithm> result = new HashMap<>();
-        result.put("database_inline", shardingAlgorithm);
+        result.setProps(props);
+        result.init();
         return result;
     }
     
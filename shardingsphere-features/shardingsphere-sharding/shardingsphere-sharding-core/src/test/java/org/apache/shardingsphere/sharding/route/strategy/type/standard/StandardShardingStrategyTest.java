@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.route.strategy.type.standard;
 
 import com.google.common.collect.Range;
 import com.google.common.collect.Sets;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Properties;
@@ -59,6 +60,13 @@ public final class StandardShardingStrategyTest {
         assertThat(actualListSharding.iterator().next(), is("1"));
     }
     
+    @Test
+    public void assertDoShardingInBatch() {
+        int[] actual = standardShardingStrategy.doSharding(
+                Arrays.asList("1", "2", "3"), new ListShardingConditionValue<>("column", "logicTable", Arrays.asList(1, 2, 3)), new ConfigurationProperties(new Properties()));
+        assertThat(actual, is(new int[]{0, -1, 0}));
+    }
+    
     @Test
     public void assertGetShardingColumns() {
         Collection<String> actualShardingColumns = standardShardingStrategy.getShardingColumns();
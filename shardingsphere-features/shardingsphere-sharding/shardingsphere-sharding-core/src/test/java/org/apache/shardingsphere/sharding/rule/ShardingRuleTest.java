@@ -56,6 +56,7 @@ import java.util.TreeSet;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
@@ -289,6 +290,19 @@ public final class ShardingRuleTest {
         assertThat(createMaximumShardingRule().generateKey("logic_table"), instanceOf(Integer.class));
     }
     
+    @Test
+    public void assertGenerateKeysWithDefaultKeyGenerator() {
+        assertThat(createMinimumShardingRule().generateKeys("logic_table", 3).size(), is(3));
+    }
+    
+    @Test
+    public void assertGetShardingStrategy() {
+        ShardingRule shardingRule = createMaximumShardingRule();
+        TableRule tableRule = shardingRule.getTableRule("logic_table");
+        assertThat(shardingRule.getDatabaseShardingStrategy(tableRule), sameInstance(shardingRule.getDatabaseShardingStrategy(tableRule)));
+        assertThat(shardingRule.getTableShardingStrategy(tableRule), sameInstance(shardingRule.getTableShardingStrategy(tableRule)));
+    }
+    
     @Test
     public void assertGetDataNodeByLogicTable() {
         assertThat(createMaximumShardingRule().getDataNode("logic_table"), is(new DataNode("ds_0.table_0")));
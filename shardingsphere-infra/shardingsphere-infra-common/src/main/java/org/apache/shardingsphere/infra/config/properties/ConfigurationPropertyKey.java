@@ -47,6 +47,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class),
     
+    /**
+     * Available options of worker group type to execute SQL: FIXED(default), FORK_JOIN, VIRTUAL_THREAD.
+     */
+    KERNEL_EXECUTOR_TYPE("kernel-executor-type", "FIXED", String.class),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -114,10 +119,151 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_MAX_CONNECTIONS("proxy-frontend-max-connections", "0", int.class),
     
+    /**
+     * Max estimated memory bytes of group by aggregation state held by memory merger before spilling it to temporary files.
+     * Less than or equal to 0 means no limitation.
+     */
+    GROUP_BY_MERGE_MAX_MEMORY_BYTES("group-by-merge-max-memory-bytes", String.valueOf(0L), long.class),
+    
+    /**
+     * Max rows held by one memory merged result before spilling sorted rows to temporary files.
+     * Less than or equal to 0 means no limitation.
+     */
+    MEMORY_MERGE_MAX_ROWS_PER_QUERY("memory-merge-max-rows-per-query", String.valueOf(0), int.class),
+    
+    /**
+     * Max estimated memory bytes held by one memory merged result before spilling sorted rows to temporary files.
+     * Less than or equal to 0 means no limitation.
+     */
+    MEMORY_MERGE_MAX_BYTES_PER_QUERY("memory-merge-max-bytes-per-query", String.valueOf(0L), long.class),
+    
+    /**
+     * Max estimated memory bytes held by all memory merged results of the JVM before spilling sorted rows to temporary files.
+     * Less than or equal to 0 means no limitation.
+     */
+    MEMORY_MERGE_MAX_TOTAL_BYTES("memory-merge-max-total-bytes", String.valueOf(0L), long.class),
+    
+    /**
+     * Directory of temporary files spilled by memory merger and SQL federation, files are only readable and writable by owner.
+     * Empty means use directory of system property java.io.tmpdir.
+     */
+    SPILL_DIRECTORY("spill-directory", "", String.class),
+    
+    /**
+     * Rows of each shard prefetched in one batch in background by order by stream merger.
+     * Less than or equal to 0 means disable prefetching.
+     */
+    ORDER_BY_MERGE_PREFETCH_SIZE("order-by-merge-prefetch-size", String.valueOf(0), int.class),
+    
+    /**
+     * Max prepared statement plans cached by meta data contexts, which are keyed by schema name and SQL.
+     * Less than or equal to 0 means disable prepared statement plan cache.
+     */
+    PREPARED_STATEMENT_PLAN_CACHE_SIZE("prepared-statement-plan-cache-size", String.valueOf(0), int.class),
+    
+    /**
+     * Zlib compression level (1-9) of MySQL compression protocol for ShardingSphere-Proxy.
+     * Less than or equal to 0 means compression protocol is not negotiated with client.
+     */
+    PROXY_MYSQL_COMPRESSION_LEVEL("proxy-mysql-compression-level", String.valueOf(0), int.class),
+    
+    /**
+     * Min length in bytes of packets compressed by MySQL compression protocol for ShardingSphere-Proxy, shorter packets are sent without compression.
+     */
+    PROXY_MYSQL_COMPRESSION_MIN_LENGTH("proxy-mysql-compression-min-length", String.valueOf(50), int.class),
+    
+    /**
+     * Max rows of multi-row INSERT coalesced from single-row INSERT batches of same data source for ShardingSphere-JDBC.
+     * Only work for databases supporting multi-row VALUES, rows and parameters of each statement are also limited by database.
+     * Less than or equal to 1 means disable coalescing.
+     */
+    BATCH_INSERT_COALESCE_MAX_ROWS("batch-insert-coalesce-max-rows", String.valueOf(0), int.class),
+    
+    /**
+     * Max concurrent tasks loading table meta data of one schema at startup.
+     * Less than or equal to 0 means use the shared executor with threads twice the number of available processors.
+     */
+    METADATA_LOAD_MAX_CONCURRENCY("metadata-load-max-concurrency", String.valueOf(0), int.class),
+    
+    /**
+     * Max actual tables of one data source loaded by one task at startup.
+     * Less than or equal to 0 means load all tables of one data source by one task.
+     */
+    METADATA_LOAD_TABLE_CHUNK_SIZE("metadata-load-table-chunk-size", String.valueOf(0), int.class),
+    
+    /**
+     * Whether load one actual table per logic table at startup and validate table meta data consistency in background, work with check-table-metadata-enabled.
+     */
+    CHECK_TABLE_METADATA_IN_BACKGROUND("check-table-metadata-in-background", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Whether load table meta data from persisted snapshot instead of querying databases when all configured tables are present in snapshot,
+     * tables are reloaded in background and the stale ones in snapshot are replaced.
+     */
+    METADATA_SNAPSHOT_ENABLED("metadata-snapshot-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Whether load meta data of tables only discovered from databases such as single tables on first access instead of at startup.
+     */
+    METADATA_LAZY_LOAD_ENABLED("metadata-lazy-load-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Interval in milliseconds to reload lazily loaded table meta data in background when accessed.
+     * Less than or equal to 0 means never reload.
+     */
+    METADATA_LAZY_LOAD_REFRESH_INTERVAL_MILLISECONDS("metadata-lazy-load-refresh-interval-milliseconds", String.valueOf(0L), long.class),
+    
+    /**
+     * Whether relay raw column bytes of text protocol query routed to one data node for ShardingSphere-Proxy, only work if both frontend and backend are MySQL.
+     * Character set results of backend JDBC URL should be same as character set of client, otherwise values are decoded and encoded again.
+     */
+    PROXY_BACKEND_PASS_THROUGH_ENABLED("proxy-backend-pass-through-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max bytes of query data packets encoded into one buffer before writing to client for ShardingSphere-Proxy.
+     * Less than or equal to 0 means write packets one by one and flush every proxy-frontend-flush-threshold packets.
+     */
+    PROXY_FRONTEND_WRITE_BATCH_BYTES("proxy-frontend-write-batch-bytes", String.valueOf(0), int.class),
+    
     /**
      * Whether enable sql federation.
      */
-    SQL_FEDERATION_ENABLED("sql-federation-enabled", String.valueOf(Boolean.FALSE), boolean.class);
+    SQL_FEDERATION_ENABLED("sql-federation-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Interval in milliseconds to refresh table statistics used by sql federation cost model in background.
+     * Less than or equal to 0 means table statistics are not collected.
+     */
+    SQL_FEDERATION_STATISTICS_REFRESH_INTERVAL_MILLISECONDS("sql-federation-statistics-refresh-interval-milliseconds", String.valueOf(0L), long.class),
+    
+    /**
+     * Whether push down filter, projection, aggregation, sort and pagination of single table in sql federation into SQL executed by actual tables.
+     */
+    SQL_FEDERATION_PUSH_DOWN_ENABLED("sql-federation-push-down-enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Max plans of SQL generated and parsed for table scans in sql federation cached and shared by executions with different parameters.
+     * Less than or equal to 0 means disable scan plan cache.
+     */
+    SQL_FEDERATION_SCAN_PLAN_CACHE_SIZE("sql-federation-scan-plan-cache-size", String.valueOf(0), int.class),
+    
+    /**
+     * Max rows of outer input whose join keys are looked up from inner table with statistics by one IN query in sql federation, work with sql-federation-push-down-enabled.
+     * Less than or equal to 0 means disable batched lookup join.
+     */
+    SQL_FEDERATION_LOOKUP_JOIN_BATCH_SIZE("sql-federation-lookup-join-batch-size", String.valueOf(0), int.class),
+    
+    /**
+     * Max estimated memory bytes of hash table built by hash join in sql federation before spilling partitioned rows to temporary files, work with sql-federation-push-down-enabled.
+     * Less than or equal to 0 means no limitation.
+     */
+    SQL_FEDERATION_HASH_JOIN_MAX_MEMORY_BYTES("sql-federation-hash-join-max-memory-bytes", String.valueOf(0L), long.class),
+    
+    /**
+     * Max prepared plans of SQL in sql federation cached by each schema and shared by executions with different parameters, plans are not hit if meta data or statistics of schema changed.
+     * Less than or equal to 0 means disable federation plan cache.
+     */
+    SQL_FEDERATION_PLAN_CACHE_SIZE("sql-federation-plan-cache-size", String.valueOf(0), int.class);
     
     private final String key;
     
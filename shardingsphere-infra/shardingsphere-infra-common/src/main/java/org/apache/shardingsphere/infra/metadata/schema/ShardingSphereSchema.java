@@ -17,52 +17,111 @@
 
 package org.apache.shardingsphere.infra.metadata.schema;
 
-import lombok.Getter;
+import org.apache.shardingsphere.infra.metadata.schema.loader.LazyTableMetaDataLoader;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * ShardingSphere schema.
  */
-@Getter
 public final class ShardingSphereSchema {
     
     private final Map<String, TableMetaData> tables;
     
+    private final LazyTableMetaDataLoader lazyTableMetaDataLoader;
+    
     @SuppressWarnings("CollectionWithoutInitialCapacity")
     public ShardingSphereSchema() {
         tables = new ConcurrentHashMap<>();
+        lazyTableMetaDataLoader = null;
     }
     
     public ShardingSphereSchema(final Map<String, TableMetaData> tables) {
+        this(tables, null);
+    }
+    
+    public ShardingSphereSchema(final Map<String, TableMetaData> tables, final LazyTableMetaDataLoader lazyTableMetaDataLoader) {
         this.tables = new ConcurrentHashMap<>(tables.size(), 1);
         tables.forEach((key, value) -> this.tables.put(key.toLowerCase(), value));
+        this.lazyTableMetaDataLoader = lazyTableMetaDataLoader;
+    }
+    
+    /**
+     * Get meta data of loaded tables.
+     *
+     * <p>Lazy tables whose meta data have not been loaded yet are excluded, use {@link #getAllTableNames()} and {@link #get(String)} to include them.</p>
+     *
+     * @return meta data of loaded tables
+     */
+    public Map<String, TableMetaData> getTables() {
+        return tables;
     }
     
     /**
      * Get all table names.
      *
+     * <p>Names of lazy tables whose meta data have not been loaded yet are included.</p>
+     *
      * @return all table names
      */
     public Collection<String> getAllTableNames() {
-        return tables.keySet();
+        if (null == lazyTableMetaDataLoader) {
+            return tables.keySet();
+        }
+        Collection<String> result = new LinkedHashSet<>(tables.keySet());
+        result.addAll(lazyTableMetaDataLoader.getTableNames());
+        return result;
+    }
+    
+    /**
+     * Get actual names of all tables.
+     *
+     * <p>Names of lazy tables whose meta data have not been loaded yet are included.</p>
+     *
+     * @return actual names of all tables
+     */
+    public Collection<String> getAllActualTableNames() {
+        Collection<String> result = new LinkedHashSet<>(tables.size(), 1);
+        tables.values().forEach(each -> result.add(each.getName()));
+        if (null != lazyTableMetaDataLoader) {
+            lazyTableMetaDataLoader.getActualTableNames().stream().filter(each -> !tables.containsKey(each.toLowerCase())).forEach(result::add);
+        }
+        return result;
     }
     
     /**
      * Get table meta data via table name.
+     *
+     * <p>Meta data of lazy table is loaded on first access, loading is not done inside lock of table meta data map.</p>
      * 
      * @param tableName tableName table name
      * @return table meta data
      */
     public TableMetaData get(final String tableName) {
-        return tables.get(tableName.toLowerCase());
+        String lowerCaseTableName = tableName.toLowerCase();
+        if (null == lazyTableMetaDataLoader || !lazyTableMetaDataLoader.contains(lowerCaseTableName)) {
+            return tables.get(lowerCaseTableName);
+        }
+        TableMetaData result = tables.get(lowerCaseTableName);
+        if (null == result) {
+            Optional<TableMetaData> loaded = lazyTableMetaDataLoader.load(lowerCaseTableName);
+            if (!loaded.isPresent()) {
+                return null;
+            }
+            TableMetaData previous = tables.putIfAbsent(lowerCaseTableName, loaded.get());
+            return null == previous ? loaded.get() : previous;
+        }
+        lazyTableMetaDataLoader.refreshIfNecessary(lowerCaseTableName, each -> tables.computeIfPresent(lowerCaseTableName, (key, value) -> each));
+        return result;
     }
     
     /**
@@ -93,6 +152,9 @@ public final class ShardingSphereSchema {
      */
     public void remove(final String tableName) {
         tables.remove(tableName.toLowerCase());
+        if (null != lazyTableMetaDataLoader) {
+            lazyTableMetaDataLoader.remove(tableName.toLowerCase());
+        }
     }
     
     /**
@@ -102,7 +164,7 @@ public final class ShardingSphereSchema {
      * @return contains table from table meta data or not
      */
     public boolean containsTable(final String tableName) {
-        return tables.containsKey(tableName.toLowerCase());
+        return tables.containsKey(tableName.toLowerCase()) || null != lazyTableMetaDataLoader && lazyTableMetaDataLoader.contains(tableName.toLowerCase());
     }
     
     /**
@@ -113,7 +175,8 @@ public final class ShardingSphereSchema {
      * @return contains column name or not
      */
     public boolean containsColumn(final String tableName, final String columnName) {
-        return containsTable(tableName) && get(tableName).getColumns().containsKey(columnName.toLowerCase());
+        TableMetaData tableMetaData = containsTable(tableName) ? get(tableName) : null;
+        return null != tableMetaData && tableMetaData.getColumns().containsKey(columnName.toLowerCase());
     }
     
     /**
@@ -123,6 +186,7 @@ public final class ShardingSphereSchema {
      * @return column names
      */
     public List<String> getAllColumnNames(final String tableName) {
-        return containsTable(tableName) ? new ArrayList<>(get(tableName).getColumns().keySet()) : Collections.emptyList();
+        TableMetaData tableMetaData = containsTable(tableName) ? get(tableName) : null;
+        return null == tableMetaData ? Collections.emptyList() : new ArrayList<>(tableMetaData.getColumns().keySet());
     }
 }
@@ -17,10 +17,13 @@
 
 package org.apache.shardingsphere.infra.metadata.schema.builder.loader;
 
+import com.google.common.collect.Iterables;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.metadata.schema.builder.loader.common.TableMetaDataLoader;
@@ -31,7 +34,7 @@ import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.LinkedList;
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -47,7 +50,7 @@ public final class TableMetaDataLoaderEngine {
     static {
         ShardingSphereServiceLoader.register(DialectTableMetaDataLoader.class);
     }
-
+    
     private static final ExecutorService EXECUTOR_SERVICE = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors() * 2, Runtime.getRuntime().availableProcessors() * 2,
             0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-TableMetaDataLoaderEngine-%d").build());
     
@@ -60,47 +63,97 @@ public final class TableMetaDataLoaderEngine {
      * @throws SQLException SQL exception
      */
     public static Collection<TableMetaData> load(final Collection<TableMetaDataLoaderMaterial> materials, final DatabaseType databaseType) throws SQLException {
+        return load(materials, databaseType, 0);
+    }
+    
+    /**
+     * Load table meta data.
+     *
+     * <p>Tables of one data source are split into chunks by {@code metadata-load-table-chunk-size}, and chunks are loaded concurrently by at most {@code metadata-load-max-concurrency} tasks.</p>
+     *
+     * @param materials table meta data load material
+     * @param databaseType database type
+     * @param props configuration properties
+     * @return table meta data collection
+     * @throws SQLException SQL exception
+     */
+    public static Collection<TableMetaData> load(final Collection<TableMetaDataLoaderMaterial> materials, final DatabaseType databaseType, final ConfigurationProperties props) throws SQLException {
+        int tableChunkSize = props.getValue(ConfigurationPropertyKey.METADATA_LOAD_TABLE_CHUNK_SIZE);
+        return load(tableChunkSize > 0 ? split(materials, tableChunkSize) : materials, databaseType, props.<Integer>getValue(ConfigurationPropertyKey.METADATA_LOAD_MAX_CONCURRENCY));
+    }
+    
+    private static Collection<TableMetaData> load(final Collection<TableMetaDataLoaderMaterial> materials, final DatabaseType databaseType, final int maxConcurrency) throws SQLException {
         Optional<DialectTableMetaDataLoader> dialectTableMetaDataLoader = findDialectTableMetaDataLoader(databaseType);
         if (dialectTableMetaDataLoader.isPresent()) {
             try {
-                return loadByDialect(dialectTableMetaDataLoader.get(), materials);
+                return loadConcurrently(materials, each -> dialectTableMetaDataLoader.get().load(each.getDataSource(), each.getTableNames()).values(), maxConcurrency);
             } catch (final SQLException | ShardingSphereException ex) {
                 log.error("Dialect load table meta data error", ex);
-                return loadByDefault(materials, databaseType);
+                return loadConcurrently(materials, each -> loadByDefault(each, databaseType), maxConcurrency);
             }
         }
-        return loadByDefault(materials, databaseType);
+        return loadConcurrently(materials, each -> loadByDefault(each, databaseType), maxConcurrency);
     }
     
-    private static Collection<TableMetaData> loadByDefault(final Collection<TableMetaDataLoaderMaterial> materials, final DatabaseType databaseType) throws SQLException {
-        Collection<TableMetaData> result = new LinkedList<>();
+    private static Collection<TableMetaDataLoaderMaterial> split(final Collection<TableMetaDataLoaderMaterial> materials, final int tableChunkSize) {
+        Collection<TableMetaDataLoaderMaterial> result = new LinkedList<>();
         for (TableMetaDataLoaderMaterial each : materials) {
-            for (String tableName : each.getTableNames()) {
-                TableMetaDataLoader.load(each.getDataSource(), tableName, databaseType).ifPresent(result::add);
+            for (List<String> tableNames : Iterables.partition(each.getTableNames(), tableChunkSize)) {
+                result.add(new TableMetaDataLoaderMaterial(tableNames, each.getDataSource()));
             }
         }
         return result;
     }
     
-    private static Collection<TableMetaData> loadByDialect(final DialectTableMetaDataLoader loader, final Collection<TableMetaDataLoaderMaterial> materials) throws SQLException {
+    private static Collection<TableMetaData> loadByDefault(final TableMetaDataLoaderMaterial material, final DatabaseType databaseType) throws SQLException {
         Collection<TableMetaData> result = new LinkedList<>();
-        Collection<Future<Map<String, TableMetaData>>> futures = new LinkedList<>();
+        for (String each : material.getTableNames()) {
+            TableMetaDataLoader.load(material.getDataSource(), each, databaseType).ifPresent(result::add);
+        }
+        return result;
+    }
+    
+    private static Collection<TableMetaData> loadConcurrently(final Collection<TableMetaDataLoaderMaterial> materials, final MaterialLoader loader, final int maxConcurrency) throws SQLException {
+        if (1 == materials.size()) {
+            return loader.load(materials.iterator().next());
+        }
+        ExecutorService executorService = maxConcurrency > 0 ? createExecutorService(Math.min(maxConcurrency, materials.size())) : EXECUTOR_SERVICE;
+        try {
+            return loadConcurrently(materials, loader, executorService);
+        } finally {
+            if (executorService != EXECUTOR_SERVICE) {
+                executorService.shutdownNow();
+            }
+        }
+    }
+    
+    private static Collection<TableMetaData> loadConcurrently(final Collection<TableMetaDataLoaderMaterial> materials, final MaterialLoader loader,
+                                                             final ExecutorService executorService) throws SQLException {
+        Collection<TableMetaData> result = new LinkedList<>();
+        Collection<Future<Collection<TableMetaData>>> futures = new LinkedList<>();
         for (TableMetaDataLoaderMaterial each : materials) {
-            futures.add(EXECUTOR_SERVICE.submit(() -> loader.load(each.getDataSource(), each.getTableNames())));
+            futures.add(executorService.submit(() -> loader.load(each)));
         }
         try {
-            for (Future<Map<String, TableMetaData>> each : futures) {
-                result.addAll(each.get().values());
+            for (Future<Collection<TableMetaData>> each : futures) {
+                result.addAll(each.get());
             }
         } catch (final InterruptedException | ExecutionException ex) {
             if (ex.getCause() instanceof SQLException) {
                 throw (SQLException) ex.getCause();
             }
             throw new ShardingSphereException(ex);
+        } finally {
+            futures.forEach(each -> each.cancel(true));
         }
         return result;
     }
-
+    
+    private static ExecutorService createExecutorService(final int threadSize) {
+        return new ThreadPoolExecutor(threadSize, threadSize, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-TableMetaDataLoaderEngine-Startup-%d").build());
+    }
+    
     private static Optional<DialectTableMetaDataLoader> findDialectTableMetaDataLoader(final DatabaseType databaseType) {
         for (DialectTableMetaDataLoader each : ShardingSphereServiceLoader.getSingletonServiceInstances(DialectTableMetaDataLoader.class)) {
             if (each.getDatabaseType().equals(databaseType.getName())) {
@@ -109,4 +162,9 @@ public final class TableMetaDataLoaderEngine {
         }
         return Optional.empty();
     }
+    
+    private interface MaterialLoader {
+        
+        Collection<TableMetaData> load(TableMetaDataLoaderMaterial material) throws SQLException;
+    }
 }
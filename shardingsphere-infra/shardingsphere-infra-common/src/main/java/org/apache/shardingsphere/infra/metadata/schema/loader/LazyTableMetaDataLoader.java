@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.loader;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
+import org.apache.shardingsphere.infra.metadata.schema.builder.TableMetaDataBuilder;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Lazy table meta data loader, to load table meta data on first access and refresh it in background.
+ */
+@Slf4j
+public final class LazyTableMetaDataLoader {
+    
+    private static final ExecutorService REFRESH_EXECUTOR_SERVICE = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-LazyTableMetaDataRefresher-%d").build());
+    
+    private final Map<String, String> tableNames;
+    
+    private final SchemaBuilderMaterials materials;
+    
+    private final long refreshIntervalMilliseconds;
+    
+    private final Map<String, Long> loadedMilliseconds = new ConcurrentHashMap<>();
+    
+    private final Map<String, CompletableFuture<Optional<TableMetaData>>> loadingTables = new ConcurrentHashMap<>();
+    
+    public LazyTableMetaDataLoader(final Collection<String> tableNames, final SchemaBuilderMaterials materials, final long refreshIntervalMilliseconds) {
+        this.tableNames = new ConcurrentHashMap<>(tableNames.size(), 1);
+        tableNames.forEach(each -> this.tableNames.put(each.toLowerCase(), each));
+        this.materials = materials;
+        this.refreshIntervalMilliseconds = refreshIntervalMilliseconds;
+    }
+    
+    /**
+     * Get lower case names of lazy tables.
+     *
+     * @return lower case table names
+     */
+    public Collection<String> getTableNames() {
+        return Collections.unmodifiableCollection(tableNames.keySet());
+    }
+    
+    /**
+     * Get actual names of lazy tables.
+     *
+     * @return actual table names
+     */
+    public Collection<String> getActualTableNames() {
+        return Collections.unmodifiableCollection(tableNames.values());
+    }
+    
+    /**
+     * Judge whether table is lazy table.
+     *
+     * @param tableName lower case table name
+     * @return is lazy table or not
+     */
+    public boolean contains(final String tableName) {
+        return tableNames.containsKey(tableName);
+    }
+    
+    /**
+     * Load table meta data.
+     *
+     * <p>Concurrent loading of same table waits for the first one instead of querying database again.</p>
+     *
+     * @param tableName lower case table name
+     * @return table meta data
+     */
+    public Optional<TableMetaData> load(final String tableName) {
+        CompletableFuture<Optional<TableMetaData>> future = new CompletableFuture<>();
+        CompletableFuture<Optional<TableMetaData>> loadingFuture = loadingTables.putIfAbsent(tableName, future);
+        if (null != loadingFuture) {
+            return join(loadingFuture);
+        }
+        try {
+            Optional<TableMetaData> result = doLoad(tableName);
+            future.complete(result);
+            return result;
+        } catch (final ShardingSphereException ex) {
+            future.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            loadingTables.remove(tableName, future);
+        }
+    }
+    
+    private Optional<TableMetaData> join(final CompletableFuture<Optional<TableMetaData>> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException ex) {
+            throw ex.getCause() instanceof ShardingSphereException ? (ShardingSphereException) ex.getCause() : ex;
+        }
+    }
+    
+    private Optional<TableMetaData> doLoad(final String tableName) {
+        String actualTableName = tableNames.get(tableName);
+        if (null == actualTableName) {
+            return Optional.empty();
+        }
+        try {
+            Optional<TableMetaData> result = TableMetaDataBuilder.load(Collections.singletonList(actualTableName), materials).values().stream().findFirst();
+            loadedMilliseconds.put(tableName, System.currentTimeMillis());
+            return result;
+        } catch (final SQLException ex) {
+            throw new ShardingSphereException(ex);
+        }
+    }
+    
+    /**
+     * Refresh table meta data in background if refresh interval elapsed since last load.
+     *
+     * @param tableName lower case table name
+     * @param callback callback of refreshed table meta data
+     */
+    public void refreshIfNecessary(final String tableName, final Consumer<TableMetaData> callback) {
+        if (refreshIntervalMilliseconds <= 0) {
+            return;
+        }
+        Long lastLoadedMilliseconds = loadedMilliseconds.get(tableName);
+        long currentMilliseconds = System.currentTimeMillis();
+        if (null == lastLoadedMilliseconds || currentMilliseconds - lastLoadedMilliseconds < refreshIntervalMilliseconds
+                || !loadedMilliseconds.replace(tableName, lastLoadedMilliseconds, currentMilliseconds)) {
+            return;
+        }
+        REFRESH_EXECUTOR_SERVICE.execute(() -> {
+            try {
+                load(tableName).ifPresent(callback);
+            } catch (final ShardingSphereException ex) {
+                log.error("Refresh table meta data of `{}` error", tableName, ex);
+            }
+        });
+    }
+    
+    /**
+     * Remove lazy table.
+     *
+     * @param tableName lower case table name
+     */
+    public void remove(final String tableName) {
+        tableNames.remove(tableName);
+        loadedMilliseconds.remove(tableName);
+    }
+}
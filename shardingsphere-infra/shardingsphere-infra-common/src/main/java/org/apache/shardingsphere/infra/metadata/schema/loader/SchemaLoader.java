@@ -17,30 +17,47 @@
 
 package org.apache.shardingsphere.infra.metadata.schema.loader;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRecognizer;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
 import org.apache.shardingsphere.infra.metadata.schema.builder.TableMetaDataBuilder;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.MutableDataNodeRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Schema loader.
  */
+@Slf4j
 public final class SchemaLoader {
     
+    private static final ExecutorService SNAPSHOT_CHECK_EXECUTOR_SERVICE = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-SchemaSnapshotChecker-%d").build());
+    
     private final Map<String, Map<String, DataSource>> dataSources;
     
     private final Map<String, Collection<RuleConfiguration>> schemaRuleConfigs;
@@ -49,6 +66,8 @@ public final class SchemaLoader {
     
     private final ConfigurationProperties props;
     
+    private final Map<String, ShardingSphereSchema> snapshotSchemas = new LinkedHashMap<>();
+    
     public SchemaLoader(final Map<String, Map<String, DataSource>> dataSources,
                         final Map<String, Collection<RuleConfiguration>> schemaRuleConfigs, final Map<String, Collection<ShardingSphereRule>> rules, final Properties props) {
         this.dataSources = dataSources;
@@ -64,16 +83,104 @@ public final class SchemaLoader {
      * @throws SQLException SQL exception
      */
     public Map<String, ShardingSphereSchema> load() throws SQLException {
+        return load(schemaName -> Optional.empty());
+    }
+    
+    /**
+     * Load schema, use persisted snapshot instead of querying databases if {@code metadata-snapshot-enabled} and snapshot contains all configured tables.
+     * If {@code metadata-lazy-load-enabled}, snapshot only needs to contain eagerly loaded tables, configured tables absent from snapshot are loaded lazily.
+     * Schemas loaded from snapshot should be checked by {@link #checkSnapshotInBackground(BiConsumer)} later.
+     *
+     * @param snapshotLoader snapshot loader, to load persisted schema by schema name
+     * @return schema
+     * @throws SQLException SQL exception
+     */
+    public Map<String, ShardingSphereSchema> load(final Function<String, Optional<ShardingSphereSchema>> snapshotLoader) throws SQLException {
+        boolean isSnapshotEnabled = props.getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_ENABLED);
+        boolean isLazyLoadEnabled = props.getValue(ConfigurationPropertyKey.METADATA_LAZY_LOAD_ENABLED);
         Map<String, ShardingSphereSchema> result = new HashMap<>(schemaRuleConfigs.size(), 1);
         for (String each : schemaRuleConfigs.keySet()) {
-            Map<String, DataSource> dataSourceMap = dataSources.get(each);
-            DatabaseType databaseType = DatabaseTypeRecognizer.getDatabaseType(dataSources.get(each).values());
-            Map<String, TableMetaData> tableMetaDataMap = TableMetaDataBuilder.load(getAllTableNames(rules.get(each)), new SchemaBuilderMaterials(databaseType, dataSourceMap, rules.get(each), props));
-            result.put(each, new ShardingSphereSchema(tableMetaDataMap));
+            Collection<String> tableNames = getAllTableNames(rules.get(each));
+            Collection<String> requiredTableNames = isLazyLoadEnabled ? getEagerTableNames(rules.get(each)) : tableNames;
+            Optional<ShardingSphereSchema> snapshot = isSnapshotEnabled
+                    ? snapshotLoader.apply(each).filter(optional -> requiredTableNames.stream().allMatch(optional::containsTable)) : Optional.empty();
+            if (snapshot.isPresent()) {
+                ShardingSphereSchema schema = isLazyLoadEnabled ? createLazySchema(each, snapshot.get().getTables(), tableNames) : snapshot.get();
+                snapshotSchemas.put(each, schema);
+                result.put(each, schema);
+            } else {
+                result.put(each, load(each, tableNames));
+            }
         }
         return result;
     }
     
+    private ShardingSphereSchema load(final String schemaName, final Collection<String> tableNames) throws SQLException {
+        SchemaBuilderMaterials materials = createMaterials(schemaName);
+        if (!props.<Boolean>getValue(ConfigurationPropertyKey.METADATA_LAZY_LOAD_ENABLED)) {
+            return new ShardingSphereSchema(TableMetaDataBuilder.load(tableNames, materials));
+        }
+        return createLazySchema(schemaName, TableMetaDataBuilder.load(getEagerTableNames(rules.get(schemaName)), materials), tableNames);
+    }
+    
+    private ShardingSphereSchema createLazySchema(final String schemaName, final Map<String, TableMetaData> loadedTables, final Collection<String> tableNames) {
+        Collection<String> loadedTableNames = getLowerCaseTableNames(loadedTables);
+        Collection<String> lazyTableNames = tableNames.stream().filter(each -> !loadedTableNames.contains(each.toLowerCase())).collect(Collectors.toList());
+        return new ShardingSphereSchema(loadedTables, new LazyTableMetaDataLoader(lazyTableNames, createMaterials(schemaName),
+                props.<Long>getValue(ConfigurationPropertyKey.METADATA_LAZY_LOAD_REFRESH_INTERVAL_MILLISECONDS)));
+    }
+    
+    /**
+     * Get names of schemas loaded from snapshot.
+     *
+     * @return schema names
+     */
+    public Collection<String> getSnapshotSchemaNames() {
+        return Collections.unmodifiableCollection(snapshotSchemas.keySet());
+    }
+    
+    /**
+     * Check schemas loaded from snapshot in background, reload snapshot tables from databases and notify the ones which differ from snapshot.
+     *
+     * @param staleTableConsumer consumer of schema name and reloaded table meta data which is stale in snapshot
+     */
+    public void checkSnapshotInBackground(final BiConsumer<String, TableMetaData> staleTableConsumer) {
+        for (Entry<String, ShardingSphereSchema> entry : snapshotSchemas.entrySet()) {
+            Collection<String> snapshotTableNames = getLowerCaseTableNames(entry.getValue().getTables());
+            Collection<String> tableNames = getAllTableNames(rules.get(entry.getKey())).stream().filter(each -> snapshotTableNames.contains(each.toLowerCase())).collect(Collectors.toList());
+            SchemaBuilderMaterials materials = createMaterials(entry.getKey());
+            SNAPSHOT_CHECK_EXECUTOR_SERVICE.execute(() -> checkSnapshot(entry.getKey(), entry.getValue(), tableNames, materials, staleTableConsumer));
+        }
+    }
+    
+    private void checkSnapshot(final String schemaName, final ShardingSphereSchema snapshot, final Collection<String> tableNames,
+                               final SchemaBuilderMaterials materials, final BiConsumer<String, TableMetaData> staleTableConsumer) {
+        try {
+            for (TableMetaData each : TableMetaDataBuilder.load(tableNames, materials).values()) {
+                if (!each.equals(snapshot.get(each.getName()))) {
+                    staleTableConsumer.accept(schemaName, each);
+                }
+            }
+        } catch (final SQLException | ShardingSphereException ex) {
+            log.error("Check meta data snapshot of schema `{}` in background error", schemaName, ex);
+        }
+    }
+    
+    private SchemaBuilderMaterials createMaterials(final String schemaName) {
+        Map<String, DataSource> dataSourceMap = dataSources.get(schemaName);
+        DatabaseType databaseType = DatabaseTypeRecognizer.getDatabaseType(dataSourceMap.values());
+        return new SchemaBuilderMaterials(databaseType, dataSourceMap, rules.get(schemaName), props);
+    }
+    
+    private Collection<String> getLowerCaseTableNames(final Map<String, TableMetaData> tables) {
+        return tables.keySet().stream().map(String::toLowerCase).collect(Collectors.toSet());
+    }
+    
+    private Collection<String> getEagerTableNames(final Collection<ShardingSphereRule> rules) {
+        return rules.stream().filter(rule -> rule instanceof TableContainedRule && !(rule instanceof MutableDataNodeRule))
+                .flatMap(shardingSphereRule -> ((TableContainedRule) shardingSphereRule).getTables().stream()).collect(Collectors.toSet());
+    }
+    
     private Collection<String> getAllTableNames(final Collection<ShardingSphereRule> rules) {
         return rules.stream().filter(rule -> rule instanceof TableContainedRule)
                 .flatMap(shardingSphereRule -> ((TableContainedRule) shardingSphereRule).getTables().stream()).collect(Collectors.toSet());
@@ -19,13 +19,22 @@ package org.apache.shardingsphere.infra.metadata.schema;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Sets;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
+import org.apache.shardingsphere.infra.metadata.schema.fixture.rule.DataNodeContainedFixtureRule;
+import org.apache.shardingsphere.infra.metadata.schema.loader.LazyTableMetaDataLoader;
 import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.junit.Test;
 
+import javax.sql.DataSource;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -38,12 +47,34 @@ public final class ShardingSphereSchemaTest {
         assertThat(new ShardingSphereSchema(ImmutableMap.of("tbl", mock(TableMetaData.class))).getAllTableNames(), is(Sets.newHashSet("tbl")));
     }
     
+    @Test
+    public void assertGetAllActualTableNames() {
+        LazyTableMetaDataLoader lazyTableMetaDataLoader = new LazyTableMetaDataLoader(Collections.singletonList("T_Lazy"), mock(SchemaBuilderMaterials.class), 0L);
+        ShardingSphereSchema actual = new ShardingSphereSchema(Collections.singletonMap("tbl", new TableMetaData("Tbl")), lazyTableMetaDataLoader);
+        assertThat(actual.getAllActualTableNames(), is(Sets.newLinkedHashSet(Arrays.asList("Tbl", "T_Lazy"))));
+        assertThat(actual.getTables().keySet(), is(Collections.singleton("tbl")));
+    }
+    
     @Test
     public void assertGet() {
         TableMetaData tableMetaData = mock(TableMetaData.class);
         assertThat(new ShardingSphereSchema(ImmutableMap.of("tbl", tableMetaData)).get("tbl"), is(tableMetaData));
     }
     
+    @Test
+    public void assertGetLazyTable() {
+        SchemaBuilderMaterials materials = new SchemaBuilderMaterials(mock(DatabaseType.class), Collections.singletonMap("logic_db", mock(DataSource.class)),
+                Collections.singletonList(new DataNodeContainedFixtureRule()), new ConfigurationProperties(new Properties()));
+        ShardingSphereSchema actual = new ShardingSphereSchema(Collections.emptyMap(), new LazyTableMetaDataLoader(Collections.singletonList("data_node_routed_table1"), materials, 0L));
+        assertTrue(actual.containsTable("DATA_NODE_ROUTED_TABLE1"));
+        assertThat(actual.getAllTableNames(), is(Sets.newLinkedHashSet(Collections.singletonList("data_node_routed_table1"))));
+        assertTrue(actual.getTables().isEmpty());
+        assertThat(actual.get("data_node_routed_table1").getName(), is("data_node_routed_table1"));
+        assertThat(actual.getTables().size(), is(1));
+        actual.remove("data_node_routed_table1");
+        assertFalse(actual.containsTable("data_node_routed_table1"));
+    }
+    
     @Test
     public void assertPut() {
         ShardingSphereSchema actual = new ShardingSphereSchema(Collections.emptyMap());
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.infra.metadata.schema.builder.loader;
 
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.IndexMetaData;
@@ -33,9 +35,12 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -113,6 +118,19 @@ public final class TableMetaDataLoaderTest {
         assertTrue(indexMetaDataMap.containsKey("my_index"));
     }
     
+    @Test
+    public void assertLoadWithTableChunks() throws SQLException {
+        DatabaseType databaseType = mock(DatabaseType.class, RETURNS_DEEP_STUBS);
+        when(databaseType.formatTableNamePattern(TEST_TABLE)).thenReturn(TEST_TABLE);
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.METADATA_LOAD_TABLE_CHUNK_SIZE.getKey(), "1");
+        props.setProperty(ConfigurationPropertyKey.METADATA_LOAD_MAX_CONCURRENCY.getKey(), "2");
+        Collection<TableMetaData> actual = TableMetaDataLoaderEngine.load(
+                Collections.singletonList(new TableMetaDataLoaderMaterial(Arrays.asList(TEST_TABLE, "not_existed_table"), dataSource)), databaseType, new ConfigurationProperties(props));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next().getColumns().size(), is(2));
+    }
+    
     private void assertColumnMetaData(final ColumnMetaData actual, final String name, final int dataType, final boolean primaryKey, final boolean caseSensitive) {
         assertThat(actual.getName(), is(name));
         assertThat(actual.getDataType(), is(dataType));
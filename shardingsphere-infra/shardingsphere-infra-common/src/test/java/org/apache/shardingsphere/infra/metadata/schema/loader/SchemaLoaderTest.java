@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.schema.loader;
+
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.fixture.rule.DataNodeContainedFixtureRule;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.MutableDataNodeRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+public final class SchemaLoaderTest {
+    
+    @Test
+    public void assertLoadFromSnapshot() throws SQLException {
+        ShardingSphereSchema snapshot = new ShardingSphereSchema(Collections.singletonMap("t_order", new TableMetaData("t_order", Collections.emptyList(), Collections.emptyList())));
+        Map<String, ShardingSphereSchema> actual = createSchemaLoader("t_order").load(schemaName -> Optional.of(snapshot));
+        assertThat(actual.get("logic_db"), sameInstance(snapshot));
+    }
+    
+    @Test
+    public void assertCheckSnapshotInBackground() throws SQLException, InterruptedException {
+        Map<String, TableMetaData> tables = new HashMap<>(2, 1);
+        tables.put("data_node_routed_table1", new TableMetaData("data_node_routed_table1", Collections.emptyList(), Collections.emptyList()));
+        tables.put("data_node_routed_table2", new TableMetaData("data_node_routed_table2",
+                Collections.singletonList(new ColumnMetaData("dropped_column", Types.INTEGER, false, false, false)), Collections.emptyList()));
+        SchemaLoader schemaLoader = createSchemaLoader(new DataNodeContainedFixtureRule());
+        schemaLoader.load(schemaName -> Optional.of(new ShardingSphereSchema(tables)));
+        assertThat(new HashSet<>(schemaLoader.getSnapshotSchemaNames()), is(Collections.singleton("logic_db")));
+        Map<String, TableMetaData> actual = new ConcurrentHashMap<>();
+        CountDownLatch latch = new CountDownLatch(1);
+        schemaLoader.checkSnapshotInBackground((schemaName, tableMetaData) -> {
+            actual.put(tableMetaData.getName(), tableMetaData);
+            latch.countDown();
+        });
+        assertTrue(latch.await(5L, TimeUnit.SECONDS));
+        assertThat(actual.keySet(), is(Collections.singleton("data_node_routed_table2")));
+        assertTrue(actual.get("data_node_routed_table2").getColumns().isEmpty());
+    }
+    
+    @Test
+    public void assertLoadWithSnapshotMissingTable() throws SQLException {
+        ShardingSphereSchema snapshot = new ShardingSphereSchema(Collections.singletonMap("t_order", new TableMetaData("t_order", Collections.emptyList(), Collections.emptyList())));
+        SchemaLoader schemaLoader = createSchemaLoader("t_order_item");
+        Map<String, ShardingSphereSchema> actual = schemaLoader.load(schemaName -> Optional.of(snapshot));
+        assertThat(actual.get("logic_db").getTables().size(), is(0));
+        assertTrue(schemaLoader.getSnapshotSchemaNames().isEmpty());
+    }
+    
+    @Test
+    public void assertLoadFromSnapshotWithLazyTables() throws SQLException {
+        TableContainedRule rule = mock(TableContainedRule.class, withSettings().extraInterfaces(MutableDataNodeRule.class));
+        when(rule.getTables()).thenReturn(Arrays.asList("t_order", "t_order_item"));
+        Properties props = createProperties();
+        props.setProperty(ConfigurationPropertyKey.METADATA_LAZY_LOAD_ENABLED.getKey(), Boolean.TRUE.toString());
+        SchemaLoader schemaLoader = createSchemaLoader(rule, props);
+        ShardingSphereSchema snapshot = new ShardingSphereSchema(Collections.singletonMap("t_order", new TableMetaData("t_order", Collections.emptyList(), Collections.emptyList())));
+        ShardingSphereSchema actual = schemaLoader.load(schemaName -> Optional.of(snapshot)).get("logic_db");
+        assertThat(new HashSet<>(schemaLoader.getSnapshotSchemaNames()), is(Collections.singleton("logic_db")));
+        assertThat(actual.getTables().keySet(), is(Collections.singleton("t_order")));
+        assertThat(new HashSet<>(actual.getAllTableNames()), is(new HashSet<>(Arrays.asList("t_order", "t_order_item"))));
+    }
+    
+    private SchemaLoader createSchemaLoader(final String tableName) throws SQLException {
+        TableContainedRule rule = mock(TableContainedRule.class);
+        when(rule.getTables()).thenReturn(Collections.singletonList(tableName));
+        return createSchemaLoader(rule);
+    }
+    
+    private SchemaLoader createSchemaLoader(final ShardingSphereRule rule) throws SQLException {
+        return createSchemaLoader(rule, createProperties());
+    }
+    
+    private SchemaLoader createSchemaLoader(final ShardingSphereRule rule, final Properties props) throws SQLException {
+        DataSource dataSource = mock(DataSource.class, RETURNS_DEEP_STUBS);
+        when(dataSource.getConnection().getMetaData().getURL()).thenReturn("jdbc:h2:mem:ds;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL");
+        Collection<ShardingSphereRule> rules = Collections.singletonList(rule);
+        return new SchemaLoader(Collections.singletonMap("logic_db", Collections.singletonMap("ds", dataSource)),
+                Collections.singletonMap("logic_db", Collections.emptyList()), Collections.singletonMap("logic_db", rules), props);
+    }
+    
+    private Properties createProperties() {
+        Properties result = new Properties();
+        result.setProperty(ConfigurationPropertyKey.METADATA_SNAPSHOT_ENABLED.getKey(), Boolean.TRUE.toString());
+        return result;
+    }
+}
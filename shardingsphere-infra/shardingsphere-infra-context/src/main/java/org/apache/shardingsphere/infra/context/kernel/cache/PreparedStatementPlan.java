@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.sql.ParameterMetaData;
+import java.util.Optional;
+
+/**
+ * Prepared statement plan, which holds parameter independent work of prepared statements for same SQL.
+ * 
+ * <p>SQL statement context is only bound for update and delete statements.
+ * Contexts of select and insert statements are built from parameters, and are changed while generating keys, paginating and merging, so they are never shared.</p>
+ */
+@RequiredArgsConstructor
+public final class PreparedStatementPlan {
+    
+    @Getter
+    private final SQLStatement sqlStatement;
+    
+    @Getter
+    private final ParameterMetaData parameterMetaData;
+    
+    private final SQLStatementContext<?> sqlStatementContext;
+    
+    @Getter
+    private final boolean readwriteSplittingOnly;
+    
+    /**
+     * Find bound SQL statement context, which is only present if it does not depend on parameters and is never changed after bound.
+     * 
+     * @return SQL statement context
+     */
+    public Optional<SQLStatementContext<?>> findSQLStatementContext() {
+        return Optional.ofNullable(sqlStatementContext);
+    }
+}
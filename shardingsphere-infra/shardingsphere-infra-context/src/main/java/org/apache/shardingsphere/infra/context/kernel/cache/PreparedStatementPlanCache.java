@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Prepared statement plan cache.
+ *
+ * <p>Plans are keyed by schema name and SQL. Each meta data contexts owns its cache, which is sized once when created and invalidated when meta data changed in place.
+ * Plans built before invalidated are never put into cache.</p>
+ */
+public final class PreparedStatementPlanCache {
+    
+    private final AtomicLong version = new AtomicLong();
+    
+    private final AtomicLong hitCount = new AtomicLong();
+    
+    private final AtomicLong missCount = new AtomicLong();
+    
+    private final AtomicLong evictionCount = new AtomicLong();
+    
+    private final int maximumSize;
+    
+    private final Cache<Entry<String, String>, PreparedStatementPlan> cache;
+    
+    public PreparedStatementPlanCache(final int maximumSize) {
+        this.maximumSize = Math.max(maximumSize, 0);
+        cache = CacheBuilder.newBuilder().maximumSize(this.maximumSize).<Entry<String, String>, PreparedStatementPlan>removalListener(notification -> {
+            if (notification.wasEvicted()) {
+                evictionCount.incrementAndGet();
+            }
+        }).build();
+    }
+    
+    /**
+     * Get prepared statement plan, build and cache it if absent.
+     *
+     * @param schemaName schema name
+     * @param sql SQL
+     * @param planBuilder builder of plan
+     * @return prepared statement plan
+     */
+    public PreparedStatementPlan get(final String schemaName, final String sql, final Supplier<PreparedStatementPlan> planBuilder) {
+        if (0 == maximumSize) {
+            return planBuilder.get();
+        }
+        Entry<String, String> key = new SimpleImmutableEntry<>(schemaName, sql);
+        PreparedStatementPlan cachedPlan = cache.getIfPresent(key);
+        if (null != cachedPlan) {
+            hitCount.incrementAndGet();
+            return cachedPlan;
+        }
+        missCount.incrementAndGet();
+        long currentVersion = version.get();
+        PreparedStatementPlan result = planBuilder.get();
+        if (currentVersion == version.get()) {
+            cache.put(key, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Invalidate all prepared statement plans.
+     */
+    public void invalidateAll() {
+        version.incrementAndGet();
+        cache.invalidateAll();
+    }
+    
+    /**
+     * Get hit count.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+    
+    /**
+     * Get miss count.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+    
+    /**
+     * Get eviction count.
+     *
+     * @return eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+}
@@ -49,7 +49,7 @@ public final class AlterTableStatementSchemaRefresher implements MetaDataRefresh
         String tableName = sqlStatement.getTable().getTableName().getIdentifier().getValue();
         if (sqlStatement.getRenameTable().isPresent()) {
             putTableMetaData(schemaMetaData, schema, optimizerPlanners, logicDataSourceNames, sqlStatement.getRenameTable().get().getTableName().getIdentifier().getValue(), props);
-            removeTableMetaData(schemaMetaData, schema, optimizerPlanners, tableName);
+            removeTableMetaData(schemaMetaData, schema, optimizerPlanners, tableName, props);
         } else {
             putTableMetaData(schemaMetaData, schema, optimizerPlanners, logicDataSourceNames, tableName, props);
         }
@@ -59,11 +59,11 @@ public final class AlterTableStatementSchemaRefresher implements MetaDataRefresh
     }
     
     private void removeTableMetaData(final ShardingSphereMetaData schemaMetaData, final FederationSchemaMetaData schema, 
-                                     final Map<String, OptimizerPlannerContext> optimizerPlanners, final String tableName) {
+                                     final Map<String, OptimizerPlannerContext> optimizerPlanners, final String tableName, final ConfigurationProperties props) {
         schemaMetaData.getSchema().remove(tableName);
         schemaMetaData.getRuleMetaData().findRules(MutableDataNodeRule.class).forEach(each -> each.remove(tableName));
         schema.remove(tableName);
-        optimizerPlanners.put(schema.getName(), OptimizerPlannerContextFactory.create(schema));
+        optimizerPlanners.put(schema.getName(), OptimizerPlannerContextFactory.create(schema, props));
     }
     
     private void putTableMetaData(final ShardingSphereMetaData schemaMetaData, final FederationSchemaMetaData schema, final Map<String, OptimizerPlannerContext> optimizerPlanners, 
@@ -77,7 +77,7 @@ public final class AlterTableStatementSchemaRefresher implements MetaDataRefresh
         actualTableMetaData.ifPresent(tableMetaData -> {
             schemaMetaData.getSchema().put(tableName, tableMetaData);
             schema.put(tableMetaData);
-            optimizerPlanners.put(schema.getName(), OptimizerPlannerContextFactory.create(schema));
+            optimizerPlanners.put(schema.getName(), OptimizerPlannerContextFactory.create(schema, props));
         });
     }
     
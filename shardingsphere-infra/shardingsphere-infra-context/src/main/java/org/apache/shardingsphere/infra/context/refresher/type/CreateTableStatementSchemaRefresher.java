@@ -56,7 +56,7 @@ public final class CreateTableStatementSchemaRefresher implements MetaDataRefres
         actualTableMetaData.ifPresent(tableMetaData -> {
             schemaMetaData.getSchema().put(tableName, tableMetaData);
             schema.put(tableMetaData);
-            optimizerPlanners.put(schema.getName(), OptimizerPlannerContextFactory.create(schema));
+            optimizerPlanners.put(schema.getName(), OptimizerPlannerContextFactory.create(schema, props));
             SchemaAlteredEvent event = new SchemaAlteredEvent(schemaMetaData.getName());
             event.getAlteredTables().add(tableMetaData);
             ShardingSphereEventBus.getInstance().post(event);
@@ -45,7 +45,7 @@ public final class DropTableStatementSchemaRefresher implements MetaDataRefreshe
         sqlStatement.getTables().forEach(each -> {
             schemaMetaData.getSchema().remove(each.getTableName().getIdentifier().getValue());
             schema.remove(each.getTableName().getIdentifier().getValue());
-            optimizerPlanners.put(schema.getName(), OptimizerPlannerContextFactory.create(schema));
+            optimizerPlanners.put(schema.getName(), OptimizerPlannerContextFactory.create(schema, props));
             event.getDroppedTables().add(each.getTableName().getIdentifier().getValue());
         });
         Collection<MutableDataNodeRule> rules = schemaMetaData.getRuleMetaData().findRules(MutableDataNodeRule.class);
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel.cache;
+
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.junit.Test;
+
+import java.sql.ParameterMetaData;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class PreparedStatementPlanCacheTest {
+    
+    @Test
+    public void assertGetWithHit() {
+        PreparedStatementPlanCache preparedStatementPlanCache = new PreparedStatementPlanCache(16);
+        PreparedStatementPlan expected = preparedStatementPlanCache.get("logic_schema", "SELECT 1", this::createPlan);
+        assertThat(preparedStatementPlanCache.get("logic_schema", "SELECT 1", this::createPlan), sameInstance(expected));
+        assertThat(preparedStatementPlanCache.getHitCount(), is(1L));
+        assertThat(preparedStatementPlanCache.getMissCount(), is(1L));
+    }
+    
+    @Test
+    public void assertGetWithAnotherSchema() {
+        PreparedStatementPlanCache preparedStatementPlanCache = new PreparedStatementPlanCache(16);
+        PreparedStatementPlan expected = preparedStatementPlanCache.get("logic_schema", "SELECT 1", this::createPlan);
+        assertThat(preparedStatementPlanCache.get("another_schema", "SELECT 1", this::createPlan), not(sameInstance(expected)));
+        assertThat(preparedStatementPlanCache.get("logic_schema", "SELECT 1", this::createPlan), sameInstance(expected));
+    }
+    
+    @Test
+    public void assertGetFromAnotherCache() {
+        PreparedStatementPlan expected = new PreparedStatementPlanCache(16).get("logic_schema", "SELECT 1", this::createPlan);
+        assertThat(new PreparedStatementPlanCache(16).get("logic_schema", "SELECT 1", this::createPlan), not(sameInstance(expected)));
+    }
+    
+    @Test
+    public void assertGetWithEviction() {
+        PreparedStatementPlanCache preparedStatementPlanCache = new PreparedStatementPlanCache(16);
+        for (int i = 0; i < 32; i++) {
+            preparedStatementPlanCache.get("logic_schema", "SELECT " + i, this::createPlan);
+        }
+        assertThat(preparedStatementPlanCache.getEvictionCount(), is(16L));
+    }
+    
+    @Test
+    public void assertGetWithCacheDisabled() {
+        PreparedStatementPlanCache preparedStatementPlanCache = new PreparedStatementPlanCache(0);
+        PreparedStatementPlan expected = preparedStatementPlanCache.get("logic_schema", "SELECT 1", this::createPlan);
+        assertThat(preparedStatementPlanCache.get("logic_schema", "SELECT 1", this::createPlan), not(sameInstance(expected)));
+    }
+    
+    @Test
+    public void assertInvalidateAll() {
+        PreparedStatementPlanCache preparedStatementPlanCache = new PreparedStatementPlanCache(16);
+        PreparedStatementPlan expected = preparedStatementPlanCache.get("logic_schema", "SELECT 1", this::createPlan);
+        preparedStatementPlanCache.invalidateAll();
+        assertThat(preparedStatementPlanCache.get("logic_schema", "SELECT 1", this::createPlan), not(sameInstance(expected)));
+    }
+    
+    @Test
+    public void assertGetWithInvalidatedWhileBuilding() {
+        PreparedStatementPlanCache preparedStatementPlanCache = new PreparedStatementPlanCache(16);
+        PreparedStatementPlan expected = preparedStatementPlanCache.get("logic_schema", "SELECT 1", () -> {
+            preparedStatementPlanCache.invalidateAll();
+            return createPlan();
+        });
+        assertThat(preparedStatementPlanCache.get("logic_schema", "SELECT 1", this::createPlan), not(sameInstance(expected)));
+    }
+    
+    private PreparedStatementPlan createPlan() {
+        return new PreparedStatementPlan(mock(SQLStatement.class), mock(ParameterMetaData.class), null, false);
+    }
+}
@@ -47,6 +47,10 @@ public final class ExecutorEngine implements AutoCloseable {
         executorServiceManager = new ExecutorServiceManager(executorSize);
     }
     
+    public ExecutorEngine(final int executorSize, final String executorType) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, ExecutorServiceManager.DEFAULT_NAME_FORMAT, executorType);
+    }
+    
     /**
      * Execute.
      *
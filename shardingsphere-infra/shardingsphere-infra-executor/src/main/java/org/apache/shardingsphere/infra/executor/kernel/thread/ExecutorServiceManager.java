@@ -20,10 +20,12 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import lombok.Getter;
+import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.spi.typed.TypedSPIRegistry;
 
+import java.util.Properties;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -32,10 +34,18 @@ import java.util.concurrent.TimeUnit;
 @Getter
 public final class ExecutorServiceManager {
     
-    private static final String DEFAULT_NAME_FORMAT = "%d";
+    public static final String DEFAULT_NAME_FORMAT = "%d";
+    
+    private static final String DEFAULT_EXECUTOR_TYPE = "FIXED";
     
     private static final ExecutorService SHUTDOWN_EXECUTOR = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("Executor-Engine-Closer"));
     
+    static {
+        ShardingSphereServiceLoader.register(ExecutorServiceBuilder.class);
+    }
+    
+    private final MonitorableExecutorService monitorableExecutorService;
+    
     private final ListeningExecutorService executorService;
     
     public ExecutorServiceManager(final int executorSize) {
@@ -43,13 +53,32 @@ public final class ExecutorServiceManager {
     }
     
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = MoreExecutors.listeningDecorator(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, DEFAULT_EXECUTOR_TYPE);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final String executorType) {
+        ExecutorServiceBuilder executorServiceBuilder = TypedSPIRegistry.getRegisteredService(ExecutorServiceBuilder.class, executorType, new Properties());
+        monitorableExecutorService = new MonitorableExecutorService(executorServiceBuilder.build(executorSize, nameFormat));
+        executorService = MoreExecutors.listeningDecorator(monitorableExecutorService);
         MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
     }
     
-    private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
-        ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(nameFormat);
-        return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
+    /**
+     * Get count of tasks which are waiting for execution.
+     *
+     * @return queued task count
+     */
+    public int getQueuedTaskCount() {
+        return monitorableExecutorService.getQueuedTaskCount();
+    }
+    
+    /**
+     * Get count of tasks which are executing.
+     *
+     * @return active task count
+     */
+    public int getActiveTaskCount() {
+        return monitorableExecutorService.getActiveTaskCount();
     }
     
     /**
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor service which counts queued and active tasks.
+ */
+@RequiredArgsConstructor
+public final class MonitorableExecutorService extends AbstractExecutorService {
+    
+    private final ExecutorService delegate;
+    
+    private final AtomicInteger queuedTaskCount = new AtomicInteger();
+    
+    private final AtomicInteger activeTaskCount = new AtomicInteger();
+    
+    /**
+     * Get count of tasks which are submitted but not started yet.
+     *
+     * @return queued task count
+     */
+    public int getQueuedTaskCount() {
+        return queuedTaskCount.get();
+    }
+    
+    /**
+     * Get count of tasks which are running.
+     *
+     * @return active task count
+     */
+    public int getActiveTaskCount() {
+        return activeTaskCount.get();
+    }
+    
+    @Override
+    public void execute(final Runnable command) {
+        queuedTaskCount.incrementAndGet();
+        boolean submitted = false;
+        try {
+            delegate.execute(() -> {
+                queuedTaskCount.decrementAndGet();
+                activeTaskCount.incrementAndGet();
+                try {
+                    command.run();
+                } finally {
+                    activeTaskCount.decrementAndGet();
+                }
+            });
+            submitted = true;
+        } finally {
+            if (!submitted) {
+                queuedTaskCount.decrementAndGet();
+            }
+        }
+    }
+    
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+    
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+    
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+    
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+    
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread.impl;
+
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceBuilder;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * Work stealing fork join executor service builder, use available processors as parallelism if executor size is 0.
+ */
+public final class ForkJoinExecutorServiceBuilder implements ExecutorServiceBuilder {
+    
+    private static final String NAME_FORMAT_PREFIX = "ShardingSphere-";
+    
+    @Override
+    public ExecutorService build(final int executorSize, final String nameFormat) {
+        int parallelism = 0 == executorSize ? Runtime.getRuntime().availableProcessors() : executorSize;
+        return new ForkJoinPool(parallelism, pool -> createWorkerThread(pool, nameFormat), null, true);
+    }
+    
+    private ForkJoinWorkerThread createWorkerThread(final ForkJoinPool pool, final String nameFormat) {
+        ForkJoinWorkerThread result = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        result.setName(String.format(NAME_FORMAT_PREFIX + nameFormat, result.getPoolIndex()));
+        result.setDaemon(true);
+        return result;
+    }
+    
+    @Override
+    public String getType() {
+        return "FORK_JOIN";
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceBuilder;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Virtual thread per task executor service builder.
+ * 
+ * <p>Virtual thread requires JDK 21 or later, fall back to cached thread pool on earlier runtime.</p>
+ */
+@Slf4j
+public final class VirtualThreadExecutorServiceBuilder implements ExecutorServiceBuilder {
+    
+    private static final String FACTORY_METHOD_NAME = "newVirtualThreadPerTaskExecutor";
+    
+    @Override
+    public ExecutorService build(final int executorSize, final String nameFormat) {
+        try {
+            return (ExecutorService) Executors.class.getMethod(FACTORY_METHOD_NAME).invoke(null);
+        } catch (final NoSuchMethodException | IllegalAccessException | InvocationTargetException ex) {
+            log.warn("Virtual thread is unsupported by current JVM, use cached thread pool instead.");
+            return Executors.newCachedThreadPool(ExecutorThreadFactoryBuilder.build(nameFormat));
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return "VIRTUAL_THREAD";
+    }
+}
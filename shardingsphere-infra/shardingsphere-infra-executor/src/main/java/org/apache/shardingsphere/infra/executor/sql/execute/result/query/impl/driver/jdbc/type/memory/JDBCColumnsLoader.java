@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.column.BooleanMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.column.DoubleMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.column.IntMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.column.LongMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.column.MemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.column.MemoryQueryResultStringDictionary;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.column.ObjectMemoryQueryResultColumn;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.column.StringMemoryQueryResultColumn;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC columns loader.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JDBCColumnsLoader {
+    
+    /**
+     * Load columns.
+     *
+     * @param metaData query result meta data of JDBC
+     * @param resultSet result set of JDBC
+     * @return query result columns
+     * @throws SQLException SQL exception
+     */
+    public static List<MemoryQueryResultColumn> load(final JDBCQueryResultMetaData metaData, final ResultSet resultSet) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        List<MemoryQueryResultColumn> result = new ArrayList<>(columnCount);
+        ColumnLoader[] columnLoaders = new ColumnLoader[columnCount];
+        MemoryQueryResultStringDictionary dictionary = new MemoryQueryResultStringDictionary();
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            columnLoaders[columnIndex - 1] = createColumnLoader(metaData, columnIndex, dictionary, result);
+        }
+        while (resultSet.next()) {
+            for (ColumnLoader each : columnLoaders) {
+                each.load(resultSet);
+            }
+        }
+        return result;
+    }
+    
+    private static ColumnLoader createColumnLoader(final JDBCQueryResultMetaData metaData, final int columnIndex,
+                                                   final MemoryQueryResultStringDictionary dictionary, final List<MemoryQueryResultColumn> columns) throws SQLException {
+        switch (metaData.getColumnType(columnIndex)) {
+            case Types.BOOLEAN:
+                return createBooleanColumnLoader(columnIndex, columns);
+            case Types.TINYINT:
+            case Types.SMALLINT:
+                return createIntColumnLoader(columnIndex, columns);
+            case Types.INTEGER:
+                return metaData.isSigned(columnIndex) ? createIntColumnLoader(columnIndex, columns) : createLongColumnLoader(columnIndex, columns);
+            case Types.BIGINT:
+                if (metaData.isSigned(columnIndex)) {
+                    return createLongColumnLoader(columnIndex, columns);
+                }
+                return createObjectColumnLoader(columns, resultSet -> {
+                    BigDecimal bigDecimal = resultSet.getBigDecimal(columnIndex);
+                    return null == bigDecimal ? null : bigDecimal.toBigInteger();
+                });
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return createObjectColumnLoader(columns, resultSet -> resultSet.getBigDecimal(columnIndex));
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return createDoubleColumnLoader(columnIndex, columns);
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+                return createStringColumnLoader(columnIndex, dictionary, columns);
+            case Types.DATE:
+                return createObjectColumnLoader(columns, resultSet -> resultSet.getDate(columnIndex));
+            case Types.TIME:
+                return createObjectColumnLoader(columns, resultSet -> resultSet.getTime(columnIndex));
+            case Types.TIMESTAMP:
+                return createObjectColumnLoader(columns, resultSet -> resultSet.getTimestamp(columnIndex));
+            case Types.CLOB:
+                return createObjectColumnLoader(columns, resultSet -> resultSet.getClob(columnIndex));
+            case Types.BLOB:
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+                return createObjectColumnLoader(columns, resultSet -> resultSet.getBlob(columnIndex));
+            case Types.ARRAY:
+                return createObjectColumnLoader(columns, resultSet -> resultSet.getArray(columnIndex));
+            default:
+                return createObjectColumnLoader(columns, resultSet -> resultSet.getObject(columnIndex));
+        }
+    }
+    
+    private static ColumnLoader createBooleanColumnLoader(final int columnIndex, final List<MemoryQueryResultColumn> columns) {
+        BooleanMemoryQueryResultColumn column = new BooleanMemoryQueryResultColumn();
+        columns.add(column);
+        return resultSet -> {
+            boolean value = resultSet.getBoolean(columnIndex);
+            if (resultSet.wasNull()) {
+                column.addNull();
+            } else {
+                column.add(value);
+            }
+        };
+    }
+    
+    private static ColumnLoader createIntColumnLoader(final int columnIndex, final List<MemoryQueryResultColumn> columns) {
+        IntMemoryQueryResultColumn column = new IntMemoryQueryResultColumn();
+        columns.add(column);
+        return resultSet -> {
+            int value = resultSet.getInt(columnIndex);
+            if (resultSet.wasNull()) {
+                column.addNull();
+            } else {
+                column.add(value);
+            }
+        };
+    }
+    
+    private static ColumnLoader createLongColumnLoader(final int columnIndex, final List<MemoryQueryResultColumn> columns) {
+        LongMemoryQueryResultColumn column = new LongMemoryQueryResultColumn();
+        columns.add(column);
+        return resultSet -> {
+            long value = resultSet.getLong(columnIndex);
+            if (resultSet.wasNull()) {
+                column.addNull();
+            } else {
+                column.add(value);
+            }
+        };
+    }
+    
+    private static ColumnLoader createDoubleColumnLoader(final int columnIndex, final List<MemoryQueryResultColumn> columns) {
+        DoubleMemoryQueryResultColumn column = new DoubleMemoryQueryResultColumn();
+        columns.add(column);
+        return resultSet -> {
+            double value = resultSet.getDouble(columnIndex);
+            if (resultSet.wasNull()) {
+                column.addNull();
+            } else {
+                column.add(value);
+            }
+        };
+    }
+    
+    private static ColumnLoader createStringColumnLoader(final int columnIndex, final MemoryQueryResultStringDictionary dictionary, final List<MemoryQueryResultColumn> columns) {
+        StringMemoryQueryResultColumn column = new StringMemoryQueryResultColumn(dictionary);
+        columns.add(column);
+        return resultSet -> {
+            String value = resultSet.getString(columnIndex);
+            column.add(resultSet.wasNull() ? null : value);
+        };
+    }
+    
+    private static ColumnLoader createObjectColumnLoader(final List<MemoryQueryResultColumn> columns, final ValueLoader valueLoader) {
+        ObjectMemoryQueryResultColumn column = new ObjectMemoryQueryResultColumn();
+        columns.add(column);
+        return resultSet -> {
+            Object value = valueLoader.load(resultSet);
+            column.add(resultSet.wasNull() ? null : value);
+        };
+    }
+    
+    private interface ColumnLoader {
+        
+        void load(ResultSet resultSet) throws SQLException;
+    }
+    
+    private interface ValueLoader {
+        
+        Object load(ResultSet resultSet) throws SQLException;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.column.MemoryQueryResultColumn;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.util.Calendar;
+import java.util.List;
+
+/**
+ * Abstract columnar memory query result.
+ */
+public abstract class AbstractColumnarMemoryQueryResult implements QueryResult {
+    
+    @Getter
+    private final QueryResultMetaData metaData;
+    
+    private final MemoryQueryResultColumn[] columns;
+    
+    private final int rowCount;
+    
+    private int currentRowIndex = -1;
+    
+    protected AbstractColumnarMemoryQueryResult(final QueryResultMetaData metaData, final List<MemoryQueryResultColumn> columns) {
+        this.metaData = metaData;
+        this.columns = columns.toArray(new MemoryQueryResultColumn[0]);
+        rowCount = columns.isEmpty() ? 0 : columns.get(0).size();
+    }
+    
+    @Override
+    public final boolean next() {
+        if (currentRowIndex + 1 < rowCount) {
+            currentRowIndex++;
+            return true;
+        }
+        currentRowIndex = rowCount;
+        return false;
+    }
+    
+    @Override
+    public final Object getValue(final int columnIndex, final Class<?> type) {
+        return columns[columnIndex - 1].getValue(currentRowIndex);
+    }
+    
+    @Override
+    public final Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return columns[columnIndex - 1].getValue(currentRowIndex);
+    }
+    
+    @Override
+    public final InputStream getInputStream(final int columnIndex, final String type) {
+        return getInputStream(columns[columnIndex - 1].getValue(currentRowIndex));
+    }
+    
+    @SneakyThrows(IOException.class)
+    private InputStream getInputStream(final Object value) {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+        objectOutputStream.writeObject(value);
+        objectOutputStream.flush();
+        objectOutputStream.close();
+        return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+    }
+    
+    @Override
+    public final boolean wasNull() {
+        return currentRowIndex < 0 || currentRowIndex >= rowCount;
+    }
+    
+    @Override
+    public final void close() {
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.column;
+
+import java.util.BitSet;
+
+/**
+ * Abstract primitive column of columnar memory query result.
+ */
+public abstract class AbstractPrimitiveMemoryQueryResultColumn implements MemoryQueryResultColumn {
+    
+    protected static final int DEFAULT_CAPACITY = 16;
+    
+    private final BitSet nulls = new BitSet();
+    
+    private int size;
+    
+    @Override
+    public final void addNull() {
+        ensureCapacity(size + 1);
+        nulls.set(size);
+        size++;
+    }
+    
+    protected final int nextIndex() {
+        ensureCapacity(size + 1);
+        return size++;
+    }
+    
+    protected final int newCapacity(final int capacity, final int minCapacity) {
+        return Math.max(capacity + (capacity >> 1), minCapacity);
+    }
+    
+    @Override
+    public final int size() {
+        return size;
+    }
+    
+    @Override
+    public final Object getValue(final int rowIndex) {
+        return nulls.get(rowIndex) ? null : getNotNullValue(rowIndex);
+    }
+    
+    protected abstract void ensureCapacity(int minCapacity);
+    
+    protected abstract Object getNotNullValue(int rowIndex);
+}
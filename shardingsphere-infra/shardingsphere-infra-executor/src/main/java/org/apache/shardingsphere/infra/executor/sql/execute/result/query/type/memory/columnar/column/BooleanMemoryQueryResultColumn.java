@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.column;
+
+import java.util.Arrays;
+
+/**
+ * Boolean column of columnar memory query result.
+ */
+public final class BooleanMemoryQueryResultColumn extends AbstractPrimitiveMemoryQueryResultColumn {
+    
+    private boolean[] values = new boolean[DEFAULT_CAPACITY];
+    
+    /**
+     * Append value.
+     *
+     * @param value value
+     */
+    public void add(final boolean value) {
+        int index = nextIndex();
+        values[index] = value;
+    }
+    
+    @Override
+    protected void ensureCapacity(final int minCapacity) {
+        if (minCapacity > values.length) {
+            values = Arrays.copyOf(values, newCapacity(values.length, minCapacity));
+        }
+    }
+    
+    @Override
+    protected Object getNotNullValue(final int rowIndex) {
+        return values[rowIndex];
+    }
+}
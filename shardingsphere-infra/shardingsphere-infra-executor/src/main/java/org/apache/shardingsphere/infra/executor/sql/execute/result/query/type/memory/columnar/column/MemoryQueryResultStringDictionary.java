@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.column;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * String dictionary shared by string columns of columnar memory query result.
+ */
+public final class MemoryQueryResultStringDictionary {
+    
+    private final Map<String, Integer> ids = new HashMap<>();
+    
+    private final List<String> values = new ArrayList<>();
+    
+    /**
+     * Get id of value, register value if absent.
+     *
+     * @param value value
+     * @return id of value
+     */
+    public int getId(final String value) {
+        Integer result = ids.get(value);
+        if (null != result) {
+            return result;
+        }
+        result = values.size();
+        ids.put(value, result);
+        values.add(value);
+        return result;
+    }
+    
+    /**
+     * Get value by id.
+     *
+     * @param id id of value
+     * @return value
+     */
+    public String getValue(final int id) {
+        return values.get(id);
+    }
+    
+    /**
+     * Get count of distinct values.
+     *
+     * @return count of distinct values
+     */
+    public int size() {
+        return values.size();
+    }
+}
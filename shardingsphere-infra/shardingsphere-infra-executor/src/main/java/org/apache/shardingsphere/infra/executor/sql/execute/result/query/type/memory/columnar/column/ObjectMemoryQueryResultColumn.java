@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.column;
+
+import java.util.Arrays;
+
+/**
+ * Object column of columnar memory query result.
+ */
+public final class ObjectMemoryQueryResultColumn implements MemoryQueryResultColumn {
+    
+    private static final int DEFAULT_CAPACITY = 16;
+    
+    private Object[] values = new Object[DEFAULT_CAPACITY];
+    
+    private int size;
+    
+    /**
+     * Append value.
+     *
+     * @param value value, nullable
+     */
+    public void add(final Object value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, values.length + (values.length >> 1));
+        }
+        values[size++] = value;
+    }
+    
+    @Override
+    public void addNull() {
+        add(null);
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    @Override
+    public Object getValue(final int rowIndex) {
+        return values[rowIndex];
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.columnar.column;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * String column of columnar memory query result, values are stored as ids of shared dictionary.
+ */
+@RequiredArgsConstructor
+public final class StringMemoryQueryResultColumn implements MemoryQueryResultColumn {
+    
+    private static final int DEFAULT_CAPACITY = 16;
+    
+    private static final int NULL_ID = -1;
+    
+    private final MemoryQueryResultStringDictionary dictionary;
+    
+    private int[] ids = new int[DEFAULT_CAPACITY];
+    
+    private int size;
+    
+    /**
+     * Append value.
+     *
+     * @param value value, nullable
+     */
+    public void add(final String value) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length + (ids.length >> 1));
+        }
+        ids[size++] = null == value ? NULL_ID : dictionary.getId(value);
+    }
+    
+    @Override
+    public void addNull() {
+        add(null);
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    @Override
+    public Object getValue(final int rowIndex) {
+        int id = ids[rowIndex];
+        return NULL_ID == id ? null : dictionary.getValue(id);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import org.apache.shardingsphere.spi.exception.ServiceProviderNotFoundException;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ExecutorServiceManagerTest {
+    
+    @Test
+    public void assertExecuteWithFixedExecutor() throws ExecutionException, InterruptedException {
+        assertExecute(new ExecutorServiceManager(2, "test-%d", "FIXED"));
+    }
+    
+    @Test
+    public void assertExecuteWithForkJoinExecutor() throws ExecutionException, InterruptedException {
+        assertExecute(new ExecutorServiceManager(2, "test-%d", "FORK_JOIN"));
+    }
+    
+    @Test
+    public void assertExecuteWithVirtualThreadExecutor() throws ExecutionException, InterruptedException {
+        assertExecute(new ExecutorServiceManager(2, "test-%d", "VIRTUAL_THREAD"));
+    }
+    
+    @Test
+    public void assertGetQueuedTaskCount() throws InterruptedException {
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(1, "test-%d", "FIXED");
+        CountDownLatch startedLatch = new CountDownLatch(1);
+        CountDownLatch finishLatch = new CountDownLatch(1);
+        executorServiceManager.getExecutorService().submit(() -> {
+            startedLatch.countDown();
+            finishLatch.await();
+            return 1;
+        });
+        executorServiceManager.getExecutorService().submit(() -> 2);
+        startedLatch.await();
+        assertThat(executorServiceManager.getActiveTaskCount(), is(1));
+        assertThat(executorServiceManager.getQueuedTaskCount(), is(1));
+        finishLatch.countDown();
+        executorServiceManager.close();
+    }
+    
+    @Test(expected = ServiceProviderNotFoundException.class)
+    public void assertCreateWithInvalidExecutorType() {
+        new ExecutorServiceManager(2, "test-%d", "INVALID");
+    }
+    
+    private void assertExecute(final ExecutorServiceManager executorServiceManager) throws ExecutionException, InterruptedException {
+        CountDownLatch startedLatch = new CountDownLatch(1);
+        CountDownLatch finishLatch = new CountDownLatch(1);
+        final Future<Integer> future = executorServiceManager.getExecutorService().submit(() -> {
+            startedLatch.countDown();
+            finishLatch.await();
+            return 1;
+        });
+        startedLatch.await();
+        assertThat(executorServiceManager.getActiveTaskCount(), is(1));
+        assertThat(executorServiceManager.getQueuedTaskCount(), is(0));
+        finishLatch.countDown();
+        assertThat(future.get(), is(1));
+        executorServiceManager.close();
+    }
+}
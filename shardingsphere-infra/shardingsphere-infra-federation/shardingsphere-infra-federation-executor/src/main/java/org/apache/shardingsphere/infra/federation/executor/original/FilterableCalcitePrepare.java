@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original;
+
+import org.apache.calcite.jdbc.CalciteSchema;
+import org.apache.calcite.prepare.CalcitePrepareImpl;
+import org.apache.calcite.runtime.Hook;
+import org.apache.calcite.tools.Program;
+import org.apache.calcite.tools.Programs;
+import org.apache.calcite.util.Holder;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.federation.optimizer.context.planner.FederationPlanCacheKey;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite.FederationRelMetadataProvider;
+
+import java.lang.reflect.Type;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Filterable calcite prepare, which plans with federation relational meta data provider and caches prepared plans of SQL by federation plan cache of filterable schema.
+ */
+public final class FilterableCalcitePrepare extends CalcitePrepareImpl {
+    
+    private static final Program PROGRAM = Programs.standard(FederationRelMetadataProvider.INSTANCE);
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> CalciteSignature<T> prepareSql(final Context context, final Query<T> query, final Type elementType, final long maxRowCount) {
+        Optional<FilterableSchema> schema = findFilterableSchema(context);
+        if (null == query.sql || !schema.isPresent() || schema.get().getExecutor().getProps().<Integer>getValue(ConfigurationPropertyKey.SQL_FEDERATION_PLAN_CACHE_SIZE) <= 0) {
+            return prepare(context, query, elementType, maxRowCount);
+        }
+        FederationPlanCacheKey key = new FederationPlanCacheKey(query.sql, schema.get().getVersion(), maxRowCount);
+        Optional<CalciteSignature<?>> cachedPlan = schema.get().getPlanCache().get(key);
+        if (cachedPlan.isPresent()) {
+            return rebind((CalciteSignature<T>) cachedPlan.get(), context.getRootSchema());
+        }
+        CalciteSignature<T> result = prepare(context, query, elementType, maxRowCount);
+        schema.get().getPlanCache().put(key, result);
+        return result;
+    }
+    
+    private <T> CalciteSignature<T> prepare(final Context context, final Query<T> query, final Type elementType, final long maxRowCount) {
+        try (Hook.Closeable ignored = Hook.PROGRAM.addThread((Consumer<Holder<Program>>) holder -> holder.set(PROGRAM))) {
+            return super.prepareSql(context, query, elementType, maxRowCount);
+        }
+    }
+    
+    private Optional<FilterableSchema> findFilterableSchema(final Context context) {
+        if (context.getDefaultSchemaPath().isEmpty()) {
+            return Optional.empty();
+        }
+        CalciteSchema schema = context.getRootSchema().getSubSchema(context.getDefaultSchemaPath().get(0), true);
+        return null != schema && schema.schema instanceof FilterableSchema ? Optional.of((FilterableSchema) schema.schema) : Optional.empty();
+    }
+    
+    private <T> CalciteSignature<T> rebind(final CalciteSignature<T> plan, final CalciteSchema rootSchema) {
+        return new CalciteSignature<>(plan.sql, plan.parameters, plan.internalParameters, plan.rowType, plan.columns, plan.cursorFactory, rootSchema,
+                plan.getCollationList(), -1L, plan::enumerable, plan.statementType);
+    }
+}
@@ -23,8 +23,10 @@ import org.apache.calcite.schema.impl.AbstractSchema;
 import org.apache.commons.collections4.map.LinkedMap;
 import org.apache.shardingsphere.infra.federation.executor.original.table.FilterableTable;
 import org.apache.shardingsphere.infra.federation.executor.original.table.FilterableTableScanExecutor;
+import org.apache.shardingsphere.infra.federation.optimizer.context.planner.FederationPlanCache;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite.FederationTableStatistic;
 
 import java.util.Map;
 
@@ -36,17 +38,26 @@ public final class FilterableSchema extends AbstractSchema {
     
     private final String name;
     
+    private final long version;
+    
     private final Map<String, Table> tableMap;
     
-    public FilterableSchema(final FederationSchemaMetaData schemaMetaData, final FilterableTableScanExecutor executor) {
+    private final FilterableTableScanExecutor executor;
+    
+    private final FederationPlanCache planCache;
+    
+    public FilterableSchema(final FederationSchemaMetaData schemaMetaData, final FilterableTableScanExecutor executor, final boolean pushDownEnabled, final FederationPlanCache planCache) {
         name = schemaMetaData.getName();
-        tableMap = createTableMap(schemaMetaData, executor);
+        version = schemaMetaData.getVersion();
+        tableMap = createTableMap(schemaMetaData, executor, pushDownEnabled);
+        this.executor = executor;
+        this.planCache = planCache;
     }
     
-    private Map<String, Table> createTableMap(final FederationSchemaMetaData schemaMetaData, final FilterableTableScanExecutor executor) {
+    private Map<String, Table> createTableMap(final FederationSchemaMetaData schemaMetaData, final FilterableTableScanExecutor executor, final boolean pushDownEnabled) {
         Map<String, Table> result = new LinkedMap<>(schemaMetaData.getTables().size(), 1);
         for (FederationTableMetaData each : schemaMetaData.getTables().values()) {
-            result.put(each.getName(), new FilterableTable(each, executor, new FederationTableStatistic()));
+            result.put(each.getName(), new FilterableTable(each, executor, new FederationTableStatistic(schemaMetaData, each), pushDownEnabled));
         }
         return result;
     }
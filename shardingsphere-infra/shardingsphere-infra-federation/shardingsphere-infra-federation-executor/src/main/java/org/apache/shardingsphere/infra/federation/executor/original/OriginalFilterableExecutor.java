@@ -19,8 +19,10 @@ package org.apache.shardingsphere.infra.federation.executor.original;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.calcite.jdbc.CalciteConnection;
+import org.apache.calcite.jdbc.Driver;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
@@ -30,17 +32,19 @@ import org.apache.shardingsphere.infra.federation.executor.FederationExecutor;
 import org.apache.shardingsphere.infra.federation.executor.original.table.FilterableTableScanExecutor;
 import org.apache.shardingsphere.infra.federation.executor.original.table.FilterableTableScanExecutorContext;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Original filterable executor.
@@ -50,7 +54,7 @@ public final class OriginalFilterableExecutor implements FederationExecutor {
     
     public static final String CONNECTION_URL = "jdbc:calcite:";
     
-    public static final String DRIVER_NAME = "org.apache.calcite.jdbc.Driver";
+    private static final Driver DRIVER = new FilterableDriver();
     
     private final String schemaName;
     
@@ -62,26 +66,28 @@ public final class OriginalFilterableExecutor implements FederationExecutor {
     
     private Statement statement;
     
-    static {
-        try {
-            Class.forName(DRIVER_NAME);
-        } catch (final ClassNotFoundException ex) {
-            throw new RuntimeException(ex);
-        }
-    }
-    
     @Override
     public ResultSet executeQuery(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine, final JDBCExecutorCallback<? extends ExecuteResult> callback, 
                                   final LogicSQL logicSQL, final Map<String, ShardingSphereMetaData> metaDataMap) throws SQLException {
+        loadLazyTables(logicSQL, metaDataMap.get(schemaName).getSchema());
         PreparedStatement preparedStatement = createConnection(prepareEngine, callback, logicSQL.getParameters(), metaDataMap).prepareStatement(SQLUtil.trimSemicolon(logicSQL.getSql()));
         setParameters(preparedStatement, logicSQL.getParameters());
         this.statement = preparedStatement;
         return preparedStatement.executeQuery();
     }
     
+    private void loadLazyTables(final LogicSQL logicSQL, final ShardingSphereSchema schema) {
+        FederationSchemaMetaData federationSchemaMetaData = optimizerContext.getFederationMetaData().getSchemas().get(schemaName);
+        for (String each : logicSQL.getSqlStatementContext().getTablesContext().getTableNames()) {
+            if (!federationSchemaMetaData.getTables().containsKey(each.toLowerCase()) && schema.containsTable(each)) {
+                Optional.ofNullable(schema.get(each)).ifPresent(federationSchemaMetaData::put);
+            }
+        }
+    }
+    
     private Connection createConnection(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine, final JDBCExecutorCallback<? extends ExecuteResult> callback, 
                                         final List<Object> parameters, final Map<String, ShardingSphereMetaData> metaDataMap) throws SQLException {
-        Connection result = DriverManager.getConnection(CONNECTION_URL, optimizerContext.getParserContexts().get(schemaName).getDialectProps());
+        Connection result = DRIVER.connect(CONNECTION_URL, optimizerContext.getParserContexts().get(schemaName).getDialectProps());
         addSchema(result.unwrap(CalciteConnection.class), prepareEngine, callback, parameters, metaDataMap);
         return result;
     }
@@ -90,7 +96,9 @@ public final class OriginalFilterableExecutor implements FederationExecutor {
                            final JDBCExecutorCallback<? extends ExecuteResult> callback, final List<Object> parameters, final Map<String, ShardingSphereMetaData> metaDataMap) throws SQLException {
         FilterableTableScanExecutorContext executorContext = new FilterableTableScanExecutorContext(schemaName, parameters, props, metaDataMap);
         FilterableTableScanExecutor executor = new FilterableTableScanExecutor(prepareEngine, jdbcExecutor, callback, optimizerContext, executorContext);
-        FilterableSchema schema = new FilterableSchema(optimizerContext.getFederationMetaData().getSchemas().get(schemaName), executor);
+        boolean pushDownEnabled = props.<Boolean>getValue(ConfigurationPropertyKey.SQL_FEDERATION_PUSH_DOWN_ENABLED);
+        FilterableSchema schema = new FilterableSchema(optimizerContext.getFederationMetaData().getSchemas().get(schemaName), executor, pushDownEnabled,
+                optimizerContext.getPlannerContexts().get(schemaName).getPlanCache());
         connection.getRootSchema().add(schemaName, schema);
         connection.setSchema(schemaName);
     }
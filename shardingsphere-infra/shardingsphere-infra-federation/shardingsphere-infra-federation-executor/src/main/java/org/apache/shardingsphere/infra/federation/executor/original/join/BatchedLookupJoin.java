@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.join;
+
+import lombok.Getter;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.adapter.enumerable.JavaRowFormat;
+import org.apache.calcite.adapter.enumerable.PhysType;
+import org.apache.calcite.adapter.enumerable.PhysTypeImpl;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.tree.BlockBuilder;
+import org.apache.calcite.linq4j.tree.Expression;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptCost;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.SingleRel;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.validate.SqlValidatorUtil;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.shardingsphere.infra.federation.executor.original.table.FilterableTableScan;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Batched lookup join, which looks up join keys of rows of left input from actual tables of filterable table scan batch by batch.
+ *
+ * <p>Instead of scanning all actual tables of right table, each batch is executed by SQL with {@code IN} predicate of join keys,
+ * which is routed to actual tables containing the keys only.</p>
+ */
+@Getter
+public final class BatchedLookupJoin extends SingleRel implements EnumerableRel {
+    
+    private static final double LOOKUP_BATCH_COST = 100D;
+    
+    private final FilterableTableScan lookupScan;
+    
+    private final RexNode condition;
+    
+    private final JoinRelType joinType;
+    
+    private final ImmutableIntList leftKeys;
+    
+    private final ImmutableIntList rightKeys;
+    
+    private final String lookupColumnName;
+    
+    private final int batchSize;
+    
+    public BatchedLookupJoin(final RelOptCluster cluster, final RelTraitSet traitSet, final RelNode input, final FilterableTableScan lookupScan, final RexNode condition,
+                             final JoinRelType joinType, final ImmutableIntList leftKeys, final ImmutableIntList rightKeys, final String lookupColumnName, final int batchSize) {
+        super(cluster, traitSet, input);
+        this.lookupScan = lookupScan;
+        this.condition = condition;
+        this.joinType = joinType;
+        this.leftKeys = leftKeys;
+        this.rightKeys = rightKeys;
+        this.lookupColumnName = lookupColumnName;
+        this.batchSize = batchSize;
+    }
+    
+    @Override
+    public RelNode copy(final RelTraitSet traitSet, final List<RelNode> inputs) {
+        return new BatchedLookupJoin(getCluster(), traitSet, sole(inputs), lookupScan, condition, joinType, leftKeys, rightKeys, lookupColumnName, batchSize);
+    }
+    
+    @Override
+    protected RelDataType deriveRowType() {
+        return SqlValidatorUtil.deriveJoinRowType(input.getRowType(), lookupScan.getRowType(), joinType, getCluster().getTypeFactory(), null, Collections.emptyList());
+    }
+    
+    @Override
+    public double estimateRowCount(final RelMetadataQuery mq) {
+        double leftRowCount = mq.getRowCount(input);
+        double rightRowCount = mq.getRowCount(lookupScan.getPushDownRelNode());
+        Double rightDistinctRowCount = mq.getDistinctRowCount(lookupScan.getPushDownRelNode(), ImmutableBitSet.of(rightKeys), null);
+        double result = null == rightDistinctRowCount || rightDistinctRowCount <= 0D
+                ? leftRowCount * rightRowCount * RelMdUtil.guessSelectivity(condition) : leftRowCount * rightRowCount / rightDistinctRowCount;
+        return JoinRelType.LEFT == joinType ? Math.max(result, leftRowCount) : result;
+    }
+    
+    @Override
+    public RelOptCost computeSelfCost(final RelOptPlanner planner, final RelMetadataQuery mq) {
+        double rowCount = estimateRowCount(mq);
+        double leftRowCount = mq.getRowCount(input);
+        double lookupRowCount = Math.min(rowCount, mq.getRowCount(lookupScan.getPushDownRelNode()));
+        double batchCount = Math.ceil(leftRowCount / batchSize);
+        double cost = rowCount + leftRowCount + lookupRowCount + batchCount * LOOKUP_BATCH_COST;
+        return planner.getCostFactory().makeCost(cost, cost, 0);
+    }
+    
+    @Override
+    public RelWriter explainTerms(final RelWriter pw) {
+        return super.explainTerms(pw).item("lookup", lookupScan.getTable().getQualifiedName()).item("pushDown", RelOptUtil.toString(lookupScan.getPushDownRelNode()))
+                .item("condition", condition).item("joinType", joinType.lowerName).item("lookupColumn", lookupColumnName).item("batchSize", batchSize);
+    }
+    
+    @Override
+    public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
+        BlockBuilder builder = new BlockBuilder();
+        Result inputResult = implementor.visitChild(this, 0, (EnumerableRel) input, Prefer.ARRAY);
+        Expression inputExpression = inputResult.physType.convertTo(builder.append("input", inputResult.block), JavaRowFormat.ARRAY);
+        Expression join = implementor.stash(this, BatchedLookupJoin.class);
+        builder.add(Expressions.return_(null, Expressions.call(join, "bind", implementor.getRootExpression(), inputExpression)));
+        PhysType physType = PhysTypeImpl.of(implementor.getTypeFactory(), getRowType(), JavaRowFormat.ARRAY, false);
+        return implementor.result(physType, builder.toBlock());
+    }
+    
+    /**
+     * Bind rows of left input and look up joined rows.
+     *
+     * @param root data context
+     * @param leftRows rows of left input
+     * @return joined rows
+     */
+    public Enumerable<Object[]> bind(final DataContext root, final Enumerable<Object[]> leftRows) {
+        int rightColumnCount = lookupScan.getRowType().getFieldCount();
+        return new AbstractEnumerable<Object[]>() {
+            
+            @Override
+            public Enumerator<Object[]> enumerator() {
+                return new BatchedLookupJoinEnumerator(leftRows.enumerator(), values -> lookupScan.lookup(root, lookupColumnName, values),
+                        leftKeys.toIntArray(), rightKeys.toIntArray(), JoinRelType.LEFT == joinType, rightColumnCount, batchSize);
+            }
+        };
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.join;
+
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Batched lookup join enumerator.
+ * 
+ * <p>Rows of left input are read in batches, distinct values of first join key of each batch are looked up from right table at once,
+ * looked up rows are joined with rows of the batch by hash of all join keys.</p>
+ */
+public final class BatchedLookupJoinEnumerator implements Enumerator<Object[]> {
+    
+    private final Enumerator<Object[]> leftEnumerator;
+    
+    private final Function<List<Object>, Enumerable<Object[]>> lookup;
+    
+    private final int[] leftKeys;
+    
+    private final int[] rightKeys;
+    
+    private final boolean leftOuter;
+    
+    private final int rightColumnCount;
+    
+    private final int batchSize;
+    
+    private final List<Object[]> batchRows = new ArrayList<>();
+    
+    private final Map<Object, List<Object[]>> lookedUpRows = new HashMap<>();
+    
+    private Iterator<Object[]> batchIterator = Collections.emptyIterator();
+    
+    private Object[] leftRow;
+    
+    private List<Object[]> matchedRows;
+    
+    private int matchedIndex;
+    
+    private Object[] current;
+    
+    public BatchedLookupJoinEnumerator(final Enumerator<Object[]> leftEnumerator, final Function<List<Object>, Enumerable<Object[]>> lookup,
+                                       final int[] leftKeys, final int[] rightKeys, final boolean leftOuter, final int rightColumnCount, final int batchSize) {
+        this.leftEnumerator = leftEnumerator;
+        this.lookup = lookup;
+        this.leftKeys = leftKeys;
+        this.rightKeys = rightKeys;
+        this.leftOuter = leftOuter;
+        this.rightColumnCount = rightColumnCount;
+        this.batchSize = batchSize;
+    }
+    
+    @Override
+    public Object[] current() {
+        return current;
+    }
+    
+    @Override
+    public boolean moveNext() {
+        if (null != matchedRows && matchedIndex < matchedRows.size()) {
+            current = JoinKeyUtil.join(leftRow, matchedRows.get(matchedIndex++), rightColumnCount);
+            return true;
+        }
+        while (nextLeftRow()) {
+            Object key = JoinKeyUtil.createKey(leftRow, leftKeys);
+            matchedRows = null == key ? null : lookedUpRows.get(key);
+            if (null != matchedRows) {
+                matchedIndex = 1;
+                current = JoinKeyUtil.join(leftRow, matchedRows.get(0), rightColumnCount);
+                return true;
+            }
+            if (leftOuter) {
+                current = JoinKeyUtil.join(leftRow, null, rightColumnCount);
+                return true;
+            }
+        }
+        current = null;
+        return false;
+    }
+    
+    private boolean nextLeftRow() {
+        if (!batchIterator.hasNext() && !loadNextBatch()) {
+            leftRow = null;
+            return false;
+        }
+        leftRow = batchIterator.next();
+        return true;
+    }
+    
+    private boolean loadNextBatch() {
+        batchRows.clear();
+        lookedUpRows.clear();
+        Collection<Object> lookupValues = new LinkedHashSet<>();
+        while (batchRows.size() < batchSize && leftEnumerator.moveNext()) {
+            Object[] row = leftEnumerator.current();
+            batchRows.add(row);
+            if (null != row[leftKeys[0]]) {
+                lookupValues.add(row[leftKeys[0]]);
+            }
+        }
+        if (!lookupValues.isEmpty()) {
+            lookUp(new ArrayList<>(lookupValues));
+        }
+        batchIterator = batchRows.iterator();
+        return !batchRows.isEmpty();
+    }
+    
+    private void lookUp(final List<Object> lookupValues) {
+        try (Enumerator<Object[]> enumerator = lookup.apply(lookupValues).enumerator()) {
+            while (enumerator.moveNext()) {
+                Object[] row = enumerator.current();
+                Object key = JoinKeyUtil.createKey(row, rightKeys);
+                if (null != key) {
+                    lookedUpRows.computeIfAbsent(key, unused -> new ArrayList<>(1)).add(row);
+                }
+            }
+        }
+    }
+    
+    @Override
+    public void reset() {
+        throw new UnsupportedOperationException("Batched lookup join can not be reset.");
+    }
+    
+    @Override
+    public void close() {
+        leftEnumerator.close();
+        batchRows.clear();
+        lookedUpRows.clear();
+    }
+}
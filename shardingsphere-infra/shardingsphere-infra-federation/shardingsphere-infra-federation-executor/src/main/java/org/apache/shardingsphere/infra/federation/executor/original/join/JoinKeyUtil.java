@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.join;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Join key utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JoinKeyUtil {
+    
+    /**
+     * Create join key of row.
+     *
+     * @param row row
+     * @param keys indexes of key columns
+     * @return join key, null if any value of key columns is null, which never matches
+     */
+    public static Object createKey(final Object[] row, final int[] keys) {
+        if (1 == keys.length) {
+            return normalize(row[keys[0]]);
+        }
+        List<Object> result = new ArrayList<>(keys.length);
+        for (int each : keys) {
+            Object value = normalize(row[each]);
+            if (null == value) {
+                return null;
+            }
+            result.add(value);
+        }
+        return result;
+    }
+    
+    private static Object normalize(final Object value) {
+        return value instanceof BigDecimal ? ((BigDecimal) value).stripTrailingZeros() : value;
+    }
+    
+    /**
+     * Join rows.
+     *
+     * @param leftRow left row
+     * @param rightRow right row, null means no right row matched
+     * @param rightColumnCount column count of right row
+     * @return joined row
+     */
+    public static Object[] join(final Object[] leftRow, final Object[] rightRow, final int rightColumnCount) {
+        Object[] result = new Object[leftRow.length + rightColumnCount];
+        System.arraycopy(leftRow, 0, result, 0, leftRow.length);
+        if (null != rightRow) {
+            System.arraycopy(rightRow, 0, result, leftRow.length, rightColumnCount);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.join;
+
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpillFileUtil;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpillValueCodec;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * Temporary file of join rows spilled from memory, rows are written at first and then read in the same order.
+ *
+ * <p>File is deleted when closed, so owner must close it even if join is not completed.</p>
+ */
+public final class JoinRowsSpillFile implements Closeable {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final File file;
+    
+    private DataOutputStream output;
+    
+    private DataInputStream input;
+    
+    private boolean exhausted;
+    
+    public JoinRowsSpillFile(final String spillDirectory) {
+        file = SpillFileUtil.createSpillFile(spillDirectory, "shardingsphere-join-");
+        try {
+            output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE));
+        } catch (final IOException ex) {
+            file.delete();
+            throw new ShardingSphereException("Can not create spill file.", ex);
+        }
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row to be written
+     */
+    public void write(final Object[] row) {
+        try {
+            output.writeInt(row.length);
+            for (Object each : row) {
+                SpillValueCodec.write(output, each);
+            }
+        } catch (final IOException ex) {
+            throw new ShardingSphereException("Can not spill join rows.", ex);
+        }
+    }
+    
+    /**
+     * Read next row, file is switched to read mode at first read.
+     *
+     * @return next row, null if no more rows
+     */
+    public Object[] read() {
+        if (exhausted) {
+            return null;
+        }
+        try {
+            if (null == input) {
+                output.writeInt(-1);
+                output.close();
+                input = new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE));
+            }
+            int columnCount = input.readInt();
+            if (columnCount < 0) {
+                exhausted = true;
+                return null;
+            }
+            Object[] result = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                result[i] = SpillValueCodec.read(input);
+            }
+            return result;
+        } catch (final IOException ex) {
+            throw new ShardingSphereException("Can not read spilled join rows.", ex);
+        }
+    }
+    
+    @Override
+    public void close() {
+        try {
+            if (null != input) {
+                input.close();
+            } else {
+                output.close();
+            }
+        } catch (final IOException ignored) {
+        } finally {
+            file.delete();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.join;
+
+import lombok.Getter;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.adapter.enumerable.JavaRowFormat;
+import org.apache.calcite.adapter.enumerable.PhysType;
+import org.apache.calcite.adapter.enumerable.PhysTypeImpl;
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.tree.BlockBuilder;
+import org.apache.calcite.linq4j.tree.Expression;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptCost;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.util.Util;
+
+import java.util.Collections;
+
+/**
+ * Hash join with max memory bytes of hash table, which spills partitioned rows of both inputs to temporary files if hash table exceeds the limitation.
+ *
+ * <p>Only inner and left join with equi conditions are supported, hash table is built by rows of right input.</p>
+ */
+@Getter
+public final class SpillableHashJoin extends Join implements EnumerableRel {
+    
+    private static final double COST_FACTOR = 0.99D;
+    
+    private final long maxMemoryBytes;
+    
+    private final String spillDirectory;
+    
+    public SpillableHashJoin(final RelOptCluster cluster, final RelTraitSet traitSet, final RelNode left, final RelNode right,
+                             final RexNode condition, final JoinRelType joinType, final long maxMemoryBytes, final String spillDirectory) {
+        super(cluster, traitSet, Collections.emptyList(), left, right, condition, Collections.emptySet(), joinType);
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.spillDirectory = spillDirectory;
+    }
+    
+    @Override
+    public Join copy(final RelTraitSet traitSet, final RexNode conditionExpr, final RelNode left, final RelNode right, final JoinRelType joinType, final boolean semiJoinDone) {
+        return new SpillableHashJoin(getCluster(), traitSet, left, right, conditionExpr, joinType, maxMemoryBytes, spillDirectory);
+    }
+    
+    @Override
+    public RelOptCost computeSelfCost(final RelOptPlanner planner, final RelMetadataQuery mq) {
+        double cost = (mq.getRowCount(this) + Util.nLogN(mq.getRowCount(left)) + mq.getRowCount(right)) * COST_FACTOR;
+        return planner.getCostFactory().makeCost(cost, cost, 0);
+    }
+    
+    @Override
+    public RelWriter explainTerms(final RelWriter pw) {
+        return super.explainTerms(pw).item("maxMemoryBytes", maxMemoryBytes);
+    }
+    
+    @Override
+    public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
+        BlockBuilder builder = new BlockBuilder();
+        Result leftResult = implementor.visitChild(this, 0, (EnumerableRel) left, Prefer.ARRAY);
+        Expression leftExpression = leftResult.physType.convertTo(builder.append("left", leftResult.block), JavaRowFormat.ARRAY);
+        Result rightResult = implementor.visitChild(this, 1, (EnumerableRel) right, Prefer.ARRAY);
+        Expression rightExpression = rightResult.physType.convertTo(builder.append("right", rightResult.block), JavaRowFormat.ARRAY);
+        Expression join = implementor.stash(this, SpillableHashJoin.class);
+        builder.add(Expressions.return_(null, Expressions.call(join, "bind", leftExpression, rightExpression)));
+        PhysType physType = PhysTypeImpl.of(implementor.getTypeFactory(), getRowType(), JavaRowFormat.ARRAY, false);
+        return implementor.result(physType, builder.toBlock());
+    }
+    
+    /**
+     * Bind rows of inputs and join them.
+     *
+     * @param leftRows rows of left input
+     * @param rightRows rows of right input
+     * @return joined rows
+     */
+    public Enumerable<Object[]> bind(final Enumerable<Object[]> leftRows, final Enumerable<Object[]> rightRows) {
+        JoinInfo joinInfo = analyzeCondition();
+        int rightColumnCount = right.getRowType().getFieldCount();
+        return new AbstractEnumerable<Object[]>() {
+            
+            @Override
+            public Enumerator<Object[]> enumerator() {
+                return new SpillableHashJoinEnumerator(leftRows.enumerator(), rightRows.enumerator(),
+                        joinInfo.leftKeys.toIntArray(), joinInfo.rightKeys.toIntArray(), JoinRelType.LEFT == joinType, rightColumnCount, maxMemoryBytes, spillDirectory);
+            }
+        };
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.join;
+
+import org.apache.calcite.linq4j.Enumerator;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hash join enumerator, which spills rows to partitioned temporary files if estimated memory of hash table exceeds max memory bytes.
+ * 
+ * <p>Hash table is built by rows of right input and probed by rows of left input. After spilled, rows of both inputs are partitioned by hash of join keys,
+ * and partitions are joined one by one, so that only rows of one partition of right input are held in memory.</p>
+ */
+public final class SpillableHashJoinEnumerator implements Enumerator<Object[]> {
+    
+    private static final int PARTITION_BITS = 4;
+    
+    private static final int PARTITION_COUNT = 1 << PARTITION_BITS;
+    
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+    
+    private static final int ROW_OVERHEAD_BYTES = 48;
+    
+    private static final int CELL_OVERHEAD_BYTES = 24;
+    
+    private final Enumerator<Object[]> leftEnumerator;
+    
+    private final Enumerator<Object[]> rightEnumerator;
+    
+    private final int[] leftKeys;
+    
+    private final int[] rightKeys;
+    
+    private final boolean leftOuter;
+    
+    private final int rightColumnCount;
+    
+    private final long maxMemoryBytes;
+    
+    private final String spillDirectory;
+    
+    private final Map<Object, List<Object[]>> hashTable = new HashMap<>();
+    
+    private boolean built;
+    
+    private JoinRowsSpillFile[] leftPartitions;
+    
+    private JoinRowsSpillFile[] rightPartitions;
+    
+    private int partitionIndex = -1;
+    
+    private Object[] leftRow;
+    
+    private List<Object[]> matchedRows;
+    
+    private int matchedIndex;
+    
+    private Object[] current;
+    
+    public SpillableHashJoinEnumerator(final Enumerator<Object[]> leftEnumerator, final Enumerator<Object[]> rightEnumerator,
+                                       final int[] leftKeys, final int[] rightKeys, final boolean leftOuter, final int rightColumnCount,
+                                       final long maxMemoryBytes, final String spillDirectory) {
+        this.leftEnumerator = leftEnumerator;
+        this.rightEnumerator = rightEnumerator;
+        this.leftKeys = leftKeys;
+        this.rightKeys = rightKeys;
+        this.leftOuter = leftOuter;
+        this.rightColumnCount = rightColumnCount;
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.spillDirectory = spillDirectory;
+    }
+    
+    @Override
+    public Object[] current() {
+        return current;
+    }
+    
+    @Override
+    public boolean moveNext() {
+        if (!built) {
+            build();
+            built = true;
+        }
+        if (null != matchedRows && matchedIndex < matchedRows.size()) {
+            current = JoinKeyUtil.join(leftRow, matchedRows.get(matchedIndex++), rightColumnCount);
+            return true;
+        }
+        while (nextLeftRow()) {
+            Object key = JoinKeyUtil.createKey(leftRow, leftKeys);
+            matchedRows = null == key ? null : hashTable.get(key);
+            if (null != matchedRows) {
+                matchedIndex = 1;
+                current = JoinKeyUtil.join(leftRow, matchedRows.get(0), rightColumnCount);
+                return true;
+            }
+            if (leftOuter) {
+                current = JoinKeyUtil.join(leftRow, null, rightColumnCount);
+                return true;
+            }
+        }
+        current = null;
+        closePartitions(leftPartitions);
+        closePartitions(rightPartitions);
+        return false;
+    }
+    
+    private void build() {
+        long estimatedBytes = 0L;
+        while (rightEnumerator.moveNext()) {
+            Object[] row = rightEnumerator.current();
+            Object key = JoinKeyUtil.createKey(row, rightKeys);
+            if (null != key && null != rightPartitions) {
+                rightPartitions[getPartitionIndex(key)].write(row);
+            } else if (null != key) {
+                hashTable.computeIfAbsent(key, unused -> new ArrayList<>(1)).add(row);
+                estimatedBytes += estimate(row);
+                if (maxMemoryBytes > 0L && estimatedBytes > maxMemoryBytes) {
+                    spillHashTable();
+                }
+            }
+        }
+        if (null != rightPartitions) {
+            spillLeftRows();
+        }
+    }
+    
+    private long estimate(final Object[] row) {
+        long result = ROW_OVERHEAD_BYTES;
+        for (Object each : row) {
+            result += CELL_OVERHEAD_BYTES + estimate(each);
+        }
+        return result;
+    }
+    
+    private long estimate(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return 24L + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal || value instanceof BigInteger) {
+            return 48L;
+        }
+        return 8L;
+    }
+    
+    private void spillHashTable() {
+        rightPartitions = createPartitions();
+        for (List<Object[]> each : hashTable.values()) {
+            for (Object[] row : each) {
+                rightPartitions[getPartitionIndex(JoinKeyUtil.createKey(row, rightKeys))].write(row);
+            }
+        }
+        hashTable.clear();
+    }
+    
+    private void spillLeftRows() {
+        leftPartitions = createPartitions();
+        while (leftEnumerator.moveNext()) {
+            Object[] row = leftEnumerator.current();
+            Object key = JoinKeyUtil.createKey(row, leftKeys);
+            if (null != key) {
+                leftPartitions[getPartitionIndex(key)].write(row);
+            } else if (leftOuter) {
+                leftPartitions[0].write(row);
+            }
+        }
+    }
+    
+    private JoinRowsSpillFile[] createPartitions() {
+        JoinRowsSpillFile[] result = new JoinRowsSpillFile[PARTITION_COUNT];
+        boolean created = false;
+        try {
+            for (int i = 0; i < PARTITION_COUNT; i++) {
+                result[i] = new JoinRowsSpillFile(spillDirectory);
+            }
+            created = true;
+        } finally {
+            if (!created) {
+                closePartitions(result);
+            }
+        }
+        return result;
+    }
+    
+    private int getPartitionIndex(final Object key) {
+        return key.hashCode() * HASH_MULTIPLIER >>> Integer.SIZE - PARTITION_BITS;
+    }
+    
+    private boolean nextLeftRow() {
+        if (null == leftPartitions) {
+            boolean result = leftEnumerator.moveNext();
+            leftRow = result ? leftEnumerator.current() : null;
+            return result;
+        }
+        leftRow = partitionIndex < 0 ? null : leftPartitions[partitionIndex].read();
+        while (null == leftRow && partitionIndex < PARTITION_COUNT - 1) {
+            loadPartition(++partitionIndex);
+            leftRow = leftPartitions[partitionIndex].read();
+        }
+        return null != leftRow;
+    }
+    
+    private void loadPartition(final int index) {
+        if (index > 0) {
+            leftPartitions[index - 1].close();
+            rightPartitions[index - 1].close();
+        }
+        hashTable.clear();
+        for (Object[] row = rightPartitions[index].read(); null != row; row = rightPartitions[index].read()) {
+            hashTable.computeIfAbsent(JoinKeyUtil.createKey(row, rightKeys), unused -> new ArrayList<>(1)).add(row);
+        }
+    }
+    
+    @Override
+    public void reset() {
+        throw new UnsupportedOperationException("Spillable hash join can not be reset.");
+    }
+    
+    @Override
+    public void close() {
+        try {
+            leftEnumerator.close();
+            rightEnumerator.close();
+        } finally {
+            hashTable.clear();
+            closePartitions(leftPartitions);
+            closePartitions(rightPartitions);
+        }
+    }
+    
+    private void closePartitions(final JoinRowsSpillFile[] partitions) {
+        if (null != partitions) {
+            for (JoinRowsSpillFile each : partitions) {
+                if (null != each) {
+                    each.close();
+                }
+            }
+        }
+    }
+}
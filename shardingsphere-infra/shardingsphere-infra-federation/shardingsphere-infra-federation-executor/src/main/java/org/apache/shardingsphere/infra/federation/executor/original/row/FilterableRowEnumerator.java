@@ -18,7 +18,6 @@
 package org.apache.shardingsphere.infra.federation.executor.original.row;
 
 import org.apache.calcite.linq4j.Enumerator;
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 
 import java.sql.SQLException;
@@ -30,13 +29,13 @@ public final class FilterableRowEnumerator implements Enumerator<Object[]> {
     
     private final MergedResult result;
     
-    private final QueryResultMetaData metaData;
+    private final int columnCount;
     
     private Object[] currentRow;
     
-    public FilterableRowEnumerator(final MergedResult queryResult, final QueryResultMetaData metaData) {
+    public FilterableRowEnumerator(final MergedResult queryResult, final int columnCount) {
         this.result = queryResult;
-        this.metaData = metaData;
+        this.columnCount = columnCount;
     }
     
     @Override
@@ -62,8 +61,8 @@ public final class FilterableRowEnumerator implements Enumerator<Object[]> {
     }
     
     private void setCurrentRow() throws SQLException {
-        currentRow = new Object[metaData.getColumnCount()];
-        for (int i = 0; i < metaData.getColumnCount(); i++) {
+        currentRow = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
             currentRow[i] = result.getValue(i + 1, Object.class);
         }
     }
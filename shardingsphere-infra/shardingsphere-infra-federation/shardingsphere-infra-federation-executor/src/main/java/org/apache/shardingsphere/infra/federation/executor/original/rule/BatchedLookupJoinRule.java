@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.rule;
+
+import org.apache.calcite.adapter.enumerable.EnumerableHashJoin;
+import org.apache.calcite.plan.RelOptRule;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Aggregate;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.core.Project;
+import org.apache.calcite.rel.core.Sort;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.schema.Table;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.shardingsphere.infra.federation.executor.original.join.BatchedLookupJoin;
+import org.apache.shardingsphere.infra.federation.executor.original.table.FilterableTableScan;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Optional;
+
+/**
+ * Rule to replace hash join whose right input is filterable table scan with batched lookup join.
+ *
+ * <p>Right table must have statistics, so that cost of batched lookup join can be compared with cost of scanning all rows of right table.
+ * Join keys are looked up by the first key column, which must be exact numeric or character column selected from table directly.</p>
+ */
+public final class BatchedLookupJoinRule extends RelOptRule {
+    
+    private static final Collection<SqlTypeName> LOOKUP_KEY_TYPES = EnumSet.of(SqlTypeName.TINYINT, SqlTypeName.SMALLINT, SqlTypeName.INTEGER, SqlTypeName.BIGINT,
+            SqlTypeName.DECIMAL, SqlTypeName.CHAR, SqlTypeName.VARCHAR);
+    
+    private final int batchSize;
+    
+    public BatchedLookupJoinRule(final int batchSize) {
+        super(operand(EnumerableHashJoin.class, some(operand(RelNode.class, any()), operand(FilterableTableScan.class, none()))), BatchedLookupJoinRule.class.getSimpleName());
+        this.batchSize = batchSize;
+    }
+    
+    @Override
+    public boolean matches(final RelOptRuleCall call) {
+        Join join = call.rel(0);
+        FilterableTableScan scan = call.rel(2);
+        if (JoinRelType.INNER != join.getJoinType() && JoinRelType.LEFT != join.getJoinType() || !SpillableHashJoinRule.isEquiJoin(join)) {
+            return false;
+        }
+        JoinInfo joinInfo = join.analyzeCondition();
+        return isStatisticsCollected(scan) && SpillableHashJoinRule.isKeyTypesEqual(join, joinInfo)
+                && LOOKUP_KEY_TYPES.contains(scan.getRowType().getFieldList().get(joinInfo.rightKeys.get(0)).getType().getSqlTypeName())
+                && findLookupColumnName(scan.getPushDownRelNode(), joinInfo.rightKeys.get(0)).isPresent();
+    }
+    
+    private boolean isStatisticsCollected(final FilterableTableScan scan) {
+        Table table = scan.getTable().unwrap(Table.class);
+        return null != table && null != table.getStatistic().getRowCount();
+    }
+    
+    private Optional<String> findLookupColumnName(final RelNode pushDownRelNode, final int fieldIndex) {
+        if (pushDownRelNode instanceof Aggregate || pushDownRelNode instanceof Sort) {
+            return Optional.empty();
+        }
+        if (!(pushDownRelNode instanceof Project)) {
+            return Optional.of(pushDownRelNode.getRowType().getFieldNames().get(fieldIndex));
+        }
+        RexNode project = ((Project) pushDownRelNode).getProjects().get(fieldIndex);
+        return project instanceof RexInputRef
+                ? Optional.of(((Project) pushDownRelNode).getInput().getRowType().getFieldNames().get(((RexInputRef) project).getIndex())) : Optional.empty();
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        Join join = call.rel(0);
+        FilterableTableScan scan = call.rel(2);
+        JoinInfo joinInfo = join.analyzeCondition();
+        String lookupColumnName = findLookupColumnName(scan.getPushDownRelNode(), joinInfo.rightKeys.get(0)).orElseThrow(IllegalStateException::new);
+        call.transformTo(new BatchedLookupJoin(join.getCluster(), join.getTraitSet(), join.getLeft(), scan, join.getCondition(), join.getJoinType(),
+                joinInfo.leftKeys, joinInfo.rightKeys, lookupColumnName, batchSize));
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.rule;
+
+import org.apache.calcite.adapter.enumerable.EnumerableLimit;
+import org.apache.calcite.plan.RelOptRule;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.SingleRel;
+import org.apache.calcite.rel.core.Aggregate;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.core.Filter;
+import org.apache.calcite.rel.core.Project;
+import org.apache.calcite.rel.core.Sort;
+import org.apache.calcite.rel.logical.LogicalAggregate;
+import org.apache.calcite.rel.logical.LogicalFilter;
+import org.apache.calcite.rel.logical.LogicalProject;
+import org.apache.calcite.rel.logical.LogicalSort;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.sql.SqlDialect;
+import org.apache.calcite.sql.SqlIdentifier;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.dialect.MysqlSqlDialect;
+import org.apache.calcite.sql.dialect.PostgresqlSqlDialect;
+import org.apache.calcite.sql.parser.SqlParserPos;
+import org.apache.shardingsphere.infra.federation.executor.original.table.FilterableTableScan;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Rule to push down filter, project, aggregate and sort into SQL of actual tables executed by filterable table scan.
+ *
+ * <p>Final aggregation, sort and pagination of results from actual tables are done by merge engine of filterable table scan executor,
+ * so only operators which can be merged correctly are pushed down.</p>
+ */
+public final class FilterableTableScanPushDownRule extends RelOptRule {
+    
+    public static final FilterableTableScanPushDownRule FILTER = new FilterableTableScanPushDownRule(LogicalFilter.class);
+    
+    public static final FilterableTableScanPushDownRule PROJECT = new FilterableTableScanPushDownRule(LogicalProject.class);
+    
+    public static final FilterableTableScanPushDownRule AGGREGATE = new FilterableTableScanPushDownRule(LogicalAggregate.class);
+    
+    public static final FilterableTableScanPushDownRule SORT = new FilterableTableScanPushDownRule(LogicalSort.class);
+    
+    public static final FilterableTableScanPushDownRule LIMIT = new FilterableTableScanPushDownRule(EnumerableLimit.class);
+    
+    private static final Collection<SqlKind> MERGEABLE_AGGREGATION_KINDS = EnumSet.of(SqlKind.COUNT, SqlKind.SUM, SqlKind.MIN, SqlKind.MAX, SqlKind.AVG);
+    
+    private FilterableTableScanPushDownRule(final Class<? extends SingleRel> relClass) {
+        super(operand(relClass, operand(FilterableTableScan.class, none())), FilterableTableScanPushDownRule.class.getSimpleName() + ":" + relClass.getSimpleName());
+    }
+    
+    @Override
+    public boolean matches(final RelOptRuleCall call) {
+        RelNode rel = call.rel(0);
+        FilterableTableScan scan = call.rel(1);
+        RelNode pushDownRelNode = scan.getPushDownRelNode();
+        if (rel instanceof Filter) {
+            return !(pushDownRelNode instanceof Project || pushDownRelNode instanceof Aggregate || pushDownRelNode instanceof Sort) && isPushable((Filter) rel);
+        }
+        if (rel instanceof Project) {
+            return !(pushDownRelNode instanceof Aggregate || pushDownRelNode instanceof Sort) && isPushable((Project) rel);
+        }
+        if (rel instanceof Aggregate) {
+            return !(pushDownRelNode instanceof Aggregate || pushDownRelNode instanceof Sort) && isPushable((Aggregate) rel);
+        }
+        if (rel instanceof EnumerableLimit) {
+            return isLimitSupported(scan.getExecutor().getSqlDialect()) && (!(pushDownRelNode instanceof Sort) || null == ((Sort) pushDownRelNode).offset && null == ((Sort) pushDownRelNode).fetch);
+        }
+        return !(pushDownRelNode instanceof Sort) && isPushable((Sort) rel, scan.getExecutor().getSqlDialect());
+    }
+    
+    private boolean isPushable(final Filter filter) {
+        return !RexUtil.containsCorrelation(filter.getCondition()) && null == RexUtil.SubQueryFinder.find(filter.getCondition());
+    }
+    
+    private boolean isPushable(final Project project) {
+        return project.getProjects().stream().allMatch(each -> each instanceof RexInputRef);
+    }
+    
+    private boolean isPushable(final Aggregate aggregate) {
+        return Aggregate.Group.SIMPLE == aggregate.getGroupType() && aggregate.getAggCallList().stream().allMatch(this::isMergeable);
+    }
+    
+    private boolean isPushable(final Sort sort, final SqlDialect sqlDialect) {
+        if ((null != sort.offset || null != sort.fetch) && !isLimitSupported(sqlDialect)) {
+            return false;
+        }
+        return sort.getCollation().getFieldCollations().stream().allMatch(each -> isNativeNullDirection(sort, each, sqlDialect) || isNullDirectionEmulated(sort, each, sqlDialect));
+    }
+    
+    private boolean isLimitSupported(final SqlDialect sqlDialect) {
+        return sqlDialect instanceof MysqlSqlDialect || sqlDialect instanceof PostgresqlSqlDialect;
+    }
+    
+    private boolean isMergeable(final AggregateCall aggregateCall) {
+        return MERGEABLE_AGGREGATION_KINDS.contains(aggregateCall.getAggregation().getKind())
+                && !aggregateCall.isDistinct() && !aggregateCall.isApproximate() && !aggregateCall.hasFilter() && aggregateCall.getCollation().getFieldCollations().isEmpty();
+    }
+    
+    private boolean isNativeNullDirection(final Sort sort, final RelFieldCollation fieldCollation, final SqlDialect sqlDialect) {
+        return !sort.getRowType().getFieldList().get(fieldCollation.getFieldIndex()).getType().isNullable()
+                || sqlDialect.getNullCollation().isDefaultOrder(RelFieldCollation.NullDirection.FIRST == fieldCollation.nullDirection, fieldCollation.getDirection().isDescending());
+    }
+    
+    private boolean isNullDirectionEmulated(final Sort sort, final RelFieldCollation fieldCollation, final SqlDialect sqlDialect) {
+        SqlIdentifier field = new SqlIdentifier(sort.getRowType().getFieldNames().get(fieldCollation.getFieldIndex()), SqlParserPos.ZERO);
+        return null != sqlDialect.emulateNullDirection(field, RelFieldCollation.NullDirection.FIRST == fieldCollation.nullDirection, fieldCollation.getDirection().isDescending());
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        RelNode rel = call.rel(0);
+        FilterableTableScan scan = call.rel(1);
+        RelNode pushDownRelNode = createPushDownRelNode(rel, scan.getPushDownRelNode(), scan.getExecutor().getSqlDialect());
+        RelTraitSet traitSet = rel instanceof Sort ? scan.getTraitSet().replace(((Sort) rel).getCollation()) : scan.getTraitSet();
+        call.transformTo(new FilterableTableScan(scan.getCluster(), traitSet, scan.getTable(), scan.getExecutor(), pushDownRelNode));
+    }
+    
+    private RelNode createPushDownRelNode(final RelNode rel, final RelNode input, final SqlDialect sqlDialect) {
+        if (rel instanceof Filter) {
+            return createPushDownFilter((Filter) rel, input);
+        }
+        if (rel instanceof Project) {
+            return createPushDownProject((Project) rel, input);
+        }
+        if (rel instanceof Aggregate) {
+            Aggregate aggregate = (Aggregate) rel;
+            return aggregate.copy(aggregate.getTraitSet(), input, aggregate.getGroupSet(), aggregate.getGroupSets(), aggregate.getAggCallList());
+        }
+        if (rel instanceof EnumerableLimit) {
+            return createPushDownLimit((EnumerableLimit) rel, input);
+        }
+        return createPushDownSort((Sort) rel, input, sqlDialect);
+    }
+    
+    private RelNode createPushDownFilter(final Filter filter, final RelNode input) {
+        if (input instanceof Filter) {
+            RexNode condition = RexUtil.composeConjunction(filter.getCluster().getRexBuilder(), Arrays.asList(((Filter) input).getCondition(), filter.getCondition()));
+            return LogicalFilter.create(((Filter) input).getInput(), condition);
+        }
+        return LogicalFilter.create(input, filter.getCondition());
+    }
+    
+    private RelNode createPushDownProject(final Project project, final RelNode input) {
+        if (input instanceof Project) {
+            List<RexNode> projects = project.getProjects().stream().map(each -> RelOptUtil.pushPastProject(each, (Project) input)).collect(Collectors.toList());
+            return LogicalProject.create(((Project) input).getInput(), project.getHints(), projects, project.getRowType());
+        }
+        return LogicalProject.create(input, project.getHints(), project.getProjects(), project.getRowType());
+    }
+    
+    private RelNode createPushDownLimit(final EnumerableLimit limit, final RelNode input) {
+        if (input instanceof Sort) {
+            return LogicalSort.create(((Sort) input).getInput(), ((Sort) input).getCollation(), limit.offset, limit.fetch);
+        }
+        return LogicalSort.create(input, RelCollations.EMPTY, limit.offset, limit.fetch);
+    }
+    
+    private RelNode createPushDownSort(final Sort sort, final RelNode input, final SqlDialect sqlDialect) {
+        List<RelFieldCollation> fieldCollations = new ArrayList<>(sort.getCollation().getFieldCollations().size());
+        for (RelFieldCollation each : sort.getCollation().getFieldCollations()) {
+            fieldCollations.add(isNativeNullDirection(sort, each, sqlDialect) ? each.withNullDirection(RelFieldCollation.NullDirection.UNSPECIFIED) : each);
+        }
+        return LogicalSort.create(input, RelCollations.of(fieldCollations), sort.offset, sort.fetch);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.rule;
+
+import org.apache.calcite.adapter.enumerable.EnumerableHashJoin;
+import org.apache.calcite.plan.RelOptRule;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.shardingsphere.infra.federation.executor.original.join.SpillableHashJoin;
+
+import java.util.List;
+
+/**
+ * Rule to replace hash join with spillable hash join, so that hash table built by right input is limited by max memory bytes.
+ */
+public final class SpillableHashJoinRule extends RelOptRule {
+    
+    private final long maxMemoryBytes;
+    
+    private final String spillDirectory;
+    
+    public SpillableHashJoinRule(final long maxMemoryBytes, final String spillDirectory) {
+        super(operand(EnumerableHashJoin.class, any()), SpillableHashJoinRule.class.getSimpleName());
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.spillDirectory = spillDirectory;
+    }
+    
+    @Override
+    public boolean matches(final RelOptRuleCall call) {
+        Join join = call.rel(0);
+        return (JoinRelType.INNER == join.getJoinType() || JoinRelType.LEFT == join.getJoinType()) && isEquiJoin(join) && isKeyTypesEqual(join, join.analyzeCondition());
+    }
+    
+    /**
+     * Judge whether join is equi join without null safe equality.
+     *
+     * @param join join
+     * @return is equi join or not
+     */
+    static boolean isEquiJoin(final Join join) {
+        JoinInfo joinInfo = join.analyzeCondition();
+        return joinInfo.isEqui() && !joinInfo.leftKeys.isEmpty() && RelOptUtil.conjunctions(join.getCondition()).stream().allMatch(each -> SqlKind.EQUALS == each.getKind());
+    }
+    
+    /**
+     * Judge whether types of join keys of both inputs are equal.
+     *
+     * @param join join
+     * @param joinInfo join info
+     * @return types of join keys are equal or not
+     */
+    static boolean isKeyTypesEqual(final Join join, final JoinInfo joinInfo) {
+        List<RelDataType> leftTypes = RelOptUtil.getFieldTypeList(join.getLeft().getRowType());
+        List<RelDataType> rightTypes = RelOptUtil.getFieldTypeList(join.getRight().getRowType());
+        for (int i = 0; i < joinInfo.leftKeys.size(); i++) {
+            if (leftTypes.get(joinInfo.leftKeys.get(i)).getSqlTypeName() != rightTypes.get(joinInfo.rightKeys.get(i)).getSqlTypeName()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public void onMatch(final RelOptRuleCall call) {
+        Join join = call.rel(0);
+        call.transformTo(new SpillableHashJoin(join.getCluster(), join.getTraitSet(), join.getLeft(), join.getRight(), join.getCondition(), join.getJoinType(), maxMemoryBytes, spillDirectory));
+    }
+}
@@ -19,15 +19,20 @@ package org.apache.shardingsphere.infra.federation.executor.original.table;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.calcite.DataContext;
+import org.apache.calcite.adapter.enumerable.EnumerableConvention;
 import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.logical.LogicalTableScan;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.schema.ProjectableFilterableTable;
 import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.schema.TranslatableTable;
 import org.apache.calcite.schema.impl.AbstractTable;
-import org.apache.shardingsphere.infra.federation.executor.original.FederationTableStatistic;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite.FederationTableStatistic;
 
 import java.util.List;
 
@@ -35,7 +40,7 @@ import java.util.List;
  * Filterable table.
  */
 @RequiredArgsConstructor
-public final class FilterableTable extends AbstractTable implements ProjectableFilterableTable {
+public final class FilterableTable extends AbstractTable implements ProjectableFilterableTable, TranslatableTable {
     
     private final FederationTableMetaData metaData;
     
@@ -43,6 +48,8 @@ public final class FilterableTable extends AbstractTable implements ProjectableF
     
     private final FederationTableStatistic statistic;
     
+    private final boolean pushDownEnabled;
+    
     @Override
     public RelDataType getRowType(final RelDataTypeFactory typeFactory) {
         return metaData.getRelProtoDataType().apply(typeFactory);
@@ -50,7 +57,13 @@ public final class FilterableTable extends AbstractTable implements ProjectableF
     
     @Override
     public Enumerable<Object[]> scan(final DataContext root, final List<RexNode> filters, final int[] projects) {
-        return executor.execute(metaData, new FilterableTableScanContext(root, filters, projects));
+        return executor.getCurrentExecutor(root).execute(metaData, new FilterableTableScanContext(root, filters, projects));
+    }
+    
+    @Override
+    public RelNode toRel(final RelOptTable.ToRelContext context, final RelOptTable relOptTable) {
+        LogicalTableScan result = LogicalTableScan.create(context.getCluster(), relOptTable, context.getTableHints());
+        return pushDownEnabled ? new FilterableTableScan(context.getCluster(), context.getCluster().traitSetOf(EnumerableConvention.INSTANCE), relOptTable, executor, result) : result;
     }
     
     @Override
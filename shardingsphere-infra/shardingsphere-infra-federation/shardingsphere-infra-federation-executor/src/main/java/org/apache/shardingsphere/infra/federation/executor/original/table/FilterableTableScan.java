@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.table;
+
+import lombok.Getter;
+import org.apache.calcite.DataContext;
+import org.apache.calcite.adapter.enumerable.EnumerableRel;
+import org.apache.calcite.adapter.enumerable.EnumerableRelImplementor;
+import org.apache.calcite.adapter.enumerable.JavaRowFormat;
+import org.apache.calcite.adapter.enumerable.PhysType;
+import org.apache.calcite.adapter.enumerable.PhysTypeImpl;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.tree.Blocks;
+import org.apache.calcite.linq4j.tree.Expression;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptCost;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.AbstractRelNode;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.rules.CoreRules;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeField;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.federation.executor.original.rule.BatchedLookupJoinRule;
+import org.apache.shardingsphere.infra.federation.executor.original.rule.FilterableTableScanPushDownRule;
+import org.apache.shardingsphere.infra.federation.executor.original.rule.SpillableHashJoinRule;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Filterable table scan, which executes filter, project, aggregate and sort pushed down from federation plan by SQL of actual tables.
+ */
+@Getter
+public final class FilterableTableScan extends AbstractRelNode implements EnumerableRel {
+    
+    private final RelOptTable table;
+    
+    private final FilterableTableScanExecutor executor;
+    
+    private final RelNode pushDownRelNode;
+    
+    public FilterableTableScan(final RelOptCluster cluster, final RelTraitSet traitSet, final RelOptTable table, final FilterableTableScanExecutor executor, final RelNode pushDownRelNode) {
+        super(cluster, traitSet);
+        this.table = table;
+        this.executor = executor;
+        this.pushDownRelNode = pushDownRelNode;
+    }
+    
+    @Override
+    public RelNode copy(final RelTraitSet traitSet, final List<RelNode> inputs) {
+        return new FilterableTableScan(getCluster(), traitSet, table, executor, pushDownRelNode);
+    }
+    
+    @Override
+    public void register(final RelOptPlanner planner) {
+        planner.addRule(FilterableTableScanPushDownRule.FILTER);
+        planner.addRule(FilterableTableScanPushDownRule.PROJECT);
+        planner.addRule(FilterableTableScanPushDownRule.AGGREGATE);
+        planner.addRule(FilterableTableScanPushDownRule.SORT);
+        planner.addRule(FilterableTableScanPushDownRule.LIMIT);
+        planner.addRule(CoreRules.AGGREGATE_JOIN_TRANSPOSE_EXTENDED);
+        ConfigurationProperties props = executor.getProps();
+        int lookupJoinBatchSize = props.<Integer>getValue(ConfigurationPropertyKey.SQL_FEDERATION_LOOKUP_JOIN_BATCH_SIZE);
+        if (lookupJoinBatchSize > 0) {
+            planner.addRule(new BatchedLookupJoinRule(lookupJoinBatchSize));
+        }
+        long hashJoinMaxMemoryBytes = props.<Long>getValue(ConfigurationPropertyKey.SQL_FEDERATION_HASH_JOIN_MAX_MEMORY_BYTES);
+        if (hashJoinMaxMemoryBytes > 0L) {
+            planner.addRule(new SpillableHashJoinRule(hashJoinMaxMemoryBytes, props.getValue(ConfigurationPropertyKey.SPILL_DIRECTORY)));
+        }
+    }
+    
+    @Override
+    protected RelDataType deriveRowType() {
+        return pushDownRelNode.getRowType();
+    }
+    
+    @Override
+    public double estimateRowCount(final RelMetadataQuery mq) {
+        return mq.getRowCount(pushDownRelNode);
+    }
+    
+    @Override
+    public RelOptCost computeSelfCost(final RelOptPlanner planner, final RelMetadataQuery mq) {
+        double rowCount = estimateRowCount(mq);
+        return planner.getCostFactory().makeCost(rowCount, rowCount, 0);
+    }
+    
+    @Override
+    public RelWriter explainTerms(final RelWriter pw) {
+        return super.explainTerms(pw).item("table", table.getQualifiedName()).item("pushDown", RelOptUtil.toString(pushDownRelNode));
+    }
+    
+    @Override
+    public Result implement(final EnumerableRelImplementor implementor, final Prefer pref) {
+        PhysType physType = PhysTypeImpl.of(implementor.getTypeFactory(), getRowType(), JavaRowFormat.ARRAY, false);
+        Expression scan = implementor.stash(this, FilterableTableScan.class);
+        return implementor.result(physType, Blocks.toBlock(Expressions.call(scan, "bind", implementor.getRootExpression())));
+    }
+    
+    /**
+     * Bind to data context and execute SQL of actual tables.
+     *
+     * @param root data context
+     * @return query results
+     */
+    public Enumerable<Object[]> bind(final DataContext root) {
+        List<RelDataTypeField> fields = getRowType().getFieldList();
+        return executor.getCurrentExecutor(root).execute(pushDownRelNode).select(row -> convertRow(row, fields));
+    }
+    
+    /**
+     * Look up rows matching values of column and execute SQL of actual tables containing the values.
+     *
+     * @param root data context
+     * @param columnName column name of actual tables
+     * @param values lookup values
+     * @return query results
+     */
+    public Enumerable<Object[]> lookup(final DataContext root, final String columnName, final List<Object> values) {
+        List<RelDataTypeField> fields = getRowType().getFieldList();
+        return executor.getCurrentExecutor(root).lookup(pushDownRelNode, columnName, values).select(row -> convertRow(row, fields));
+    }
+    
+    private Object[] convertRow(final Object[] row, final List<RelDataTypeField> fields) {
+        for (int i = 0; i < row.length; i++) {
+            if (row[i] instanceof Number) {
+                row[i] = convertNumber((Number) row[i], fields.get(i).getType());
+            }
+        }
+        return row;
+    }
+    
+    private Object convertNumber(final Number value, final RelDataType type) {
+        switch (type.getSqlTypeName()) {
+            case TINYINT:
+                return value.byteValue();
+            case SMALLINT:
+                return value.shortValue();
+            case INTEGER:
+                return value.intValue();
+            case BIGINT:
+                return value.longValue();
+            case REAL:
+                return value.floatValue();
+            case FLOAT:
+            case DOUBLE:
+                return value.doubleValue();
+            case DECIMAL:
+                return value instanceof BigDecimal ? value : new BigDecimal(value.toString());
+            default:
+                return value;
+        }
+    }
+}
@@ -17,8 +17,8 @@
 
 package org.apache.shardingsphere.infra.federation.executor.original.table;
 
-import com.google.common.collect.ImmutableList;
 import lombok.SneakyThrows;
+import org.apache.calcite.DataContext;
 import org.apache.calcite.linq4j.AbstractEnumerable;
 import org.apache.calcite.linq4j.Enumerable;
 import org.apache.calcite.linq4j.Enumerator;
@@ -27,18 +27,28 @@ import org.apache.calcite.plan.RelOptSchema;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.core.RelFactories;
 import org.apache.calcite.rel.rel2sql.RelToSqlConverter;
+import org.apache.calcite.rel.rel2sql.SqlImplementor;
 import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.schema.SchemaPlus;
 import org.apache.calcite.sql.SqlDialect;
+import org.apache.calcite.sql.SqlDynamicParam;
+import org.apache.calcite.sql.SqlIdentifier;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.SqlNodeList;
+import org.apache.calcite.sql.SqlSelect;
 import org.apache.calcite.sql.dialect.MssqlSqlDialect;
 import org.apache.calcite.sql.dialect.MysqlSqlDialect;
 import org.apache.calcite.sql.dialect.OracleSqlDialect;
 import org.apache.calcite.sql.dialect.PostgresqlSqlDialect;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.parser.SqlParserPos;
 import org.apache.calcite.sql.util.SqlString;
 import org.apache.calcite.tools.RelBuilder;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
@@ -58,16 +68,19 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.J
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine;
+import org.apache.shardingsphere.infra.federation.executor.original.FilterableSchema;
 import org.apache.shardingsphere.infra.federation.executor.original.row.FilterableRowEnumerator;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
+import org.apache.shardingsphere.infra.federation.optimizer.context.planner.FilterableTableScanPlan;
+import org.apache.shardingsphere.infra.federation.optimizer.context.planner.FilterableTableScanPlanCache;
+import org.apache.shardingsphere.infra.federation.optimizer.context.planner.FilterableTableScanPlanCacheKey;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
 import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
-import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.sql.Connection;
@@ -80,6 +93,7 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -127,14 +141,26 @@ public final class FilterableTableScanExecutor {
      * @return query results
      */
     public Enumerable<Object[]> execute(final FederationTableMetaData tableMetaData, final FilterableTableScanContext scanContext) {
+        return execute(createRelNode(tableMetaData, scanContext));
+    }
+    
+    /**
+     * Execute relational expression pushed down to actual tables.
+     *
+     * @param relNode relational expression pushed down to actual tables
+     * @return query results
+     */
+    public Enumerable<Object[]> execute(final RelNode relNode) {
+        return execute(relNode, null, Collections.emptyList());
+    }
+    
+    private Enumerable<Object[]> execute(final RelNode relNode, final String lookupColumnName, final List<Object> lookupValues) {
         String schemaName = executorContext.getSchemaName();
-        DatabaseType databaseType = DatabaseTypeRegistry.getTrunkDatabaseType(optimizerContext.getParserContexts().get(schemaName).getDatabaseType().getName());
-        SqlString sqlString = createSQLString(tableMetaData, scanContext, databaseType);
-        // TODO replace sql parse with sql convert
-        SQLStatement sqlStatement = new SQLStatementParserEngine(databaseType.getName(), optimizerContext.getSqlParserRule()).parse(sqlString.getSql(), false);
-        LogicSQL logicSQL = createLogicSQL(executorContext.getMetaDataMap(), sqlString.getSql(), getParameters(sqlString.getDynamicParameters()), sqlStatement);
-        ShardingSphereMetaData metaData = executorContext.getMetaDataMap().get(schemaName);
+        DatabaseType databaseType = getDatabaseType();
         ConfigurationProperties props = executorContext.getProps();
+        FilterableTableScanPlan plan = getScanPlan(relNode, databaseType, lookupColumnName, lookupValues.size());
+        LogicSQL logicSQL = createLogicSQL(executorContext.getMetaDataMap(), plan.getSql(), getParameters(plan.getParameterIndexes(), lookupValues), plan.getSqlStatement());
+        ShardingSphereMetaData metaData = executorContext.getMetaDataMap().get(schemaName);
         ExecutionContext context = new KernelProcessor().generateExecutionContext(logicSQL, metaData, props);
         try {
             ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = prepareEngine.prepare(context.getRouteContext(), context.getExecutionUnits());
@@ -144,7 +170,7 @@ public final class FilterableTableScanExecutor {
             ExecuteProcessEngine.finish(executionGroupContext.getExecutionID());
             MergeEngine mergeEngine = new MergeEngine(schemaName, databaseType, metaData.getSchema(), props, metaData.getRuleMetaData().getRules());
             MergedResult mergedResult = mergeEngine.merge(result, logicSQL.getSqlStatementContext());
-            return createEnumerable(mergedResult, result.get(0).getMetaData());
+            return createEnumerable(mergedResult, relNode.getRowType().getFieldCount());
         } catch (final SQLException ex) {
             throw new ShardingSphereException(ex);
         } finally {
@@ -152,9 +178,124 @@ public final class FilterableTableScanExecutor {
         }
     }
     
-    private SqlString createSQLString(final FederationTableMetaData tableMetaData, final FilterableTableScanContext scanContext, final DatabaseType databaseType) {
+    /**
+     * Look up rows matching values of lookup column by relational expression pushed down to actual tables.
+     * 
+     * <p>Lookup values are appended to SQL as parameters of {@code IN} predicate, so that SQL is routed to actual tables containing the values only.
+     * Count of parameters is rounded up to power of 2 within lookup join batch size, and extra parameters repeat the last value,
+     * so that batches of different sizes share a few scan plans.</p>
+     *
+     * @param relNode relational expression pushed down to actual tables, only filter and project are supported
+     * @param lookupColumnName column name of actual tables to be looked up
+     * @param lookupValues lookup values
+     * @return query results
+     */
+    public Enumerable<Object[]> lookup(final RelNode relNode, final String lookupColumnName, final List<Object> lookupValues) {
+        return execute(relNode, lookupColumnName, padLookupValues(lookupValues));
+    }
+    
+    private List<Object> padLookupValues(final List<Object> lookupValues) {
+        int bucketSize = getLookupValueBucketSize(lookupValues.size());
+        if (bucketSize <= lookupValues.size()) {
+            return lookupValues;
+        }
+        List<Object> result = new ArrayList<>(bucketSize);
+        result.addAll(lookupValues);
+        Object lastValue = lookupValues.get(lookupValues.size() - 1);
+        while (result.size() < bucketSize) {
+            result.add(lastValue);
+        }
+        return result;
+    }
+    
+    private int getLookupValueBucketSize(final int lookupValueCount) {
+        if (lookupValueCount <= 1) {
+            return lookupValueCount;
+        }
+        int batchSize = executorContext.getProps().<Integer>getValue(ConfigurationPropertyKey.SQL_FEDERATION_LOOKUP_JOIN_BATCH_SIZE);
+        return Math.max(Math.min(Integer.highestOneBit(lookupValueCount - 1) << 1, batchSize), lookupValueCount);
+    }
+    
+    /**
+     * Get executor of current execution.
+     * 
+     * <p>Plans cached by federation plan cache are shared by executions, so executor bound to plan may belong to the execution which prepared the plan.
+     * Executor of current execution is resolved from filterable schema of data context instead.</p>
+     *
+     * @param root data context of current execution
+     * @return filterable table scan executor of current execution
+     */
+    public FilterableTableScanExecutor getCurrentExecutor(final DataContext root) {
+        SchemaPlus rootSchema = root.getRootSchema();
+        SchemaPlus schema = null == rootSchema ? null : rootSchema.getSubSchema(executorContext.getSchemaName());
+        return null == schema ? this : schema.unwrap(FilterableSchema.class).getExecutor();
+    }
+    
+    /**
+     * Get configuration properties.
+     *
+     * @return configuration properties
+     */
+    public ConfigurationProperties getProps() {
+        return executorContext.getProps();
+    }
+    
+    /**
+     * Get SQL dialect of actual tables.
+     *
+     * @return SQL dialect
+     */
+    public SqlDialect getSqlDialect() {
+        return SQL_DIALECTS.getOrDefault(getDatabaseType().getClass(), MysqlSqlDialect.DEFAULT);
+    }
+    
+    private DatabaseType getDatabaseType() {
+        return DatabaseTypeRegistry.getTrunkDatabaseType(optimizerContext.getParserContexts().get(executorContext.getSchemaName()).getDatabaseType().getName());
+    }
+    
+    private FilterableTableScanPlan getScanPlan(final RelNode relNode, final DatabaseType databaseType, final String lookupColumnName, final int lookupValueCount) {
+        if (executorContext.getProps().<Integer>getValue(ConfigurationPropertyKey.SQL_FEDERATION_SCAN_PLAN_CACHE_SIZE) <= 0) {
+            return createScanPlan(relNode, databaseType, lookupColumnName, lookupValueCount);
+        }
+        FilterableTableScanPlanCache scanPlanCache = optimizerContext.getPlannerContexts().get(executorContext.getSchemaName()).getScanPlanCache();
+        FilterableTableScanPlanCacheKey key = null == lookupColumnName ? scanPlanCache.createKey(databaseType.getName(), relNode)
+                : scanPlanCache.createKey(databaseType.getName(), relNode, lookupColumnName, executorContext.getParameters().size(), lookupValueCount);
+        Optional<FilterableTableScanPlan> cachedPlan = scanPlanCache.get(key);
+        if (cachedPlan.isPresent()) {
+            return cachedPlan.get();
+        }
+        FilterableTableScanPlan result = createScanPlan(relNode, databaseType, lookupColumnName, lookupValueCount);
+        scanPlanCache.put(key, result);
+        return result;
+    }
+    
+    private FilterableTableScanPlan createScanPlan(final RelNode relNode, final DatabaseType databaseType, final String lookupColumnName, final int lookupValueCount) {
+        SqlString sqlString = createSQLString(relNode, databaseType, lookupColumnName, lookupValueCount);
+        // TODO replace sql parse with sql convert
+        SQLStatement sqlStatement = SQLStatementParserEngineFactory.getSQLStatementParserEngine(databaseType.getName(), optimizerContext.getSqlParserRule()).parse(sqlString.getSql(), false);
+        List<Integer> parameterIndexes = null == sqlString.getDynamicParameters() ? Collections.emptyList() : sqlString.getDynamicParameters();
+        return new FilterableTableScanPlan(sqlString.getSql(), parameterIndexes, sqlStatement);
+    }
+    
+    private SqlString createSQLString(final RelNode relNode, final DatabaseType databaseType, final String lookupColumnName, final int lookupValueCount) {
         SqlDialect sqlDialect = SQL_DIALECTS.getOrDefault(databaseType.getClass(), MysqlSqlDialect.DEFAULT);
-        return new RelToSqlConverter(sqlDialect).visitRoot(createRelNode(tableMetaData, scanContext)).asStatement().toSqlString(sqlDialect);
+        SqlImplementor.Result result = new RelToSqlConverter(sqlDialect).visitRoot(relNode);
+        if (null == lookupColumnName) {
+            return result.asStatement().toSqlString(sqlDialect);
+        }
+        SqlSelect select = result.asSelect();
+        SqlNode lookupCondition = createLookupCondition(lookupColumnName, lookupValueCount);
+        select.setWhere(null == select.getWhere() ? lookupCondition : SqlStdOperatorTable.AND.createCall(SqlParserPos.ZERO, select.getWhere(), lookupCondition));
+        return select.toSqlString(sqlDialect);
+    }
+    
+    private SqlNode createLookupCondition(final String lookupColumnName, final int lookupValueCount) {
+        int parameterOffset = executorContext.getParameters().size();
+        SqlNodeList values = new SqlNodeList(SqlParserPos.ZERO);
+        for (int i = 0; i < lookupValueCount; i++) {
+            values.add(new SqlDynamicParam(parameterOffset + i, SqlParserPos.ZERO));
+        }
+        return SqlStdOperatorTable.IN.createCall(SqlParserPos.ZERO, new SqlIdentifier(lookupColumnName, SqlParserPos.ZERO), values);
     }
     
     @SneakyThrows
@@ -177,13 +318,11 @@ public final class FilterableTableScanExecutor {
         }
     }
     
-    private List<Object> getParameters(final ImmutableList<Integer> parameterIndices) {
-        if (null == parameterIndices) {
-            return Collections.emptyList();
-        }
-        List<Object> result = new ArrayList<>();
-        for (Integer each : parameterIndices) {
-            result.add(executorContext.getParameters().get(each));
+    private List<Object> getParameters(final List<Integer> parameterIndexes, final List<Object> lookupValues) {
+        List<Object> parameters = executorContext.getParameters();
+        List<Object> result = new ArrayList<>(parameterIndexes.size());
+        for (Integer each : parameterIndexes) {
+            result.add(each < parameters.size() ? parameters.get(each) : lookupValues.get(each - parameters.size()));
         }
         return result;
     }
@@ -207,12 +346,12 @@ public final class FilterableTableScanExecutor {
         return result;
     }
     
-    private AbstractEnumerable<Object[]> createEnumerable(final MergedResult mergedResult, final QueryResultMetaData metaData) {
+    private AbstractEnumerable<Object[]> createEnumerable(final MergedResult mergedResult, final int columnCount) {
         return new AbstractEnumerable<Object[]>() {
             
             @Override
             public Enumerator<Object[]> enumerator() {
-                return new FilterableRowEnumerator(mergedResult, metaData);
+                return new FilterableRowEnumerator(mergedResult, columnCount);
             }
         };
     }
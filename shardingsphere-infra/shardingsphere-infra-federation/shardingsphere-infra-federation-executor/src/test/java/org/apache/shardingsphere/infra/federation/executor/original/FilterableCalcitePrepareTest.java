@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original;
+
+import org.apache.calcite.jdbc.CalciteConnection;
+import org.apache.calcite.linq4j.Linq4j;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.sql.dialect.MysqlSqlDialect;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.federation.executor.original.table.FilterableTableScanExecutor;
+import org.apache.shardingsphere.infra.federation.executor.original.table.FilterableTableScanExecutorContext;
+import org.apache.shardingsphere.infra.federation.optimizer.context.planner.FederationPlanCache;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+
+public final class FilterableCalcitePrepareTest {
+    
+    private static final String SQL = "SELECT order_id, status FROM t_order WHERE order_id = ?";
+    
+    private FederationSchemaMetaData schemaMetaData;
+    
+    private FederationPlanCache planCache;
+    
+    @Before
+    public void setUp() {
+        schemaMetaData = new FederationSchemaMetaData("logic_db", Collections.singletonMap("t_order", createTableMetaData()));
+        planCache = new FederationPlanCache(16);
+    }
+    
+    @Test
+    public void assertExecuteQueryWithCachedPlan() throws SQLException {
+        assertThat(executeQuery(createExecutor(1, "init"), 1), is(Arrays.<Object>asList(1, "init")));
+        assertThat(executeQuery(createExecutor(2, "finished"), 2), is(Arrays.<Object>asList(2, "finished")));
+        assertThat(planCache.getStatistics().missCount(), is(1L));
+        assertThat(planCache.getStatistics().hitCount(), is(1L));
+    }
+    
+    @Test
+    public void assertExecuteQueryAfterSchemaChanged() throws SQLException {
+        executeQuery(createExecutor(1, "init"), 1);
+        schemaMetaData.put(createTableMetaData());
+        assertThat(executeQuery(createExecutor(2, "finished"), 2), is(Arrays.<Object>asList(2, "finished")));
+        assertThat(planCache.getStatistics().missCount(), is(2L));
+        assertThat(planCache.getStatistics().hitCount(), is(0L));
+    }
+    
+    private List<Object> executeQuery(final FilterableTableScanExecutor executor, final Object parameter) throws SQLException {
+        Properties props = new Properties();
+        props.setProperty("lex", "MYSQL");
+        try (Connection connection = new FilterableDriver().connect(OriginalFilterableExecutor.CONNECTION_URL, props)) {
+            connection.unwrap(CalciteConnection.class).getRootSchema().add("logic_db", new FilterableSchema(schemaMetaData, executor, true, planCache));
+            connection.setSchema("logic_db");
+            PreparedStatement preparedStatement = connection.prepareStatement(SQL);
+            preparedStatement.setObject(1, parameter);
+            ResultSet resultSet = preparedStatement.executeQuery();
+            List<Object> result = new LinkedList<>();
+            while (resultSet.next()) {
+                result.add(resultSet.getObject(1));
+                result.add(resultSet.getObject(2));
+            }
+            return result;
+        }
+    }
+    
+    private FilterableTableScanExecutor createExecutor(final Object... row) {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.SQL_FEDERATION_PLAN_CACHE_SIZE.getKey(), "16");
+        FilterableTableScanExecutorContext executorContext = new FilterableTableScanExecutorContext("logic_db", Collections.emptyList(), new ConfigurationProperties(props), null);
+        FilterableTableScanExecutor result = spy(new FilterableTableScanExecutor(null, null, null, null, executorContext));
+        doReturn(MysqlSqlDialect.DEFAULT).when(result).getSqlDialect();
+        doReturn(Linq4j.asEnumerable(Collections.singletonList(row))).when(result).execute(any(RelNode.class));
+        return result;
+    }
+    
+    private TableMetaData createTableMetaData() {
+        return new TableMetaData("t_order", Arrays.asList(new ColumnMetaData("order_id", Types.INTEGER, true, false, false), new ColumnMetaData("status", Types.VARCHAR, false, false, false)),
+                Collections.emptyList());
+    }
+}
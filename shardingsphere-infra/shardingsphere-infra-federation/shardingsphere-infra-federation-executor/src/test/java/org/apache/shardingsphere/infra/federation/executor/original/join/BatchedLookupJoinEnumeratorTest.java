@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.join;
+
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class BatchedLookupJoinEnumeratorTest {
+    
+    private final List<List<Object>> lookupValues = new LinkedList<>();
+    
+    private final Function<List<Object>, Enumerable<Object[]>> lookup = values -> {
+        lookupValues.add(values);
+        return Linq4j.asEnumerable(values.stream().filter(each -> (Integer) each < 3).map(each -> new Object[]{each, "right_" + each}).collect(Collectors.toList()));
+    };
+    
+    @Test
+    public void assertInnerJoin() {
+        List<String> actual = join(false);
+        assertThat(actual, is(Arrays.asList("[1, left_1, 1, right_1]", "[2, left_2, 2, right_2]", "[1, left_1_copy, 1, right_1]")));
+        assertThat(lookupValues, is(Arrays.asList(Arrays.<Object>asList(1, 2), Arrays.<Object>asList(3, 1))));
+    }
+    
+    @Test
+    public void assertLeftJoin() {
+        List<String> actual = join(true);
+        assertThat(actual, is(Arrays.asList("[1, left_1, 1, right_1]", "[2, left_2, 2, right_2]", "[null, left_null, null, null]",
+                "[3, left_3, null, null]", "[1, left_1_copy, 1, right_1]")));
+    }
+    
+    private List<String> join(final boolean leftOuter) {
+        List<Object[]> leftRows = Arrays.asList(new Object[]{1, "left_1"}, new Object[]{2, "left_2"}, new Object[]{null, "left_null"}, new Object[]{3, "left_3"}, new Object[]{1, "left_1_copy"});
+        List<String> result = new ArrayList<>();
+        try (Enumerator<Object[]> enumerator = new BatchedLookupJoinEnumerator(Linq4j.enumerator(leftRows), lookup, new int[]{0}, new int[]{0}, leftOuter, 2, 3)) {
+            while (enumerator.moveNext()) {
+                result.add(Arrays.toString(enumerator.current()));
+            }
+        }
+        return result;
+    }
+}
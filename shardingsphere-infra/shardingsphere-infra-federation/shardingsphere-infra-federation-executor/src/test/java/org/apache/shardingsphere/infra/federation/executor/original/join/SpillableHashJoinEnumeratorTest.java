@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.join;
+
+import org.apache.calcite.linq4j.Enumerator;
+import org.apache.calcite.linq4j.Linq4j;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SpillableHashJoinEnumeratorTest {
+    
+    @Test
+    public void assertInnerJoinWithoutSpilling() {
+        assertThat(join(createLeftRows(), createRightRows(), false, 0L), is(createExpectedRows(false)));
+    }
+    
+    @Test
+    public void assertInnerJoinWithSpilling() {
+        assertThat(join(createLeftRows(), createRightRows(), false, 1L), is(createExpectedRows(false)));
+    }
+    
+    @Test
+    public void assertLeftJoinWithoutSpilling() {
+        assertThat(join(createLeftRows(), createRightRows(), true, 0L), is(createExpectedRows(true)));
+    }
+    
+    @Test
+    public void assertLeftJoinWithSpilling() {
+        assertThat(join(createLeftRows(), createRightRows(), true, 1L), is(createExpectedRows(true)));
+    }
+    
+    @Test
+    public void assertCloseBeforeJoinCompletedDeletesSpillFiles() {
+        int spillFileCount = countSpillFiles();
+        try (Enumerator<Object[]> enumerator = new SpillableHashJoinEnumerator(
+                Linq4j.enumerator(createLeftRows()), Linq4j.enumerator(createRightRows()), new int[]{0}, new int[]{1}, false, 2, 1L, "")) {
+            assertTrue(enumerator.moveNext());
+            assertTrue(countSpillFiles() > spillFileCount);
+        }
+        assertThat(countSpillFiles(), is(spillFileCount));
+    }
+    
+    private int countSpillFiles() {
+        File[] result = new File(System.getProperty("java.io.tmpdir")).listFiles((dir, name) -> name.startsWith("shardingsphere-join-") && name.endsWith(".spill"));
+        return null == result ? 0 : result.length;
+    }
+    
+    private List<Object[]> createLeftRows() {
+        List<Object[]> result = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            result.add(new Object[]{i, "left_" + i});
+        }
+        result.add(new Object[]{null, "left_null"});
+        return result;
+    }
+    
+    private List<Object[]> createRightRows() {
+        List<Object[]> result = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            result.add(new Object[]{"right_" + i, i * 2});
+            result.add(new Object[]{"right_" + i + "_copy", i * 2});
+        }
+        result.add(new Object[]{"right_null", null});
+        return result;
+    }
+    
+    private List<String> createExpectedRows(final boolean leftOuter) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            if (0 == i % 2) {
+                result.add(Arrays.toString(new Object[]{i, "left_" + i, "right_" + i / 2, i}));
+                result.add(Arrays.toString(new Object[]{i, "left_" + i, "right_" + i / 2 + "_copy", i}));
+            } else if (leftOuter) {
+                result.add(Arrays.toString(new Object[]{i, "left_" + i, null, null}));
+            }
+        }
+        if (leftOuter) {
+            result.add(Arrays.toString(new Object[]{null, "left_null", null, null}));
+        }
+        result.sort(Comparator.naturalOrder());
+        return result;
+    }
+    
+    private List<String> join(final List<Object[]> leftRows, final List<Object[]> rightRows, final boolean leftOuter, final long maxMemoryBytes) {
+        List<String> result = new ArrayList<>();
+        try (Enumerator<Object[]> enumerator = new SpillableHashJoinEnumerator(
+                Linq4j.enumerator(leftRows), Linq4j.enumerator(rightRows), new int[]{0}, new int[]{1}, leftOuter, 2, maxMemoryBytes, "")) {
+            while (enumerator.moveNext()) {
+                result.add(Arrays.toString(enumerator.current()));
+            }
+        }
+        return result.stream().sorted().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.executor.original.rule;
+
+import org.apache.calcite.adapter.enumerable.EnumerableConvention;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.plan.hep.HepPlanner;
+import org.apache.calcite.plan.hep.HepProgramBuilder;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Aggregate;
+import org.apache.calcite.rel.core.Filter;
+import org.apache.calcite.rel.core.Sort;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.schema.SchemaPlus;
+import org.apache.calcite.schema.impl.AbstractTable;
+import org.apache.calcite.sql.dialect.MysqlSqlDialect;
+import org.apache.calcite.sql.dialect.OracleSqlDialect;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.tools.Frameworks;
+import org.apache.calcite.tools.RelBuilder;
+import org.apache.shardingsphere.infra.federation.executor.original.table.FilterableTableScan;
+import org.apache.shardingsphere.infra.federation.executor.original.table.FilterableTableScanExecutor;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class FilterableTableScanPushDownRuleTest {
+    
+    private FilterableTableScanExecutor executor;
+    
+    private RelBuilder relBuilder;
+    
+    @Before
+    public void setUp() {
+        executor = mock(FilterableTableScanExecutor.class);
+        when(executor.getSqlDialect()).thenReturn(MysqlSqlDialect.DEFAULT);
+        SchemaPlus rootSchema = Frameworks.createRootSchema(true);
+        rootSchema.add("t_order", new AbstractTable() {
+            
+            @Override
+            public RelDataType getRowType(final RelDataTypeFactory typeFactory) {
+                return typeFactory.builder().add("order_id", SqlTypeName.INTEGER).add("user_id", SqlTypeName.INTEGER).nullable(true).add("status", SqlTypeName.VARCHAR).nullable(true).build();
+            }
+        });
+        relBuilder = RelBuilder.create(Frameworks.newConfigBuilder().defaultSchema(rootSchema).build());
+        RelNode scan = relBuilder.scan("t_order").build();
+        relBuilder.push(new FilterableTableScan(scan.getCluster(), scan.getCluster().traitSetOf(EnumerableConvention.INSTANCE), scan.getTable(), executor, scan));
+    }
+    
+    @Test
+    public void assertPushDownAggregateAndTopN() {
+        RelNode actual = optimize(relBuilder.filter(relBuilder.equals(relBuilder.field("status"), relBuilder.literal("init")))
+                .aggregate(relBuilder.groupKey("user_id"), relBuilder.count(false, "c"), relBuilder.sum(false, "s", relBuilder.field("order_id")))
+                .sortLimit(0, 10, relBuilder.desc(relBuilder.field("s"))).build());
+        assertThat(actual, instanceOf(FilterableTableScan.class));
+        RelNode pushDownRelNode = ((FilterableTableScan) actual).getPushDownRelNode();
+        assertThat(pushDownRelNode, instanceOf(Sort.class));
+        assertThat(pushDownRelNode.getInput(0), instanceOf(Aggregate.class));
+        assertThat(pushDownRelNode.getInput(0).getInput(0), instanceOf(Filter.class));
+    }
+    
+    @Test
+    public void assertNotPushDownDistinctAggregation() {
+        RelNode actual = optimize(relBuilder.aggregate(relBuilder.groupKey("user_id"), relBuilder.count(true, "c", relBuilder.field("status"))).build());
+        assertThat(actual, instanceOf(Aggregate.class));
+        assertThat(actual.getInput(0), instanceOf(FilterableTableScan.class));
+    }
+    
+    @Test
+    public void assertNotPushDownFilterAfterAggregation() {
+        RelNode actual = optimize(relBuilder.aggregate(relBuilder.groupKey("user_id"), relBuilder.count(false, "c"))
+                .filter(relBuilder.call(SqlStdOperatorTable.GREATER_THAN, relBuilder.field("c"), relBuilder.literal(1))).build());
+        assertThat(actual, instanceOf(Filter.class));
+        assertThat(((FilterableTableScan) actual.getInput(0)).getPushDownRelNode(), instanceOf(Aggregate.class));
+    }
+    
+    @Test
+    public void assertNotPushDownLimitWithoutLimitSyntax() {
+        when(executor.getSqlDialect()).thenReturn(OracleSqlDialect.DEFAULT);
+        RelNode actual = optimize(relBuilder.sortLimit(0, 10, relBuilder.field("order_id")).build());
+        assertThat(actual, instanceOf(Sort.class));
+        assertThat(RelOptUtil.toString(actual).contains("FilterableTableScan"), is(true));
+    }
+    
+    private RelNode optimize(final RelNode relNode) {
+        HepProgramBuilder programBuilder = new HepProgramBuilder();
+        programBuilder.addRuleInstance(FilterableTableScanPushDownRule.FILTER);
+        programBuilder.addRuleInstance(FilterableTableScanPushDownRule.PROJECT);
+        programBuilder.addRuleInstance(FilterableTableScanPushDownRule.AGGREGATE);
+        programBuilder.addRuleInstance(FilterableTableScanPushDownRule.SORT);
+        HepPlanner planner = new HepPlanner(programBuilder.build());
+        planner.setRoot(relNode);
+        return planner.findBestExp();
+    }
+}
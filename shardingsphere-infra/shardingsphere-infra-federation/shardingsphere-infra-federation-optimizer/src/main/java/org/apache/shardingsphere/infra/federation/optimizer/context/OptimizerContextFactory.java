@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.federation.optimizer.context;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.federation.optimizer.context.parser.OptimizerParserContext;
 import org.apache.shardingsphere.infra.federation.optimizer.context.parser.OptimizerParserContextFactory;
 import org.apache.shardingsphere.infra.federation.optimizer.context.planner.OptimizerPlannerContext;
@@ -41,12 +42,13 @@ public final class OptimizerContextFactory {
      *
      * @param metaDataMap meta data map
      * @param globalRuleMetaData global rule meta data
+     * @param props configuration properties
      * @return created optimizer context
      */
-    public static OptimizerContext create(final Map<String, ShardingSphereMetaData> metaDataMap, final ShardingSphereRuleMetaData globalRuleMetaData) {
+    public static OptimizerContext create(final Map<String, ShardingSphereMetaData> metaDataMap, final ShardingSphereRuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
         FederationMetaData federationMetaData = new FederationMetaData(metaDataMap);
         Map<String, OptimizerParserContext> parserContexts = OptimizerParserContextFactory.create(metaDataMap);
-        Map<String, OptimizerPlannerContext> plannerContexts = OptimizerPlannerContextFactory.create(federationMetaData);
+        Map<String, OptimizerPlannerContext> plannerContexts = OptimizerPlannerContextFactory.create(federationMetaData, props);
         SQLParserRule sqlParserRule = globalRuleMetaData.findSingleRule(SQLParserRule.class).orElse(null);
         return new OptimizerContext(sqlParserRule, federationMetaData, parserContexts, plannerContexts);
     }
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.context.planner;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.apache.calcite.jdbc.CalcitePrepare.CalciteSignature;
+
+import java.util.Optional;
+
+/**
+ * Federation plan cache of one schema.
+ *
+ * <p>Version of schema meta data is part of the key, so plans prepared before tables or statistics of schema changed are never hit.
+ * Prepared plans resolve table scan executors from data context of each execution, so plans are shared by executions with different parameters.</p>
+ */
+public final class FederationPlanCache {
+    
+    private final Cache<FederationPlanCacheKey, CalciteSignature<?>> cache;
+    
+    public FederationPlanCache(final int maximumSize) {
+        cache = CacheBuilder.newBuilder().maximumSize(Math.max(maximumSize, 0)).recordStats().build();
+    }
+    
+    /**
+     * Get prepared plan.
+     *
+     * @param key cache key
+     * @return prepared plan
+     */
+    public Optional<CalciteSignature<?>> get(final FederationPlanCacheKey key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+    
+    /**
+     * Put prepared plan.
+     *
+     * @param key cache key
+     * @param plan prepared plan
+     */
+    public void put(final FederationPlanCacheKey key, final CalciteSignature<?> plan) {
+        cache.put(key, plan);
+    }
+    
+    /**
+     * Get statistics of cache.
+     *
+     * @return statistics of cache
+     */
+    public CacheStats getStatistics() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.context.planner;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.sql.SqlExplainLevel;
+
+import java.util.Optional;
+
+/**
+ * Filterable table scan plan cache of one schema.
+ *
+ * <p>Digest of relational expression is part of the key, dynamic parameters are kept as place holders in digest, so plans are shared by executions with different parameters.
+ * Column indexes in digest are bound to meta data of schema, cache is owned by optimizer planner context, which is recreated if meta data of schema refreshed.</p>
+ */
+public final class FilterableTableScanPlanCache {
+    
+    private final Cache<FilterableTableScanPlanCacheKey, FilterableTableScanPlan> cache;
+    
+    public FilterableTableScanPlanCache(final int maximumSize) {
+        cache = CacheBuilder.newBuilder().maximumSize(Math.max(maximumSize, 0)).build();
+    }
+    
+    /**
+     * Create cache key.
+     *
+     * @param databaseType name of database type
+     * @param relNode relational expression pushed down to actual tables
+     * @return cache key
+     */
+    public FilterableTableScanPlanCacheKey createKey(final String databaseType, final RelNode relNode) {
+        return new FilterableTableScanPlanCacheKey(databaseType, RelOptUtil.toString(relNode, SqlExplainLevel.DIGEST_ATTRIBUTES));
+    }
+    
+    /**
+     * Create cache key of lookup.
+     *
+     * @param databaseType name of database type
+     * @param relNode relational expression pushed down to actual tables
+     * @param lookupColumnName column name of actual tables to be looked up
+     * @param parameterOffset index of first parameter of lookup values
+     * @param lookupValueCount count of lookup values
+     * @return cache key
+     */
+    public FilterableTableScanPlanCacheKey createKey(final String databaseType, final RelNode relNode, final String lookupColumnName, final int parameterOffset, final int lookupValueCount) {
+        String relDigest = RelOptUtil.toString(relNode, SqlExplainLevel.DIGEST_ATTRIBUTES) + "LOOKUP " + lookupColumnName + " IN " + parameterOffset + ", " + lookupValueCount;
+        return new FilterableTableScanPlanCacheKey(databaseType, relDigest);
+    }
+    
+    /**
+     * Get filterable table scan plan.
+     *
+     * @param key cache key
+     * @return filterable table scan plan
+     */
+    public Optional<FilterableTableScanPlan> get(final FilterableTableScanPlanCacheKey key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+    
+    /**
+     * Put filterable table scan plan.
+     *
+     * @param key cache key
+     * @param plan filterable table scan plan
+     */
+    public void put(final FilterableTableScanPlanCacheKey key, final FilterableTableScanPlan plan) {
+        cache.put(key, plan);
+    }
+}
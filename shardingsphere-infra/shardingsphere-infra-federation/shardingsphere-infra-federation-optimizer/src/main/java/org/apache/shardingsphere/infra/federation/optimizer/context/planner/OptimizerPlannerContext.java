@@ -32,4 +32,8 @@ public final class OptimizerPlannerContext {
     private final SqlValidator validator;
     
     private final SqlToRelConverter converter;
+    
+    private final FilterableTableScanPlanCache scanPlanCache;
+    
+    private final FederationPlanCache planCache;
 }
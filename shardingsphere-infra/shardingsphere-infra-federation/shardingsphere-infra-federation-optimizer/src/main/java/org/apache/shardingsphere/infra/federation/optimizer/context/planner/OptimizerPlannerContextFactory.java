@@ -36,6 +36,8 @@ import org.apache.calcite.sql.validate.SqlValidatorUtil;
 import org.apache.calcite.sql2rel.SqlToRelConverter;
 import org.apache.calcite.sql2rel.SqlToRelConverter.Config;
 import org.apache.calcite.sql2rel.StandardConvertletTable;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationMetaData;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite.FederationSchema;
@@ -57,9 +59,10 @@ public final class OptimizerPlannerContextFactory {
      * Create optimizer planner context map.
      *
      * @param metaData federation meta data
+     * @param props configuration properties
      * @return created optimizer planner context map
      */
-    public static Map<String, OptimizerPlannerContext> create(final FederationMetaData metaData) {
+    public static Map<String, OptimizerPlannerContext> create(final FederationMetaData metaData, final ConfigurationProperties props) {
         Map<String, OptimizerPlannerContext> result = new HashMap<>(metaData.getSchemas().size(), 1);
         for (Entry<String, FederationSchemaMetaData> entry : metaData.getSchemas().entrySet()) {
             String schemaName = entry.getKey();
@@ -69,7 +72,7 @@ public final class OptimizerPlannerContextFactory {
             CalciteCatalogReader catalogReader = createCatalogReader(schemaName, federationSchema, relDataTypeFactory, connectionConfig);
             SqlValidator validator = createValidator(catalogReader, relDataTypeFactory, connectionConfig);
             SqlToRelConverter converter = createConverter(catalogReader, validator, relDataTypeFactory);
-            result.put(schemaName, new OptimizerPlannerContext(validator, converter));
+            result.put(schemaName, new OptimizerPlannerContext(validator, converter, createScanPlanCache(props), createPlanCache(props)));
         }
         return result;
     }
@@ -78,16 +81,25 @@ public final class OptimizerPlannerContextFactory {
      * Create optimizer planner context.
      *
      * @param schemaMetaData federation schema meta data
+     * @param props configuration properties
      * @return created optimizer planner context
      */
-    public static OptimizerPlannerContext create(final FederationSchemaMetaData schemaMetaData) {
+    public static OptimizerPlannerContext create(final FederationSchemaMetaData schemaMetaData, final ConfigurationProperties props) {
         FederationSchema federationSchema = new FederationSchema(schemaMetaData);
         CalciteConnectionConfig connectionConfig = new CalciteConnectionConfigImpl(createConnectionProperties());
         RelDataTypeFactory relDataTypeFactory = new JavaTypeFactoryImpl();
         CalciteCatalogReader catalogReader = createCatalogReader(schemaMetaData.getName(), federationSchema, relDataTypeFactory, connectionConfig);
         SqlValidator validator = createValidator(catalogReader, relDataTypeFactory, connectionConfig);
         SqlToRelConverter converter = createConverter(catalogReader, validator, relDataTypeFactory);
-        return new OptimizerPlannerContext(validator, converter);
+        return new OptimizerPlannerContext(validator, converter, createScanPlanCache(props), createPlanCache(props));
+    }
+    
+    private static FilterableTableScanPlanCache createScanPlanCache(final ConfigurationProperties props) {
+        return new FilterableTableScanPlanCache(props.<Integer>getValue(ConfigurationPropertyKey.SQL_FEDERATION_SCAN_PLAN_CACHE_SIZE));
+    }
+    
+    private static FederationPlanCache createPlanCache(final ConfigurationProperties props) {
+        return new FederationPlanCache(props.<Integer>getValue(ConfigurationPropertyKey.SQL_FEDERATION_PLAN_CACHE_SIZE));
     }
     
     private static Properties createConnectionProperties() {
@@ -17,12 +17,16 @@
 
 package org.apache.shardingsphere.infra.federation.optimizer.metadata;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic.TableStatistics;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Federation schema meta data.
@@ -34,6 +38,11 @@ public final class FederationSchemaMetaData {
     
     private final Map<String, FederationTableMetaData> tables;
     
+    private final Map<String, TableStatistics> statistics = new ConcurrentHashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong version = new AtomicLong();
+    
     public FederationSchemaMetaData(final String name, final Map<String, TableMetaData> metaData) {
         this.name = name;
         this.tables = new ConcurrentHashMap<>(metaData.size(), 1);
@@ -49,6 +58,7 @@ public final class FederationSchemaMetaData {
      */
     public void put(final TableMetaData metaData) {
         tables.put(metaData.getName().toLowerCase(), new FederationTableMetaData(metaData.getName(), metaData));
+        version.incrementAndGet();
     }
     
     /**
@@ -58,5 +68,39 @@ public final class FederationSchemaMetaData {
      */
     public void remove(final String tableName) {
         tables.remove(tableName.toLowerCase());
+        statistics.remove(tableName.toLowerCase());
+        version.incrementAndGet();
+    }
+    
+    /**
+     * Put table statistics.
+     *
+     * @param tableName table name
+     * @param tableStatistics table statistics
+     */
+    public void putStatistics(final String tableName, final TableStatistics tableStatistics) {
+        TableStatistics previous = statistics.put(tableName.toLowerCase(), tableStatistics);
+        if (null == previous || previous.getRowCount() != tableStatistics.getRowCount() || !previous.getDistinctCounts().equals(tableStatistics.getDistinctCounts())) {
+            version.incrementAndGet();
+        }
+    }
+    
+    /**
+     * Find table statistics.
+     *
+     * @param tableName table name
+     * @return table statistics
+     */
+    public Optional<TableStatistics> findStatistics(final String tableName) {
+        return Optional.ofNullable(statistics.get(tableName.toLowerCase()));
+    }
+    
+    /**
+     * Get version of schema meta data, which is increased if tables or statistics changed.
+     *
+     * @return version of schema meta data
+     */
+    public long getVersion() {
+        return version.get();
     }
 }
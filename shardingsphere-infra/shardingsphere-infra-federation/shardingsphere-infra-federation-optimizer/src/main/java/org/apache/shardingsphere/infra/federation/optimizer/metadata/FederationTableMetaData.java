@@ -29,6 +29,7 @@ import org.apache.calcite.sql.type.SqlTypeFactoryImpl;
 import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -46,10 +47,13 @@ public final class FederationTableMetaData {
     
     private final List<String> columnNames;
     
+    private final List<String> primaryKeyColumns;
+    
     public FederationTableMetaData(final String name, final TableMetaData tableMetaData) {
         this.name = name;
         relProtoDataType = createRelProtoDataType(tableMetaData);
         columnNames = tableMetaData.getColumns().values().stream().map(ColumnMetaData::getName).collect(Collectors.toList());
+        primaryKeyColumns = new ArrayList<>(tableMetaData.getPrimaryKeyColumns());
     }
     
     private RelProtoDataType createRelProtoDataType(final TableMetaData tableMetaData) {
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite;
+
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.BuiltInMetadata.DistinctRowCount;
+import org.apache.calcite.rel.metadata.MetadataDef;
+import org.apache.calcite.rel.metadata.MetadataHandler;
+import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rel.metadata.RelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.util.BuiltInMethod;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.NumberUtil;
+
+import java.util.Optional;
+
+/**
+ * Distinct row count of federation table scan, estimated by distinct counts of columns in table statistics.
+ */
+public final class FederationRelMdDistinctRowCount implements MetadataHandler<DistinctRowCount> {
+    
+    public static final RelMetadataProvider SOURCE = ReflectiveRelMetadataProvider.reflectiveSource(BuiltInMethod.DISTINCT_ROW_COUNT.method, new FederationRelMdDistinctRowCount());
+    
+    @Override
+    public MetadataDef<DistinctRowCount> getDef() {
+        return DistinctRowCount.DEF;
+    }
+    
+    /**
+     * Get distinct row count of table scan.
+     *
+     * @param scan table scan
+     * @param mq relational meta data query
+     * @param groupKey ordinals of columns
+     * @param predicate predicate of rows
+     * @return distinct row count, null if unknown
+     */
+    public Double getDistinctRowCount(final TableScan scan, final RelMetadataQuery mq, final ImmutableBitSet groupKey, final RexNode predicate) {
+        Optional<Double> distinctRowCount = FederationTableStatistic.find(scan).flatMap(optional -> optional.findDistinctRowCount(groupKey));
+        if (distinctRowCount.isPresent()) {
+            return null == predicate || predicate.isAlwaysTrue()
+                    ? distinctRowCount.get() : RelMdUtil.numDistinctVals(distinctRowCount.get(), mq.getRowCount(scan) * mq.getSelectivity(scan, predicate));
+        }
+        return RelMdUtil.areColumnsDefinitelyUnique(mq, scan, groupKey) ? NumberUtil.multiply(mq.getRowCount(scan), mq.getSelectivity(scan, predicate)) : null;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite;
+
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.rel.metadata.BuiltInMetadata.Selectivity;
+import org.apache.calcite.rel.metadata.MetadataDef;
+import org.apache.calcite.rel.metadata.MetadataHandler;
+import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMdUtil;
+import org.apache.calcite.rel.metadata.RelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexDynamicParam;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.util.BuiltInMethod;
+import org.apache.calcite.util.ImmutableBitSet;
+
+import java.util.Optional;
+
+/**
+ * Selectivity of federation table scan, equality predicate on column is estimated by distinct count of column in table statistics.
+ */
+public final class FederationRelMdSelectivity implements MetadataHandler<Selectivity> {
+    
+    public static final RelMetadataProvider SOURCE = ReflectiveRelMetadataProvider.reflectiveSource(BuiltInMethod.SELECTIVITY.method, new FederationRelMdSelectivity());
+    
+    @Override
+    public MetadataDef<Selectivity> getDef() {
+        return Selectivity.DEF;
+    }
+    
+    /**
+     * Get selectivity of table scan.
+     *
+     * @param scan table scan
+     * @param mq relational meta data query
+     * @param predicate predicate of rows
+     * @return selectivity
+     */
+    public Double getSelectivity(final TableScan scan, final RelMetadataQuery mq, final RexNode predicate) {
+        Optional<FederationTableStatistic> statistic = FederationTableStatistic.find(scan);
+        if (null == predicate || !statistic.isPresent()) {
+            return RelMdUtil.guessSelectivity(predicate);
+        }
+        double result = 1D;
+        for (RexNode each : RelOptUtil.conjunctions(predicate)) {
+            result *= getSelectivity(statistic.get(), each);
+        }
+        return result;
+    }
+    
+    private double getSelectivity(final FederationTableStatistic statistic, final RexNode predicate) {
+        Optional<Double> distinctRowCount = findEqualsColumn(predicate).flatMap(optional -> statistic.findDistinctRowCount(ImmutableBitSet.of(optional)));
+        return distinctRowCount.isPresent() ? 1D / distinctRowCount.get() : RelMdUtil.guessSelectivity(predicate);
+    }
+    
+    private Optional<Integer> findEqualsColumn(final RexNode predicate) {
+        if (!predicate.isA(SqlKind.EQUALS)) {
+            return Optional.empty();
+        }
+        RexNode left = RexUtil.removeCast(((RexCall) predicate).getOperands().get(0));
+        RexNode right = RexUtil.removeCast(((RexCall) predicate).getOperands().get(1));
+        if (left instanceof RexInputRef && isConstant(right)) {
+            return Optional.of(((RexInputRef) left).getIndex());
+        }
+        if (right instanceof RexInputRef && isConstant(left)) {
+            return Optional.of(((RexInputRef) right).getIndex());
+        }
+        return Optional.empty();
+    }
+    
+    private boolean isConstant(final RexNode node) {
+        return node instanceof RexLiteral || node instanceof RexDynamicParam;
+    }
+}
@@ -41,7 +41,7 @@ public final class FederationSchema extends AbstractSchema {
     private Map<String, Table> getTableMap(final FederationSchemaMetaData metaData) {
         Map<String, Table> result = new LinkedMap<>(metaData.getTables().size(), 1);
         for (FederationTableMetaData each : metaData.getTables().values()) {
-            result.put(each.getName(), new FederationTable(each));
+            result.put(each.getName(), new FederationTable(each, new FederationTableStatistic(metaData, each)));
         }
         return result;
     }
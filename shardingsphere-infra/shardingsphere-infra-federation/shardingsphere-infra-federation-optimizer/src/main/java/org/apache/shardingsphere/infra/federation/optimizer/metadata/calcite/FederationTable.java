@@ -24,6 +24,7 @@ import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.schema.ProjectableFilterableTable;
+import org.apache.calcite.schema.Statistic;
 import org.apache.calcite.schema.impl.AbstractTable;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
 
@@ -37,6 +38,8 @@ public final class FederationTable extends AbstractTable implements ProjectableF
     
     private final FederationTableMetaData metaData;
     
+    private final FederationTableStatistic statistic;
+    
     @Override
     public RelDataType getRowType(final RelDataTypeFactory typeFactory) {
         return metaData.getRelProtoDataType().apply(typeFactory);
@@ -46,4 +49,9 @@ public final class FederationTable extends AbstractTable implements ProjectableF
     public Enumerable<Object[]> scan(final DataContext root, final List<RexNode> filters, final int[] projects) {
         return null;
     }
+    
+    @Override
+    public Statistic getStatistic() {
+        return statistic;
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelDistribution;
+import org.apache.calcite.rel.RelDistributionTraitDef;
+import org.apache.calcite.rel.RelReferentialConstraint;
+import org.apache.calcite.rel.core.TableScan;
+import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.schema.Table;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic.TableStatistics;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Statistic of federation table.
+ *
+ * <p>Row count and keys are provided only if table statistics of schema are collected, only declared primary key is a key.
+ * Distinct counts of columns are estimates summed across actual tables, so they are only used to estimate distinct row count and selectivity, never as keys.</p>
+ */
+@RequiredArgsConstructor
+public final class FederationTableStatistic implements Statistic {
+    
+    private final FederationSchemaMetaData schemaMetaData;
+    
+    private final FederationTableMetaData tableMetaData;
+    
+    @Override
+    public Double getRowCount() {
+        Optional<TableStatistics> statistics = schemaMetaData.findStatistics(tableMetaData.getName());
+        return statistics.isPresent() ? Double.valueOf(statistics.get().getRowCount()) : Statistic.super.getRowCount();
+    }
+    
+    @Override
+    public boolean isKey(final ImmutableBitSet columns) {
+        return getKeys().stream().anyMatch(columns::contains);
+    }
+    
+    @Override
+    public List<ImmutableBitSet> getKeys() {
+        List<ImmutableBitSet> result = new LinkedList<>();
+        if (!schemaMetaData.findStatistics(tableMetaData.getName()).isPresent()) {
+            return result;
+        }
+        List<String> columnNames = tableMetaData.getColumnNames();
+        List<String> primaryKeyColumns = tableMetaData.getPrimaryKeyColumns();
+        if (!primaryKeyColumns.isEmpty() && columnNames.containsAll(primaryKeyColumns)) {
+            result.add(ImmutableBitSet.of(primaryKeyColumns.stream().map(columnNames::indexOf).collect(Collectors.toList())));
+        }
+        return result;
+    }
+    
+    /**
+     * Find distinct row count of columns.
+     *
+     * @param columns ordinals of columns
+     * @return distinct row count, not more than row count, empty if distinct count of any column is not collected
+     */
+    public Optional<Double> findDistinctRowCount(final ImmutableBitSet columns) {
+        Optional<TableStatistics> statistics = schemaMetaData.findStatistics(tableMetaData.getName());
+        if (!statistics.isPresent() || columns.isEmpty()) {
+            return Optional.empty();
+        }
+        List<String> columnNames = tableMetaData.getColumnNames();
+        double result = 1D;
+        for (int each : columns) {
+            Optional<Long> distinctCount = each < columnNames.size() ? statistics.get().findDistinctCount(columnNames.get(each)) : Optional.empty();
+            if (!distinctCount.isPresent() || distinctCount.get() <= 0L) {
+                return Optional.empty();
+            }
+            result *= distinctCount.get();
+        }
+        return Optional.of(Math.min(result, statistics.get().getRowCount()));
+    }
+    
+    /**
+     * Find federation table statistic of table scan.
+     *
+     * @param scan table scan
+     * @return federation table statistic
+     */
+    public static Optional<FederationTableStatistic> find(final TableScan scan) {
+        Table table = scan.getTable().unwrap(Table.class);
+        return null != table && table.getStatistic() instanceof FederationTableStatistic ? Optional.of((FederationTableStatistic) table.getStatistic()) : Optional.empty();
+    }
+    
+    @Override
+    public List<RelReferentialConstraint> getReferentialConstraints() {
+        return new ArrayList<>();
+    }
+    
+    @Override
+    public List<RelCollation> getCollations() {
+        return new ArrayList<>();
+    }
+    
+    @Override
+    public RelDistribution getDistribution() {
+        return RelDistributionTraitDef.INSTANCE.getDefault();
+    }
+}
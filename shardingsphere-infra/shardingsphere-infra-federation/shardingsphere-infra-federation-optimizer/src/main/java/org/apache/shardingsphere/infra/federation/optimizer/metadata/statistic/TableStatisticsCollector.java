@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic.dialect.DialectTableStatisticsLoader;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataSourceContainedRule;
+import org.apache.shardingsphere.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.spi.typed.TypedSPIRegistry;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.QuoteCharacter;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Table statistics collector.
+ *
+ * <p>Statistics of actual tables are loaded from catalog of database if dialect loader present, otherwise row count is counted by query with quoted table name.
+ * Row counts of actual tables are summed, distinct counts of actual tables are summed but not more than row count of logic table.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TableStatisticsCollector {
+    
+    static {
+        ShardingSphereServiceLoader.register(DialectTableStatisticsLoader.class);
+    }
+    
+    /**
+     * Collect statistics of logic table.
+     *
+     * @param metaData ShardingSphere meta data
+     * @param tableName logic table name
+     * @return statistics of logic table, empty if actual tables of logic table are unknown
+     * @throws SQLException SQL exception
+     */
+    public static Optional<TableStatistics> collect(final ShardingSphereMetaData metaData, final String tableName) throws SQLException {
+        Collection<DataNode> dataNodes = getDataNodes(metaData.getRuleMetaData().getRules(), tableName);
+        if (dataNodes.isEmpty()) {
+            return Optional.empty();
+        }
+        Optional<DialectTableStatisticsLoader> dialectLoader = TypedSPIRegistry.findRegisteredService(
+                DialectTableStatisticsLoader.class, metaData.getResource().getDatabaseType().getName(), new Properties());
+        QuoteCharacter quoteCharacter = metaData.getResource().getDatabaseType().getQuoteCharacter();
+        long rowCount = 0L;
+        Map<String, Long> distinctCounts = new HashMap<>();
+        for (DataNode each : dataNodes) {
+            Optional<DataSource> dataSource = findDataSource(metaData, each.getDataSourceName());
+            if (!dataSource.isPresent()) {
+                return Optional.empty();
+            }
+            TableStatistics actualTableStatistics = load(dataSource.get(), each.getTableName(), quoteCharacter, dialectLoader.orElse(null));
+            rowCount += actualTableStatistics.getRowCount();
+            actualTableStatistics.getDistinctCounts().forEach((key, value) -> distinctCounts.merge(key, value, Long::sum));
+        }
+        for (Entry<String, Long> entry : distinctCounts.entrySet()) {
+            entry.setValue(Math.min(entry.getValue(), rowCount));
+        }
+        return Optional.of(new TableStatistics(rowCount, distinctCounts, System.currentTimeMillis()));
+    }
+    
+    private static Collection<DataNode> getDataNodes(final Collection<ShardingSphereRule> rules, final String tableName) {
+        return rules.stream().filter(each -> each instanceof DataNodeContainedRule).flatMap(each -> ((DataNodeContainedRule) each).getAllDataNodes().entrySet().stream())
+                .filter(entry -> entry.getKey().equalsIgnoreCase(tableName)).findFirst().map(Entry::getValue).orElse(Collections.emptyList());
+    }
+    
+    private static Optional<DataSource> findDataSource(final ShardingSphereMetaData metaData, final String dataSourceName) {
+        Map<String, DataSource> dataSources = metaData.getResource().getDataSources();
+        if (dataSources.containsKey(dataSourceName)) {
+            return Optional.of(dataSources.get(dataSourceName));
+        }
+        for (ShardingSphereRule each : metaData.getRuleMetaData().getRules()) {
+            if (each instanceof DataSourceContainedRule && ((DataSourceContainedRule) each).getDataSourceMapper().containsKey(dataSourceName)) {
+                return ((DataSourceContainedRule) each).getDataSourceMapper().get(dataSourceName).stream().filter(dataSources::containsKey).findFirst().map(dataSources::get);
+            }
+        }
+        return Optional.empty();
+    }
+    
+    private static TableStatistics load(final DataSource dataSource, final String actualTableName, final QuoteCharacter quoteCharacter,
+                                        final DialectTableStatisticsLoader dialectLoader) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            if (null != dialectLoader) {
+                Optional<TableStatistics> result = dialectLoader.load(connection, actualTableName);
+                if (result.isPresent()) {
+                    return result.get();
+                }
+            }
+            return new TableStatistics(countRows(connection, quoteCharacter.wrap(actualTableName)), new HashMap<>(), 0L);
+        }
+    }
+    
+    private static long countRows(final Connection connection, final String quotedActualTableName) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(String.format("SELECT COUNT(*) FROM %s", quotedActualTableName))) {
+            return resultSet.next() ? resultSet.getLong(1) : 0L;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic.dialect;
+
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic.TableStatistics;
+import org.apache.shardingsphere.spi.typed.TypedSPI;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * Dialect table statistics loader, which loads statistics of actual table from catalog of database.
+ */
+public interface DialectTableStatisticsLoader extends TypedSPI {
+    
+    /**
+     * Load statistics of actual table.
+     *
+     * @param connection connection
+     * @param actualTableName actual table name
+     * @return statistics of actual table, empty if statistics are absent in catalog
+     * @throws SQLException SQL exception
+     */
+    Optional<TableStatistics> load(Connection connection, String actualTableName) throws SQLException;
+}
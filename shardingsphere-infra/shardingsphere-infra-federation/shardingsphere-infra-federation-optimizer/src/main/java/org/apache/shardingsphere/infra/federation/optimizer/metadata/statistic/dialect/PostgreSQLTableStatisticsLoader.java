@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic.dialect;
+
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic.TableStatistics;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Table statistics loader for PostgreSQL, row count and distinct counts are collected by analyze.
+ */
+public final class PostgreSQLTableStatisticsLoader implements DialectTableStatisticsLoader {
+    
+    private static final String ROW_COUNT_SQL = "SELECT c.reltuples FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace WHERE n.nspname = ? AND c.relname = ?";
+    
+    private static final String DISTINCT_COUNT_SQL = "SELECT attname, n_distinct FROM pg_stats WHERE schemaname = ? AND tablename = ?";
+    
+    @Override
+    public Optional<TableStatistics> load(final Connection connection, final String actualTableName) throws SQLException {
+        Optional<Long> rowCount = loadRowCount(connection, actualTableName);
+        return rowCount.isPresent() ? Optional.of(new TableStatistics(rowCount.get(), loadDistinctCounts(connection, actualTableName, rowCount.get()), 0L)) : Optional.empty();
+    }
+    
+    private Optional<Long> loadRowCount(final Connection connection, final String actualTableName) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(ROW_COUNT_SQL)) {
+            preparedStatement.setString(1, connection.getSchema());
+            preparedStatement.setString(2, actualTableName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() && resultSet.getDouble(1) >= 0 ? Optional.of((long) resultSet.getDouble(1)) : Optional.empty();
+            }
+        }
+    }
+    
+    private Map<String, Long> loadDistinctCounts(final Connection connection, final String actualTableName, final long rowCount) throws SQLException {
+        Map<String, Long> result = new HashMap<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(DISTINCT_COUNT_SQL)) {
+            preparedStatement.setString(1, connection.getSchema());
+            preparedStatement.setString(2, actualTableName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    double distinct = resultSet.getDouble(2);
+                    result.put(resultSet.getString(1).toLowerCase(), distinct < 0 ? (long) (-distinct * rowCount) : (long) distinct);
+                }
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public String getType() {
+        return "PostgreSQL";
+    }
+}
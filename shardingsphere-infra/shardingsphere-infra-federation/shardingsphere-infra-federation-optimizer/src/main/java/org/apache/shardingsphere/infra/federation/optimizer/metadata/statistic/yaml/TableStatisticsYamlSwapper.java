@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic.yaml;
+
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic.TableStatistics;
+import org.apache.shardingsphere.infra.yaml.config.swapper.YamlConfigurationSwapper;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.LinkedHashMap;
+
+/**
+ * Table statistics YAML swapper.
+ */
+public final class TableStatisticsYamlSwapper implements YamlConfigurationSwapper<YamlTableStatistics, TableStatistics> {
+    
+    @Override
+    public YamlTableStatistics swapToYamlConfiguration(final TableStatistics data) {
+        YamlTableStatistics result = new YamlTableStatistics();
+        result.setRowCount(data.getRowCount());
+        result.setDistinctCounts(new LinkedHashMap<>(data.getDistinctCounts()));
+        result.setRefreshedMilliseconds(data.getRefreshedMilliseconds());
+        return result;
+    }
+    
+    @Override
+    public TableStatistics swapToObject(final YamlTableStatistics yamlConfig) {
+        Map<String, Long> distinctCounts = null == yamlConfig.getDistinctCounts() ? new HashMap<>() : new HashMap<>(yamlConfig.getDistinctCounts());
+        return new TableStatistics(yamlConfig.getRowCount(), distinctCounts, yamlConfig.getRefreshedMilliseconds());
+    }
+}
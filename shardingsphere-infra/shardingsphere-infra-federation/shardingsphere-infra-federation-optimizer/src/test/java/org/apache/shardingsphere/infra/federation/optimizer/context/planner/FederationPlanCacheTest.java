@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.context.planner;
+
+import org.apache.calcite.jdbc.CalcitePrepare.CalciteSignature;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class FederationPlanCacheTest {
+    
+    private static final String SQL = "SELECT * FROM t_order WHERE order_id = ?";
+    
+    @Test
+    public void assertGet() {
+        FederationPlanCache planCache = new FederationPlanCache(16);
+        planCache.put(new FederationPlanCacheKey(SQL, 1L, -1L), mock(CalciteSignature.class));
+        assertTrue(planCache.get(new FederationPlanCacheKey(SQL, 1L, -1L)).isPresent());
+        assertFalse(planCache.get(new FederationPlanCacheKey(SQL, 2L, -1L)).isPresent());
+        assertFalse(planCache.get(new FederationPlanCacheKey("SELECT * FROM t_order", 1L, -1L)).isPresent());
+        assertThat(planCache.getStatistics().hitCount(), is(1L));
+        assertThat(planCache.getStatistics().missCount(), is(2L));
+    }
+    
+    @Test
+    public void assertGetWithoutCache() {
+        FederationPlanCache planCache = new FederationPlanCache(0);
+        planCache.put(new FederationPlanCacheKey(SQL, 1L, -1L), mock(CalciteSignature.class));
+        assertFalse(planCache.get(new FederationPlanCacheKey(SQL, 1L, -1L)).isPresent());
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.context.planner;
+
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.schema.SchemaPlus;
+import org.apache.calcite.schema.impl.AbstractTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.tools.Frameworks;
+import org.apache.calcite.tools.RelBuilder;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class FilterableTableScanPlanCacheTest {
+    
+    private RelBuilder relBuilder;
+    
+    @Before
+    public void setUp() {
+        SchemaPlus rootSchema = Frameworks.createRootSchema(true);
+        rootSchema.add("t_order", new AbstractTable() {
+            
+            @Override
+            public RelDataType getRowType(final RelDataTypeFactory typeFactory) {
+                return typeFactory.builder().add("order_id", SqlTypeName.INTEGER).add("user_id", SqlTypeName.INTEGER).build();
+            }
+        });
+        relBuilder = RelBuilder.create(Frameworks.newConfigBuilder().defaultSchema(rootSchema).build());
+    }
+    
+    @Test
+    public void assertGetWithDifferentParameters() {
+        FilterableTableScanPlanCache scanPlanCache = new FilterableTableScanPlanCache(16);
+        FilterableTableScanPlanCacheKey key = scanPlanCache.createKey("MySQL", createRelNode(createDynamicParameter()));
+        scanPlanCache.put(key, new FilterableTableScanPlan("SELECT * FROM t_order WHERE order_id = ?", Collections.singletonList(0), mock(SQLStatement.class)));
+        RelNode relNode = createRelNode(createDynamicParameter());
+        assertTrue(scanPlanCache.get(scanPlanCache.createKey("MySQL", relNode)).isPresent());
+        assertFalse(scanPlanCache.get(scanPlanCache.createKey("PostgreSQL", relNode)).isPresent());
+    }
+    
+    @Test
+    public void assertGetWithDifferentLiterals() {
+        FilterableTableScanPlanCache scanPlanCache = new FilterableTableScanPlanCache(16);
+        FilterableTableScanPlanCacheKey key = scanPlanCache.createKey("MySQL", createRelNode(relBuilder.literal(1)));
+        scanPlanCache.put(key, new FilterableTableScanPlan("SELECT * FROM t_order WHERE order_id = 1", Collections.emptyList(), mock(SQLStatement.class)));
+        assertTrue(scanPlanCache.get(scanPlanCache.createKey("MySQL", createRelNode(relBuilder.literal(1)))).isPresent());
+        assertFalse(scanPlanCache.get(scanPlanCache.createKey("MySQL", createRelNode(relBuilder.literal(2)))).isPresent());
+    }
+    
+    @Test
+    public void assertGetFromAnotherCache() {
+        FilterableTableScanPlanCache scanPlanCache = new FilterableTableScanPlanCache(16);
+        FilterableTableScanPlanCacheKey key = scanPlanCache.createKey("MySQL", createRelNode(createDynamicParameter()));
+        scanPlanCache.put(key, new FilterableTableScanPlan("SELECT * FROM t_order WHERE order_id = ?", Collections.singletonList(0), mock(SQLStatement.class)));
+        FilterableTableScanPlanCache anotherScanPlanCache = new FilterableTableScanPlanCache(16);
+        assertFalse(anotherScanPlanCache.get(anotherScanPlanCache.createKey("MySQL", createRelNode(createDynamicParameter()))).isPresent());
+    }
+    
+    private RexNode createDynamicParameter() {
+        return relBuilder.getRexBuilder().makeDynamicParam(relBuilder.getTypeFactory().createSqlType(SqlTypeName.INTEGER), 0);
+    }
+    
+    private RelNode createRelNode(final RexNode value) {
+        relBuilder.scan("t_order");
+        return relBuilder.filter(relBuilder.equals(relBuilder.field("order_id"), value)).build();
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata;
+
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic.TableStatistics;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class FederationSchemaMetaDataTest {
+    
+    @Test
+    public void assertGetVersionAfterTableChanged() {
+        FederationSchemaMetaData actual = new FederationSchemaMetaData("logic_db", Collections.emptyMap());
+        actual.put(new TableMetaData("t_order"));
+        assertThat(actual.getVersion(), is(1L));
+        actual.remove("t_order");
+        assertThat(actual.getVersion(), is(2L));
+    }
+    
+    @Test
+    public void assertGetVersionAfterStatisticsChanged() {
+        FederationSchemaMetaData actual = new FederationSchemaMetaData("logic_db", Collections.singletonMap("t_order", new TableMetaData("t_order")));
+        actual.putStatistics("t_order", new TableStatistics(100L, Collections.singletonMap("user_id", 10L), 1L));
+        assertThat(actual.getVersion(), is(1L));
+        actual.putStatistics("t_order", new TableStatistics(100L, Collections.singletonMap("user_id", 10L), 2L));
+        assertThat(actual.getVersion(), is(1L));
+        actual.putStatistics("t_order", new TableStatistics(200L, Collections.singletonMap("user_id", 10L), 3L));
+        assertThat(actual.getVersion(), is(2L));
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite;
+
+import com.google.common.collect.ImmutableList;
+import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.hep.HepPlanner;
+import org.apache.calcite.plan.hep.HepProgram;
+import org.apache.calcite.prepare.RelOptTableImpl;
+import org.apache.calcite.rel.logical.LogicalTableScan;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic.TableStatistics;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class FederationRelMetadataProviderTest {
+    
+    private RexBuilder rexBuilder;
+    
+    private LogicalTableScan scan;
+    
+    private RelMetadataQuery mq;
+    
+    @Before
+    public void setUp() {
+        TableMetaData tableMetaData = new TableMetaData("t_order", Arrays.asList(new ColumnMetaData("order_id", Types.INTEGER, true, false, false),
+                new ColumnMetaData("user_id", Types.INTEGER, false, false, false)), Collections.emptyList());
+        FederationSchemaMetaData schemaMetaData = new FederationSchemaMetaData("logic_db", Collections.singletonMap("t_order", tableMetaData));
+        schemaMetaData.putStatistics("t_order", new TableStatistics(1000L, Collections.singletonMap("user_id", 1000L), System.currentTimeMillis()));
+        FederationTableMetaData federationTableMetaData = new FederationTableMetaData("t_order", tableMetaData);
+        FederationTable table = new FederationTable(federationTableMetaData, new FederationTableStatistic(schemaMetaData, federationTableMetaData));
+        RelDataTypeFactory typeFactory = new JavaTypeFactoryImpl();
+        rexBuilder = new RexBuilder(typeFactory);
+        RelOptCluster cluster = RelOptCluster.create(new HepPlanner(HepProgram.builder().build()), rexBuilder);
+        cluster.setMetadataProvider(FederationRelMetadataProvider.INSTANCE);
+        scan = LogicalTableScan.create(cluster, RelOptTableImpl.create(null, table.getRowType(typeFactory), ImmutableList.of("t_order"), table, null), Collections.emptyList());
+        mq = cluster.getMetadataQuery();
+    }
+    
+    @Test
+    public void assertGetDistinctRowCount() {
+        assertThat(mq.getDistinctRowCount(scan, ImmutableBitSet.of(1), null), is(1000D));
+    }
+    
+    @Test
+    public void assertGetSelectivity() {
+        RexNode predicate = rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, rexBuilder.makeInputRef(scan, 1), rexBuilder.makeExactLiteral(BigDecimal.ONE));
+        assertThat(mq.getSelectivity(scan, predicate), is(0.001D));
+    }
+    
+    @Test
+    public void assertColumnWithDistinctCountNotLessThanRowCountIsNotUnique() {
+        assertFalse(mq.areColumnsUnique(scan, ImmutableBitSet.of(1)));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.calcite;
+
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationTableMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic.TableStatistics;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class FederationTableStatisticTest {
+    
+    private FederationSchemaMetaData schemaMetaData;
+    
+    private FederationTableStatistic statistic;
+    
+    @Before
+    public void setUp() {
+        TableMetaData tableMetaData = new TableMetaData("t_order", Arrays.asList(new ColumnMetaData("order_id", Types.INTEGER, true, false, false),
+                new ColumnMetaData("user_id", Types.INTEGER, false, false, false), new ColumnMetaData("status", Types.VARCHAR, false, false, false)), Collections.emptyList());
+        schemaMetaData = new FederationSchemaMetaData("logic_db", Collections.singletonMap("t_order", tableMetaData));
+        statistic = new FederationTableStatistic(schemaMetaData, new FederationTableMetaData("t_order", tableMetaData));
+    }
+    
+    @Test
+    public void assertGetStatisticWithoutTableStatistics() {
+        assertNull(statistic.getRowCount());
+        assertTrue(statistic.getKeys().isEmpty());
+        assertFalse(statistic.isKey(ImmutableBitSet.of(0, 1)));
+    }
+    
+    @Test
+    public void assertGetStatisticWithTableStatistics() {
+        schemaMetaData.putStatistics("T_ORDER", new TableStatistics(100L, Collections.singletonMap("user_id", 100L), System.currentTimeMillis()));
+        assertThat(statistic.getRowCount(), is(100D));
+        assertThat(statistic.getKeys(), is(Collections.singletonList(ImmutableBitSet.of(0))));
+        assertTrue(statistic.isKey(ImmutableBitSet.of(0, 2)));
+        assertFalse(statistic.isKey(ImmutableBitSet.of(1)));
+        assertFalse(statistic.isKey(ImmutableBitSet.of(2)));
+    }
+    
+    @Test
+    public void assertFindDistinctRowCount() {
+        assertFalse(statistic.findDistinctRowCount(ImmutableBitSet.of(1)).isPresent());
+        Map<String, Long> distinctCounts = new HashMap<>(2, 1);
+        distinctCounts.put("user_id", 20L);
+        distinctCounts.put("status", 10L);
+        schemaMetaData.putStatistics("t_order", new TableStatistics(100L, distinctCounts, System.currentTimeMillis()));
+        assertThat(statistic.findDistinctRowCount(ImmutableBitSet.of(1)), is(Optional.of(20D)));
+        assertThat(statistic.findDistinctRowCount(ImmutableBitSet.of(1, 2)), is(Optional.of(100D)));
+        assertFalse(statistic.findDistinctRowCount(ImmutableBitSet.of(0, 1)).isPresent());
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic;
+
+import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class TableStatisticsCollectorTest {
+    
+    @Test
+    public void assertCollectWithCountedRows() throws SQLException {
+        ShardingSphereMetaData metaData = mockMetaData();
+        Optional<TableStatistics> actual = TableStatisticsCollector.collect(metaData, "T_ORDER");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getRowCount(), is(30L));
+        assertTrue(actual.get().getDistinctCounts().isEmpty());
+    }
+    
+    @Test
+    public void assertCollectWithoutDataNodes() throws SQLException {
+        assertFalse(TableStatisticsCollector.collect(mockMetaData(), "t_user").isPresent());
+    }
+    
+    private ShardingSphereMetaData mockMetaData() throws SQLException {
+        ShardingSphereMetaData result = mock(ShardingSphereMetaData.class, RETURNS_DEEP_STUBS);
+        when(result.getResource().getDatabaseType()).thenReturn(new H2DatabaseType());
+        Map<String, DataSource> dataSources = new HashMap<>(2, 1);
+        dataSources.put("ds_0", mockDataSource("t_order_0", 10L));
+        dataSources.put("ds_1", mockDataSource("t_order_1", 20L));
+        when(result.getResource().getDataSources()).thenReturn(dataSources);
+        DataNodeContainedRule rule = mock(DataNodeContainedRule.class);
+        when(rule.getAllDataNodes()).thenReturn(Collections.singletonMap("t_order", Arrays.asList(new DataNode("ds_0", "t_order_0"), new DataNode("ds_1", "t_order_1"))));
+        when(result.getRuleMetaData().getRules()).thenReturn(Collections.singletonList(rule));
+        return result;
+    }
+    
+    private DataSource mockDataSource(final String actualTableName, final long rowCount) throws SQLException {
+        DataSource result = mock(DataSource.class, RETURNS_DEEP_STUBS);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(rowCount);
+        when(result.getConnection().createStatement().executeQuery("SELECT COUNT(*) FROM \"" + actualTableName + "\"")).thenReturn(resultSet);
+        return result;
+    }
+}
@@ -17,9 +17,17 @@
 
 package org.apache.shardingsphere.infra.merge.result.impl.memory;
 
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
+import lombok.AccessLevel;
+import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.MemoryMergeBudget;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.spill.SpillableRowsSorter;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 
@@ -31,8 +39,12 @@ import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.SQLXML;
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Properties;
 
 /**
  * Memory merged result.
@@ -41,21 +53,55 @@ import java.util.List;
  */
 public abstract class MemoryMergedResult<T extends ShardingSphereRule> implements MergedResult {
     
-    private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
+    private static final ConfigurationProperties DEFAULT_PROPS = new ConfigurationProperties(new Properties());
+    
+    @Getter(AccessLevel.PROTECTED)
+    private final ConfigurationProperties props;
+    
+    private final Collection<SpillableRowsSorter> rowsSorters = new LinkedList<>();
+    
+    private final PeekingIterator<MemoryQueryResultRow> memoryResultSetRows;
     
     private MemoryQueryResultRow currentResultSetRow;
     
     private boolean wasNull;
     
     protected MemoryMergedResult(final T rule, final ShardingSphereSchema schema, final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
-        List<MemoryQueryResultRow> memoryQueryResultRowList = init(rule, schema, sqlStatementContext, queryResults);
-        memoryResultSetRows = memoryQueryResultRowList.iterator();
-        if (!memoryQueryResultRowList.isEmpty()) {
-            currentResultSetRow = memoryQueryResultRowList.get(0);
+        this(rule, schema, sqlStatementContext, queryResults, DEFAULT_PROPS);
+    }
+    
+    protected MemoryMergedResult(final T rule, final ShardingSphereSchema schema, final SQLStatementContext sqlStatementContext, 
+                                 final List<QueryResult> queryResults, final ConfigurationProperties props) throws SQLException {
+        this.props = props;
+        boolean initialized = false;
+        try {
+            memoryResultSetRows = Iterators.peekingIterator(init(rule, schema, sqlStatementContext, queryResults));
+            initialized = true;
+        } finally {
+            if (!initialized) {
+                close();
+            }
+        }
+        if (memoryResultSetRows.hasNext()) {
+            currentResultSetRow = memoryResultSetRows.peek();
         }
     }
     
-    protected abstract List<MemoryQueryResultRow> init(T rule, ShardingSphereSchema schema, SQLStatementContext sqlStatementContext, List<QueryResult> queryResults) throws SQLException;
+    protected abstract Iterator<MemoryQueryResultRow> init(T rule, ShardingSphereSchema schema, SQLStatementContext sqlStatementContext, List<QueryResult> queryResults) throws SQLException;
+    
+    /**
+     * Create rows sorter, which spills sorted rows to temporary files if memory merge budget is exceeded.
+     * 
+     * <p>Rows sorter is closed with this merged result.</p>
+     *
+     * @param comparator comparator of rows
+     * @return rows sorter
+     */
+    protected final SpillableRowsSorter createRowsSorter(final Comparator<MemoryQueryResultRow> comparator) {
+        SpillableRowsSorter result = new SpillableRowsSorter(comparator, new MemoryMergeBudget(props), props.getValue(ConfigurationPropertyKey.SPILL_DIRECTORY));
+        rowsSorters.add(result);
+        return result;
+    }
     
     @Override
     public final boolean next() {
@@ -93,4 +139,10 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
     public final boolean wasNull() {
         return wasNull;
     }
+    
+    @Override
+    public final void close() {
+        rowsSorters.forEach(SpillableRowsSorter::close);
+        rowsSorters.clear();
+    }
 }
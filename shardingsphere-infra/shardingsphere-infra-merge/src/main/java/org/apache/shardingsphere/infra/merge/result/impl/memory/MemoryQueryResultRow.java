@@ -44,6 +44,15 @@ public final class MemoryQueryResultRow {
         return result;
     }
     
+    /**
+     * Get column count.
+     *
+     * @return column count
+     */
+    public int getColumnCount() {
+        return data.length;
+    }
+    
     /**
      * Get data from cell.
      * 
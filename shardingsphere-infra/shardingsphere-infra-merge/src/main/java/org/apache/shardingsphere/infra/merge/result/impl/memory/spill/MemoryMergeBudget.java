@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Memory budget of memory merged result.
+ *
+ * <p>Rows and bytes are limited per query, bytes are also limited for all queries of the JVM.
+ * Each query can always hold min run bytes regardless of the limitation for all queries, so that spilled runs are not too small to merge.</p>
+ */
+@RequiredArgsConstructor
+public final class MemoryMergeBudget {
+    
+    private static final long DEFAULT_MIN_RUN_BYTES = 1024L * 1024L;
+    
+    private static final AtomicLong TOTAL_ACQUIRED_BYTES = new AtomicLong();
+    
+    private final int maxRows;
+    
+    private final long maxBytes;
+    
+    private final long maxTotalBytes;
+    
+    private final long minRunBytes;
+    
+    private int acquiredRows;
+    
+    private long acquiredBytes;
+    
+    public MemoryMergeBudget(final int maxRows, final long maxBytes, final long maxTotalBytes) {
+        this(maxRows, maxBytes, maxTotalBytes, DEFAULT_MIN_RUN_BYTES);
+    }
+    
+    public MemoryMergeBudget(final ConfigurationProperties props) {
+        this(props.<Integer>getValue(ConfigurationPropertyKey.MEMORY_MERGE_MAX_ROWS_PER_QUERY),
+                props.<Long>getValue(ConfigurationPropertyKey.MEMORY_MERGE_MAX_BYTES_PER_QUERY), props.<Long>getValue(ConfigurationPropertyKey.MEMORY_MERGE_MAX_TOTAL_BYTES));
+    }
+    
+    /**
+     * Judge whether budget is unlimited.
+     *
+     * @return is unlimited or not
+     */
+    public boolean isUnlimited() {
+        return maxRows <= 0 && maxBytes <= 0 && maxTotalBytes <= 0;
+    }
+    
+    /**
+     * Try to acquire memory for one row.
+     *
+     * <p>Acquirement always succeeds if nothing acquired, so that at least one row could be held.
+     * Limitation for all queries is ignored until min run bytes acquired.</p>
+     *
+     * @param rowBytes estimated bytes of row
+     * @return acquired or not
+     */
+    public boolean tryAcquire(final long rowBytes) {
+        if (acquiredRows > 0 && (maxRows > 0 && acquiredRows >= maxRows || maxBytes > 0 && acquiredBytes + rowBytes > maxBytes)) {
+            return false;
+        }
+        if (maxTotalBytes > 0 && TOTAL_ACQUIRED_BYTES.addAndGet(rowBytes) > maxTotalBytes && acquiredRows > 0 && acquiredBytes >= minRunBytes) {
+            TOTAL_ACQUIRED_BYTES.addAndGet(-rowBytes);
+            return false;
+        }
+        acquiredRows++;
+        acquiredBytes += rowBytes;
+        return true;
+    }
+    
+    /**
+     * Release all acquired memory.
+     */
+    public void release() {
+        if (maxTotalBytes > 0) {
+            TOTAL_ACQUIRED_BYTES.addAndGet(-acquiredBytes);
+        }
+        acquiredRows = 0;
+        acquiredBytes = 0L;
+    }
+}
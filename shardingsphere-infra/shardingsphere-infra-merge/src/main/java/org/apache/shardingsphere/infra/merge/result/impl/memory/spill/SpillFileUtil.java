@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import com.google.common.base.Strings;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+
+/**
+ * Spill file utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SpillFileUtil {
+    
+    private static final String SUFFIX = ".spill";
+    
+    /**
+     * Create spill file which can only be read and written by owner.
+     *
+     * @param spillDirectory directory of spill files, use {@code java.io.tmpdir} if empty
+     * @param prefix prefix of file name
+     * @return created spill file
+     */
+    public static File createSpillFile(final String spillDirectory, final String prefix) {
+        Path directory = Paths.get(Strings.isNullOrEmpty(spillDirectory) ? System.getProperty("java.io.tmpdir") : spillDirectory);
+        try {
+            if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+                return Files.createTempFile(directory, prefix, SUFFIX, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------"))).toFile();
+            }
+            File result = Files.createTempFile(directory, prefix, SUFFIX).toFile();
+            result.setReadable(false, false);
+            result.setReadable(true, true);
+            result.setWritable(false, false);
+            result.setWritable(true, true);
+            return result;
+        } catch (final IOException ex) {
+            throw new ShardingSphereException("Can not create spill file.", ex);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Rows sorter which spills sorted runs to temporary files if memory merge budget is exceeded.
+ * 
+ * <p>Spilled runs are merged lazily by {@link SpilledRowsMergeIterator} while iterating sorted rows.
+ * If there are more runs than max merge fan-in, runs are merged into fewer runs in passes before iterating, so that files opened at the same time are bounded.
+ * Memory budget is released and spilled files are deleted after all sorted rows iterated or sorter closed.</p>
+ */
+public final class SpillableRowsSorter {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private static final int MAX_MERGE_FAN_IN = 64;
+    
+    private static final int ROW_OVERHEAD_BYTES = 32;
+    
+    private static final int CELL_OVERHEAD_BYTES = 24;
+    
+    private final Comparator<MemoryQueryResultRow> comparator;
+    
+    private final MemoryMergeBudget budget;
+    
+    private final String spillDirectory;
+    
+    private final List<MemoryQueryResultRow> bufferedRows = new ArrayList<>();
+    
+    private final List<File> spilledFiles = new LinkedList<>();
+    
+    private SpilledRowsMergeIterator spilledRowsMergeIterator;
+    
+    @Getter
+    private int rowCount;
+    
+    public SpillableRowsSorter(final Comparator<MemoryQueryResultRow> comparator, final MemoryMergeBudget budget, final String spillDirectory) {
+        this.comparator = comparator;
+        this.budget = budget;
+        this.spillDirectory = spillDirectory;
+    }
+    
+    /**
+     * Add row.
+     *
+     * @param row row to be added
+     */
+    public void add(final MemoryQueryResultRow row) {
+        rowCount++;
+        if (!budget.isUnlimited()) {
+            long rowBytes = estimate(row);
+            if (!budget.tryAcquire(rowBytes)) {
+                spill();
+                budget.tryAcquire(rowBytes);
+            }
+        }
+        bufferedRows.add(row);
+    }
+    
+    private long estimate(final MemoryQueryResultRow row) {
+        long result = ROW_OVERHEAD_BYTES;
+        for (int i = 1; i <= row.getColumnCount(); i++) {
+            result += CELL_OVERHEAD_BYTES + estimate(row.getCell(i));
+        }
+        return result;
+    }
+    
+    private long estimate(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return 24L + 2L * ((String) value).length();
+        }
+        if (value instanceof byte[]) {
+            return ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal || value instanceof BigInteger) {
+            return 48L;
+        }
+        return 8L;
+    }
+    
+    /**
+     * Sort all added rows.
+     *
+     * @return iterator of sorted rows
+     */
+    public Iterator<MemoryQueryResultRow> sort() {
+        if (spilledFiles.isEmpty()) {
+            bufferedRows.sort(comparator);
+            return new BufferedRowsIterator();
+        }
+        if (!bufferedRows.isEmpty()) {
+            spill();
+        }
+        mergeSpilledRuns();
+        spilledRowsMergeIterator = new SpilledRowsMergeIterator(spilledFiles, comparator);
+        spilledFiles.clear();
+        return spilledRowsMergeIterator;
+    }
+    
+    /**
+     * Sort buffered rows and spill them into temporary file as a sorted run.
+     *
+     * @return spilled bytes
+     */
+    public long spill() {
+        bufferedRows.sort(comparator);
+        try {
+            return writeRun(bufferedRows.iterator());
+        } finally {
+            bufferedRows.clear();
+            budget.release();
+        }
+    }
+    
+    private void mergeSpilledRuns() {
+        while (spilledFiles.size() > MAX_MERGE_FAN_IN) {
+            int remainingRuns = spilledFiles.size();
+            while (remainingRuns > 0) {
+                int fanIn = Math.min(MAX_MERGE_FAN_IN, remainingRuns);
+                List<File> mergedFiles = spilledFiles.subList(0, fanIn);
+                SpilledRowsMergeIterator mergedRows = new SpilledRowsMergeIterator(mergedFiles, comparator);
+                mergedFiles.clear();
+                try {
+                    writeRun(mergedRows);
+                } finally {
+                    mergedRows.close();
+                }
+                remainingRuns -= fanIn;
+            }
+        }
+    }
+    
+    private long writeRun(final Iterator<MemoryQueryResultRow> rows) {
+        File file = SpillFileUtil.createSpillFile(spillDirectory, "shardingsphere-merge-");
+        spilledFiles.add(file);
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE))) {
+            while (rows.hasNext()) {
+                MemoryQueryResultRow row = rows.next();
+                output.writeInt(row.getColumnCount());
+                for (int i = 1; i <= row.getColumnCount(); i++) {
+                    SpillValueCodec.write(output, row.getCell(i));
+                }
+            }
+            output.writeInt(-1);
+        } catch (final IOException ex) {
+            spilledFiles.forEach(File::delete);
+            throw new ShardingSphereException("Can not spill merged rows.", ex);
+        }
+        return file.length();
+    }
+    
+    /**
+     * Close sorter, release memory budget and delete spilled files.
+     */
+    public void close() {
+        bufferedRows.clear();
+        budget.release();
+        if (null != spilledRowsMergeIterator) {
+            spilledRowsMergeIterator.close();
+            spilledRowsMergeIterator = null;
+        }
+        spilledFiles.forEach(File::delete);
+        spilledFiles.clear();
+    }
+    
+    private final class BufferedRowsIterator implements Iterator<MemoryQueryResultRow> {
+        
+        private final Iterator<MemoryQueryResultRow> rows = bufferedRows.iterator();
+        
+        private boolean closed;
+        
+        @Override
+        public boolean hasNext() {
+            if (closed) {
+                return false;
+            }
+            if (rows.hasNext()) {
+                return true;
+            }
+            closed = true;
+            close();
+            return false;
+        }
+        
+        @Override
+        public MemoryQueryResultRow next() {
+            if (closed) {
+                throw new NoSuchElementException();
+            }
+            return rows.next();
+        }
+    }
+}
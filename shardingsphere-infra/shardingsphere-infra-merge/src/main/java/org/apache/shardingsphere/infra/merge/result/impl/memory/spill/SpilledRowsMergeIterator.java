@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Iterator which merges spilled runs of sorted rows lazily.
+ * 
+ * <p>Rows with same order come in sequence of runs, spilled files are deleted after all rows iterated or iterator closed.</p>
+ */
+public final class SpilledRowsMergeIterator implements Iterator<MemoryQueryResultRow> {
+    
+    private final Collection<File> spilledFiles;
+    
+    private final PriorityQueue<SpilledRowsRun> runs;
+    
+    public SpilledRowsMergeIterator(final Collection<File> spilledFiles, final Comparator<MemoryQueryResultRow> comparator) {
+        this.spilledFiles = new ArrayList<>(spilledFiles);
+        runs = new PriorityQueue<>(Math.max(1, spilledFiles.size()), (o1, o2) -> {
+            int result = comparator.compare(o1.getRow(), o2.getRow());
+            return 0 == result ? Integer.compare(o1.getRunIndex(), o2.getRunIndex()) : result;
+        });
+        int runIndex = 0;
+        try {
+            for (File each : spilledFiles) {
+                SpilledRowsRun run = new SpilledRowsRun(each, runIndex++);
+                if (run.next()) {
+                    runs.add(run);
+                } else {
+                    run.close();
+                }
+            }
+        } catch (final IOException ex) {
+            close();
+            throw new ShardingSphereException("Can not read spilled rows.", ex);
+        }
+        if (runs.isEmpty()) {
+            close();
+        }
+    }
+    
+    @Override
+    public boolean hasNext() {
+        return !runs.isEmpty();
+    }
+    
+    @Override
+    public MemoryQueryResultRow next() {
+        if (runs.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        SpilledRowsRun run = runs.poll();
+        MemoryQueryResultRow result = run.getRow();
+        try {
+            if (run.next()) {
+                runs.add(run);
+            } else {
+                run.close();
+            }
+        } catch (final IOException ex) {
+            run.close();
+            close();
+            throw new ShardingSphereException("Can not read spilled rows.", ex);
+        }
+        if (runs.isEmpty()) {
+            close();
+        }
+        return result;
+    }
+    
+    /**
+     * Close all runs and delete spilled files.
+     */
+    public void close() {
+        runs.forEach(SpilledRowsRun::close);
+        runs.clear();
+        spilledFiles.forEach(File::delete);
+        spilledFiles.clear();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+/**
+ * Spilled run of sorted rows.
+ */
+public final class SpilledRowsRun {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    @Getter
+    private final int runIndex;
+    
+    private final DataInputStream input;
+    
+    @Getter
+    private MemoryQueryResultRow row;
+    
+    public SpilledRowsRun(final File file, final int runIndex) throws IOException {
+        this.runIndex = runIndex;
+        input = new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE));
+    }
+    
+    /**
+     * Read next row.
+     *
+     * @return has next row or not
+     * @throws IOException IO exception
+     */
+    public boolean next() throws IOException {
+        int columnCount = input.readInt();
+        if (columnCount < 0) {
+            return false;
+        }
+        Object[] data = new Object[columnCount];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = SpillValueCodec.read(input);
+        }
+        row = new MemoryQueryResultRow(data);
+        return true;
+    }
+    
+    /**
+     * Close run.
+     */
+    public void close() {
+        try {
+            input.close();
+        } catch (final IOException ignored) {
+        }
+    }
+}
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 
 import java.sql.SQLException;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 import static org.mockito.Mockito.mock;
@@ -41,9 +42,9 @@ public final class TestMemoryMergedResult extends MemoryMergedResult<Independent
     }
     
     @Override
-    protected List<MemoryQueryResultRow> init(final IndependentRuleFixture rule, final ShardingSphereSchema schema, 
-                                              final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) {
+    protected Iterator<MemoryQueryResultRow> init(final IndependentRuleFixture rule, final ShardingSphereSchema schema, 
+                                                  final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) {
         memoryQueryResultRow = mock(MemoryQueryResultRow.class);
-        return Collections.singletonList(memoryQueryResultRow);
+        return Collections.singletonList(memoryQueryResultRow).iterator();
     }
 }
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+public final class SpillValueCodecTest {
+    
+    @Test
+    public void assertWriteAndRead() throws IOException {
+        List<Object> values = Arrays.asList(true, (byte) 1, (short) 2, 3, 4L, 5.5F, 6.5D, "foo", new BigDecimal("7.25"), BigInteger.TEN, 
+                new Date(1000L), new Timestamp(2000L), new java.util.Date(3000L), 
+                LocalDate.of(2021, 10, 1), LocalTime.of(12, 30, 15, 100), LocalDateTime.of(2021, 10, 1, 12, 30, 15, 100));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        for (Object each : values) {
+            SpillValueCodec.write(output, each);
+        }
+        SpillValueCodec.write(output, null);
+        SpillValueCodec.write(output, new byte[]{1, 2});
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        for (Object each : values) {
+            assertThat(SpillValueCodec.read(input), is(each));
+        }
+        assertNull(SpillValueCodec.read(input));
+        assertArrayEquals((byte[]) SpillValueCodec.read(input), new byte[]{1, 2});
+    }
+    
+    @Test(expected = ShardingSphereException.class)
+    public void assertWriteSerializableValue() throws IOException {
+        SpillValueCodec.write(new DataOutputStream(new ByteArrayOutputStream()), new StringBuilder("foo"));
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.merge.result.impl.memory.spill;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Comparator;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SpillableRowsSorterTest {
+    
+    private static final Comparator<MemoryQueryResultRow> COMPARATOR = Comparator.comparing(each -> (Integer) each.getCell(1));
+    
+    @Test
+    public void assertSortWithoutSpilling() {
+        SpillableRowsSorter sorter = new SpillableRowsSorter(COMPARATOR, new MemoryMergeBudget(0, 0L, 0L), "");
+        addRows(sorter);
+        Iterator<MemoryQueryResultRow> actual = sorter.sort();
+        assertRows(actual);
+    }
+    
+    @Test
+    public void assertSortWithSpillingByRows() {
+        SpillableRowsSorter sorter = new SpillableRowsSorter(COMPARATOR, new MemoryMergeBudget(2, 0L, 0L), "");
+        addRows(sorter);
+        Iterator<MemoryQueryResultRow> actual = sorter.sort();
+        assertThat(actual, instanceOf(SpilledRowsMergeIterator.class));
+        assertRows(actual);
+    }
+    
+    @Test
+    public void assertSortWithSpillingByBytes() {
+        SpillableRowsSorter sorter = new SpillableRowsSorter(COMPARATOR, new MemoryMergeBudget(0, 1L, 0L), "");
+        addRows(sorter);
+        Iterator<MemoryQueryResultRow> actual = sorter.sort();
+        assertThat(actual, instanceOf(SpilledRowsMergeIterator.class));
+        assertRows(actual);
+    }
+    
+    @Test
+    public void assertSortWithSpillingByTotalBytes() {
+        SpillableRowsSorter sorter = new SpillableRowsSorter(COMPARATOR, new MemoryMergeBudget(0, 0L, 1L, 0L), "");
+        addRows(sorter);
+        Iterator<MemoryQueryResultRow> actual = sorter.sort();
+        assertThat(actual, instanceOf(SpilledRowsMergeIterator.class));
+        assertRows(actual);
+    }
+    
+    @Test
+    public void assertSortWithoutSpillingByTotalBytesUnderMinRunBytes() {
+        SpillableRowsSorter sorter = new SpillableRowsSorter(COMPARATOR, new MemoryMergeBudget(0, 0L, 1L, 10000L), "");
+        addRows(sorter);
+        Iterator<MemoryQueryResultRow> actual = sorter.sort();
+        assertThat(actual, not(instanceOf(SpilledRowsMergeIterator.class)));
+        assertRows(actual);
+    }
+    
+    @Test
+    public void assertSortWithMultiplePassesMerging() {
+        int originalSpilledFileCount = getSpilledFileCount();
+        SpillableRowsSorter sorter = new SpillableRowsSorter(COMPARATOR, new MemoryMergeBudget(1, 0L, 0L), "");
+        for (int i = 300; i > 0; i--) {
+            sorter.add(new MemoryQueryResultRow(new Object[]{i, "foo"}));
+        }
+        Iterator<MemoryQueryResultRow> actual = sorter.sort();
+        assertThat(getSpilledFileCount() - originalSpilledFileCount, is(5));
+        for (int i = 1; i <= 300; i++) {
+            assertRow(actual, i, "foo");
+        }
+        assertFalse(actual.hasNext());
+        assertThat(getSpilledFileCount(), is(originalSpilledFileCount));
+    }
+    
+    @Test
+    public void assertSpillFileOnlyAccessibleByOwner() throws IOException {
+        Path spillDirectory = Files.createTempDirectory("shardingsphere-spill-test-");
+        try {
+            SpillableRowsSorter sorter = new SpillableRowsSorter(COMPARATOR, new MemoryMergeBudget(2, 0L, 0L), spillDirectory.toString());
+            addRows(sorter);
+            sorter.sort();
+            File[] spilledFiles = spillDirectory.toFile().listFiles();
+            assertNotNull(spilledFiles);
+            assertTrue(spilledFiles.length > 0);
+            if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+                for (File each : spilledFiles) {
+                    assertThat(Files.getPosixFilePermissions(each.toPath()), is(PosixFilePermissions.fromString("rw-------")));
+                }
+            }
+            sorter.close();
+            assertThat(spillDirectory.toFile().listFiles().length, is(0));
+        } finally {
+            Files.deleteIfExists(spillDirectory);
+        }
+    }
+    
+    @Test
+    public void assertCloseWithoutIteratingSpilledRows() {
+        int originalSpilledFileCount = getSpilledFileCount();
+        SpillableRowsSorter sorter = new SpillableRowsSorter(COMPARATOR, new MemoryMergeBudget(2, 0L, 0L), "");
+        addRows(sorter);
+        Iterator<MemoryQueryResultRow> actual = sorter.sort();
+        assertRow(actual, 1, "a1");
+        assertTrue(getSpilledFileCount() > originalSpilledFileCount);
+        sorter.close();
+        assertThat(getSpilledFileCount(), is(originalSpilledFileCount));
+    }
+    
+    @Test
+    public void assertCloseWithoutIteratingBufferedRows() {
+        SpillableRowsSorter sorter = new SpillableRowsSorter(COMPARATOR, new MemoryMergeBudget(0, 0L, 10000L, 0L), "");
+        addRows(sorter);
+        sorter.sort();
+        MemoryMergeBudget anotherBudget = new MemoryMergeBudget(0, 0L, 10000L, 0L);
+        assertTrue(anotherBudget.tryAcquire(1L));
+        assertFalse(anotherBudget.tryAcquire(9999L));
+        sorter.close();
+        assertTrue(anotherBudget.tryAcquire(9999L));
+        anotherBudget.release();
+    }
+    
+    @Test
+    public void assertReleaseAfterBufferedRowsIterated() {
+        SpillableRowsSorter sorter = new SpillableRowsSorter(COMPARATOR, new MemoryMergeBudget(0, 0L, 10000L, 0L), "");
+        addRows(sorter);
+        assertRows(sorter.sort());
+        MemoryMergeBudget anotherBudget = new MemoryMergeBudget(0, 0L, 10000L, 0L);
+        assertTrue(anotherBudget.tryAcquire(1L));
+        assertTrue(anotherBudget.tryAcquire(9999L));
+        anotherBudget.release();
+    }
+    
+    private int getSpilledFileCount() {
+        File[] result = new File(System.getProperty("java.io.tmpdir")).listFiles((dir, name) -> name.startsWith("shardingsphere-merge-"));
+        return null == result ? 0 : result.length;
+    }
+    
+    private void addRows(final SpillableRowsSorter sorter) {
+        sorter.add(new MemoryQueryResultRow(new Object[]{3, "c"}));
+        sorter.add(new MemoryQueryResultRow(new Object[]{1, "a1"}));
+        sorter.add(new MemoryQueryResultRow(new Object[]{2, "b"}));
+        sorter.add(new MemoryQueryResultRow(new Object[]{1, "a2"}));
+        sorter.add(new MemoryQueryResultRow(new Object[]{4, null}));
+        assertThat(sorter.getRowCount(), is(5));
+    }
+    
+    private void assertRows(final Iterator<MemoryQueryResultRow> actual) {
+        assertRow(actual, 1, "a1");
+        assertRow(actual, 1, "a2");
+        assertRow(actual, 2, "b");
+        assertRow(actual, 3, "c");
+        assertRow(actual, 4, null);
+        assertFalse(actual.hasNext());
+    }
+    
+    private void assertRow(final Iterator<MemoryQueryResultRow> actual, final int expectedId, final String expectedName) {
+        assertTrue(actual.hasNext());
+        MemoryQueryResultRow row = actual.next();
+        assertThat(row.getCell(1), is(expectedId));
+        assertThat(row.getCell(2), is(expectedName));
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.parser;
 import com.google.common.util.concurrent.UncheckedExecutionException;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.apache.shardingsphere.distsql.parser.engine.api.DistSQLStatementParserEngine;
+import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheStatistics;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
 import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
@@ -65,6 +66,15 @@ public final class ShardingSphereSQLParserEngine {
         }
     }
     
+    /**
+     * Get statistics of SQL statement cache, including hit rate, eviction count and load time.
+     *
+     * @return statistics of SQL statement cache
+     */
+    public SQLStatementCacheStatistics getSQLStatementCacheStatistics() {
+        return sqlStatementParserEngine.getSQLStatementCacheStatistics();
+    }
+    
     private SQLStatement parse0(final String sql, final boolean useCache) {
         try {
             return sqlStatementParserEngine.parse(sql, useCache);
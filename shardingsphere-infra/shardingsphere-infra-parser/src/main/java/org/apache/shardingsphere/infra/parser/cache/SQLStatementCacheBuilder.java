@@ -34,13 +34,20 @@ public final class SQLStatementCacheBuilder {
     /**
      * Build SQL statement cache.
      *
+     * <p>SQL statement cache is bounded by estimated size of SQL statements with strong references if maximum weight is set, otherwise bounded by entry count with soft references.</p>
+     *
      * @param sqlParserRule sql parser rule
      * @param databaseType database type
      * @return built SQL statement cache
      */
     public static LoadingCache<String, SQLStatement> build(final SQLParserRule sqlParserRule, final String databaseType) {
         CacheOption sqlStatementCache = sqlParserRule.getSqlStatementCache();
-        return CacheBuilder.newBuilder().softValues().initialCapacity(sqlStatementCache.getInitialCapacity()).maximumSize(sqlStatementCache.getMaximumSize())
-                .concurrencyLevel(sqlStatementCache.getConcurrencyLevel()).build(new SQLStatementCacheLoader(databaseType, sqlParserRule));
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().recordStats()
+                .initialCapacity(sqlStatementCache.getInitialCapacity()).concurrencyLevel(sqlStatementCache.getConcurrencyLevel());
+        SQLStatementCacheLoader cacheLoader = new SQLStatementCacheLoader(databaseType, sqlParserRule);
+        if (sqlStatementCache.getMaximumWeight() > 0L) {
+            return builder.maximumWeight(sqlStatementCache.getMaximumWeight()).weigher(new SQLStatementWeigher()).build(cacheLoader);
+        }
+        return builder.softValues().maximumSize(sqlStatementCache.getMaximumSize()).build(cacheLoader);
     }
 }
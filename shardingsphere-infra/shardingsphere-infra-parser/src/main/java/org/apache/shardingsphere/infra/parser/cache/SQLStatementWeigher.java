@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache;
+
+import com.google.common.cache.Weigher;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.SQLSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SQL statement weigher.
+ * 
+ * <p>Weight is estimated by length of SQL plus {@value #SEGMENT_WEIGHT} for each SQL segment of parsed statement, 
+ * because segments rather than SQL text dominate memory held by parsed statement.
+ * Reflective fields of each AST class are resolved once and reused by later weighing.</p>
+ */
+public final class SQLStatementWeigher implements Weigher<String, SQLStatement> {
+    
+    public static final int SEGMENT_WEIGHT = 64;
+    
+    private static final String AST_PACKAGE_PREFIX = "org.apache.shardingsphere.sql.parser.";
+    
+    private static final Map<Class<?>, Collection<Field>> NODE_FIELDS = new ConcurrentHashMap<>();
+    
+    @Override
+    public int weigh(final String sql, final SQLStatement sqlStatement) {
+        long result = sql.length() + (long) SEGMENT_WEIGHT * countSegments(sqlStatement);
+        return (int) Math.min(result, Integer.MAX_VALUE);
+    }
+    
+    private int countSegments(final SQLStatement sqlStatement) {
+        int result = 0;
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Queue<Object> nodes = new LinkedList<>();
+        nodes.add(sqlStatement);
+        while (!nodes.isEmpty()) {
+            Object node = nodes.poll();
+            if (!visited.add(node)) {
+                continue;
+            }
+            if (node instanceof SQLSegment) {
+                result++;
+            }
+            addChildren(node, nodes);
+        }
+        return result;
+    }
+    
+    private void addChildren(final Object node, final Queue<Object> nodes) {
+        if (node instanceof Collection) {
+            ((Collection<?>) node).forEach(each -> addNode(each, nodes));
+            return;
+        }
+        if (node instanceof Map) {
+            ((Map<?, ?>) node).values().forEach(each -> addNode(each, nodes));
+            return;
+        }
+        if (node instanceof Optional) {
+            ((Optional<?>) node).ifPresent(optional -> addNode(optional, nodes));
+            return;
+        }
+        for (Field each : NODE_FIELDS.computeIfAbsent(node.getClass(), SQLStatementWeigher::getNodeFields)) {
+            addNode(getFieldValue(each, node), nodes);
+        }
+    }
+    
+    private void addNode(final Object node, final Queue<Object> nodes) {
+        if (node instanceof Collection || node instanceof Map || node instanceof Optional || null != node && node.getClass().getName().startsWith(AST_PACKAGE_PREFIX)) {
+            nodes.add(node);
+        }
+    }
+    
+    private static Collection<Field> getNodeFields(final Class<?> nodeClass) {
+        Collection<Field> result = new LinkedList<>();
+        for (Class<?> clazz = nodeClass; null != clazz && clazz.getName().startsWith(AST_PACKAGE_PREFIX); clazz = clazz.getSuperclass()) {
+            for (Field each : clazz.getDeclaredFields()) {
+                if (!Modifier.isStatic(each.getModifiers()) && !each.getType().isPrimitive()) {
+                    each.setAccessible(true);
+                    result.add(each);
+                }
+            }
+        }
+        return result;
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private Object getFieldValue(final Field field, final Object target) {
+        return field.get(target);
+    }
+}
@@ -17,8 +17,10 @@
 
 package org.apache.shardingsphere.infra.parser.sql;
 
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
 import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheBuilder;
+import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheStatistics;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
@@ -46,4 +48,14 @@ public final class SQLStatementParserEngine {
     public SQLStatement parse(final String sql, final boolean useCache) {
         return useCache ? sqlStatementCache.getUnchecked(sql) : sqlStatementParserExecutor.parse(sql);
     }
+    
+    /**
+     * Get statistics of SQL statement cache, including hit rate, eviction count and load time.
+     *
+     * @return statistics of SQL statement cache
+     */
+    public SQLStatementCacheStatistics getSQLStatementCacheStatistics() {
+        CacheStats stats = sqlStatementCache.stats();
+        return new SQLStatementCacheStatistics(stats.hitCount(), stats.missCount(), stats.evictionCount(), stats.totalLoadTime());
+    }
 }
@@ -18,12 +18,19 @@
 package org.apache.shardingsphere.infra.parser.cache;
 
 import com.google.common.cache.LoadingCache;
+import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.junit.Test;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.isA;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
 
 public final class SQLStatementCacheBuilderTest {
     
@@ -32,4 +39,18 @@ public final class SQLStatementCacheBuilderTest {
         SQLParserRule sqlParserRule = new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build());
         assertThat(SQLStatementCacheBuilder.build(sqlParserRule, "MySQL"), isA(LoadingCache.class));
     }
+    
+    @Test
+    public void assertBuildWithMaximumWeight() {
+        SQLParserRule sqlParserRule = new SQLParserRule(new SQLParserRuleConfiguration(false, DefaultSQLParserRuleConfigurationBuilder.PARSE_TREE_CACHE_OPTION, new CacheOption(16, 1024L, 1, 20L)));
+        LoadingCache<String, SQLStatement> actual = SQLStatementCacheBuilder.build(sqlParserRule, "MySQL");
+        actual.put("SELECT 1 A", mock(SQLStatement.class));
+        actual.put("SELECT 2 B", mock(SQLStatement.class));
+        assertNotNull(actual.getIfPresent("SELECT 1 A"));
+        actual.put("SELECT 3 C", mock(SQLStatement.class));
+        assertThat(actual.size(), is(2L));
+        assertNull(actual.getIfPresent("SELECT 2 B"));
+        assertThat(actual.stats().hitCount(), is(1L));
+        assertThat(actual.stats().evictionCount(), is(1L));
+    }
 }
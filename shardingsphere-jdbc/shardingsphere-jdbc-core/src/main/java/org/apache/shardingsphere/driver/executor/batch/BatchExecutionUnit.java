@@ -21,39 +21,134 @@ import com.google.common.collect.Lists;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
+import java.util.function.IntFunction;
 
 /**
  * Batch execution unit.
+ * 
+ * <p>Parameters of all added batches are held in one array backed list of execution unit,
+ * and the JDBC add batch times of each row are held in an int array indexed by row.
+ * Each actual add batch holds one row, or several rows if rows are coalesced into multi-row statement.</p>
  */
-@RequiredArgsConstructor
 @Getter
 @EqualsAndHashCode(of = "executionUnit")
-@ToString
+@ToString(exclude = "jdbcAddBatchTimes")
 public final class BatchExecutionUnit {
     
+    private static final int INITIAL_CAPACITY = 8;
+    
     private final ExecutionUnit executionUnit;
     
-    private final Map<Integer, Integer> jdbcAndActualAddBatchCallTimesMap = new LinkedHashMap<>();
+    @Getter(AccessLevel.NONE)
+    private int[] jdbcAddBatchTimes = new int[INITIAL_CAPACITY];
     
     @Getter(AccessLevel.NONE)
     private int actualCallAddBatchTimes;
     
+    private final int rowsPerAddBatch;
+    
+    public BatchExecutionUnit(final ExecutionUnit executionUnit) {
+        SQLUnit sqlUnit = executionUnit.getSqlUnit();
+        this.executionUnit = new ExecutionUnit(executionUnit.getDataSourceName(), new SQLUnit(sqlUnit.getSql(), new ArrayList<>(sqlUnit.getParameters()), sqlUnit.getTableRouteMappers()));
+        rowsPerAddBatch = 1;
+    }
+    
+    private BatchExecutionUnit(final ExecutionUnit executionUnit, final int[] jdbcAddBatchTimes, final int rowsPerAddBatch) {
+        this.executionUnit = executionUnit;
+        this.jdbcAddBatchTimes = jdbcAddBatchTimes;
+        actualCallAddBatchTimes = jdbcAddBatchTimes.length / rowsPerAddBatch;
+        this.rowsPerAddBatch = rowsPerAddBatch;
+    }
+    
     /**
      * Map times of use JDBC API call addBatch and times of actual call addBatch after route.
      *
      * @param jdbcAddBatchTimes times of use JDBC API call addBatch
      */
     public void mapAddBatchCount(final int jdbcAddBatchTimes) {
-        jdbcAndActualAddBatchCallTimesMap.put(jdbcAddBatchTimes, actualCallAddBatchTimes++);
+        if (actualCallAddBatchTimes == this.jdbcAddBatchTimes.length) {
+            this.jdbcAddBatchTimes = Arrays.copyOf(this.jdbcAddBatchTimes, actualCallAddBatchTimes << 1);
+        }
+        this.jdbcAddBatchTimes[actualCallAddBatchTimes++] = jdbcAddBatchTimes;
+    }
+    
+    /**
+     * Add batch of new execution unit with same data source and SQL.
+     *
+     * @param newExecutionUnit new execution unit
+     * @param jdbcAddBatchTimes times of use JDBC API call addBatch
+     */
+    public void addBatch(final ExecutionUnit newExecutionUnit, final int jdbcAddBatchTimes) {
+        executionUnit.getSqlUnit().getParameters().addAll(newExecutionUnit.getSqlUnit().getParameters());
+        mapAddBatchCount(jdbcAddBatchTimes);
+    }
+    
+    /**
+     * Accumulate update counts of actual add batches to JDBC add batches.
+     *
+     * @param actualResults update counts of actual add batches
+     * @param results update counts of JDBC add batches to be accumulated
+     */
+    public void accumulate(final int[] actualResults, final int[] results) {
+        if (1 == rowsPerAddBatch) {
+            for (int i = 0; i < actualCallAddBatchTimes; i++) {
+                results[jdbcAddBatchTimes[i]] += actualResults[i];
+            }
+            return;
+        }
+        for (int i = 0; i < actualCallAddBatchTimes; i++) {
+            int rowResult = rowsPerAddBatch == actualResults[i] ? 1 : Statement.SUCCESS_NO_INFO;
+            for (int j = i * rowsPerAddBatch; j < (i + 1) * rowsPerAddBatch; j++) {
+                results[jdbcAddBatchTimes[j]] += rowResult;
+            }
+        }
+    }
+    
+    /**
+     * Coalesce rows of actual add batches into multi-row statements.
+     *
+     * <p>Update count of each row is 1 if update count of multi-row statement equals to its rows, otherwise {@link Statement#SUCCESS_NO_INFO}.</p>
+     *
+     * @param maxRows max rows of each multi-row statement
+     * @param maxParameters max parameters of each multi-row statement, less than or equal to 0 means unlimited
+     * @param multiRowSQLGenerator generator of multi-row SQL by rows
+     * @return coalesced batch execution units, the last one holds the remaining rows if rows are not divisible by max rows
+     */
+    public Collection<BatchExecutionUnit> coalesce(final int maxRows, final int maxParameters, final IntFunction<String> multiRowSQLGenerator) {
+        List<Object> parameters = executionUnit.getSqlUnit().getParameters();
+        if (1 != rowsPerAddBatch || actualCallAddBatchTimes < 2 || parameters.isEmpty()) {
+            return Collections.singletonList(this);
+        }
+        int parameterCount = parameters.size() / actualCallAddBatchTimes;
+        int rows = Math.min(maxParameters > 0 ? Math.min(maxRows, maxParameters / parameterCount) : maxRows, actualCallAddBatchTimes);
+        if (rows < 2) {
+            return Collections.singletonList(this);
+        }
+        int coalescedRows = actualCallAddBatchTimes - actualCallAddBatchTimes % rows;
+        Collection<BatchExecutionUnit> result = new LinkedList<>();
+        result.add(createCoalescedBatchExecutionUnit(multiRowSQLGenerator.apply(rows), parameters.subList(0, coalescedRows * parameterCount), 0, coalescedRows, rows));
+        if (coalescedRows < actualCallAddBatchTimes) {
+            int remainingRows = actualCallAddBatchTimes - coalescedRows;
+            result.add(createCoalescedBatchExecutionUnit(
+                    multiRowSQLGenerator.apply(remainingRows), parameters.subList(coalescedRows * parameterCount, parameters.size()), coalescedRows, actualCallAddBatchTimes, remainingRows));
+        }
+        return result;
+    }
+    
+    private BatchExecutionUnit createCoalescedBatchExecutionUnit(final String sql, final List<Object> parameters, final int fromRow, final int toRow, final int rows) {
+        SQLUnit sqlUnit = new SQLUnit(sql, new ArrayList<>(parameters), executionUnit.getSqlUnit().getTableRouteMappers());
+        return new BatchExecutionUnit(new ExecutionUnit(executionUnit.getDataSourceName(), sqlUnit), Arrays.copyOfRange(jdbcAddBatchTimes, fromRow, toRow), rows);
     }
     
     /**
@@ -62,12 +157,10 @@ public final class BatchExecutionUnit {
      * @return parameter sets
      */
     public List<List<Object>> getParameterSets() {
-        List<List<Object>> result = new LinkedList<>();
-        if (executionUnit.getSqlUnit().getParameters().isEmpty() || 0 == actualCallAddBatchTimes) {
-            result.add(Collections.emptyList());
-        } else {
-            result.addAll(Lists.partition(executionUnit.getSqlUnit().getParameters(), executionUnit.getSqlUnit().getParameters().size() / actualCallAddBatchTimes));
+        List<Object> parameters = executionUnit.getSqlUnit().getParameters();
+        if (parameters.isEmpty() || 0 == actualCallAddBatchTimes) {
+            return Collections.singletonList(Collections.emptyList());
         }
-        return result;
+        return Lists.partition(parameters, parameters.size() / actualCallAddBatchTimes);
     }
 }
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+
+/**
+ * Batch insert coalescer, which coalesces single-row INSERT batches of same data source and SQL into multi-row INSERT batches.
+ * 
+ * <p>Only databases supporting multi-row VALUES are coalesced, rows and parameters of each statement are limited by database.</p>
+ */
+public final class BatchInsertCoalescer {
+    
+    private static final Map<String, Integer> MAX_PARAMETERS = new HashMap<>(5, 1);
+    
+    private static final Map<String, Integer> MAX_ROWS = new HashMap<>(1, 1);
+    
+    static {
+        MAX_PARAMETERS.put("MySQL", 65535);
+        MAX_PARAMETERS.put("PostgreSQL", 32767);
+        MAX_PARAMETERS.put("openGauss", 32767);
+        MAX_PARAMETERS.put("SQLServer", 2099);
+        MAX_PARAMETERS.put("H2", 65535);
+        MAX_ROWS.put("SQLServer", 1000);
+    }
+    
+    private final int maxRows;
+    
+    private final int maxParameters;
+    
+    public BatchInsertCoalescer(final DatabaseType databaseType, final int maxRows) {
+        String databaseTypeName = DatabaseTypeRegistry.getTrunkDatabaseTypeName(databaseType);
+        this.maxRows = Math.min(maxRows, MAX_ROWS.getOrDefault(databaseTypeName, Integer.MAX_VALUE));
+        maxParameters = MAX_PARAMETERS.getOrDefault(databaseTypeName, 0);
+    }
+    
+    /**
+     * Judge whether batches of SQL statement can be coalesced.
+     * 
+     * <p>Only single-row INSERT ends with values of database supporting multi-row VALUES is supported,
+     * which means INSERT SELECT, INSERT SET, ON DUPLICATE KEY UPDATE and RETURNING are not supported.</p>
+     *
+     * @param databaseType database type
+     * @param sqlStatementContext SQL statement context
+     * @param sql logic SQL
+     * @return can be coalesced or not
+     */
+    public static boolean isCoalescible(final DatabaseType databaseType, final SQLStatementContext<?> sqlStatementContext, final String sql) {
+        if (!MAX_PARAMETERS.containsKey(DatabaseTypeRegistry.getTrunkDatabaseTypeName(databaseType)) || !(sqlStatementContext instanceof InsertStatementContext)) {
+            return false;
+        }
+        InsertStatement insertStatement = ((InsertStatementContext) sqlStatementContext).getSqlStatement();
+        if (1 != insertStatement.getValues().size() || insertStatement.getInsertSelect().isPresent()) {
+            return false;
+        }
+        InsertValuesSegment insertValuesSegment = insertStatement.getValues().iterator().next();
+        return trimEnd(sql) == insertValuesSegment.getStopIndex() + 1;
+    }
+    
+    /**
+     * Coalesce batch execution units.
+     *
+     * @param batchExecutionUnits batch execution units to be coalesced
+     * @return coalesced batch execution units
+     */
+    public Collection<BatchExecutionUnit> coalesce(final Collection<BatchExecutionUnit> batchExecutionUnits) {
+        Collection<BatchExecutionUnit> result = new LinkedList<>();
+        for (BatchExecutionUnit each : batchExecutionUnits) {
+            String sql = each.getExecutionUnit().getSqlUnit().getSql();
+            int valuesEndIndex = trimEnd(sql);
+            int valuesStartIndex = findValuesStartIndex(sql, valuesEndIndex);
+            if (valuesStartIndex < 0) {
+                result.add(each);
+            } else {
+                result.addAll(each.coalesce(maxRows, maxParameters, rows -> createMultiRowSQL(sql.substring(0, valuesStartIndex), sql.substring(valuesStartIndex, valuesEndIndex), rows)));
+            }
+        }
+        return result;
+    }
+    
+    private static int trimEnd(final String sql) {
+        int result = sql.length();
+        while (result > 0 && (Character.isWhitespace(sql.charAt(result - 1)) || ';' == sql.charAt(result - 1))) {
+            result--;
+        }
+        return result;
+    }
+    
+    private int findValuesStartIndex(final String sql, final int valuesEndIndex) {
+        if (0 == valuesEndIndex || ')' != sql.charAt(valuesEndIndex - 1)) {
+            return -1;
+        }
+        int result = -1;
+        int depth = 0;
+        char quote = 0;
+        boolean escaped = false;
+        for (int i = 0; i < valuesEndIndex; i++) {
+            char each = sql.charAt(i);
+            if (escaped) {
+                escaped = false;
+            } else if (0 != quote) {
+                if ('\\' == each) {
+                    escaped = true;
+                } else if (quote == each) {
+                    quote = 0;
+                }
+            } else if ('\'' == each || '"' == each || '`' == each) {
+                quote = each;
+            } else if ('(' == each) {
+                if (0 == depth) {
+                    result = i;
+                }
+                depth++;
+            } else if (')' == each) {
+                depth--;
+            }
+        }
+        return 0 == depth && 0 == quote ? result : -1;
+    }
+    
+    private String createMultiRowSQL(final String prefix, final String values, final int rows) {
+        StringBuilder result = new StringBuilder(prefix.length() + (values.length() + 2) * rows).append(prefix).append(values);
+        for (int i = 1; i < rows; i++) {
+            result.append(", ").append(values);
+        }
+        return result.toString();
+    }
+}
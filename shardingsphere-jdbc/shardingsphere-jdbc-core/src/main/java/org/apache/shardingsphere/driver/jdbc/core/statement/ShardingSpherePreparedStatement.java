@@ -22,6 +22,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.driver.executor.DriverExecutor;
 import org.apache.shardingsphere.driver.executor.batch.BatchExecutionUnit;
+import org.apache.shardingsphere.driver.executor.batch.BatchInsertCoalescer;
 import org.apache.shardingsphere.driver.executor.batch.BatchPreparedStatementExecutor;
 import org.apache.shardingsphere.driver.executor.callback.impl.PreparedStatementExecuteQueryCallback;
 import org.apache.shardingsphere.driver.jdbc.adapter.AbstractPreparedStatementAdapter;
@@ -39,6 +40,8 @@ import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementConte
 import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.context.kernel.cache.PreparedStatementPlan;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.exception.ShardingSphereException;
 import org.apache.shardingsphere.infra.executor.check.SQLCheckEngine;
@@ -73,6 +76,8 @@ import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.readwritesplitting.api.ReadwriteSplittingRuleConfiguration;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.DALStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
 import org.apache.shardingsphere.traffic.context.TrafficContext;
 import org.apache.shardingsphere.traffic.engine.TrafficEngine;
 import org.apache.shardingsphere.traffic.rule.TrafficRule;
@@ -85,6 +90,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
@@ -106,6 +112,8 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private final List<List<Object>> parameterSets;
     
+    private final PreparedStatementPlan plan;
+    
     private final SQLStatement sqlStatement;
     
     private final StatementOption statementOption;
@@ -156,22 +164,35 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         this.sql = sql;
         statements = new ArrayList<>();
         parameterSets = new ArrayList<>();
-        Optional<SQLParserRule> sqlParserRule = metaDataContexts.getGlobalRuleMetaData().findSingleRule(SQLParserRule.class);
-        ShardingSphereSQLParserEngine sqlParserEngine = new ShardingSphereSQLParserEngine(
-                DatabaseTypeRegistry.getTrunkDatabaseTypeName(metaDataContexts.getMetaData(connection.getSchema()).getResource().getDatabaseType()), sqlParserRule.get());
-        sqlStatement = sqlParserEngine.parse(sql, true);
-        parameterMetaData = new ShardingSphereParameterMetaData(sqlStatement);
+        plan = getPreparedStatementPlan();
+        sqlStatement = plan.getSqlStatement();
+        parameterMetaData = plan.getParameterMetaData();
         statementOption = returnGeneratedKeys ? new StatementOption(true) : new StatementOption(resultSetType, resultSetConcurrency, resultSetHoldability);
         executor = new DriverExecutor(connection);
         JDBCExecutor jdbcExecutor = new JDBCExecutor(metaDataContexts.getExecutorEngine(), connection.isHoldTransaction());
         batchPreparedStatementExecutor = new BatchPreparedStatementExecutor(metaDataContexts, jdbcExecutor, connection.getSchema());
         kernelProcessor = new KernelProcessor();
-        statementsCacheable = isStatementsCacheable(metaDataContexts.getMetaData(connection.getSchema()).getRuleMetaData().getConfigurations());
+        statementsCacheable = plan.isReadwriteSplittingOnly() && !HintManager.isInstantiated();
+    }
+    
+    private PreparedStatementPlan getPreparedStatementPlan() {
+        return metaDataContexts.getPreparedStatementPlanCache().get(connection.getSchema(), sql, this::createPreparedStatementPlan);
     }
     
-    private boolean isStatementsCacheable(final Collection<RuleConfiguration> configurations) {
+    private PreparedStatementPlan createPreparedStatementPlan() {
+        ShardingSphereMetaData metaData = metaDataContexts.getMetaData(connection.getSchema());
+        SQLParserRule sqlParserRule = metaDataContexts.getGlobalRuleMetaData().findSingleRule(SQLParserRule.class).get();
+        ShardingSphereSQLParserEngine sqlParserEngine = new ShardingSphereSQLParserEngine(DatabaseTypeRegistry.getTrunkDatabaseTypeName(metaData.getResource().getDatabaseType()), sqlParserRule);
+        SQLStatement sqlStatement = sqlParserEngine.parse(sql, true);
+        SQLStatementContext<?> sqlStatementContext = sqlStatement instanceof UpdateStatement || sqlStatement instanceof DeleteStatement
+                ? SQLStatementContextFactory.newInstance(metaDataContexts.getMetaDataMap(), Collections.emptyList(), sqlStatement, connection.getSchema()) : null;
+        boolean readwriteSplittingOnly = isReadwriteSplittingOnly(metaData.getRuleMetaData().getConfigurations());
+        return new PreparedStatementPlan(sqlStatement, new ShardingSphereParameterMetaData(sqlStatement), sqlStatementContext, readwriteSplittingOnly);
+    }
+    
+    private boolean isReadwriteSplittingOnly(final Collection<RuleConfiguration> configurations) {
         // TODO Consider cache statements with more case
-        return 1 == configurations.size() && configurations.iterator().next() instanceof ReadwriteSplittingRuleConfiguration && !HintManager.isInstantiated();
+        return 1 == configurations.size() && configurations.iterator().next() instanceof ReadwriteSplittingRuleConfiguration;
     }
     
     @Override
@@ -406,7 +427,9 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private LogicSQL createLogicSQL() {
         List<Object> parameters = new ArrayList<>(getParameters());
-        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(metaDataContexts.getMetaDataMap(), parameters, sqlStatement, connection.getSchema());
+        Optional<SQLStatementContext<?>> boundSQLStatementContext = plan.findSQLStatementContext();
+        SQLStatementContext<?> sqlStatementContext = boundSQLStatementContext.isPresent()
+                ? boundSQLStatementContext.get() : SQLStatementContextFactory.newInstance(metaDataContexts.getMetaDataMap(), parameters, sqlStatement, connection.getSchema());
         return new LogicSQL(sqlStatementContext, sql, parameters);
     }
     
@@ -491,6 +514,11 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = new DriverExecutionPrepareEngine<>(
                 JDBCDriverType.PREPARED_STATEMENT, metaDataContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY),
                 connection.getConnectionManager(), statementOption, metaDataContexts.getMetaData(connection.getSchema()).getRuleMetaData().getRules());
+        int coalesceMaxRows = metaDataContexts.getProps().<Integer>getValue(ConfigurationPropertyKey.BATCH_INSERT_COALESCE_MAX_ROWS);
+        DatabaseType databaseType = metaDataContexts.getMetaData(connection.getSchema()).getResource().getDatabaseType();
+        if (coalesceMaxRows > 1 && isAccumulate() && BatchInsertCoalescer.isCoalescible(databaseType, executionContext.getSqlStatementContext(), sql)) {
+            batchPreparedStatementExecutor.coalesceInsertBatches(databaseType, coalesceMaxRows);
+        }
         List<ExecutionUnit> executionUnits = new ArrayList<>(batchPreparedStatementExecutor.getBatchExecutionUnits().size());
         for (BatchExecutionUnit each : batchPreparedStatementExecutor.getBatchExecutionUnits()) {
             ExecutionUnit executionUnit = each.getExecutionUnit();
@@ -21,6 +21,9 @@ import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.junit.Test;
 
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -47,6 +50,61 @@ public final class BatchExecutionUnitTest {
         assertThat(actual.get(0).get(0), is(1));
     }
     
+    @Test
+    public void assertAddBatchAndAccumulate() {
+        BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.singletonList(1))));
+        batchExecutionUnit.mapAddBatchCount(0);
+        for (int i = 1; i < 20; i++) {
+            batchExecutionUnit.addBatch(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.singletonList(i + 1))), i * 2);
+        }
+        List<List<Object>> actualParameterSets = batchExecutionUnit.getParameterSets();
+        assertThat(actualParameterSets.size(), is(20));
+        assertThat(actualParameterSets.get(19), is(Collections.<Object>singletonList(20)));
+        int[] actualResults = new int[20];
+        Arrays.fill(actualResults, 1);
+        int[] results = new int[40];
+        batchExecutionUnit.accumulate(actualResults, results);
+        assertThat(results[0], is(1));
+        assertThat(results[1], is(0));
+        assertThat(results[38], is(1));
+    }
+    
+    @Test
+    public void assertCoalesceAndAccumulate() {
+        BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.singletonList(1))));
+        batchExecutionUnit.mapAddBatchCount(0);
+        for (int i = 1; i < 4; i++) {
+            batchExecutionUnit.addBatch(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.singletonList(i + 1))), i);
+        }
+        Collection<BatchExecutionUnit> actual = batchExecutionUnit.coalesce(4, 0, rows -> SQL + rows);
+        assertThat(actual.size(), is(1));
+        BatchExecutionUnit actualCoalesced = actual.iterator().next();
+        assertThat(actualCoalesced.getExecutionUnit().getSqlUnit().getSql(), is(SQL + 4));
+        assertThat(actualCoalesced.getRowsPerAddBatch(), is(4));
+        assertThat(actualCoalesced.getParameterSets().size(), is(1));
+        int[] results = new int[4];
+        actualCoalesced.accumulate(new int[] {4}, results);
+        assertThat(results, is(new int[] {1, 1, 1, 1}));
+        results = new int[4];
+        actualCoalesced.accumulate(new int[] {3}, results);
+        assertThat(results, is(new int[] {Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO}));
+    }
+    
+    @Test
+    public void assertCoalesceWithMaxParameters() {
+        BatchExecutionUnit batchExecutionUnit = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Arrays.asList(1, 1))));
+        batchExecutionUnit.mapAddBatchCount(0);
+        for (int i = 1; i < 4; i++) {
+            batchExecutionUnit.addBatch(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Arrays.asList(i + 1, i + 1))), i);
+        }
+        Collection<BatchExecutionUnit> actual = batchExecutionUnit.coalesce(4, 5, rows -> SQL + rows);
+        assertThat(actual.size(), is(1));
+        BatchExecutionUnit actualCoalesced = actual.iterator().next();
+        assertThat(actualCoalesced.getExecutionUnit().getSqlUnit().getSql(), is(SQL + 2));
+        assertThat(actualCoalesced.getParameterSets().size(), is(2));
+        assertThat(batchExecutionUnit.coalesce(4, 3, rows -> SQL + rows).iterator().next(), is(batchExecutionUnit));
+    }
+    
     @Test
     public void assertEquals() {
         BatchExecutionUnit actual = new BatchExecutionUnit(new ExecutionUnit(DATA_SOURCE_NAME, new SQLUnit(SQL, Collections.singletonList(1))));
@@ -60,6 +118,6 @@ public final class BatchExecutionUnitTest {
         BatchExecutionUnit actual = new BatchExecutionUnit(executionUnit);
         assertThat(actual.toString(), is(String.format("BatchExecutionUnit(executionUnit=ExecutionUnit"
                 + "(dataSourceName=%s, sqlUnit=SQLUnit(sql=%s, parameters=[%d], tableRouteMappers=[])), "
-                + "jdbcAndActualAddBatchCallTimesMap={}, actualCallAddBatchTimes=0)", DATA_SOURCE_NAME, SQL, 1, "null")));
+                + "actualCallAddBatchTimes=0, rowsPerAddBatch=1)", DATA_SOURCE_NAME, SQL, 1, "null")));
     }
 }
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.executor.batch;
+
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.OracleDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.SQLServerDatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class BatchInsertCoalescerTest {
+    
+    private static final String SQL = "INSERT INTO t_order (order_id, status) VALUES (?, ?)";
+    
+    @Test
+    public void assertIsCoalescible() {
+        assertTrue(BatchInsertCoalescer.isCoalescible(new MySQLDatabaseType(), createInsertStatementContext(1), SQL));
+        assertTrue(BatchInsertCoalescer.isCoalescible(new MySQLDatabaseType(), createInsertStatementContext(1), SQL + " ;"));
+    }
+    
+    @Test
+    public void assertIsNotCoalescibleWithTrailingClause() {
+        assertFalse(BatchInsertCoalescer.isCoalescible(new MySQLDatabaseType(), createInsertStatementContext(1), SQL + " ON DUPLICATE KEY UPDATE status = ?"));
+    }
+    
+    @Test
+    public void assertIsNotCoalescibleWithMultiValues() {
+        assertFalse(BatchInsertCoalescer.isCoalescible(new MySQLDatabaseType(), createInsertStatementContext(2), SQL + ", (?, ?)"));
+    }
+    
+    @Test
+    public void assertIsNotCoalescibleWithSelect() {
+        assertFalse(BatchInsertCoalescer.isCoalescible(new MySQLDatabaseType(), mock(SelectStatementContext.class), "SELECT 1"));
+    }
+    
+    @Test
+    public void assertIsNotCoalescibleWithoutMultiRowValuesSupported() {
+        assertFalse(BatchInsertCoalescer.isCoalescible(new OracleDatabaseType(), createInsertStatementContext(1), SQL));
+    }
+    
+    private InsertStatementContext createInsertStatementContext(final int valueListCount) {
+        MySQLInsertStatement insertStatement = new MySQLInsertStatement();
+        int startIndex = SQL.indexOf("(?");
+        for (int i = 0; i < valueListCount; i++) {
+            insertStatement.getValues().add(new InsertValuesSegment(startIndex, SQL.length() - 1, Collections.emptyList()));
+            startIndex = SQL.length() + 2;
+        }
+        InsertStatementContext result = mock(InsertStatementContext.class);
+        when(result.getSqlStatement()).thenReturn(insertStatement);
+        return result;
+    }
+    
+    @Test
+    public void assertCoalesce() {
+        BatchExecutionUnit batchExecutionUnit = createBatchExecutionUnit("INSERT INTO t_order_0 (order_id, status) VALUES (?, 'a(b')", 5);
+        Collection<BatchExecutionUnit> actual = new BatchInsertCoalescer(new MySQLDatabaseType(), 2).coalesce(Collections.singletonList(batchExecutionUnit));
+        assertThat(actual.size(), is(2));
+        Iterator<BatchExecutionUnit> iterator = actual.iterator();
+        BatchExecutionUnit actualMultiRows = iterator.next();
+        assertThat(actualMultiRows.getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, status) VALUES (?, 'a(b'), (?, 'a(b')"));
+        assertThat(actualMultiRows.getParameterSets(), is(Arrays.asList(Arrays.<Object>asList(0, 1), Arrays.<Object>asList(2, 3))));
+        BatchExecutionUnit actualRemainingRows = iterator.next();
+        assertThat(actualRemainingRows.getExecutionUnit().getSqlUnit().getSql(), is("INSERT INTO t_order_0 (order_id, status) VALUES (?, 'a(b')"));
+        assertThat(actualRemainingRows.getParameterSets(), is(Collections.singletonList(Collections.<Object>singletonList(4))));
+    }
+    
+    @Test
+    public void assertCoalesceWithoutValues() {
+        BatchExecutionUnit batchExecutionUnit = createBatchExecutionUnit("INSERT INTO t_order_0 SELECT * FROM t_order_1 WHERE order_id = ?", 3);
+        Collection<BatchExecutionUnit> actual = new BatchInsertCoalescer(new MySQLDatabaseType(), 2).coalesce(Collections.singletonList(batchExecutionUnit));
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next(), is(batchExecutionUnit));
+    }
+    
+    @Test
+    public void assertCoalesceWithMaxRowsOfSQLServer() {
+        BatchExecutionUnit batchExecutionUnit = createBatchExecutionUnit("INSERT INTO t_order_0 (order_id) VALUES (?)", 1500);
+        Collection<BatchExecutionUnit> actual = new BatchInsertCoalescer(new SQLServerDatabaseType(), 2000).coalesce(Collections.singletonList(batchExecutionUnit));
+        assertThat(actual.size(), is(2));
+        Iterator<BatchExecutionUnit> iterator = actual.iterator();
+        assertThat(iterator.next().getRowsPerAddBatch(), is(1000));
+        assertThat(iterator.next().getRowsPerAddBatch(), is(500));
+    }
+    
+    private BatchExecutionUnit createBatchExecutionUnit(final String sql, final int rows) {
+        BatchExecutionUnit result = new BatchExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(sql, Collections.singletonList(0))));
+        result.mapAddBatchCount(0);
+        for (int i = 1; i < rows; i++) {
+            result.addBatch(new ExecutionUnit("ds_0", new SQLUnit(sql, Collections.singletonList(i))), i);
+        }
+        return result;
+    }
+}
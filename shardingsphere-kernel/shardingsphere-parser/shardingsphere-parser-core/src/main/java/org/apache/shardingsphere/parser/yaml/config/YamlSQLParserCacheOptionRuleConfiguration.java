@@ -33,5 +33,7 @@ public final class YamlSQLParserCacheOptionRuleConfiguration implements YamlConf
     private long maximumSize;
 
     private int concurrencyLevel;
+
+    private long maximumWeight;
 }
 
@@ -69,8 +69,7 @@ public final class SingleTableMetaDataBuilderTest {
     @Mock
     private DataSource dataSource;
     
-    @Mock
-    private ConfigurationProperties props;
+    private final ConfigurationProperties props = new ConfigurationProperties(new Properties());
     
     @Before
     public void setUp() throws SQLException {
@@ -67,8 +67,7 @@ public final class SingleTableSchemaBuilderTest {
     @Mock(answer = Answers.RETURNS_DEEP_STUBS)
     private DataSource dataSource;
     
-    @Mock
-    private ConfigurationProperties props;
+    private final ConfigurationProperties props = new ConfigurationProperties(new Properties());
     
     @Test
     public void assertBuildOfSingleTables() throws SQLException {
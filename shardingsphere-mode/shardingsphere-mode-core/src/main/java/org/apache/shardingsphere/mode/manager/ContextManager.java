@@ -18,12 +18,14 @@
 package org.apache.shardingsphere.mode.manager;
 
 import com.google.common.collect.Maps;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.config.RuleConfiguration;
 import org.apache.shardingsphere.infra.config.datasource.DataSourceConfiguration;
 import org.apache.shardingsphere.infra.config.datasource.DataSourceConverter;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.federation.optimizer.context.planner.OptimizerPlannerContextFactory;
 import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
@@ -41,6 +43,7 @@ import org.apache.shardingsphere.infra.rule.builder.schema.SchemaRulesBuilder;
 import org.apache.shardingsphere.infra.state.StateContext;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.mode.metadata.MetaDataContextsBuilder;
+import org.apache.shardingsphere.mode.metadata.statistic.TableStatisticsRefresher;
 import org.apache.shardingsphere.schedule.core.api.ModeScheduleContext;
 import org.apache.shardingsphere.transaction.ShardingSphereTransactionManagerEngine;
 import org.apache.shardingsphere.transaction.context.TransactionContexts;
@@ -74,6 +77,9 @@ public final class ContextManager implements AutoCloseable {
     
     private final StateContext stateContext = new StateContext();
     
+    @Getter(AccessLevel.NONE)
+    private volatile TableStatisticsRefresher tableStatisticsRefresher;
+    
     /**
      * Initialize context manager.
      *
@@ -85,6 +91,23 @@ public final class ContextManager implements AutoCloseable {
         this.metaDataContexts = metaDataContexts;
         this.transactionContexts = transactionContexts;
         this.modeScheduleContext = modeScheduleContext;
+        startTableStatisticsRefresher();
+    }
+    
+    private void startTableStatisticsRefresher() {
+        closeTableStatisticsRefresher();
+        long refreshIntervalMilliseconds = metaDataContexts.getProps().<Long>getValue(ConfigurationPropertyKey.SQL_FEDERATION_STATISTICS_REFRESH_INTERVAL_MILLISECONDS);
+        if (refreshIntervalMilliseconds > 0L) {
+            tableStatisticsRefresher = new TableStatisticsRefresher(this::getMetaDataContexts, refreshIntervalMilliseconds);
+            tableStatisticsRefresher.start();
+        }
+    }
+    
+    private void closeTableStatisticsRefresher() {
+        if (null != tableStatisticsRefresher) {
+            tableStatisticsRefresher.close();
+            tableStatisticsRefresher = null;
+        }
     }
     
     /**
@@ -128,8 +151,9 @@ public final class ContextManager implements AutoCloseable {
         MetaDataContexts newMetaDataContexts = buildNewMetaDataContext(schemaName);
         FederationSchemaMetaData schemaMetaData = newMetaDataContexts.getOptimizerContext().getFederationMetaData().getSchemas().get(schemaName);
         metaDataContexts.getOptimizerContext().getFederationMetaData().getSchemas().put(schemaName, schemaMetaData);
-        metaDataContexts.getOptimizerContext().getPlannerContexts().put(schemaName, OptimizerPlannerContextFactory.create(schemaMetaData));
+        metaDataContexts.getOptimizerContext().getPlannerContexts().put(schemaName, OptimizerPlannerContextFactory.create(schemaMetaData, metaDataContexts.getProps()));
         metaDataContexts.getMetaDataMap().put(schemaName, newMetaDataContexts.getMetaData(schemaName));
+        metaDataContexts.getPreparedStatementPlanCache().invalidateAll();
         metaDataContexts.getMetaDataPersistService().ifPresent(optional -> optional.getSchemaMetaDataService().persist(schemaName));
     }
     
@@ -144,9 +168,11 @@ public final class ContextManager implements AutoCloseable {
             metaDataContexts.getOptimizerContext().getParserContexts().remove(schemaName);
             metaDataContexts.getOptimizerContext().getPlannerContexts().remove(schemaName);
             ShardingSphereMetaData removeMetaData = metaDataContexts.getMetaDataMap().remove(schemaName);
+            metaDataContexts.getPreparedStatementPlanCache().invalidateAll();
             closeDataSources(removeMetaData);
             removeAndCloseTransactionEngine(schemaName);
             metaDataContexts.getMetaDataPersistService().ifPresent(optional -> optional.getSchemaMetaDataService().delete(schemaName));
+            metaDataContexts.getMetaDataPersistService().ifPresent(optional -> optional.getTableStatisticsService().delete(schemaName));
         }
     }
     
@@ -182,6 +208,7 @@ public final class ContextManager implements AutoCloseable {
      */
     public void dropResource(final String schemaName, final Collection<String> toBeDroppedResourceNames) {
         toBeDroppedResourceNames.forEach(metaDataContexts.getMetaData(schemaName).getResource().getDataSources()::remove);
+        metaDataContexts.getPreparedStatementPlanCache().invalidateAll();
         metaDataContexts.getMetaDataPersistService().ifPresent(optional -> optional.getDataSourceService().drop(schemaName, toBeDroppedResourceNames));
     }
     
@@ -237,7 +264,7 @@ public final class ContextManager implements AutoCloseable {
         kernelMetaDataMap.put(schemaName, kernelMetaData);
         FederationSchemaMetaData schemaMetaData = new FederationSchemaMetaData(schemaName, schema.getTables());
         metaDataContexts.getOptimizerContext().getFederationMetaData().getSchemas().put(schemaName, schemaMetaData);
-        metaDataContexts.getOptimizerContext().getPlannerContexts().put(schemaName, OptimizerPlannerContextFactory.create(schemaMetaData));
+        metaDataContexts.getOptimizerContext().getPlannerContexts().put(schemaName, OptimizerPlannerContextFactory.create(schemaMetaData, metaDataContexts.getProps()));
         renewMetaDataContexts(rebuildMetaDataContexts(kernelMetaDataMap));
     }
     
@@ -253,13 +280,14 @@ public final class ContextManager implements AutoCloseable {
         if (null != changedTableMetaData) {
             metaDataContexts.getMetaData(schemaName).getSchema().put(changedTableMetaData.getName(), changedTableMetaData);
             schemaMetaData.put(changedTableMetaData);
-            metaDataContexts.getOptimizerContext().getPlannerContexts().put(schemaName, OptimizerPlannerContextFactory.create(schemaMetaData));
+            metaDataContexts.getOptimizerContext().getPlannerContexts().put(schemaName, OptimizerPlannerContextFactory.create(schemaMetaData, metaDataContexts.getProps()));
         }
         if (null != deletedTable) {
             metaDataContexts.getMetaData(schemaName).getSchema().remove(deletedTable);
             schemaMetaData.remove(deletedTable);
-            metaDataContexts.getOptimizerContext().getPlannerContexts().put(schemaName, OptimizerPlannerContextFactory.create(schemaMetaData));
+            metaDataContexts.getOptimizerContext().getPlannerContexts().put(schemaName, OptimizerPlannerContextFactory.create(schemaMetaData, metaDataContexts.getProps()));
         }
+        metaDataContexts.getPreparedStatementPlanCache().invalidateAll();
     }
     
     /**
@@ -339,6 +367,7 @@ public final class ContextManager implements AutoCloseable {
         TableMetaData tableMetaData = TableMetaDataBuilder.load(Collections.singletonList(tableName), materials).getOrDefault(tableName, new TableMetaData());
         if (!tableMetaData.getColumns().isEmpty()) {
             metaDataContexts.getMetaData(schemaName).getSchema().put(tableName, tableMetaData);
+            metaDataContexts.getPreparedStatementPlanCache().invalidateAll();
             metaDataContexts.getMetaDataPersistService().ifPresent(optional -> optional.getSchemaMetaDataService().persist(schemaName, metaDataContexts.getMetaData(schemaName).getSchema()));
         }
     }
@@ -406,6 +435,7 @@ public final class ContextManager implements AutoCloseable {
         metaDataContexts.getOptimizerContext().getParserContexts().putAll(changedMetaDataContext.getOptimizerContext().getParserContexts());
         metaDataContexts.getOptimizerContext().getPlannerContexts().putAll(changedMetaDataContext.getOptimizerContext().getPlannerContexts());
         renewTransactionContext(schemaName, metaDataContexts.getMetaData(schemaName).getResource());
+        metaDataContexts.getPreparedStatementPlanCache().invalidateAll();
     }
     
     private MetaDataContexts buildChangedMetaDataContextWithAddedDataSource(final ShardingSphereMetaData originalMetaData, 
@@ -533,6 +563,7 @@ public final class ContextManager implements AutoCloseable {
     
     @Override
     public void close() throws Exception {
+        closeTableStatisticsRefresher();
         metaDataContexts.close();
     }
 }
@@ -19,6 +19,8 @@ package org.apache.shardingsphere.mode.metadata;
 
 import lombok.Getter;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.context.kernel.cache.PreparedStatementPlanCache;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.infra.federation.optimizer.context.OptimizerContextFactory;
@@ -53,9 +55,12 @@ public final class MetaDataContexts implements AutoCloseable {
     
     private final ConfigurationProperties props;
     
+    private final PreparedStatementPlanCache preparedStatementPlanCache;
+    
     public MetaDataContexts(final MetaDataPersistService metaDataPersistService) {
         this(metaDataPersistService, new LinkedHashMap<>(), new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.emptyList()), null, 
-                new ConfigurationProperties(new Properties()), OptimizerContextFactory.create(new HashMap<>(), new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.emptyList())));
+                new ConfigurationProperties(new Properties()), OptimizerContextFactory.create(
+                        new HashMap<>(), new ShardingSphereRuleMetaData(Collections.emptyList(), Collections.emptyList()), new ConfigurationProperties(new Properties())));
     }
     
     public MetaDataContexts(final MetaDataPersistService metaDataPersistService, final Map<String, ShardingSphereMetaData> metaDataMap, final ShardingSphereRuleMetaData globalRuleMetaData,
@@ -66,6 +71,7 @@ public final class MetaDataContexts implements AutoCloseable {
         this.executorEngine = executorEngine;
         this.optimizerContext = optimizerContext;
         this.props = props;
+        preparedStatementPlanCache = new PreparedStatementPlanCache(props.<Integer>getValue(ConfigurationPropertyKey.PREPARED_STATEMENT_PLAN_CACHE_SIZE));
     }
     
     /**
@@ -75,7 +75,7 @@ public final class MetaDataContextsBuilder {
         this.schemas = schemas;
         this.rules = rules;
         this.props = new ConfigurationProperties(null == props ? new Properties() : props);
-        executorEngine = new ExecutorEngine(this.props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE));
+        executorEngine = new ExecutorEngine(this.props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), this.props.<String>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_TYPE));
     }
     
     /**
@@ -96,7 +96,7 @@ public final class MetaDataContextsBuilder {
             metaData.put(each, new ShardingSphereMetaData(each, resource, ruleMetaData, schemas.get(each)));
         }
         ShardingSphereRuleMetaData globalMetaData = buildGlobalSchemaMetaData(metaData);
-        return new MetaDataContexts(metaDataPersistService, metaData, globalMetaData, executorEngine, props, OptimizerContextFactory.create(metaData, globalMetaData));
+        return new MetaDataContexts(metaDataPersistService, metaData, globalMetaData, executorEngine, props, OptimizerContextFactory.create(metaData, globalMetaData, props));
     }
     
     private ShardingSphereRuleMetaData buildGlobalSchemaMetaData(final Map<String, ShardingSphereMetaData> metaDataMap) {
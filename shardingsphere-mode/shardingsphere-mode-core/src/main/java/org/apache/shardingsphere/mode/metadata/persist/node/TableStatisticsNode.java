@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.persist.node;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Table statistics node.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TableStatisticsNode {
+    
+    private static final String ROOT_NODE = "statistics";
+    
+    private static final String TABLES_NODE = "tables";
+    
+    /**
+     * Get tables statistics path.
+     *
+     * @param schemaName schema name
+     * @return tables statistics path
+     */
+    public static String getTablesStatisticsPath(final String schemaName) {
+        return String.join("/", "", ROOT_NODE, schemaName, TABLES_NODE);
+    }
+    
+    /**
+     * Get table statistics path.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @return table statistics path
+     */
+    public static String getTableStatisticsPath(final String schemaName, final String tableName) {
+        return String.join("/", getTablesStatisticsPath(schemaName), tableName);
+    }
+}
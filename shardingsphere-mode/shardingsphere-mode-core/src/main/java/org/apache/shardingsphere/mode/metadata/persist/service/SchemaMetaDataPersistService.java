@@ -40,16 +40,16 @@ public final class SchemaMetaDataPersistService {
     /**
      * Persist schema.
      *
+     * <p>Persisted tables which are still known by schema are kept, including lazy tables whose meta data have not been loaded yet.</p>
+     *
      * @param schemaName schema name to be persisted
      * @param schema schema to be persisted
      */
     public void persist(final String schemaName, final ShardingSphereSchema schema) {
         if (null != schema) {
-            Optional<ShardingSphereSchema> originalSchema = load(schemaName);
-            if (originalSchema.isPresent()) {
-                originalSchema.get().getTables().entrySet().stream().filter(entry -> !schema.getTables().keySet().contains(entry.getKey()))
-                        .forEach(entry -> repository.delete(SchemaMetaDataNode.getTableMetaDataPath(schemaName, entry.getKey())));
-            }
+            Collection<String> persistedTableNames = repository.getChildrenKeys(SchemaMetaDataNode.getMetaDataTablesPath(schemaName));
+            persistedTableNames.stream().filter(each -> !schema.getTables().containsKey(each) && !schema.containsTable(each))
+                    .forEach(each -> repository.delete(SchemaMetaDataNode.getTableMetaDataPath(schemaName, each)));
             schema.getTables().entrySet().forEach(entry -> repository.persist(SchemaMetaDataNode.getTableMetaDataPath(schemaName, entry.getKey()), 
                     YamlEngine.marshal(new TableMetaDataYamlSwapper().swapToYamlConfiguration(entry.getValue()))));
         }
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.persist.service;
+
+import com.google.common.base.Strings;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic.TableStatistics;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic.yaml.TableStatisticsYamlSwapper;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic.yaml.YamlTableStatistics;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.mode.metadata.persist.node.TableStatisticsNode;
+import org.apache.shardingsphere.mode.persist.PersistRepository;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Table statistics persist service.
+ */
+@RequiredArgsConstructor
+public final class TableStatisticsPersistService {
+    
+    private final PersistRepository repository;
+    
+    /**
+     * Persist table statistics.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param tableStatistics table statistics
+     */
+    public void persist(final String schemaName, final String tableName, final TableStatistics tableStatistics) {
+        repository.persist(TableStatisticsNode.getTableStatisticsPath(schemaName, tableName.toLowerCase()),
+                YamlEngine.marshal(new TableStatisticsYamlSwapper().swapToYamlConfiguration(tableStatistics)));
+    }
+    
+    /**
+     * Load table statistics of schema.
+     *
+     * @param schemaName schema name
+     * @return table statistics map, key is lower case table name
+     */
+    public Map<String, TableStatistics> load(final String schemaName) {
+        Map<String, TableStatistics> result = new LinkedHashMap<>();
+        for (String each : repository.getChildrenKeys(TableStatisticsNode.getTablesStatisticsPath(schemaName))) {
+            String content = repository.get(TableStatisticsNode.getTableStatisticsPath(schemaName, each));
+            if (!Strings.isNullOrEmpty(content)) {
+                result.put(each, new TableStatisticsYamlSwapper().swapToObject(YamlEngine.unmarshal(content, YamlTableStatistics.class)));
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Delete table statistics of schema.
+     *
+     * @param schemaName schema name
+     */
+    public void delete(final String schemaName) {
+        repository.delete(TableStatisticsNode.getTablesStatisticsPath(schemaName));
+    }
+}
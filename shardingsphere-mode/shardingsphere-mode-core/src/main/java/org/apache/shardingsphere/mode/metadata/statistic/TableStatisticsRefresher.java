@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.statistic;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.FederationSchemaMetaData;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic.TableStatistics;
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic.TableStatisticsCollector;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.mode.metadata.persist.service.TableStatisticsPersistService;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Table statistics refresher.
+ *
+ * <p>Statistics persisted by any compute node are shared, only statistics older than refresh interval are collected from databases again and persisted.</p>
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class TableStatisticsRefresher implements AutoCloseable {
+    
+    private static final long MAX_APPLY_INTERVAL_MILLISECONDS = 60 * 1000L;
+    
+    private final Supplier<MetaDataContexts> metaDataContextsSupplier;
+    
+    private final long refreshIntervalMilliseconds;
+    
+    private ScheduledExecutorService executorService;
+    
+    /**
+     * Start to refresh table statistics in background.
+     */
+    public void start() {
+        executorService = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-TableStatisticsRefresher-%d").build());
+        long applyIntervalMilliseconds = Math.min(refreshIntervalMilliseconds, MAX_APPLY_INTERVAL_MILLISECONDS);
+        executorService.scheduleWithFixedDelay(this::refreshQuietly, 0L, applyIntervalMilliseconds, TimeUnit.MILLISECONDS);
+    }
+    
+    private void refreshQuietly() {
+        try {
+            refresh();
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.error("Refresh table statistics failed", ex);
+        }
+    }
+    
+    /**
+     * Refresh table statistics of all schemas.
+     */
+    public void refresh() {
+        MetaDataContexts metaDataContexts = metaDataContextsSupplier.get();
+        for (Entry<String, ShardingSphereMetaData> entry : metaDataContexts.getMetaDataMap().entrySet()) {
+            FederationSchemaMetaData schemaMetaData = metaDataContexts.getOptimizerContext().getFederationMetaData().getSchemas().get(entry.getKey());
+            if (null != schemaMetaData && entry.getValue().isComplete()) {
+                refresh(metaDataContexts, entry.getValue(), schemaMetaData);
+            }
+        }
+    }
+    
+    private void refresh(final MetaDataContexts metaDataContexts, final ShardingSphereMetaData metaData, final FederationSchemaMetaData schemaMetaData) {
+        Optional<TableStatisticsPersistService> persistService = metaDataContexts.getMetaDataPersistService().map(MetaDataPersistService::getTableStatisticsService);
+        Map<String, TableStatistics> persistedStatistics = persistService.map(optional -> optional.load(metaData.getName())).orElse(Collections.emptyMap());
+        long currentMilliseconds = System.currentTimeMillis();
+        for (String each : schemaMetaData.getTables().keySet()) {
+            TableStatistics statistics = persistedStatistics.get(each);
+            if (null == statistics || currentMilliseconds - statistics.getRefreshedMilliseconds() >= refreshIntervalMilliseconds) {
+                statistics = collect(metaData, each).orElse(statistics);
+                if (null != statistics && persistService.isPresent()) {
+                    persistService.get().persist(metaData.getName(), each, statistics);
+                }
+            }
+            if (null != statistics) {
+                schemaMetaData.putStatistics(each, statistics);
+            }
+        }
+    }
+    
+    private Optional<TableStatistics> collect(final ShardingSphereMetaData metaData, final String tableName) {
+        try {
+            return TableStatisticsCollector.collect(metaData, tableName);
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.warn("Collect statistics of table `{}` in schema `{}` failed", tableName, metaData.getName(), ex);
+            return Optional.empty();
+        }
+    }
+    
+    @Override
+    public void close() {
+        if (null != executorService) {
+            executorService.shutdownNow();
+        }
+    }
+}
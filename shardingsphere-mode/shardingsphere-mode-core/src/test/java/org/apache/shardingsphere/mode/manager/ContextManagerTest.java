@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.mode.manager;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -39,6 +40,7 @@ import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
@@ -66,6 +68,7 @@ public final class ContextManagerTest {
 
     @Before
     public void setUp() throws SQLException {
+        when(metaDataContexts.getProps()).thenReturn(new ConfigurationProperties(new Properties()));
         contextManager = new ContextManager();
         contextManager.init(metaDataContexts, transactionContexts, modeScheduleContext);
         dataSourceMap = new HashMap<>(2, 1);
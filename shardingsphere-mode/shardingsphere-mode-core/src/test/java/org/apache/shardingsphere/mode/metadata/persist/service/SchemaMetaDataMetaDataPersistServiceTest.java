@@ -20,6 +20,8 @@ package org.apache.shardingsphere.mode.metadata.persist.service;
 import com.google.common.collect.Lists;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.builder.SchemaBuilderMaterials;
+import org.apache.shardingsphere.infra.metadata.schema.loader.LazyTableMetaDataLoader;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
 import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlTableMetaData;
@@ -46,6 +48,8 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -64,6 +68,17 @@ public final class SchemaMetaDataMetaDataPersistServiceTest {
         verify(repository).persist(eq("/metadata/foo_db/tables/t_order"), anyString());
     }
     
+    @Test
+    public void assertPersistWithLazyTables() {
+        when(repository.getChildrenKeys("/metadata/foo_db/tables")).thenReturn(Arrays.asList("t_order", "t_order_item", "t_dropped"));
+        ShardingSphereSchema schema = new ShardingSphereSchema(Collections.singletonMap("t_order", new TableMetaData("t_order", Collections.emptyList(), Collections.emptyList())),
+                new LazyTableMetaDataLoader(Collections.singletonList("t_order_item"), mock(SchemaBuilderMaterials.class), 0L));
+        new SchemaMetaDataPersistService(repository).persist("foo_db", schema);
+        verify(repository).persist(eq("/metadata/foo_db/tables/t_order"), anyString());
+        verify(repository, never()).delete("/metadata/foo_db/tables/t_order_item");
+        verify(repository).delete("/metadata/foo_db/tables/t_dropped");
+    }
+    
     @Test
     public void assertPersistSchemaTables() {
         new SchemaMetaDataPersistService(repository).persist("foo_db");
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.persist.service;
+
+import org.apache.shardingsphere.infra.federation.optimizer.metadata.statistic.TableStatistics;
+import org.apache.shardingsphere.mode.persist.PersistRepository;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class TableStatisticsPersistServiceTest {
+    
+    @Mock
+    private PersistRepository repository;
+    
+    @Test
+    public void assertPersistAndLoad() {
+        TableStatisticsPersistService persistService = new TableStatisticsPersistService(repository);
+        persistService.persist("foo_db", "T_ORDER", new TableStatistics(100L, Collections.singletonMap("user_id", 10L), 1000L));
+        ArgumentCaptor<String> contentCaptor = ArgumentCaptor.forClass(String.class);
+        verify(repository).persist(eq("/statistics/foo_db/tables/t_order"), contentCaptor.capture());
+        when(repository.getChildrenKeys("/statistics/foo_db/tables")).thenReturn(Collections.singletonList("t_order"));
+        when(repository.get("/statistics/foo_db/tables/t_order")).thenReturn(contentCaptor.getValue());
+        Map<String, TableStatistics> actual = persistService.load("foo_db");
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("t_order").getRowCount(), is(100L));
+        assertThat(actual.get("t_order").getDistinctCounts(), is(Collections.singletonMap("user_id", 10L)));
+        assertThat(actual.get("t_order").getRefreshedMilliseconds(), is(1000L));
+    }
+    
+    @Test
+    public void assertDelete() {
+        new TableStatisticsPersistService(repository).delete("foo_db");
+        verify(repository).delete("/statistics/foo_db/tables");
+    }
+}
@@ -76,6 +76,8 @@ public final class ClusterContextManagerBuilder implements ContextManagerBuilder
     
     private ContextManager contextManager;
     
+    private SchemaLoader schemaLoader;
+    
     @Override
     public ContextManager build(final ModeConfiguration modeConfig, final Map<String, Map<String, DataSource>> dataSourcesMap,
                                 final Map<String, Collection<RuleConfiguration>> schemaRuleConfigs, final Collection<RuleConfiguration> globalRuleConfigs,
@@ -100,7 +102,8 @@ public final class ClusterContextManagerBuilder implements ContextManagerBuilder
         Map<String, Collection<RuleConfiguration>> clusterSchemaRuleConfigs = loadSchemaRules(metaDataPersistService, schemaNames);
         Properties clusterProps = metaDataPersistService.getPropsService().load();
         Map<String, Collection<ShardingSphereRule>> rules = SchemaRulesBuilder.buildRules(clusterDataSources, clusterSchemaRuleConfigs, clusterProps);
-        Map<String, ShardingSphereSchema> schemas = new SchemaLoader(clusterDataSources, clusterSchemaRuleConfigs, rules, clusterProps).load();
+        schemaLoader = new SchemaLoader(clusterDataSources, clusterSchemaRuleConfigs, rules, clusterProps);
+        Map<String, ShardingSphereSchema> schemas = schemaLoader.load(metaDataPersistService.getSchemaMetaDataService()::load);
         persistMetaData(schemas);
         metaDataContexts = new MetaDataContextsBuilder(clusterDataSources, clusterSchemaRuleConfigs, metaDataPersistService.getGlobalRuleService().load(), schemas, rules, clusterProps)
                 .build(metaDataPersistService);
@@ -109,6 +112,10 @@ public final class ClusterContextManagerBuilder implements ContextManagerBuilder
     
     private void afterBuildContextManager() {
         new ClusterContextManagerCoordinator(metaDataPersistService, contextManager);
+        schemaLoader.checkSnapshotInBackground((snapshotSchemaName, tableMetaData) -> {
+            contextManager.alterSchema(snapshotSchemaName, tableMetaData, null);
+            metaDataPersistService.getSchemaMetaDataService().persist(snapshotSchemaName, tableMetaData);
+        });
         disableDataSources();
         registryCenter.onlineInstance();
     }
@@ -226,7 +233,8 @@ public final class ClusterContextManagerBuilder implements ContextManagerBuilder
     }
     
     private void persistMetaData(final Map<String, ShardingSphereSchema> schemas) {
-        schemas.forEach((key, value) -> metaDataPersistService.getSchemaMetaDataService().persist(key, value));
+        schemas.entrySet().stream().filter(entry -> !schemaLoader.getSnapshotSchemaNames().contains(entry.getKey()))
+                .forEach(entry -> metaDataPersistService.getSchemaMetaDataService().persist(entry.getKey(), entry.getValue()));
     }
     
     @Override
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.metadata;
+
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.loader.SchemaLoader;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.MutableDataNodeRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.GovernanceEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.config.event.schema.SchemaChangedEvent;
+import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.metadata.watcher.MetaDataChangedWatcher;
+import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent.Type;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class SchemaMetaDataLazyLoadTest {
+    
+    @Mock
+    private ClusterPersistRepository repository;
+    
+    @Test
+    public void assertPersistSchemaWithLazyTables() throws SQLException {
+        when(repository.getChildrenKeys("/metadata/foo_db/tables")).thenReturn(Arrays.asList("t_order", "t_order_item", "t_dropped"));
+        ShardingSphereSchema schema = createSchemaLoader().load().get("foo_db");
+        assertTrue(schema.getTables().isEmpty());
+        new MetaDataPersistService(repository).getSchemaMetaDataService().persist("foo_db", schema);
+        ArgumentCaptor<String> deletedKeys = ArgumentCaptor.forClass(String.class);
+        verify(repository).delete(deletedKeys.capture());
+        assertThat(deletedKeys.getAllValues(), is(Collections.singletonList("/metadata/foo_db/tables/t_dropped")));
+        Optional<GovernanceEvent> event = new MetaDataChangedWatcher().createGovernanceEvent(new DataChangedEvent(deletedKeys.getValue(), "name: t_dropped", Type.DELETED));
+        assertTrue(event.isPresent());
+        assertThat(((SchemaChangedEvent) event.get()).getDeletedTable(), is("t_dropped"));
+        assertTrue(schema.containsTable("t_order"));
+        assertTrue(schema.containsTable("t_order_item"));
+    }
+    
+    private SchemaLoader createSchemaLoader() throws SQLException {
+        DataSource dataSource = mock(DataSource.class, RETURNS_DEEP_STUBS);
+        when(dataSource.getConnection().getMetaData().getURL()).thenReturn("jdbc:h2:mem:ds;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL");
+        TableContainedRule rule = mock(TableContainedRule.class, withSettings().extraInterfaces(MutableDataNodeRule.class));
+        when(rule.getTables()).thenReturn(Arrays.asList("t_order", "t_order_item"));
+        Collection<ShardingSphereRule> rules = Collections.singletonList(rule);
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.METADATA_LAZY_LOAD_ENABLED.getKey(), Boolean.TRUE.toString());
+        return new SchemaLoader(Collections.singletonMap("foo_db", Collections.singletonMap("ds", dataSource)),
+                Collections.singletonMap("foo_db", Collections.emptyList()), Collections.singletonMap("foo_db", rules), props);
+    }
+}
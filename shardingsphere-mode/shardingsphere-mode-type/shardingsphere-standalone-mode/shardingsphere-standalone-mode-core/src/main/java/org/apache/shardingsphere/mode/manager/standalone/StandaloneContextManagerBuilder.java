@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.config.datasource.DataSourceConfiguration
 import org.apache.shardingsphere.infra.config.datasource.DataSourceConverter;
 import org.apache.shardingsphere.infra.config.mode.ModeConfiguration;
 import org.apache.shardingsphere.infra.config.mode.PersistRepositoryConfiguration;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.loader.SchemaLoader;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
@@ -73,12 +74,21 @@ public final class StandaloneContextManagerBuilder implements ContextManagerBuil
         Map<String, Collection<RuleConfiguration>> standaloneSchemaRules = loadSchemaRules(metaDataPersistService, schemaNames);
         Properties standaloneProps = metaDataPersistService.getPropsService().load();
         Map<String, Collection<ShardingSphereRule>> rules = SchemaRulesBuilder.buildRules(standaloneDataSources, standaloneSchemaRules, standaloneProps);
-        Map<String, ShardingSphereSchema> schemas = new SchemaLoader(standaloneDataSources, standaloneSchemaRules, rules, standaloneProps).load();
+        SchemaLoader schemaLoader = new SchemaLoader(standaloneDataSources, standaloneSchemaRules, rules, standaloneProps);
+        Map<String, ShardingSphereSchema> schemas = schemaLoader.load(metaDataPersistService.getSchemaMetaDataService()::load);
         MetaDataContexts metaDataContexts = new MetaDataContextsBuilder(standaloneDataSources, standaloneSchemaRules, metaDataPersistService.getGlobalRuleService().load(), schemas,
                 rules, standaloneProps).build(metaDataPersistService);
+        if (metaDataContexts.getProps().<Boolean>getValue(ConfigurationPropertyKey.METADATA_SNAPSHOT_ENABLED)) {
+            schemas.entrySet().stream().filter(entry -> !schemaLoader.getSnapshotSchemaNames().contains(entry.getKey()))
+                    .forEach(entry -> metaDataPersistService.getSchemaMetaDataService().persist(entry.getKey(), entry.getValue()));
+        }
         TransactionContexts transactionContexts = new TransactionContextsBuilder(metaDataContexts.getMetaDataMap(), metaDataContexts.getGlobalRuleMetaData().getRules()).build();
         ContextManager result = new ContextManager();
         result.init(metaDataContexts, transactionContexts, new ModeScheduleContext(modeConfig));
+        schemaLoader.checkSnapshotInBackground((snapshotSchemaName, tableMetaData) -> {
+            result.alterSchema(snapshotSchemaName, tableMetaData, null);
+            metaDataPersistService.getSchemaMetaDataService().persist(snapshotSchemaName, tableMetaData);
+        });
         return result;
     }
     
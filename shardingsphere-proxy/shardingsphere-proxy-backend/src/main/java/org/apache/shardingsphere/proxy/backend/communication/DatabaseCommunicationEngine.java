@@ -18,14 +18,17 @@
 package org.apache.shardingsphere.proxy.backend.communication;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
 import org.apache.shardingsphere.infra.binder.LogicSQL;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.exception.ShardingSphereConfigurationException;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.context.refresher.MetaDataRefreshEngine;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
@@ -42,9 +45,11 @@ import org.apache.shardingsphere.infra.federation.executor.FederationExecutor;
 import org.apache.shardingsphere.infra.federation.executor.FederationExecutorFactory;
 import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.transparent.TransparentMergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ConnectionURLParser;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.executor.callback.ProxyJDBCExecutorCallback;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.executor.callback.ProxyJDBCExecutorCallbackFactory;
@@ -63,6 +68,8 @@ import org.apache.shardingsphere.sharding.merge.dql.iterator.IteratorStreamMerge
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -72,7 +79,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
@@ -82,6 +91,12 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public final class DatabaseCommunicationEngine {
     
+    private static final String PASS_THROUGH_DATABASE_TYPE = "MySQL";
+    
+    private static final String CHARACTER_SET_RESULTS_KEY = "characterSetResults";
+    
+    private static final Map<String, Optional<Charset>> BACKEND_RESULT_CHARSETS = new ConcurrentHashMap<>();
+    
     private final String driverType;
     
     private final ShardingSphereMetaData metaData;
@@ -98,6 +113,8 @@ public final class DatabaseCommunicationEngine {
     
     private MergedResult mergedResult;
     
+    private boolean passThrough;
+    
     private final Collection<Statement> cachedStatements = new CopyOnWriteArrayList<>();
     
     private final Collection<ResultSet> cachedResultSets = new CopyOnWriteArrayList<>();
@@ -207,9 +224,67 @@ public final class DatabaseCommunicationEngine {
     private QueryResponseHeader processExecuteQuery(final ExecutionContext executionContext, final List<QueryResult> queryResults, final QueryResult queryResultSample) throws SQLException {
         queryHeaders = createQueryHeaders(executionContext, queryResultSample);
         mergedResult = mergeQuery(executionContext.getSqlStatementContext(), queryResults);
+        passThrough = isPassThrough(queryResults);
         return new QueryResponseHeader(queryHeaders);
     }
     
+    private boolean isPassThrough(final List<QueryResult> queryResults) throws SQLException {
+        MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
+        if (!metaDataContexts.getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_BACKEND_PASS_THROUGH_ENABLED) || isBinary()) {
+            return false;
+        }
+        if (1 != queryResults.size() || !(queryResults.get(0) instanceof JDBCStreamQueryResult)) {
+            return false;
+        }
+        if (!(mergedResult instanceof TransparentMergedResult) && !(mergedResult instanceof IteratorStreamMergedResult)) {
+            return false;
+        }
+        return isPassThroughDatabaseType(metaData.getResource().getDatabaseType()) && isPassThroughFrontendDatabaseType(metaDataContexts) && isPassThroughCharset();
+    }
+    
+    private boolean isPassThroughFrontendDatabaseType(final MetaDataContexts metaDataContexts) {
+        String configuredDatabaseType = metaDataContexts.getProps().getValue(ConfigurationPropertyKey.PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE);
+        if (!configuredDatabaseType.isEmpty()) {
+            return isPassThroughDatabaseType(DatabaseTypeRegistry.getTrunkDatabaseType(configuredDatabaseType));
+        }
+        Optional<ShardingSphereMetaData> frontendMetaData = metaDataContexts.getMetaDataMap().values().stream().filter(ShardingSphereMetaData::isComplete).findFirst();
+        return !frontendMetaData.isPresent() || isPassThroughDatabaseType(frontendMetaData.get().getResource().getDatabaseType());
+    }
+    
+    private boolean isPassThroughDatabaseType(final DatabaseType databaseType) {
+        return PASS_THROUGH_DATABASE_TYPE.equals(DatabaseTypeRegistry.getTrunkDatabaseTypeName(databaseType));
+    }
+    
+    private boolean isPassThroughCharset() throws SQLException {
+        if (1 != cachedResultSets.size()) {
+            return false;
+        }
+        Statement statement = cachedResultSets.iterator().next().getStatement();
+        if (null == statement) {
+            return false;
+        }
+        String url = statement.getConnection().getMetaData().getURL();
+        Optional<Charset> backendCharset = BACKEND_RESULT_CHARSETS.computeIfAbsent(url, DatabaseCommunicationEngine::findBackendResultCharset);
+        Charset frontendCharset = backendConnection.getConnectionSession().getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get();
+        return backendCharset.isPresent() && backendCharset.get().equals(frontendCharset);
+    }
+    
+    // raw bytes are encoded by character_set_results of backend session, it is unknown unless set by URL, because MySQL driver sets it to NULL and bytes are in charset of each column
+    private static Optional<Charset> findBackendResultCharset(final String url) {
+        try {
+            String charsetName = new ConnectionURLParser(url).getProperties().get(CHARACTER_SET_RESULTS_KEY);
+            if (null == charsetName) {
+                return Optional.empty();
+            }
+            if (charsetName.toLowerCase().startsWith("utf8")) {
+                return Optional.of(StandardCharsets.UTF_8);
+            }
+            return Charset.isSupported(charsetName) ? Optional.of(Charset.forName(charsetName)) : Optional.empty();
+        } catch (final ShardingSphereConfigurationException | IllegalArgumentException ignored) {
+            return Optional.empty();
+        }
+    }
+    
     private List<QueryHeader> createQueryHeaders(final ExecutionContext executionContext, final QueryResult queryResultSample) throws SQLException {
         int columnCount = getColumnCount(executionContext, queryResultSample);
         List<QueryHeader> result = new ArrayList<>(columnCount);
@@ -273,6 +348,9 @@ public final class DatabaseCommunicationEngine {
     /**
      * Get query response row.
      *
+     * <p>Under pass through mode, text values are relayed as raw bytes read from backend database without decoding and encoding,
+     * which is only enabled if character set results of backend connection is same as character set of client.</p>
+     *
      * @return query response row
      * @throws SQLException SQL exception
      */
@@ -280,7 +358,7 @@ public final class DatabaseCommunicationEngine {
         List<QueryResponseCell> cells = new ArrayList<>(queryHeaders.size());
         boolean isBinary = isBinary();
         for (int columnIndex = 1; columnIndex <= queryHeaders.size(); columnIndex++) {
-            Object data = mergedResult.getValue(columnIndex, Object.class);
+            Object data = passThrough ? mergedResult.getValue(columnIndex, byte[].class) : mergedResult.getValue(columnIndex, Object.class);
             if (isBinary) {
                 cells.add(new BinaryQueryResponseCell(queryHeaders.get(columnIndex - 1).getColumnType(), data));
             } else {
@@ -301,6 +379,7 @@ public final class DatabaseCommunicationEngine {
      */
     public void close() throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
+        result.addAll(closeMergedResult());
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         if (result.isEmpty()) {
@@ -311,6 +390,19 @@ public final class DatabaseCommunicationEngine {
         throw ex;
     }
     
+    private Collection<SQLException> closeMergedResult() {
+        Collection<SQLException> result = new LinkedList<>();
+        if (null != mergedResult) {
+            try {
+                mergedResult.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+            mergedResult = null;
+        }
+        return result;
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
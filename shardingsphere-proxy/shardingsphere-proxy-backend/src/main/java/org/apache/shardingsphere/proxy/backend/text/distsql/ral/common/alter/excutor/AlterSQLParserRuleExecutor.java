@@ -78,6 +78,7 @@ public final class AlterSQLParserRuleExecutor implements AlterStatementExecutor
         result.setInitialCapacity(null == segment.getInitialCapacity() ? cacheOption.getInitialCapacity() : segment.getInitialCapacity());
         result.setMaximumSize(null == segment.getMaximumSize() ? cacheOption.getMaximumSize() : segment.getMaximumSize());
         result.setConcurrencyLevel(null == segment.getConcurrencyLevel() ? cacheOption.getConcurrencyLevel() : segment.getConcurrencyLevel());
+        result.setMaximumWeight(cacheOption.getMaximumWeight());
         return result;
     }
 }
@@ -18,12 +18,14 @@
 package org.apache.shardingsphere.proxy.backend.communication;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -39,6 +41,7 @@ import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
 import org.apache.shardingsphere.proxy.backend.response.header.query.impl.QueryHeaderBuilder;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 import org.junit.Before;
@@ -50,12 +53,16 @@ import org.mockito.internal.util.reflection.FieldSetter;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -70,6 +77,7 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -79,7 +87,7 @@ public final class DatabaseCommunicationEngineTest {
     @Mock(answer = Answers.RETURNS_DEEP_STUBS)
     private JDBCBackendConnection backendConnection;
     
-    @Mock
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
     private Statement statement;
     
     @Mock
@@ -117,10 +125,10 @@ public final class DatabaseCommunicationEngineTest {
             private MemoryQueryResultRow memoryQueryResultRow;
             
             @Override
-            protected List<MemoryQueryResultRow> init(final ShardingSphereRule rule, final ShardingSphereSchema schema,
-                                                      final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) {
+            protected Iterator<MemoryQueryResultRow> init(final ShardingSphereRule rule, final ShardingSphereSchema schema,
+                                                          final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) {
                 memoryQueryResultRow = mock(MemoryQueryResultRow.class);
-                return Collections.singletonList(memoryQueryResultRow);
+                return Collections.singletonList(memoryQueryResultRow).iterator();
             }
         });
         Exception ex = null;
@@ -133,6 +141,48 @@ public final class DatabaseCommunicationEngineTest {
         }
     }
     
+    @Test
+    public void assertGetQueryResponseRowWithPassThrough() throws SQLException, NoSuchFieldException {
+        DatabaseCommunicationEngine engine = DatabaseCommunicationEngineFactory.getInstance().newTextProtocolInstance(mock(SQLStatementContext.class), "schemaName", backendConnection);
+        FieldSetter.setField(engine, engine.getClass().getDeclaredField("queryHeaders"), Collections.singletonList(QueryHeaderBuilder.build(createQueryResultMetaData(), createMetaData(), 1)));
+        MergedResult mergedResult = mock(MergedResult.class);
+        byte[] value = "1".getBytes();
+        when(mergedResult.getValue(1, byte[].class)).thenReturn(value);
+        FieldSetter.setField(engine, engine.getClass().getDeclaredField("mergedResult"), mergedResult);
+        FieldSetter.setField(engine, engine.getClass().getDeclaredField("passThrough"), true);
+        QueryResponseRow actual = engine.getQueryResponseRow();
+        assertThat(actual.getData().size(), is(1));
+        assertThat(actual.getData().iterator().next(), is(value));
+        verify(mergedResult, never()).getValue(1, Object.class);
+    }
+    
+    @Test
+    public void assertIsPassThroughCharsetWithSameCharset() throws SQLException {
+        assertTrue(isPassThroughCharset("jdbc:mysql://127.0.0.1:3306/demo_ds?useSSL=false&characterSetResults=utf8mb4", StandardCharsets.UTF_8));
+    }
+    
+    @Test
+    public void assertIsPassThroughCharsetWithDifferentCharset() throws SQLException {
+        assertFalse(isPassThroughCharset("jdbc:mysql://127.0.0.1:3306/demo_ds?characterSetResults=UTF-8", StandardCharsets.ISO_8859_1));
+    }
+    
+    @Test
+    public void assertIsPassThroughCharsetWithoutCharacterSetResults() throws SQLException {
+        assertFalse(isPassThroughCharset("jdbc:mysql://127.0.0.1:3306/demo_ds?characterEncoding=UTF-8", StandardCharsets.UTF_8));
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private boolean isPassThroughCharset(final String url, final Charset frontendCharset) throws SQLException {
+        when(backendConnection.getConnectionSession().getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get()).thenReturn(frontendCharset);
+        DatabaseCommunicationEngine engine = DatabaseCommunicationEngineFactory.getInstance().newTextProtocolInstance(mock(SQLStatementContext.class), "schemaName", backendConnection);
+        when(resultSet.getStatement()).thenReturn(statement);
+        when(statement.getConnection().getMetaData().getURL()).thenReturn(url);
+        engine.add(resultSet);
+        Method method = DatabaseCommunicationEngine.class.getDeclaredMethod("isPassThroughCharset");
+        method.setAccessible(true);
+        return (boolean) method.invoke(engine);
+    }
+    
     private ShardingSphereMetaData createMetaData() {
         ShardingSphereMetaData result = mock(ShardingSphereMetaData.class, RETURNS_DEEP_STUBS);
         ColumnMetaData columnMetaData = new ColumnMetaData("order_id", Types.INTEGER, true, false, false);
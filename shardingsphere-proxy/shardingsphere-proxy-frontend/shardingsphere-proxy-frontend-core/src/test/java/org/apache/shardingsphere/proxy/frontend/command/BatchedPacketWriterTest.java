@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ResourceLock;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class BatchedPacketWriterTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private DatabasePacketCodecEngine<DatabasePacket<?>> codecEngine;
+    
+    @Mock
+    private ResourceLock resourceLock;
+    
+    @Test
+    public void assertWritePacketsOneByOne() {
+        when(context.channel().isWritable()).thenReturn(true);
+        BatchedPacketWriter writer = new BatchedPacketWriter(context, codecEngine, resourceLock, createProperties(2, 0));
+        DatabasePacket<?> packet = mock(DatabasePacket.class);
+        writer.write(packet);
+        writer.write(packet);
+        writer.write(packet);
+        writer.finish();
+        verify(context, times(3)).write(packet);
+        verify(context).flush();
+        verify(resourceLock, never()).doAwait();
+    }
+    
+    @Test
+    public void assertWritePacketsInBatch() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        when(context.channel().isWritable()).thenReturn(true);
+        when(context.channel().config().getWriteBufferHighWaterMark()).thenReturn(64 * 1024);
+        when(context.channel().config().getWriteBufferLowWaterMark()).thenReturn(32 * 1024);
+        when(context.channel().bytesBeforeUnwritable()).thenReturn(64 * 1024L);
+        doAnswer(invocation -> ((ByteBuf) invocation.getArgument(2)).writeBytes(new byte[]{1, 2, 3})).when(codecEngine).encode(eq(context), any(), any(ByteBuf.class));
+        BatchedPacketWriter writer = new BatchedPacketWriter(context, codecEngine, resourceLock, createProperties(128, 5));
+        for (int i = 0; i < 3; i++) {
+            writer.write(mock(DatabasePacket.class));
+        }
+        writer.finish();
+        ArgumentCaptor<CompositeByteBuf> batchCaptor = ArgumentCaptor.forClass(CompositeByteBuf.class);
+        verify(context, times(2)).write(batchCaptor.capture());
+        assertThat(batchCaptor.getAllValues().get(0).readableBytes(), is(6));
+        assertThat(batchCaptor.getAllValues().get(1).readableBytes(), is(3));
+        verify(context, never()).flush();
+        batchCaptor.getAllValues().forEach(ByteBuf::release);
+    }
+    
+    @Test
+    public void assertFlushBatchWhenPendingBytesReachLowWaterMark() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        when(context.channel().isWritable()).thenReturn(true);
+        when(context.channel().config().getWriteBufferHighWaterMark()).thenReturn(64 * 1024);
+        when(context.channel().config().getWriteBufferLowWaterMark()).thenReturn(32 * 1024);
+        when(context.channel().bytesBeforeUnwritable()).thenReturn(16 * 1024L);
+        BatchedPacketWriter writer = new BatchedPacketWriter(context, codecEngine, resourceLock, createProperties(128, 1));
+        writer.write(mock(DatabasePacket.class));
+        writer.finish();
+        verify(context).write(any(CompositeByteBuf.class));
+        verify(context).flush();
+    }
+    
+    @Test
+    public void assertCloseReleasesUnwrittenBatch() {
+        CompositeByteBuf batch = UnpooledByteBufAllocator.DEFAULT.compositeDirectBuffer(Integer.MAX_VALUE);
+        when(context.alloc().compositeDirectBuffer(Integer.MAX_VALUE)).thenReturn(batch);
+        when(context.alloc().ioBuffer()).thenReturn(UnpooledByteBufAllocator.DEFAULT.ioBuffer());
+        BatchedPacketWriter writer = new BatchedPacketWriter(context, codecEngine, resourceLock, createProperties(128, 1024));
+        writer.write(mock(DatabasePacket.class));
+        writer.close();
+        verify(context, never()).write(any());
+        assertThat(batch.refCnt(), is(0));
+    }
+    
+    private ConfigurationProperties createProperties(final int flushThreshold, final int writeBatchBytes) {
+        Properties result = new Properties();
+        result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), String.valueOf(flushThreshold));
+        result.setProperty(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BATCH_BYTES.getKey(), String.valueOf(writeBatchBytes));
+        return new ConfigurationProperties(result);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.properties.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ResourceLock;
+
+/**
+ * Batched packet writer.
+ *
+ * <p>If write batch bytes is configured, packets are encoded into one pooled composite buffer until the budget is reached, then the buffer is written as one message,
+ * and channel is flushed once pending bytes reach the low water mark of channel.
+ * Otherwise packets are written one by one and channel is flushed every flush threshold packets.</p>
+ *
+ * <p>Writer must be closed after use, so packets remained in an unwritten batch are released if writing is interrupted by an exception.</p>
+ */
+public final class BatchedPacketWriter {
+    
+    private final ChannelHandlerContext context;
+    
+    @SuppressWarnings("rawtypes")
+    private final DatabasePacketCodecEngine codecEngine;
+    
+    private final ResourceLock resourceLock;
+    
+    private final int flushThreshold;
+    
+    private final int batchBytes;
+    
+    private CompositeByteBuf batch;
+    
+    private int unflushedPackets;
+    
+    public BatchedPacketWriter(final ChannelHandlerContext context, final DatabasePacketCodecEngine<?> codecEngine, final ResourceLock resourceLock, final ConfigurationProperties props) {
+        this.context = context;
+        this.codecEngine = codecEngine;
+        this.resourceLock = resourceLock;
+        flushThreshold = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
+        batchBytes = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_WRITE_BATCH_BYTES);
+    }
+    
+    /**
+     * Write packet.
+     *
+     * @param packet packet to be written
+     */
+    public void write(final DatabasePacket<?> packet) {
+        if (batchBytes <= 0) {
+            awaitWritable();
+            context.write(packet);
+            if (flushThreshold == ++unflushedPackets) {
+                context.flush();
+                unflushedPackets = 0;
+            }
+            return;
+        }
+        if (null == batch) {
+            batch = context.alloc().compositeDirectBuffer(Integer.MAX_VALUE);
+        }
+        batch.addComponent(true, encode(packet));
+        if (batch.readableBytes() >= batchBytes) {
+            writeBatch();
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private ByteBuf encode(final DatabasePacket<?> packet) {
+        ByteBuf result = context.alloc().ioBuffer();
+        try {
+            codecEngine.encode(context, packet, result);
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            result.release();
+            throw ex;
+        }
+        return result;
+    }
+    
+    private void writeBatch() {
+        awaitWritable();
+        CompositeByteBuf buffer = batch;
+        batch = null;
+        context.write(buffer);
+        Channel channel = context.channel();
+        long pendingBytes = channel.config().getWriteBufferHighWaterMark() - channel.bytesBeforeUnwritable();
+        if (!channel.isWritable() || pendingBytes >= channel.config().getWriteBufferLowWaterMark()) {
+            context.flush();
+        }
+    }
+    
+    private void awaitWritable() {
+        while (!context.channel().isWritable() && context.channel().isActive()) {
+            context.flush();
+            resourceLock.doAwait();
+        }
+    }
+    
+    /**
+     * Write packets remained in batch.
+     */
+    public void finish() {
+        if (null != batch) {
+            writeBatch();
+        }
+    }
+    
+    /**
+     * Release packets remained in batch which are not written.
+     */
+    public void close() {
+        if (null != batch) {
+            batch.release();
+            batch = null;
+        }
+    }
+}
@@ -36,4 +36,10 @@ public final class CacheOption {
     private long maximumSize;
     
     private int concurrencyLevel;
+    
+    private long maximumWeight;
+    
+    public CacheOption(final int initialCapacity, final long maximumSize, final int concurrencyLevel) {
+        this(initialCapacity, maximumSize, concurrencyLevel, 0L);
+    }
 }